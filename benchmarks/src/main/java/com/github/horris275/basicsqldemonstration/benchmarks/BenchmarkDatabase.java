@@ -0,0 +1,204 @@
+package com.github.horris275.basicsqldemonstration.benchmarks;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import com.github.horris275.basicsqldemonstration.sql.SQLManager;
+import com.github.horris275.basicsqldemonstration.sql.pool.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-memory H2 database in MariaDB mode, standing in for the MariaDB server during benchmarks.
+ *
+ * <p>Each instance creates its own uniquely named database holding a single table with an
+ * auto-increment {@code id} key and a configurable number of {@code VARCHAR} columns, and
+ * fills it with a configurable number of rows. Identifiers are folded to lower case, as MariaDB
+ * reports them, so the table schema is resolved the same way as against the real server.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class BenchmarkDatabase implements AutoCloseable
+{
+    private static final String TABLE = "benchmark_rows";
+    private static final int VALUE_LENGTH = 32;
+    private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+    private final ConnectionPool connectionPool;
+    private final SQLManager sqlManager;
+    private final RowSchema rowSchema;
+    private final int tableSize;
+
+    /**
+     * Creates and populates a new in-memory database.
+     *
+     * @param columnCount the number of value columns besides the key
+     * @param tableSize   the number of rows to insert
+     */
+    public BenchmarkDatabase(int columnCount, int tableSize)
+    {
+        String url = "jdbc:h2:mem:benchmark_" + DATABASE_COUNTER.incrementAndGet()
+                + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        List<String> columnNames = new ArrayList<>(columnCount);
+
+        for (int column = 1; column <= columnCount; column++)
+        {
+            columnNames.add("column_" + column);
+        }
+
+        this.connectionPool = new ConnectionPool(url, "sa", "");
+        this.rowSchema = RowSchema.of(columnNames);
+        this.tableSize = tableSize;
+
+        createTable(columnNames);
+
+        this.sqlManager = new SQLManager(connectionPool, TABLE);
+        List<DatabaseRow> rows = new ArrayList<>(tableSize);
+
+        for (int row = 0; row < tableSize; row++)
+        {
+            rows.add(newRow());
+        }
+
+        sqlManager.insertAll(rows);
+    }
+
+    /**
+     * Returns the manager operating on the benchmark table.
+     *
+     * @return the {@link SQLManager}
+     */
+    public SQLManager getSqlManager()
+    {
+        return sqlManager;
+    }
+
+    /**
+     * Returns the schema shared by the rows created with {@link #newRow()}.
+     *
+     * @return the {@link RowSchema} of the value columns
+     */
+    public RowSchema getRowSchema()
+    {
+        return rowSchema;
+    }
+
+    /**
+     * Creates a new, unsaved row holding a random value in every column.
+     *
+     * @return the new row
+     */
+    public DatabaseRow newRow()
+    {
+        Object[] values = new Object[rowSchema.size()];
+
+        for (int column = 0; column < values.length; column++)
+        {
+            values[column] = randomValue();
+        }
+
+        return new DatabaseRow(rowSchema, -1, values);
+    }
+
+    /**
+     * Returns the identifier of a random row inserted when the database was populated.
+     *
+     * @return an identifier between {@code 1} and the table size
+     */
+    public int randomId()
+    {
+        return ThreadLocalRandom.current().nextInt(1, tableSize + 1);
+    }
+
+    /**
+     * Deletes every row inserted after the database was populated, restoring the original table size.
+     */
+    public void trim()
+    {
+        try (Connection connection = connectionPool.borrow();
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM " + TABLE + " WHERE id > ?"))
+        {
+            statement.setInt(1, tableSize);
+            statement.executeUpdate();
+        }
+        catch (SQLException e)
+        {
+            throw new DatabaseException("An error has occurred while trimming the benchmark table", e);
+        }
+    }
+
+    /**
+     * Drops the database and closes its connections.
+     */
+    @Override
+    public void close()
+    {
+        try (Connection connection = connectionPool.borrow();
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        catch (SQLException e)
+        {
+            throw new DatabaseException("An error has occurred while dropping the benchmark database", e);
+        }
+        finally
+        {
+            sqlManager.close();
+            connectionPool.close();
+        }
+    }
+
+    /**
+     * Creates the benchmark table.
+     *
+     * @param columnNames the names of the value columns
+     */
+    private void createTable(List<String> columnNames)
+    {
+        StringBuilder query = new StringBuilder("CREATE TABLE " + TABLE + " (id INT UNSIGNED NOT NULL AUTO_INCREMENT");
+
+        for (String columnName : columnNames)
+        {
+            query.append(", ").append(columnName).append(" VARCHAR(").append(VALUE_LENGTH).append(")");
+        }
+
+        query.append(", PRIMARY KEY (id))");
+
+        try (Connection connection = connectionPool.borrow();
+             Statement statement = connection.createStatement())
+        {
+            statement.execute(query.toString());
+        }
+        catch (SQLException e)
+        {
+            throw new DatabaseException("An error has occurred while creating the benchmark table", e);
+        }
+    }
+
+    /**
+     * Creates a random alphanumeric value that fits the value columns.
+     *
+     * @return the random value
+     */
+    private static String randomValue()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] characters = new char[VALUE_LENGTH];
+
+        for (int index = 0; index < characters.length; index++)
+        {
+            characters[index] = (char) ('a' + random.nextInt(26));
+        }
+
+        return new String(characters);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.github.horris275.basicsqldemonstration.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmark jar.
+ *
+ * <p>It accepts the usual JMH command line options, but writes the results as JSON to
+ * {@code target/jmh-result.json} unless a result format or file is given, so that the
+ * results of two releases can be compared directly.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class BenchmarkRunner
+{
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * Runs the benchmarks selected by the command line, or every benchmark if none is selected.
+     *
+     * @param args the JMH command line options
+     * @throws CommandLineOptionException if the options cannot be parsed
+     * @throws RunnerException            if a benchmark fails to run
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException
+    {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue())
+        {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!commandLine.getResult().hasValue())
+        {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BenchmarkRunner() {}
+}
\ No newline at end of file
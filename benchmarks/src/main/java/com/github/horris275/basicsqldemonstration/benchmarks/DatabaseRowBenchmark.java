@@ -0,0 +1,129 @@
+package com.github.horris275.basicsqldemonstration.benchmarks;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of {@link DatabaseRow}s and access to their columns.
+ *
+ * <p>Rows built from a {@link Map} resolve a shared {@link RowSchema} from the column names,
+ * while rows built by the result set reader reuse a schema directly; both paths are measured.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseRowBenchmark
+{
+    @Param({"3", "12", "48"})
+    private int columnCount;
+
+    private List<String> columnNames;
+    private Object[] values;
+    private Map<String, Object> columns;
+    private RowSchema rowSchema;
+    private DatabaseRow databaseRow;
+
+    /**
+     * Creates the column names, values and the row read by the access benchmarks.
+     */
+    @Setup
+    public void setUp()
+    {
+        columnNames = new ArrayList<>(columnCount);
+        values = new Object[columnCount];
+        columns = new LinkedHashMap<>();
+
+        for (int column = 0; column < columnCount; column++)
+        {
+            String columnName = "column_" + column;
+            columnNames.add(columnName);
+            values[column] = "value_" + column;
+            columns.put(columnName, values[column]);
+        }
+
+        rowSchema = RowSchema.of(columnNames);
+        databaseRow = new DatabaseRow(rowSchema, 1, values.clone());
+    }
+
+    @Benchmark
+    public DatabaseRow constructFromMap()
+    {
+        return new DatabaseRow(1, columns);
+    }
+
+    @Benchmark
+    public DatabaseRow constructFromSchema()
+    {
+        return new DatabaseRow(rowSchema, 1, values.clone());
+    }
+
+    @Benchmark
+    public DatabaseRow constructWithSetColumn()
+    {
+        DatabaseRow row = new DatabaseRow();
+
+        for (int column = 0; column < columnCount; column++)
+        {
+            row.setColumn(columnNames.get(column), values[column]);
+        }
+
+        return row;
+    }
+
+    @Benchmark
+    public void getColumnByName(Blackhole blackhole)
+    {
+        for (int column = 0; column < columnCount; column++)
+        {
+            blackhole.consume(databaseRow.getColumn(columnNames.get(column)));
+        }
+    }
+
+    @Benchmark
+    public void getValueByIndex(Blackhole blackhole)
+    {
+        for (int column = 0; column < columnCount; column++)
+        {
+            blackhole.consume(databaseRow.getValue(column));
+        }
+    }
+
+    @Benchmark
+    public void iterateColumnValues(Blackhole blackhole)
+    {
+        for (Map.Entry<String, Object> entry : databaseRow.getColumnValues().entrySet())
+        {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public DatabaseRow copy()
+    {
+        return databaseRow.copy();
+    }
+}
\ No newline at end of file
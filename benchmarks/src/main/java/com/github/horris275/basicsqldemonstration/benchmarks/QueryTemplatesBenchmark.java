@@ -0,0 +1,91 @@
+package com.github.horris275.basicsqldemonstration.benchmarks;
+
+import com.github.horris275.basicsqldemonstration.sql.QueryTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SQL builders of {@link QueryTemplates}, both when building the SQL text
+ * from scratch and when it is served from the template cache.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryTemplatesBenchmark
+{
+    private static final String TABLE = "benchmark_rows";
+
+    @Param({"3", "12", "48"})
+    private int columnCount;
+
+    private List<String> columnNames;
+    private QueryTemplates queryTemplates;
+
+    /**
+     * Creates the column names and a template cache already holding their templates.
+     */
+    @Setup
+    public void setUp()
+    {
+        columnNames = new ArrayList<>(columnCount + 1);
+        columnNames.add("id");
+
+        for (int column = 1; column <= columnCount; column++)
+        {
+            columnNames.add("column_" + column);
+        }
+
+        queryTemplates = new QueryTemplates();
+        queryTemplates.insertQuery(TABLE, columnNames);
+        queryTemplates.modifyQuery(TABLE, "id", columnNames);
+    }
+
+    @Benchmark
+    public String createPreparedQuery()
+    {
+        return QueryTemplates.createPreparedQuery("INSERT INTO " + TABLE + " (%columns) VALUES (%placeholders)", columnNames);
+    }
+
+    @Benchmark
+    public String toModifyStatement()
+    {
+        return QueryTemplates.toModifyStatement("id", columnNames);
+    }
+
+    @Benchmark
+    public String createPreparedModifyQuery()
+    {
+        return QueryTemplates.createPreparedModifyQuery("UPDATE " + TABLE + " SET %statement WHERE id = ?", "id", columnNames);
+    }
+
+    @Benchmark
+    public String cachedInsertQuery()
+    {
+        return queryTemplates.insertQuery(TABLE, columnNames);
+    }
+
+    @Benchmark
+    public String cachedModifyQuery()
+    {
+        return queryTemplates.modifyQuery(TABLE, "id", columnNames);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.github.horris275.basicsqldemonstration.benchmarks;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.MutationResult;
+import com.github.horris275.basicsqldemonstration.sql.SQLManager;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CRUD operations of {@link SQLManager} against the in-memory {@link BenchmarkDatabase}.
+ *
+ * <p>The results include the cost of the JDBC driver and of H2 itself, so they are only comparable
+ * with other runs of this benchmark, not with a MariaDB server. They do capture the overhead the
+ * SQL layer adds around each statement: borrowing a connection, building the SQL and decoding rows.</p>
+ *
+ * <p>Rows inserted during an iteration are deleted after it, so every iteration starts from a table
+ * of {@code tableSize} rows. Each delete removes a row inserted just before it, outside the measurement.</p>
+ *
+ * <p>{@link #fetchMatching()} and {@link #fetchMatchingProjected()} read the same page of rows,
+ * the latter selecting only the key and the first value column.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLManagerBenchmark
+{
+    @Param({"100", "10000"})
+    private int tableSize;
+
+    @Param({"3", "12"})
+    private int columnCount;
+
+    private static final int PAGE_SIZE = 100;
+
+    private BenchmarkDatabase database;
+    private SQLManager sqlManager;
+    private RowQuery pageQuery;
+    private RowQuery projectedPageQuery;
+
+    /**
+     * Creates and populates the database for the current parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        database = new BenchmarkDatabase(columnCount, tableSize);
+        sqlManager = database.getSqlManager();
+        pageQuery = RowQuery.builder().limit(PAGE_SIZE).build();
+        projectedPageQuery = pageQuery.toBuilder().select(database.getRowSchema().getColumnName(0)).build();
+    }
+
+    /**
+     * Removes the rows inserted during the iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void trim()
+    {
+        database.trim();
+    }
+
+    /**
+     * Drops the database.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        database.close();
+    }
+
+    @Benchmark
+    public List<DatabaseRow> fetchAll()
+    {
+        return sqlManager.fetchAll();
+    }
+
+    @Benchmark
+    public List<DatabaseRow> fetchMatching()
+    {
+        return sqlManager.fetchMatching(pageQuery);
+    }
+
+    @Benchmark
+    public List<DatabaseRow> fetchMatchingProjected()
+    {
+        return sqlManager.fetchMatching(projectedPageQuery);
+    }
+
+    @Benchmark
+    public Optional<DatabaseRow> fetch()
+    {
+        return sqlManager.fetch(database.randomId());
+    }
+
+    @Benchmark
+    public boolean check()
+    {
+        return sqlManager.check(database.randomId());
+    }
+
+    @Benchmark
+    public MutationResult insert()
+    {
+        return sqlManager.insert(database.newRow());
+    }
+
+    @Benchmark
+    public MutationResult modify()
+    {
+        return sqlManager.modify(database.randomId(), database.newRow());
+    }
+
+    @Benchmark
+    public MutationResult delete(DeletionTarget target)
+    {
+        return sqlManager.delete(target.id);
+    }
+
+    /**
+     * Holds a freshly inserted row for each invocation of {@link #delete(DeletionTarget)}.
+     */
+    @State(Scope.Thread)
+    public static class DeletionTarget
+    {
+        private int id;
+
+        /**
+         * Inserts the row to be deleted by the next invocation.
+         *
+         * @param benchmark the benchmark whose database the row is inserted into
+         */
+        @Setup(Level.Invocation)
+        public void insertRow(SQLManagerBenchmark benchmark)
+        {
+            DatabaseRow databaseRow = benchmark.database.newRow();
+            benchmark.sqlManager.insert(databaseRow);
+            id = databaseRow.getUniqueId();
+        }
+    }
+}
\ No newline at end of file
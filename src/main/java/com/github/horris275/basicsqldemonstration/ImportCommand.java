@@ -0,0 +1,149 @@
+package com.github.horris275.basicsqldemonstration;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.SQLManager;
+import com.github.horris275.basicsqldemonstration.sql.transfer.BulkImporter;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ImportProgress;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ImportResult;
+import com.github.horris275.basicsqldemonstration.sql.transfer.RecordFormat;
+import com.github.horris275.basicsqldemonstration.sql.transfer.RejectedRecord;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports a CSV or JSON Lines file into the table from the command line, without the user interface.
+ *
+ * <p>Usage: {@code --import <file> [--format csv|jsonl] [--workers N] [--batch-size N]}. The format
+ * is taken from the extension of the file unless given explicitly. Progress is printed about once a
+ * second, followed by the totals and the first of the rejected records.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class ImportCommand
+{
+    static final String OPTION = "--import";
+
+    private static final String USAGE = "Usage: --import <file> [--format csv|jsonl] [--workers N] [--batch-size N]";
+    private static final int DEFAULT_WORKERS = 4;
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Runs the import described by the command line arguments.
+     *
+     * @param args the arguments passed to the program, starting with {@code --import}
+     * @return     the exit code: {@code 0} if every record was imported, {@code 1} if some were rejected
+     *             and {@code 2} if the arguments were invalid or the import failed
+     */
+    static int run(String[] args)
+    {
+        Path file = null;
+        RecordFormat format = null;
+        int workers = DEFAULT_WORKERS;
+        int batchSize = DEFAULT_BATCH_SIZE;
+
+        try
+        {
+            for (int index = 1; index < args.length; index++)
+            {
+                switch (args[index])
+                {
+                    case "--format" -> format = parseFormat(args[++index]);
+                    case "--workers" -> workers = Integer.parseInt(args[++index]);
+                    case "--batch-size" -> batchSize = Integer.parseInt(args[++index]);
+                    default -> file = Path.of(args[index]);
+                }
+            }
+        }
+        catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e)
+        {
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        if (file == null || !Files.isRegularFile(file))
+        {
+            System.err.println(file == null ? USAGE : "No such file: " + file);
+            return 2;
+        }
+
+        if (format == null)
+        {
+            Optional<RecordFormat> detected = RecordFormat.of(file);
+
+            if (detected.isEmpty())
+            {
+                System.err.println("Unknown file format, use --format csv|jsonl");
+                return 2;
+            }
+
+            format = detected.get();
+        }
+
+        try (SQLManager sqlManager = Main.createSQLManager())
+        {
+            BulkImporter importer = new BulkImporter(sqlManager, workers, batchSize);
+            AtomicLong lastReportNanos = new AtomicLong(System.nanoTime());
+
+            ImportResult result = importer.importFile(file, format, progress -> {
+                long now = System.nanoTime();
+                long last = lastReportNanos.get();
+
+                if (now - last >= PROGRESS_INTERVAL_NANOS && lastReportNanos.compareAndSet(last, now))
+                {
+                    System.out.println(progress);
+                }
+            });
+
+            print(result);
+            return result.getProgress().getRowsRejected() == 0 ? 0 : 1;
+        }
+        catch (DatabaseException | IllegalArgumentException e)
+        {
+            System.err.println("Import failed: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * Parses the value of the {@code --format} option.
+     *
+     * @param value the value given on the command line
+     * @return      the matching {@link RecordFormat}
+     * @throws IllegalArgumentException if the value names no known format
+     */
+    private static RecordFormat parseFormat(String value)
+    {
+        return RecordFormat.fromExtension(value)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown format: " + value));
+    }
+
+    /**
+     * Prints the totals of an import followed by the rejected records that were kept.
+     *
+     * @param result the result of the import
+     */
+    private static void print(ImportResult result)
+    {
+        ImportProgress progress = result.getProgress();
+
+        System.out.println(result);
+        System.out.printf("Took %.1fs%n", progress.getElapsed().toMillis() / 1000.0);
+
+        for (RejectedRecord rejectedRecord : result.getRejectedRecords())
+        {
+            System.out.println("  " + rejectedRecord);
+        }
+
+        if (progress.getRowsRejected() > result.getRejectedRecords().size())
+        {
+            System.out.println("  ... and " + (progress.getRowsRejected() - result.getRejectedRecords().size())
+                    + " more rejected records");
+        }
+    }
+}
\ No newline at end of file
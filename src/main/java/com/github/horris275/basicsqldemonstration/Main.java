@@ -1,20 +1,51 @@
 package com.github.horris275.basicsqldemonstration;
 
+import com.github.horris275.basicsqldemonstration.sql.CachingDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRegistry;
+import com.github.horris275.basicsqldemonstration.sql.IndexingDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.InstrumentedDatabaseService;
 import com.github.horris275.basicsqldemonstration.sql.SQLManager;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.VirtualThreadDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.WriteBehindDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.WriteDurability;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.log.OperationLog;
+import com.github.horris275.basicsqldemonstration.sql.metrics.ConnectionPoolMetrics;
+import com.github.horris275.basicsqldemonstration.sql.metrics.MetricsExporter;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.ui.startup.StartupTimings;
 import com.github.horris275.basicsqldemonstration.ui.tabs.DeleteTab;
+import com.github.horris275.basicsqldemonstration.ui.tabs.DiagnosticsTab;
 import com.github.horris275.basicsqldemonstration.ui.tabs.DisplayTab;
+import com.github.horris275.basicsqldemonstration.ui.tabs.ExportTab;
+import com.github.horris275.basicsqldemonstration.ui.tabs.ImportTab;
 import com.github.horris275.basicsqldemonstration.ui.tabs.InsertTab;
+import com.github.horris275.basicsqldemonstration.ui.tabs.LazyTab;
 import com.github.horris275.basicsqldemonstration.ui.tabs.ModifyTab;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
 import javafx.application.Application;
 import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 
 import java.awt.*;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The main entry class for the JavaFX application.
@@ -27,54 +58,222 @@ import java.awt.*;
  *
  * <p>Database connection parameters are hardcoded for demonstration purposes.
  * Additional considerations and validation would be required to make it production ready.
- * Finally, the table would be moved to a dynamic system to retrieve column names.</p>
+ * The tabs operate on one table at a time, chosen from the tables of the database with the
+ * selector above them; every table shares the connections of one {@link DatabaseRegistry}.</p>
  *
  * @author horris275
- * @version 17.09.2025
+ * @version 16.10.2026
  */
 public class Main extends Application
 {
+    private static final int ROW_CACHE_SIZE = 10_000;
+    private static final Duration ROW_CACHE_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final int MAXIMUM_CONCURRENT_QUERIES = 10;
+    private static final int WRITE_BATCH_SIZE = 100;
+    private static final Duration WRITE_DELAY = Duration.ofMillis(20);
+    private static final String DATABASE = "test";
+    private static final String TABLE = "database_example";
+    private static final Path OPERATION_LOG_DIRECTORY = Path.of("logs");
+    private static final Duration SLOW_QUERY_THRESHOLD = Duration.ofMillis(100);
+    private static final int OPERATION_LOG_SAMPLE_RATE = 100;
+    private static final Path SNAPSHOT_DIRECTORY = Path.of("snapshots");
+    private static final String WRITE_BEHIND_OPTION = "--write-behind";
+    private static final String SEARCH_COLUMNS_OPTION = "--search-columns=";
+
+    private final Map<String, TableServices> tableServices = new HashMap<>();
+    private DatabaseRegistry registry;
+    private ConnectionPoolMetrics poolMetrics;
+    private MetricsExporter metricsExporter;
+    private OperationLog operationLog;
+    private BorderPane root;
+    private ChoiceBox<String> tableChoice;
+    private TableServices currentServices;
+    private WriteDurability writeDurability;
+    private List<String> searchColumns;
+    private DisplayTab displayTab;
+    private StartupTimings startupTimings;
+
     /**
      * Initialises and shows the primary stage of the JavaFX application.
      *
-     * <p>The method is responsible for setting up the database service, creating the tab
-     * pane containing all CRUD tabs, setting the window size, and finally displaying the scene</p>
+     * <p>The method is responsible for setting up the database registry, creating the table selector
+     * and the tab pane containing all CRUD tabs for the default table, setting the window size, and
+     * finally displaying the scene. Nothing here waits for the database: the tabs load their layouts
+     * when first selected and the work needed before the data can be shown is started by
+     * {@link #warmUp()} once the window is visible.</p>
      *
      * @param stage the primary stage provided by the JavaFX runtime
      */
     @Override
     public void start(Stage stage)
     {
-        final DynamicDatabaseService databaseService = createDatabaseService();
-        final TabPane tabPane = createTabPane(databaseService);
+        startupTimings = new StartupTimings();
+        writeDurability = parseWriteDurability(getParameters().getRaw());
+        searchColumns = parseSearchColumns(getParameters().getRaw());
+
+        createDatabaseRegistry();
+
+        root = new BorderPane();
+        root.setTop(createTableBar());
+        selectTable(TABLE);
 
         final Dimension resolution = Toolkit.getDefaultToolkit().getScreenSize();
         final int width = (int) (resolution.width * 0.75);
         final int height = (int) (resolution.height * 0.75);
 
-        final Scene scene = new Scene(tabPane, width, height);
+        final Scene scene = new Scene(root, width, height);
 
         stage.setTitle("Basic SQL Demonstration with JavaFX UI");
         stage.setScene(scene);
         stage.show();
+
+        startupTimings.recordFirstFrame();
+        warmUp();
+    }
+
+    /**
+     * Starts, in parallel and in the background, the work needed before the window can show live data:
+     * the connection pool opening its minimum number of connections, the Display tab reading the
+     * table schema and its first page, and the full-text search index being built from a scan of the table.
+     * The time taken is shown in the Diagnostics tab. The other tables of the database are then listed
+     * in the table selector.
+     */
+    private void warmUp()
+    {
+        startupTimings.recordWarmUp(CompletableFuture.allOf(registry.getConnectionPool().getWarmUp(), loadTable()));
+
+        CompletableFuture<List<String>> tableNames = CompletableFuture.supplyAsync(registry::retrieveTableNames,
+                task -> Thread.ofVirtual().name("table-names").start(task));
+
+        UITaskGroup.deliver(tableNames, names -> {
+            String table = currentServices.getTable();
+            tableChoice.getItems().setAll(names.contains(table) ? names : List.of(table));
+            tableChoice.setValue(table);
+        });
+    }
+
+    /**
+     * Saves the snapshot of the displayed rows and releases the database connections
+     * held by the application once the window has been closed.
+     */
+    @Override
+    public void stop()
+    {
+        if (displayTab != null)
+        {
+            displayTab.saveSnapshot();
+        }
+
+        tableServices.values().forEach(TableServices::close);
+
+        if (metricsExporter != null)
+        {
+            metricsExporter.close();
+        }
+
+        if (registry != null)
+        {
+            registry.close();
+        }
+
+        if (operationLog != null)
+        {
+            operationLog.close();
+        }
+    }
+
+    /**
+     * Creates the bar above the tabs holding the table selector. Choosing another table replaces
+     * the tabs with those of the chosen table, reusing the connections already open.
+     *
+     * @return the table bar
+     */
+    private HBox createTableBar()
+    {
+        tableChoice = new ChoiceBox<>();
+        tableChoice.getItems().setAll(TABLE);
+        tableChoice.setValue(TABLE);
+        tableChoice.valueProperty().addListener((observable, oldTable, newTable) -> {
+            if (newTable != null && !newTable.equals(currentServices.getTable()))
+            {
+                selectTable(newTable);
+                loadTable();
+            }
+        });
+
+        HBox tableBar = new HBox(10, new Label("Table:"), tableChoice);
+        tableBar.setAlignment(Pos.CENTER_LEFT);
+        tableBar.setPadding(new Insets(5, 10, 5, 10));
+        return tableBar;
     }
 
     /**
-     * Creates and configures the main {@link TabPane} containing all CRUD tabs.
+     * Shows the tabs of the given table, creating its services on first use. The snapshot of the
+     * previously shown table is saved first, and the pending tasks and refreshes of its tabs are
+     * stopped. Nothing is read until {@link #loadTable()} is called.
      *
-     * <p>As current, it provides Display, Insert, Modify, and Delete for CRUD operations.</p>
+     * @param table the name of the table to show
+     */
+    private void selectTable(String table)
+    {
+        if (displayTab != null)
+        {
+            displayTab.saveSnapshot();
+            displayTab.cancelPendingTasks();
+        }
+
+        if (root.getCenter() instanceof TabPane tabPane)
+        {
+            for (Tab tab : tabPane.getTabs())
+            {
+                if (tab instanceof LazyTab lazyTab)
+                {
+                    lazyTab.release();
+                }
+            }
+        }
+
+        currentServices = tableServices.computeIfAbsent(table, this::createTableServices);
+        root.setCenter(createTabPane(currentServices));
+    }
+
+    /**
+     * Starts reading the first page of the table shown and, the first time the table is shown,
+     * building its search index.
      *
-     * @param databaseService the {@link DynamicDatabaseService} used by each tab controller
-     * @return                a configured {@link TabPane} containing all tabs
+     * @return a future completed once both have finished
      */
-    private TabPane createTabPane(DynamicDatabaseService databaseService)
+    private CompletableFuture<Void> loadTable()
+    {
+        return CompletableFuture.allOf(displayTab.start(), currentServices.buildIndex());
+    }
+
+    /**
+     * Creates and configures the main {@link TabPane} containing all CRUD tabs of a table.
+     *
+     * <p>As current, it provides Display, Insert, Modify, and Delete for CRUD operations,
+     * followed by Import and Export tabs for transferring files and a Diagnostics tab showing the database metrics.
+     * Only the Display tab, shown in the first frame, is built straight away; the others are built on first
+     * selection.</p>
+     *
+     * @param services the services of the table, used by each tab controller
+     * @return         a configured {@link TabPane} containing all tabs
+     */
+    private TabPane createTabPane(TableServices services)
     {
         TabPane tabPane = new TabPane();
+        AsyncDatabaseService databaseService = services.getAsyncService();
+        IndexingDatabaseService bulkDatabaseService = services.getIndexingService();
 
         DeleteTab deleteTab = new DeleteTab(databaseService);
-        DisplayTab displayTab = new DisplayTab(databaseService);
+        displayTab = new DisplayTab(databaseService, bulkDatabaseService,
+                SNAPSHOT_DIRECTORY.resolve(services.getTable() + ".bsqd"));
         InsertTab insertTab = new InsertTab(databaseService);
         ModifyTab modifyTab = new ModifyTab(databaseService);
+        ImportTab importTab = new ImportTab(bulkDatabaseService);
+        ExportTab exportTab = new ExportTab(bulkDatabaseService);
+        DiagnosticsTab diagnosticsTab = new DiagnosticsTab(services.getOperationMetrics(), poolMetrics,
+                bulkDatabaseService.getIndex(), startupTimings);
 
         ObservableList<Tab> tabs = tabPane.getTabs();
 
@@ -82,11 +281,15 @@ public class Main extends Application
         tabs.add(insertTab);
         tabs.add(modifyTab);
         tabs.add(deleteTab);
+        tabs.add(importTab);
+        tabs.add(exportTab);
+        tabs.add(diagnosticsTab);
 
+        DisplayTab tableDisplayTab = displayTab;
         tabPane.getSelectionModel().selectedItemProperty().addListener((observable, oldTab, newTab) -> {
-            if (newTab == displayTab)
+            if (newTab == tableDisplayTab)
             {
-                displayTab.refreshTable();
+                tableDisplayTab.refreshTable();
             }
         });
 
@@ -94,32 +297,268 @@ public class Main extends Application
     }
 
     /**
-     * Creates the {@link DynamicDatabaseService} instance for interacting with the database.
+     * Creates the {@link DatabaseRegistry} handing out the services of each table.
+     *
+     * <p>The connection parameters are hardcoded, as in {@link #createSQLManager()}. The registry
+     * owns a connection pool that starts warming up immediately, shared by every table together with
+     * the schema and statement caches, and is closed in {@link #stop()}. The pool's metrics are
+     * registered with JMX. Queries slower than {@code SLOW_QUERY_THRESHOLD}, failed queries and
+     * a sample of the others are written to rolling files in the {@code logs} directory.</p>
+     */
+    private void createDatabaseRegistry()
+    {
+        final String host = "localhost";
+        final String port = "3306";
+        final String user = "root";
+        final String password = "pie123";
+
+        registry = new DatabaseRegistry(host, port, DATABASE, user, password);
+        operationLog = new OperationLog(OPERATION_LOG_DIRECTORY, "operations", SLOW_QUERY_THRESHOLD,
+                OPERATION_LOG_SAMPLE_RATE);
+        registry.setOperationLog(operationLog);
+        poolMetrics = new ConnectionPoolMetrics(registry.getConnectionPool());
+
+        metricsExporter = new MetricsExporter();
+        metricsExporter.registerConnectionPool(DATABASE, poolMetrics);
+    }
+
+    /**
+     * Creates the services used by the tabs of a table, on top of the registry's {@link SQLManager} for it.
+     *
+     * <p>The calls that reach the database are measured by an {@link InstrumentedDatabaseService},
+     * whose metrics are registered with JMX under the table's name. Single-row reads are served
+     * through a {@link CachingDatabaseService} above it, and the text columns of the table, or those
+     * given with {@code --search-columns}, are kept in a full-text index by an
+     * {@link IndexingDatabaseService} above that, so the Display tab can search them as the user types. Single-row inserts and updates are sent to the database
+     * straight away unless the application was started with {@code --write-behind}, in which case
+     * they are grouped into batched transactions by a {@link WriteBehindDatabaseService}. The tabs
+     * run their queries through a {@link VirtualThreadDatabaseService}.</p>
+     *
+     * @param table the name of the table
+     * @return      the {@link TableServices} of the table
+     */
+    private TableServices createTableServices(String table)
+    {
+        InstrumentedDatabaseService instrumentedService = new InstrumentedDatabaseService(registry.getService(table));
+        CachingDatabaseService cachingService = new CachingDatabaseService(instrumentedService, ROW_CACHE_SIZE,
+                ROW_CACHE_TIME_TO_LIVE);
+        IndexingDatabaseService indexingService = searchColumns == null ? new IndexingDatabaseService(cachingService)
+                : new IndexingDatabaseService(cachingService, searchColumns);
+        WriteBehindDatabaseService writeBehindService = writeDurability == WriteDurability.WRITE_THROUGH ? null
+                : new WriteBehindDatabaseService(indexingService, WRITE_BATCH_SIZE, WRITE_DELAY, writeDurability);
+        TableServices services = new TableServices(table, instrumentedService, indexingService, writeBehindService,
+                new VirtualThreadDatabaseService(writeBehindService != null ? writeBehindService : indexingService,
+                        MAXIMUM_CONCURRENT_QUERIES));
+
+        metricsExporter.registerOperations(table, services.getOperationMetrics());
+        return services;
+    }
+
+    /**
+     * Creates a {@link SQLManager} connected to the demonstration database.
      *
      * <p>Currently, the values are hardcoded and connects to a MariaDB database.
-     * This is for demonstration purposes.</p>
+     * This is for demonstration purposes. The caller owns the manager and must close it.</p>
      *
-     * @return a {@link DynamicDatabaseService} implementation connected to the database
+     * @return a new {@link SQLManager} operating on the demonstration table
      */
-    private DynamicDatabaseService createDatabaseService()
+    static SQLManager createSQLManager()
     {
         final String host = "localhost";
         final String port = "3306";
-        final String database = "test";
-        final String table = "database_example";
         final String user = "root";
         final String password = "pie123";
 
-        return new SQLManager(host, port, database, table, user, password);
+        return new SQLManager(host, port, DATABASE, TABLE, user, password);
+    }
+
+    /**
+     * Reads how single-row writes are made from the command line arguments. Writes go straight to the
+     * database unless {@code --write-behind} is given, which buffers them and waits for the commit of
+     * their batch; {@code --write-behind=deferred} buffers them without waiting.
+     *
+     * @param args the arguments passed to the program
+     * @return     the {@link WriteDurability} of the single-row writes
+     * @throws IllegalArgumentException if the mode given to {@code --write-behind} is unknown
+     */
+    static WriteDurability parseWriteDurability(List<String> args)
+    {
+        WriteDurability durability = WriteDurability.WRITE_THROUGH;
+
+        for (String arg : args)
+        {
+            if (arg.equals(WRITE_BEHIND_OPTION))
+            {
+                durability = WriteDurability.GROUP_COMMIT;
+            }
+            else if (arg.startsWith(WRITE_BEHIND_OPTION + "="))
+            {
+                String mode = arg.substring(WRITE_BEHIND_OPTION.length() + 1);
+                durability = WriteDurability.valueOf(mode.toUpperCase(Locale.ROOT).replace('-', '_'));
+            }
+        }
+
+        return durability;
+    }
+
+    /**
+     * Reads the columns kept in the search index from the command line arguments. Every text column
+     * of each table is indexed unless {@code --search-columns=a,b} names the columns to index;
+     * {@code --search-columns=} without any column turns the index off.
+     *
+     * @param args the arguments passed to the program
+     * @return     the names of the columns to index, or {@code null} to index every text column
+     */
+    static List<String> parseSearchColumns(List<String> args)
+    {
+        List<String> columnNames = null;
+
+        for (String arg : args)
+        {
+            if (arg.startsWith(SEARCH_COLUMNS_OPTION))
+            {
+                columnNames = Arrays.stream(arg.substring(SEARCH_COLUMNS_OPTION.length()).split(","))
+                        .map(String::trim)
+                        .filter(columnName -> !columnName.isEmpty())
+                        .toList();
+            }
+        }
+
+        return columnNames;
     }
 
     /**
      * The main method that launches the JavaFX application.
      *
-     * @param args the arguments passed to the program (unused)
+     * <p>If the first argument is {@code --import}, the file given by the remaining arguments is
+     * imported into the table by an {@link ImportCommand} instead, without opening the user interface.
+     * Otherwise {@code --write-behind[=group-commit|deferred]} turns on the buffering of single-row
+     * writes, as read by {@link #parseWriteDurability(List)}, and {@code --search-columns=a,b} chooses
+     * the columns of the search index, as read by {@link #parseSearchColumns(List)}.</p>
+     *
+     * @param args the arguments passed to the program
      */
     public static void main(String[] args)
     {
-        launch();
+        if (args.length > 0 && args[0].equals(ImportCommand.OPTION))
+        {
+            System.exit(ImportCommand.run(args));
+        }
+
+        launch(args);
+    }
+
+    /**
+     * The services used by the tabs of one table, created the first time the table is shown
+     * and kept until the application closes.
+     */
+    private static final class TableServices
+    {
+        private final String table;
+        private final InstrumentedDatabaseService instrumentedService;
+        private final IndexingDatabaseService indexingService;
+        private final WriteBehindDatabaseService writeBehindService;
+        private final VirtualThreadDatabaseService asyncService;
+        private CompletableFuture<Void> indexBuild;
+
+        /**
+         * Constructs a new {@code TableServices}.
+         *
+         * @param table               the name of the table
+         * @param instrumentedService the service measuring the calls that reach the database
+         * @param indexingService     the service keeping the search index, used by the Import and Export tabs
+         * @param writeBehindService  the service batching the single-row writes of the other tabs,
+         *                            or {@code null} if they are sent to the database straight away
+         * @param asyncService        the service running the queries of the other tabs
+         */
+        private TableServices(String table, InstrumentedDatabaseService instrumentedService,
+                              IndexingDatabaseService indexingService, WriteBehindDatabaseService writeBehindService,
+                              VirtualThreadDatabaseService asyncService)
+        {
+            this.table = table;
+            this.instrumentedService = instrumentedService;
+            this.indexingService = indexingService;
+            this.writeBehindService = writeBehindService;
+            this.asyncService = asyncService;
+        }
+
+        /**
+         * Returns the name of the table.
+         *
+         * @return the table name
+         */
+        private String getTable()
+        {
+            return table;
+        }
+
+        /**
+         * Returns the service keeping the search index.
+         *
+         * @return the {@link IndexingDatabaseService} of the table
+         */
+        private IndexingDatabaseService getIndexingService()
+        {
+            return indexingService;
+        }
+
+        /**
+         * Returns the service running the queries of the tabs.
+         *
+         * @return the {@link VirtualThreadDatabaseService} of the table
+         */
+        private VirtualThreadDatabaseService getAsyncService()
+        {
+            return asyncService;
+        }
+
+        /**
+         * Starts building the search index on a virtual thread the first time it is called.
+         *
+         * @return a future completed once the index has been built
+         */
+        private CompletableFuture<Void> buildIndex()
+        {
+            if (indexBuild == null)
+            {
+                indexBuild = CompletableFuture.runAsync(indexingService::buildIndex,
+                        task -> Thread.ofVirtual().name("search-index-build").start(task));
+            }
+
+            return indexBuild;
+        }
+
+        /**
+         * Returns the metrics of every operation shown in the Diagnostics tab and registered with JMX:
+         * the calls that reach the database, followed by the searches answered by the full-text index
+         * and, if writes are buffered, the batches of queued writes.
+         *
+         * @return the list of {@link OperationMetrics}
+         */
+        private List<OperationMetrics> getOperationMetrics()
+        {
+            List<OperationMetrics> operationMetrics = new ArrayList<>(instrumentedService.getOperationMetrics());
+            operationMetrics.add(indexingService.getSearchMetrics());
+
+            if (writeBehindService != null)
+            {
+                operationMetrics.add(writeBehindService.getFlushMetrics());
+            }
+
+            return operationMetrics;
+        }
+
+        /**
+         * Stops the service running the queries of the tabs, then commits the writes still queued.
+         */
+        private void close()
+        {
+            asyncService.close();
+
+            if (writeBehindService != null)
+            {
+                writeBehindService.close();
+            }
+        }
     }
 }
\ No newline at end of file
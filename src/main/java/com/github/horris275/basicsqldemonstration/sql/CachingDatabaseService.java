@@ -0,0 +1,370 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+import com.github.horris275.basicsqldemonstration.sql.cache.LruCache;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicDatabaseService} decorator that serves single-row reads from a read-through cache.
+ *
+ * <p>{@link #fetch(int)} and {@link #check(int)} are answered from a size-bounded, least-recently-used
+ * cache whose entries expire after a time-to-live. A miss in either method loads the whole row, so
+ * the common pattern of checking an identifier and then fetching it costs a single query. Missing
+ * rows are cached as well, so repeated probes for an identifier that does not exist are also served
+ * from memory.</p>
+ *
+ * <p>Writes made through this service keep the cache consistent: inserted and modified rows are
+ * invalidated, so that they are next read as the database stored them, including the columns filled
+ * by database defaults, and deleted rows are recorded as missing. Writes made by other clients of the
+ * database are picked up once the affected entries expire, or earlier when a change set read through
+ * {@link #fetchChanges(Instant, int)} reports them. Range reads such as
+ * {@link #fetchAll()} and the page reads always go to the underlying service.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class CachingDatabaseService implements DynamicDatabaseService
+{
+    private final DynamicDatabaseService databaseService;
+    private final LruCache<Integer, Optional<DatabaseRow>> rowCache;
+
+    /**
+     * Constructs a new {@code CachingDatabaseService} around another service.
+     *
+     * @param databaseService the service to load rows from and forward writes to
+     * @param maximumSize     the maximum number of rows held in the cache
+     * @param timeToLive      how long a cached row may be served before it is loaded again
+     */
+    public CachingDatabaseService(DynamicDatabaseService databaseService, int maximumSize, Duration timeToLive)
+    {
+        this.databaseService = databaseService;
+        this.rowCache = new LruCache<>(maximumSize, timeToLive);
+    }
+
+    /**
+     * Retrieves all rows within the database from the underlying service.
+     *
+     * @return                   a list containing all database rows; never {@code null}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchAll() throws DatabaseException
+    {
+        return databaseService.fetchAll();
+    }
+
+    /**
+     * Streams all rows within the database from the underlying service.
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Stream<DatabaseRow> streamAll() throws DatabaseException
+    {
+        return databaseService.streamAll();
+    }
+
+    /**
+     * Retrieves a page of rows following the given identifier from the underlying service.
+     *
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException
+    {
+        return databaseService.fetchPage(afterId, limit);
+    }
+
+    /**
+     * Retrieves a page of rows preceding the given identifier from the underlying service.
+     *
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException
+    {
+        return databaseService.fetchPageBefore(beforeId, limit);
+    }
+
+    /**
+     * Retrieves the rows matching a query from the underlying service.
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException
+    {
+        return databaseService.fetchMatching(query);
+    }
+
+    /**
+     * Retrieves a single row by its unique identifier, from the cache where possible.
+     * The returned row is a copy, so modifying it does not affect the cache.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   an {@code Optional} containing the row if found, or empty if not
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
+    {
+        return rowCache.get(id, databaseService::fetch).map(DatabaseRow::copy);
+    }
+
+    /**
+     * Checks whether a row with the given identifier exists, from the cache where possible.
+     * A miss loads the whole row so that a following {@link #fetch(int)} is served from the cache.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   {@code true} if the row exists, otherwise {@code false}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public boolean check(int id) throws DatabaseException
+    {
+        return rowCache.get(id, databaseService::fetch).isPresent();
+    }
+
+    /**
+     * Inserts a new row into the database and invalidates any cached entry for its generated identifier.
+     *
+     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow) throws DatabaseException
+    {
+        MutationResult result = databaseService.insert(databaseRow);
+        invalidateInserted(databaseRow);
+        return result;
+    }
+
+    /**
+     * Inserts a collection of new rows into the database and invalidates any cached entries for their generated identifiers.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s to insert
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException
+    {
+        try
+        {
+            databaseService.insertAll(databaseRows);
+        }
+        finally
+        {
+            databaseRows.forEach(this::invalidateInserted);
+        }
+    }
+
+    /**
+     * Updates an existing row in the database and invalidates its cached copy.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   the {@link MutationResult} holding the number of rows matched
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException
+    {
+        try
+        {
+            return databaseService.modify(id, databaseRow);
+        }
+        finally
+        {
+            rowCache.invalidate(id);
+        }
+    }
+
+    /**
+     * Updates several existing rows in the database and invalidates their cached copies.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return                   the number of rows affected for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException
+    {
+        try
+        {
+            return databaseService.modifyAll(databaseRows);
+        }
+        finally
+        {
+            databaseRows.keySet().forEach(rowCache::invalidate);
+        }
+    }
+
+    /**
+     * Deletes a row from the database and records it as missing in the cache.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted and the deleted row
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult delete(int id) throws DatabaseException
+    {
+        try
+        {
+            MutationResult result = databaseService.delete(id);
+            rowCache.put(id, Optional.empty());
+            return result;
+        }
+        catch (DatabaseException e)
+        {
+            rowCache.invalidate(id);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes several rows from the database and records them as missing in the cache.
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException
+    {
+        try
+        {
+            Map<Integer, Integer> results = databaseService.deleteAll(ids);
+            results.keySet().forEach(id -> rowCache.put(id, Optional.empty()));
+            return results;
+        }
+        catch (DatabaseException e)
+        {
+            for (int id : ids)
+            {
+                rowCache.invalidate(id);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the current watermark of the database from the underlying service.
+     *
+     * @return                   the current watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Instant retrieveChangeWatermark() throws DatabaseException
+    {
+        return databaseService.retrieveChangeWatermark();
+    }
+
+    /**
+     * Retrieves the rows changed since the given watermark from the underlying service,
+     * refreshing the cached copies of the changed rows and recording the deleted rows as missing.
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changes to read before the change set is reported incomplete
+     * @return                   the {@link ChangeSet} since the watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException
+    {
+        ChangeSet changeSet = databaseService.fetchChanges(since, limit);
+
+        for (DatabaseRow databaseRow : changeSet.getChangedRows())
+        {
+            rowCache.put(databaseRow.getUniqueId(), Optional.of(databaseRow.copy()));
+        }
+
+        for (int id : changeSet.getDeletedIds())
+        {
+            rowCache.put(id, Optional.empty());
+        }
+
+        return changeSet;
+    }
+
+    /**
+     * Retrieves the column names from the underlying service.
+     *
+     * @return                   a list of strings that represent the column names
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<String> retrieveColumnNames() throws DatabaseException
+    {
+        return databaseService.retrieveColumnNames();
+    }
+
+    /**
+     * Retrieves the schema of the database table from the underlying service.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public TableSchema retrieveTableSchema() throws DatabaseException
+    {
+        return databaseService.retrieveTableSchema();
+    }
+
+    /**
+     * Discards the cached schema of the underlying service together with every cached row,
+     * as rows read under the old schema may no longer match the table.
+     */
+    @Override
+    public void invalidateTableSchema()
+    {
+        databaseService.invalidateTableSchema();
+        rowCache.invalidateAll();
+    }
+
+    /**
+     * Returns a snapshot of the row cache counters, including hit ratio, evictions and load latency.
+     *
+     * @return the current {@link CacheStatistics} of the row cache
+     */
+    public CacheStatistics getStatistics()
+    {
+        return rowCache.getStatistics();
+    }
+
+    /**
+     * Invalidates the cached entry of a newly inserted row if it has been assigned its identifier,
+     * such as a missing row recorded by an earlier probe.
+     *
+     * @param databaseRow the inserted row
+     */
+    private void invalidateInserted(DatabaseRow databaseRow)
+    {
+        if (databaseRow.getUniqueId() > 0)
+        {
+            rowCache.invalidate(databaseRow.getUniqueId());
+        }
+    }
+}
\ No newline at end of file
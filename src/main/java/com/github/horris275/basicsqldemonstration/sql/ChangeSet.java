@@ -0,0 +1,104 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The rows of a table that have been inserted, updated or deleted since a given point in time.
+ *
+ * <p>A change set is read by {@link com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService#fetchChanges(Instant, int)}
+ * and carries the watermark to pass to the next call, so a client can keep a copy of the table up to
+ * date by applying one change set after another. Applying a change set is idempotent: a row may be
+ * reported more than once, in which case its latest values win.</p>
+ *
+ * <p>A change set is incomplete if the changes could not be read in full, either because the table
+ * does not track changes or because more rows changed than were requested. A client receiving an
+ * incomplete change set must reload the rows it holds instead of applying it.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ChangeSet
+{
+    private final List<DatabaseRow> changedRows;
+    private final List<Integer> deletedIds;
+    private final Instant watermark;
+    private final boolean complete;
+
+    /**
+     * Constructs a new {@code ChangeSet}.
+     *
+     * @param changedRows the rows inserted or updated since the previous watermark, in identifier order
+     * @param deletedIds  the unique identifiers of the rows deleted since the previous watermark
+     * @param watermark   the point in time from which the next change set should be read
+     * @param complete    {@code true} if every change has been read, otherwise {@code false}
+     */
+    public ChangeSet(List<DatabaseRow> changedRows, List<Integer> deletedIds, Instant watermark, boolean complete)
+    {
+        this.changedRows = List.copyOf(changedRows);
+        this.deletedIds = List.copyOf(deletedIds);
+        this.watermark = watermark;
+        this.complete = complete;
+    }
+
+    /**
+     * Creates an incomplete change set, signalling that the client must reload its rows.
+     *
+     * @param watermark the point in time from which the next change set should be read
+     * @return          an empty, incomplete change set
+     */
+    public static ChangeSet incomplete(Instant watermark)
+    {
+        return new ChangeSet(List.of(), List.of(), watermark, false);
+    }
+
+    /**
+     * Returns the rows inserted or updated since the previous watermark, in identifier order.
+     *
+     * @return the unmodifiable list of changed rows
+     */
+    public List<DatabaseRow> getChangedRows()
+    {
+        return changedRows;
+    }
+
+    /**
+     * Returns the unique identifiers of the rows deleted since the previous watermark.
+     *
+     * @return the unmodifiable list of deleted identifiers
+     */
+    public List<Integer> getDeletedIds()
+    {
+        return deletedIds;
+    }
+
+    /**
+     * Returns the point in time from which the next change set should be read.
+     *
+     * @return the watermark
+     */
+    public Instant getWatermark()
+    {
+        return watermark;
+    }
+
+    /**
+     * Checks whether every change since the previous watermark has been read.
+     *
+     * @return {@code true} if the change set can be applied, otherwise {@code false}
+     */
+    public boolean isComplete()
+    {
+        return complete;
+    }
+
+    /**
+     * Checks whether the change set contains no changes.
+     *
+     * @return {@code true} if no row has changed, otherwise {@code false}
+     */
+    public boolean isEmpty()
+    {
+        return changedRows.isEmpty() && deletedIds.isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+import com.github.horris275.basicsqldemonstration.sql.log.OperationLog;
+import com.github.horris275.basicsqldemonstration.sql.pool.ConnectionPool;
+import com.github.horris275.basicsqldemonstration.sql.schema.SchemaCache;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Hands out a {@link SQLManager} for any table of one database, every one of them sharing the same
+ * connection pool, schema cache and SQL template cache.
+ *
+ * <p>Switching between tables therefore never opens new connections: the prepared statements cached
+ * on each pooled connection serve every table, each table's columns are read from the database
+ * metadata once, and the insert and update statements built for one table are kept alongside those
+ * of the others. The manager for a table is created on first use and the same instance is returned
+ * afterwards.</p>
+ *
+ * <p>Table names are written into the SQL of every statement, so only names made of letters, digits
+ * and underscores are accepted. Each table is addressed by a single integer key column, its primary
+ * key whatever its name, or {@code id} if it has none. Change tracking additionally expects the
+ * layout of the demonstration table: a {@code modified_at} column and a {@code <table>_deleted}
+ * tombstone table holding the key of every deleted row, in a column named like the key column,
+ * and a {@code deleted_at} timestamp.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class DatabaseRegistry implements AutoCloseable
+{
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final ConnectionPool connectionPool;
+    private final boolean ownsConnectionPool;
+    private final SchemaCache schemaCache = new SchemaCache();
+    private final QueryTemplates queryTemplates = new QueryTemplates();
+    private final Map<String, SQLManager> managers = new ConcurrentHashMap<>();
+    private volatile OperationLog operationLog;
+
+    /**
+     * Constructs a new {@code DatabaseRegistry} with the desired database connection properties.
+     * The registry owns its connection pool and shuts it down in {@link #close()}.
+     *
+     * @param address  the database host address (e.g. "localhost")
+     * @param port     the port the database is listening on (e.g. "3306")
+     * @param database the name of the database
+     * @param user     the database username
+     * @param password the database password
+     */
+    public DatabaseRegistry(String address, String port, String database, String user, String password)
+    {
+        this(SQLManager.createConnectionPool(address, port, database, user, password), true);
+    }
+
+    /**
+     * Constructs a new {@code DatabaseRegistry} that borrows its connections from an existing pool.
+     * The pool is not closed when this registry is closed.
+     *
+     * @param connectionPool the pool to borrow connections from
+     */
+    public DatabaseRegistry(ConnectionPool connectionPool)
+    {
+        this(connectionPool, false);
+    }
+
+    /**
+     * Constructs a new {@code DatabaseRegistry} with the given pool and ownership.
+     *
+     * @param connectionPool     the pool to borrow connections from
+     * @param ownsConnectionPool whether {@link #close()} should also close the pool
+     */
+    private DatabaseRegistry(ConnectionPool connectionPool, boolean ownsConnectionPool)
+    {
+        this.connectionPool = connectionPool;
+        this.ownsConnectionPool = ownsConnectionPool;
+    }
+
+    /**
+     * Returns the manager operating on the given table, creating it on first use.
+     * Nothing is read from the database until the manager is used.
+     *
+     * @param table the name of the table
+     * @return      the {@link SQLManager} of the table, shared by every caller
+     * @throws IllegalArgumentException if the name contains anything other than letters, digits and underscores
+     */
+    public SQLManager getService(String table)
+    {
+        if (!TABLE_NAME.matcher(table).matches())
+        {
+            throw new IllegalArgumentException("Invalid table name: " + table);
+        }
+
+        return managers.computeIfAbsent(table, name -> {
+            SQLManager sqlManager = new SQLManager(connectionPool, name, schemaCache, queryTemplates);
+            sqlManager.setOperationLog(operationLog);
+            return sqlManager;
+        });
+    }
+
+    /**
+     * Retrieves the names of the tables in the database, leaving out the tombstone tables
+     * that record the rows deleted from another table.
+     *
+     * @return                   the table names in the order reported by the database
+     * @throws DatabaseException if a database access error occurs
+     */
+    public List<String> retrieveTableNames() throws DatabaseException
+    {
+        List<String> tables = new ArrayList<>();
+
+        try (Connection connection = connectionPool.borrow();
+             ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(),
+                     "%", new String[] {"TABLE"}))
+        {
+            while (resultSet.next())
+            {
+                tables.add(resultSet.getString("TABLE_NAME"));
+            }
+        }
+        catch (SQLException e)
+        {
+            throw new DatabaseException("An error has occurred while attempting to retrieve the table names", e);
+        }
+
+        Set<String> names = new HashSet<>(tables);
+        tables.removeIf(table -> table.endsWith(SQLManager.TOMBSTONE_SUFFIX)
+                && names.contains(table.substring(0, table.length() - SQLManager.TOMBSTONE_SUFFIX.length())));
+        return tables;
+    }
+
+    /**
+     * Sets the log that slow, failed and sampled operations on every table are written to,
+     * including the tables whose managers have already been created.
+     *
+     * @param operationLog the log to write to, or {@code null} to stop logging
+     */
+    public void setOperationLog(OperationLog operationLog)
+    {
+        this.operationLog = operationLog;
+        managers.values().forEach(sqlManager -> sqlManager.setOperationLog(operationLog));
+    }
+
+    /**
+     * Discards the cached schema of every table, so that each is read again on next use.
+     */
+    public void invalidateTableSchemas()
+    {
+        schemaCache.invalidateAll();
+    }
+
+    /**
+     * Returns the connection pool shared by every table.
+     *
+     * @return the {@link ConnectionPool} in use
+     */
+    public ConnectionPool getConnectionPool()
+    {
+        return connectionPool;
+    }
+
+    /**
+     * Returns a snapshot of the counters of the SQL template cache shared by every table.
+     *
+     * @return the current {@link CacheStatistics} of the template cache
+     */
+    public CacheStatistics getQueryTemplateStatistics()
+    {
+        return queryTemplates.getStatistics();
+    }
+
+    /**
+     * Closes the connection pool if it was created by this registry.
+     * The managers handed out can no longer be used afterwards.
+     */
+    @Override
+    public void close()
+    {
+        if (ownsConnectionPool)
+        {
+            connectionPool.close();
+        }
+    }
+}
\ No newline at end of file
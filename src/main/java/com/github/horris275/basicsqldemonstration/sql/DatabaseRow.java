@@ -1,46 +1,86 @@
 package com.github.horris275.basicsqldemonstration.sql;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * This class represents a row in a database table.
  *
- * <p>It contains a {@link LinkedHashMap} which represents the column
- * name and the associated data. The unique identifier (if required) is controlled
- * by a separate field {@code uniqueId} and must not be used within the LinkedHashMap.</p>
+ * <p>It contains a flat array of values described by a shared {@link RowSchema},
+ * which maps each column name to its index. Rows read from the same result set share
+ * one schema, so a row only carries its own values. The unique identifier (if required)
+ * is controlled by a separate field {@code uniqueId} and must not be stored as a column.</p>
+ *
+ * <p>A row read with a column projection keeps the schema of the whole table, but the columns that
+ * were not selected are marked as not loaded. Until they are loaded, by {@link #hydrate(DatabaseRow)}
+ * or {@link #setColumn(String, Object)}, such columns read as {@code null} and are left out of
+ * {@link #getColumnNames()} and {@link #getColumnValues()}, so a partially loaded row can never
+ * write {@code null} over a value it did not read.</p>
  *
  * @author horris275
- * @version 01.10.2025
+ * @version 16.10.2026
  */
 public class DatabaseRow
 {
     private static final int DEFAULT_IDENTIFIER = -1;
-    private final Map<String, Object> columns;
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * The value held by a column that has not been loaded. It is never returned to callers.
+     */
+    static final Object UNLOADED = new Object();
+
+    private RowSchema schema;
+    private Object[] values;
     private int uniqueId;
 
     /**
      * Constructs a new {@code DatabaseRow} without any parameters.
-     * Initialises the {@code columns} field as an empty {@link LinkedHashMap}
+     * Initialises the row with an empty schema and no values.
      */
     public DatabaseRow()
     {
-        this(DEFAULT_IDENTIFIER, new LinkedHashMap<>());
+        this(RowSchema.EMPTY, DEFAULT_IDENTIFIER, NO_VALUES);
     }
 
     /**
      * Constructs a new {@code DatabaseRow} with a predefined column data.
-     * Assigns the {@code columns} Map as a new {@link LinkedHashMap}
+     * The column names are turned into a shared {@link RowSchema} in iteration order.
      *
      * @param uniqueId an integer representing the unique identifier
      * @param columns  the initial column names and values to populate this row
      */
     public DatabaseRow(int uniqueId, Map<String, Object> columns)
     {
+        this(RowSchema.of(List.copyOf(columns.keySet())), uniqueId, columns.values().toArray());
+    }
+
+    /**
+     * Constructs a new {@code DatabaseRow} from a schema and a matching array of values.
+     * The array is used directly rather than copied, so the caller must not modify it afterwards.
+     *
+     * @param schema   the schema describing the values
+     * @param uniqueId an integer representing the unique identifier
+     * @param values   the values, one per column of the schema
+     * @throws IllegalArgumentException if the number of values does not match the schema
+     */
+    public DatabaseRow(RowSchema schema, int uniqueId, Object[] values)
+    {
+        if (values.length != schema.size())
+        {
+            throw new IllegalArgumentException("Expected " + schema.size() + " values but received " + values.length);
+        }
+
+        this.schema = schema;
         this.uniqueId = uniqueId;
-        this.columns = new LinkedHashMap<>(columns);
+        this.values = values;
     }
 
     /**
@@ -73,41 +113,237 @@ public class DatabaseRow
      * Returns the value of the given column.
      *
      * @param columnName the name of the column to return
-     * @return           the value of the column, or null if not present
+     * @return           the value of the column, or null if not present or not loaded
      */
     public Object getColumn(String columnName)
     {
-        return columns.get(columnName);
+        int index = schema.indexOf(columnName);
+        return index >= 0 ? getValue(index) : null;
+    }
+
+    /**
+     * Returns the value of the column at the given index of this row's schema.
+     *
+     * @param index the index of the column
+     * @return      the value of the column, or null if it has not been loaded
+     */
+    public Object getValue(int index)
+    {
+        Object value = values[index];
+        return value != UNLOADED ? value : null;
+    }
+
+    /**
+     * Checks whether the given column is present in this row and has been loaded.
+     *
+     * @param columnName the name of the column
+     * @return           {@code true} if the column's value is held by this row, otherwise {@code false}
+     */
+    public boolean isLoaded(String columnName)
+    {
+        int index = schema.indexOf(columnName);
+        return index >= 0 && values[index] != UNLOADED;
+    }
+
+    /**
+     * Checks whether every column of this row's schema has been loaded.
+     *
+     * @return {@code true} if the row was not read with a projection or has since been hydrated
+     */
+    public boolean isFullyLoaded()
+    {
+        for (Object value : values)
+        {
+            if (value == UNLOADED)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Loads the columns of this row that have not been loaded yet from another copy of the same row,
+     * typically one read with a projection of the missing columns. Columns already loaded are kept.
+     *
+     * @param source the row holding the missing values
+     * @return       {@code true} if any column was loaded, otherwise {@code false}
+     */
+    public boolean hydrate(DatabaseRow source)
+    {
+        boolean hydrated = false;
+
+        for (int index = 0; index < values.length; index++)
+        {
+            if (values[index] == UNLOADED)
+            {
+                String columnName = schema.getColumnName(index);
+
+                if (source.isLoaded(columnName))
+                {
+                    values[index] = source.getColumn(columnName);
+                    hydrated = true;
+                }
+            }
+        }
+
+        return hydrated;
     }
 
     /**
      * Sets a new column name and associated value in this database row.
+     * Setting a column the row does not have yet moves the row onto the extended schema.
      *
      * @param columnName the name of the column to insert
      * @param value      the value associated with the column
      */
     public void setColumn(String columnName, Object value)
     {
-        columns.put(columnName, value);
+        int index = schema.indexOf(columnName);
+
+        if (index < 0)
+        {
+            schema = schema.with(columnName);
+            values = Arrays.copyOf(values, values.length + 1);
+            index = values.length - 1;
+        }
+
+        values[index] = value;
+    }
+
+    /**
+     * Creates an independent copy of this row sharing the same schema.
+     *
+     * @return a new {@code DatabaseRow} with the same identifier and values
+     */
+    public DatabaseRow copy()
+    {
+        return new DatabaseRow(schema, uniqueId, values.clone());
     }
 
     /**
-     * Returns an unmodifiable list of the column names.
+     * Returns the schema describing the columns of this row.
+     *
+     * @return the {@link RowSchema} of this row
+     */
+    public RowSchema getSchema()
+    {
+        return schema;
+    }
+
+    /**
+     * Returns an unmodifiable list of the names of the loaded columns.
      *
      * @return the unmodifiable list of column names
      */
     public List<String> getColumnNames()
     {
-        return List.copyOf(columns.keySet());
+        if (isFullyLoaded())
+        {
+            return schema.getColumnNames();
+        }
+
+        List<String> columnNames = new ArrayList<>(values.length);
+
+        for (int index = 0; index < values.length; index++)
+        {
+            if (values[index] != UNLOADED)
+            {
+                columnNames.add(schema.getColumnName(index));
+            }
+        }
+
+        return List.copyOf(columnNames);
     }
 
     /**
-     * Returns an unmodifiable {@link Map} of column names and values.
+     * Returns an unmodifiable {@link Map} of the names and values of the loaded columns.
+     * The map is a view over this row and does not copy the values.
      *
      * @return the unmodifiable {@link Map} of column names and values
      */
     public Map<String, Object> getColumnValues()
     {
-        return Collections.unmodifiableMap(columns);
+        return new ColumnValues();
+    }
+
+    /**
+     * An unmodifiable map view over the schema and loaded values of this row.
+     */
+    private final class ColumnValues extends AbstractMap<String, Object>
+    {
+        @Override
+        public Object get(Object key)
+        {
+            return key instanceof String columnName ? getColumn(columnName) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return key instanceof String columnName && isLoaded(columnName);
+        }
+
+        @Override
+        public int size()
+        {
+            int size = 0;
+
+            for (Object value : values)
+            {
+                if (value != UNLOADED)
+                {
+                    size++;
+                }
+            }
+
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Override
+                public Iterator<Entry<String, Object>> iterator()
+                {
+                    return new Iterator<>()
+                    {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            while (index < values.length && values[index] == UNLOADED)
+                            {
+                                index++;
+                            }
+
+                            return index < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next()
+                        {
+                            if (!hasNext())
+                            {
+                                throw new NoSuchElementException();
+                            }
+
+                            int current = index++;
+                            return new SimpleImmutableEntry<>(schema.getColumnName(current), values[current]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return ColumnValues.this.size();
+                }
+            };
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,540 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.ColumnDefinition;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+import com.github.horris275.basicsqldemonstration.sql.search.FullTextIndex;
+
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicDatabaseService} decorator that keeps a {@link FullTextIndex} of some text columns
+ * up to date with the writes made through it, so keywords can be searched without querying the database.
+ *
+ * <p>The indexed columns are resolved from the {@link TableSchema} when the index is built: either every
+ * text column of the table, or those of the configured columns the table has. A table with none of them
+ * is not indexed at all, which {@link #isSearchable()} reports once the index has been built.</p>
+ *
+ * <p>{@link #buildIndex()} fills the index from a streaming scan of the table. The change watermark is
+ * read before the scan, and the changes made while it ran are applied once it has finished, so rows
+ * written by other clients during the scan are not missed.</p>
+ *
+ * <p>After that, inserted and deleted rows are added to and removed from the index as soon as the
+ * underlying service has written them. A modified row is re-indexed from the update itself if it holds
+ * every indexed column, and otherwise read back first. Writes made by other clients are picked up
+ * whenever a complete change set is read through {@link #fetchChanges(Instant, int)}.</p>
+ *
+ * <p>Searches are recorded as the {@code search} operation, and the size of the index is reported by
+ * {@link #getIndex()}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class IndexingDatabaseService implements DynamicDatabaseService
+{
+    private static final int MAXIMUM_BUILD_ATTEMPTS = 3;
+    private static final int CATCH_UP_LIMIT = 10_000;
+
+    private final DynamicDatabaseService databaseService;
+    private final List<String> configuredColumns;
+    private final FullTextIndex index = new FullTextIndex(List.of());
+    private final OperationMetrics searchMetrics = new OperationMetrics("search");
+    private final CompletableFuture<Void> indexBuilt = new CompletableFuture<>();
+
+    /**
+     * Constructs a new {@code IndexingDatabaseService} around another service, indexing every text column
+     * of the table. The index starts empty until {@link #buildIndex()} is called.
+     *
+     * @param databaseService the service to read rows from and forward writes to
+     */
+    public IndexingDatabaseService(DynamicDatabaseService databaseService)
+    {
+        this.databaseService = databaseService;
+        this.configuredColumns = null;
+    }
+
+    /**
+     * Constructs a new {@code IndexingDatabaseService} around another service, indexing those of the given
+     * columns the table has. An empty list turns the index off. The index starts empty until
+     * {@link #buildIndex()} is called.
+     *
+     * @param databaseService the service to read rows from and forward writes to
+     * @param columnNames     the names of the text columns to index, compared case-insensitively
+     */
+    public IndexingDatabaseService(DynamicDatabaseService databaseService, List<String> columnNames)
+    {
+        this.databaseService = databaseService;
+        this.configuredColumns = List.copyOf(columnNames);
+    }
+
+    /**
+     * Fills the index from a streaming scan of the table, then applies the changes made during the scan,
+     * and completes {@link #whenIndexBuilt()} with the outcome.
+     *
+     * @throws DatabaseException if a database access error occurs
+     */
+    public void buildIndex() throws DatabaseException
+    {
+        try
+        {
+            fillIndex();
+            indexBuilt.complete(null);
+        }
+        catch (RuntimeException e)
+        {
+            indexBuilt.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a future completed once the index has been built, or completed exceptionally if building it
+     * failed. Until then, nothing is indexed.
+     *
+     * @return the future of the first build of the index
+     */
+    public CompletableFuture<Void> whenIndexBuilt()
+    {
+        return indexBuilt.copy();
+    }
+
+    /**
+     * Checks whether the table has any column to index. This is only known once the index has been built.
+     *
+     * @return {@code true} if the index holds at least one column, otherwise {@code false}
+     */
+    public boolean isSearchable()
+    {
+        return !index.getColumnNames().isEmpty();
+    }
+
+    /**
+     * Fills the index from a streaming scan of the table, then applies the changes made during the scan.
+     * If too many changes were made to be read in one change set, the scan is repeated. Nothing is read
+     * if the table has none of the columns to index.
+     *
+     * @throws DatabaseException if a database access error occurs
+     */
+    private void fillIndex() throws DatabaseException
+    {
+        List<String> columnNames = resolveColumns(databaseService.retrieveTableSchema());
+
+        if (columnNames.isEmpty())
+        {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAXIMUM_BUILD_ATTEMPTS; attempt++)
+        {
+            Instant watermark = databaseService.retrieveChangeWatermark();
+
+            try (Stream<DatabaseRow> rows = databaseService.streamAll())
+            {
+                index.rebuild(columnNames, rows);
+            }
+
+            ChangeSet changeSet = databaseService.fetchChanges(watermark, CATCH_UP_LIMIT);
+
+            if (changeSet.isComplete())
+            {
+                index.apply(changeSet.getChangedRows(), changeSet.getDeletedIds());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the rows whose indexed columns contain every term of the text, matching the last term
+     * as a prefix unless the text ends with a separator. The database is not queried.
+     *
+     * @param text  the text to search for
+     * @param limit the maximum number of identifiers returned
+     * @return      the unique identifiers of the matching rows in ascending order
+     */
+    public int[] search(String text, int limit)
+    {
+        long start = System.nanoTime();
+        int[] ids = index.search(text, limit);
+        searchMetrics.recordSuccess(System.nanoTime() - start, ids.length);
+        return ids;
+    }
+
+    /**
+     * Returns the index kept by this service, for example to report its size.
+     *
+     * @return the {@link FullTextIndex}
+     */
+    public FullTextIndex getIndex()
+    {
+        return index;
+    }
+
+    /**
+     * Returns the metrics recorded for {@link #search(String, int)}.
+     *
+     * @return the {@link OperationMetrics} of the search operation
+     */
+    public OperationMetrics getSearchMetrics()
+    {
+        return searchMetrics;
+    }
+
+    /**
+     * Retrieves all rows within the database from the underlying service.
+     *
+     * @return                   a list containing all database rows; never {@code null}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchAll() throws DatabaseException
+    {
+        return databaseService.fetchAll();
+    }
+
+    /**
+     * Streams all rows within the database from the underlying service.
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Stream<DatabaseRow> streamAll() throws DatabaseException
+    {
+        return databaseService.streamAll();
+    }
+
+    /**
+     * Retrieves a page of rows following the given identifier from the underlying service.
+     *
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException
+    {
+        return databaseService.fetchPage(afterId, limit);
+    }
+
+    /**
+     * Retrieves a page of rows preceding the given identifier from the underlying service.
+     *
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException
+    {
+        return databaseService.fetchPageBefore(beforeId, limit);
+    }
+
+    /**
+     * Retrieves the rows matching a query from the underlying service.
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException
+    {
+        return databaseService.fetchMatching(query);
+    }
+
+    /**
+     * Retrieves a single row by its unique identifier from the underlying service.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   an {@code Optional} containing the row if found, or empty if not
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
+    {
+        return databaseService.fetch(id);
+    }
+
+    /**
+     * Checks whether a row with the given identifier exists, using the underlying service.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   {@code true} if the row exists, otherwise {@code false}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public boolean check(int id) throws DatabaseException
+    {
+        return databaseService.check(id);
+    }
+
+    /**
+     * Inserts a new row into the database and adds it to the index under its generated identifier.
+     *
+     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow) throws DatabaseException
+    {
+        MutationResult result = databaseService.insert(databaseRow);
+        indexInserted(databaseRow);
+        return result;
+    }
+
+    /**
+     * Inserts a collection of new rows into the database and adds those that were committed to the index.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s to insert
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException
+    {
+        try
+        {
+            databaseService.insertAll(databaseRows);
+        }
+        finally
+        {
+            databaseRows.forEach(this::indexInserted);
+        }
+    }
+
+    /**
+     * Updates an existing row in the database and re-indexes it if an indexed column was updated.
+     * A row for which the number of rows matched is not known is treated as updated.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   the {@link MutationResult} holding the number of rows matched
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException
+    {
+        MutationResult result = databaseService.modify(id, databaseRow);
+
+        if (result.isAffected() || !result.isKnown())
+        {
+            reindexModified(id, databaseRow);
+        }
+
+        return result;
+    }
+
+    /**
+     * Updates several existing rows in the database and re-indexes those in which an indexed column was updated.
+     * A row for which the driver did not report a count is treated as updated.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return                   the number of rows affected for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException
+    {
+        Map<Integer, Integer> results = databaseService.modifyAll(databaseRows);
+
+        results.forEach((id, affected) -> {
+            if (affected > 0 || affected == Statement.SUCCESS_NO_INFO)
+            {
+                reindexModified(id, databaseRows.get(id));
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * Deletes a row from the database and removes it from the index.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted and the deleted row
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult delete(int id) throws DatabaseException
+    {
+        MutationResult result = databaseService.delete(id);
+
+        if (result.isAffected())
+        {
+            index.remove(id);
+        }
+
+        return result;
+    }
+
+    /**
+     * Deletes several rows from the database and removes those that were deleted from the index.
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException
+    {
+        Map<Integer, Integer> results = databaseService.deleteAll(ids);
+
+        results.forEach((id, deleted) -> {
+            if (deleted > 0)
+            {
+                index.remove(id);
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * Retrieves the current watermark of the database from the underlying service.
+     *
+     * @return                   the current watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Instant retrieveChangeWatermark() throws DatabaseException
+    {
+        return databaseService.retrieveChangeWatermark();
+    }
+
+    /**
+     * Retrieves the rows changed since the given watermark from the underlying service,
+     * applying them to the index if the change set is complete.
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changes to read before the change set is reported incomplete
+     * @return                   the {@link ChangeSet} since the watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException
+    {
+        ChangeSet changeSet = databaseService.fetchChanges(since, limit);
+
+        if (changeSet.isComplete() && !changeSet.isEmpty() && isSearchable())
+        {
+            index.apply(changeSet.getChangedRows(), changeSet.getDeletedIds());
+        }
+
+        return changeSet;
+    }
+
+    /**
+     * Retrieves the column names from the underlying service.
+     *
+     * @return                   a list of strings that represent the column names
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<String> retrieveColumnNames() throws DatabaseException
+    {
+        return databaseService.retrieveColumnNames();
+    }
+
+    /**
+     * Retrieves the schema of the database table from the underlying service.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public TableSchema retrieveTableSchema() throws DatabaseException
+    {
+        return databaseService.retrieveTableSchema();
+    }
+
+    /**
+     * Discards the cached schema of the underlying service.
+     */
+    @Override
+    public void invalidateTableSchema()
+    {
+        databaseService.invalidateTableSchema();
+    }
+
+    /**
+     * Resolves the columns to index: every text column of the table other than its key, or those of
+     * the configured columns the table has, under the table's spelling of their names.
+     *
+     * @param tableSchema the schema of the table
+     * @return            the names of the columns to index, empty if the table has none of them
+     */
+    private List<String> resolveColumns(TableSchema tableSchema)
+    {
+        if (configuredColumns == null)
+        {
+            String keyColumn = tableSchema.getKeyColumn();
+
+            return tableSchema.getColumns().stream()
+                    .filter(column -> column.isText() && !column.getName().equalsIgnoreCase(keyColumn))
+                    .map(ColumnDefinition::getName)
+                    .toList();
+        }
+
+        return configuredColumns.stream()
+                .flatMap(columnName -> tableSchema.getColumn(columnName).stream())
+                .map(ColumnDefinition::getName)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Adds a newly inserted row to the index if it has been assigned its identifier.
+     *
+     * @param databaseRow the inserted row
+     */
+    private void indexInserted(DatabaseRow databaseRow)
+    {
+        if (databaseRow.getUniqueId() > 0 && isSearchable())
+        {
+            index.index(databaseRow);
+        }
+    }
+
+    /**
+     * Re-indexes a modified row. The update is indexed directly if it holds every indexed column;
+     * if it holds only some of them the whole row is read back, and if it holds none nothing changes.
+     *
+     * @param id          the unique identifier of the row
+     * @param databaseRow the update applied to the row
+     * @throws DatabaseException if the row cannot be read back
+     */
+    private void reindexModified(int id, DatabaseRow databaseRow)
+    {
+        List<String> updatedColumns = databaseRow.getColumnNames();
+        List<String> indexedColumns = index.getColumnNames();
+
+        if (indexedColumns.isEmpty())
+        {
+            return;
+        }
+
+        if (updatedColumns.containsAll(indexedColumns))
+        {
+            Map<String, Object> values = new HashMap<>();
+            indexedColumns.forEach(columnName -> values.put(columnName, databaseRow.getColumn(columnName)));
+            index.index(new DatabaseRow(id, values));
+        }
+        else if (indexedColumns.stream().anyMatch(updatedColumns::contains))
+        {
+            databaseService.fetch(id).ifPresentOrElse(index::index, () -> index.remove(id));
+        }
+    }
+}
\ No newline at end of file
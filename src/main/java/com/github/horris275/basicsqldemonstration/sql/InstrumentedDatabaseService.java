@@ -0,0 +1,499 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicDatabaseService} decorator that records the latency, throughput, errors and
+ * row counts of every database operation in an {@link OperationMetrics} per operation.
+ *
+ * <p>Each call is timed with {@link System#nanoTime()} around the underlying call. The timing is
+ * written out inline rather than through a shared helper taking a lambda, so that a successful
+ * call does not allocate. Failures are recorded against their cause and rethrown unchanged.</p>
+ *
+ * <p>The decorator should sit directly above the {@link SQLManager} so that it measures the
+ * database rather than the caches above it. The column names and the schema are served from
+ * the {@link SQLManager}'s own cache and are forwarded without being measured.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class InstrumentedDatabaseService implements DynamicDatabaseService
+{
+    private final DynamicDatabaseService databaseService;
+
+    private final OperationMetrics fetchAllMetrics = new OperationMetrics("fetchAll");
+    private final OperationMetrics streamAllMetrics = new OperationMetrics("streamAll");
+    private final OperationMetrics fetchPageMetrics = new OperationMetrics("fetchPage");
+    private final OperationMetrics fetchPageBeforeMetrics = new OperationMetrics("fetchPageBefore");
+    private final OperationMetrics fetchMatchingMetrics = new OperationMetrics("fetchMatching");
+    private final OperationMetrics fetchMetrics = new OperationMetrics("fetch");
+    private final OperationMetrics checkMetrics = new OperationMetrics("check");
+    private final OperationMetrics insertMetrics = new OperationMetrics("insert");
+    private final OperationMetrics insertAllMetrics = new OperationMetrics("insertAll");
+    private final OperationMetrics modifyMetrics = new OperationMetrics("modify");
+    private final OperationMetrics modifyAllMetrics = new OperationMetrics("modifyAll");
+    private final OperationMetrics deleteMetrics = new OperationMetrics("delete");
+    private final OperationMetrics deleteAllMetrics = new OperationMetrics("deleteAll");
+    private final OperationMetrics watermarkMetrics = new OperationMetrics("retrieveChangeWatermark");
+    private final OperationMetrics fetchChangesMetrics = new OperationMetrics("fetchChanges");
+
+    /**
+     * Constructs a new {@code InstrumentedDatabaseService} around another service.
+     *
+     * @param databaseService the service to measure
+     */
+    public InstrumentedDatabaseService(DynamicDatabaseService databaseService)
+    {
+        this.databaseService = databaseService;
+    }
+
+    /**
+     * Retrieves all rows within the database, recording the number of rows returned.
+     *
+     * @return                   a list containing all database rows; never {@code null}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchAll() throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            List<DatabaseRow> rows = databaseService.fetchAll();
+            fetchAllMetrics.recordSuccess(System.nanoTime() - start, rows.size());
+            return rows;
+        }
+        catch (RuntimeException e)
+        {
+            fetchAllMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams all rows within the database. The latency recorded is the time taken to open the
+     * stream; the rows are counted as they are consumed.
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Stream<DatabaseRow> streamAll() throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            Stream<DatabaseRow> rows = databaseService.streamAll();
+            streamAllMetrics.recordSuccess(System.nanoTime() - start, 0);
+            return rows.peek(row -> streamAllMetrics.recordRows(1));
+        }
+        catch (RuntimeException e)
+        {
+            streamAllMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves a page of rows following the given identifier, recording the number of rows returned.
+     *
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            List<DatabaseRow> rows = databaseService.fetchPage(afterId, limit);
+            fetchPageMetrics.recordSuccess(System.nanoTime() - start, rows.size());
+            return rows;
+        }
+        catch (RuntimeException e)
+        {
+            fetchPageMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves a page of rows preceding the given identifier, recording the number of rows returned.
+     *
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            List<DatabaseRow> rows = databaseService.fetchPageBefore(beforeId, limit);
+            fetchPageBeforeMetrics.recordSuccess(System.nanoTime() - start, rows.size());
+            return rows;
+        }
+        catch (RuntimeException e)
+        {
+            fetchPageBeforeMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the rows matching a query, recording the number of rows returned.
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            List<DatabaseRow> rows = databaseService.fetchMatching(query);
+            fetchMatchingMetrics.recordSuccess(System.nanoTime() - start, rows.size());
+            return rows;
+        }
+        catch (RuntimeException e)
+        {
+            fetchMatchingMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves a single row by its unique identifier, recording one row if it was found.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   an {@code Optional} containing the row if found, or empty if not
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            Optional<DatabaseRow> row = databaseService.fetch(id);
+            fetchMetrics.recordSuccess(System.nanoTime() - start, row.isPresent() ? 1 : 0);
+            return row;
+        }
+        catch (RuntimeException e)
+        {
+            fetchMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether a row with the given identifier exists, recording one row if it does.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   {@code true} if the row exists, otherwise {@code false}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public boolean check(int id) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            boolean exists = databaseService.check(id);
+            checkMetrics.recordSuccess(System.nanoTime() - start, exists ? 1 : 0);
+            return exists;
+        }
+        catch (RuntimeException e)
+        {
+            checkMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts a new row into the database, recording the number of rows inserted.
+     *
+     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            MutationResult result = databaseService.insert(databaseRow);
+            insertMetrics.recordSuccess(System.nanoTime() - start, result.getAffectedRows());
+            return result;
+        }
+        catch (RuntimeException e)
+        {
+            insertMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts a collection of new rows into the database, recording the number of rows submitted.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s to insert
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            databaseService.insertAll(databaseRows);
+            insertAllMetrics.recordSuccess(System.nanoTime() - start, databaseRows.size());
+        }
+        catch (RuntimeException e)
+        {
+            insertAllMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates an existing row in the database, recording the number of rows matched.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   the {@link MutationResult} holding the number of rows matched
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            MutationResult result = databaseService.modify(id, databaseRow);
+            modifyMetrics.recordSuccess(System.nanoTime() - start, result.getAffectedRows());
+            return result;
+        }
+        catch (RuntimeException e)
+        {
+            modifyMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates several existing rows in the database, recording the total number of rows affected.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return                   the number of rows affected for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            Map<Integer, Integer> results = databaseService.modifyAll(databaseRows);
+            modifyAllMetrics.recordSuccess(System.nanoTime() - start, sum(results));
+            return results;
+        }
+        catch (RuntimeException e)
+        {
+            modifyAllMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a row from the database, recording the number of rows deleted.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted and the deleted row
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult delete(int id) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            MutationResult result = databaseService.delete(id);
+            deleteMetrics.recordSuccess(System.nanoTime() - start, result.getAffectedRows());
+            return result;
+        }
+        catch (RuntimeException e)
+        {
+            deleteMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes several rows from the database, recording the total number of rows deleted.
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            Map<Integer, Integer> results = databaseService.deleteAll(ids);
+            deleteAllMetrics.recordSuccess(System.nanoTime() - start, sum(results));
+            return results;
+        }
+        catch (RuntimeException e)
+        {
+            deleteAllMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the current watermark of the database.
+     *
+     * @return                   the current watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Instant retrieveChangeWatermark() throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            Instant watermark = databaseService.retrieveChangeWatermark();
+            watermarkMetrics.recordSuccess(System.nanoTime() - start, 0);
+            return watermark;
+        }
+        catch (RuntimeException e)
+        {
+            watermarkMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the rows changed since the given watermark, recording the number of changed and deleted rows.
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changes to read before the change set is reported incomplete
+     * @return                   the {@link ChangeSet} since the watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException
+    {
+        long start = System.nanoTime();
+
+        try
+        {
+            ChangeSet changeSet = databaseService.fetchChanges(since, limit);
+            fetchChangesMetrics.recordSuccess(System.nanoTime() - start,
+                    changeSet.getChangedRows().size() + changeSet.getDeletedIds().size());
+            return changeSet;
+        }
+        catch (RuntimeException e)
+        {
+            fetchChangesMetrics.recordFailure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the column names from the underlying service.
+     *
+     * @return                   a list of strings that represent the column names
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<String> retrieveColumnNames() throws DatabaseException
+    {
+        return databaseService.retrieveColumnNames();
+    }
+
+    /**
+     * Retrieves the schema of the database table from the underlying service.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public TableSchema retrieveTableSchema() throws DatabaseException
+    {
+        return databaseService.retrieveTableSchema();
+    }
+
+    /**
+     * Discards the cached schema of the underlying service.
+     */
+    @Override
+    public void invalidateTableSchema()
+    {
+        databaseService.invalidateTableSchema();
+    }
+
+    /**
+     * Returns the metrics of every measured operation, in the order the operations are declared.
+     *
+     * @return an unmodifiable list of {@link OperationMetrics}
+     */
+    public List<OperationMetrics> getOperationMetrics()
+    {
+        return List.of(fetchAllMetrics, streamAllMetrics, fetchPageMetrics, fetchPageBeforeMetrics, fetchMatchingMetrics,
+                fetchMetrics, checkMetrics, insertMetrics, insertAllMetrics, modifyMetrics, modifyAllMetrics,
+                deleteMetrics, deleteAllMetrics, watermarkMetrics, fetchChangesMetrics);
+    }
+
+    /**
+     * Adds up the number of rows affected for each identifier of a bulk write.
+     *
+     * @param results the number of rows affected for each unique identifier
+     * @return        the total number of rows affected
+     */
+    private static long sum(Map<Integer, Integer> results)
+    {
+        long total = 0;
+
+        for (int affectedRows : results.values())
+        {
+            total += affectedRows;
+        }
+
+        return total;
+    }
+}
\ No newline at end of file
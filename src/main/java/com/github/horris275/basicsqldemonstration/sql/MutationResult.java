@@ -0,0 +1,136 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * The outcome of a single insert, update or delete.
+ *
+ * <p>A result is built from what the database reports for the statement itself, so a caller
+ * can tell whether the targeted row existed without probing for it in a separate query. Where
+ * the database can return the affected row as part of the statement, such as a MariaDB
+ * {@code DELETE ... RETURNING}, the row is included as well.</p>
+ *
+ * <p>When the number of rows matched is not known, such as for a write that has only been queued
+ * or a batched statement for which the driver reported {@link java.sql.Statement#SUCCESS_NO_INFO},
+ * the result is {@linkplain #unknown() unknown} rather than claiming a count the database never reported.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class MutationResult
+{
+    /**
+     * The affected row count of a result whose count is not known.
+     */
+    public static final int UNKNOWN_ROW_COUNT = -1;
+
+    private static final MutationResult NONE = new MutationResult(0, List.of(), null);
+    private static final MutationResult UNKNOWN = new MutationResult(UNKNOWN_ROW_COUNT, List.of(), null);
+
+    private final int affectedRows;
+    private final List<Integer> generatedKeys;
+    private final DatabaseRow row;
+
+    /**
+     * Constructs a new {@code MutationResult}.
+     *
+     * @param affectedRows  the number of rows matched by the statement
+     * @param generatedKeys the keys generated by the statement, if any
+     * @param row           the row returned by the statement, or {@code null} if none was returned
+     */
+    public MutationResult(int affectedRows, List<Integer> generatedKeys, DatabaseRow row)
+    {
+        this.affectedRows = affectedRows;
+        this.generatedKeys = List.copyOf(generatedKeys);
+        this.row = row;
+    }
+
+    /**
+     * Creates a result for a statement that neither generated keys nor returned a row.
+     *
+     * @param affectedRows the number of rows matched by the statement
+     * @return             the result
+     */
+    public static MutationResult of(int affectedRows)
+    {
+        return affectedRows == 0 ? NONE : new MutationResult(affectedRows, List.of(), null);
+    }
+
+    /**
+     * Creates a result for a write whose number of rows matched is not known.
+     *
+     * @return the unknown result
+     */
+    public static MutationResult unknown()
+    {
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the number of rows matched by the statement.
+     *
+     * @return the affected row count, or {@link #UNKNOWN_ROW_COUNT} if it is not known
+     */
+    public int getAffectedRows()
+    {
+        return affectedRows;
+    }
+
+    /**
+     * Checks whether the statement is known to have matched at least one row.
+     *
+     * @return {@code true} if a row was affected, otherwise {@code false}, including when the count is not known
+     */
+    public boolean isAffected()
+    {
+        return affectedRows > 0;
+    }
+
+    /**
+     * Checks whether the number of rows matched by the statement is known.
+     *
+     * @return {@code true} if the affected row count was reported, otherwise {@code false}
+     */
+    public boolean isKnown()
+    {
+        return affectedRows != UNKNOWN_ROW_COUNT;
+    }
+
+    /**
+     * Returns the keys generated by the statement, in the order the rows were inserted.
+     *
+     * @return the unmodifiable list of generated keys
+     */
+    public List<Integer> getGeneratedKeys()
+    {
+        return generatedKeys;
+    }
+
+    /**
+     * Returns the first key generated by the statement.
+     *
+     * @return an {@code OptionalInt} containing the key, or empty if no key was generated
+     */
+    public OptionalInt getGeneratedKey()
+    {
+        return generatedKeys.isEmpty() ? OptionalInt.empty() : OptionalInt.of(generatedKeys.get(0));
+    }
+
+    /**
+     * Returns the row returned by the statement, such as the row removed by a delete.
+     *
+     * @return an {@code Optional} containing the row, or empty if the statement did not return one
+     */
+    public Optional<DatabaseRow> getRow()
+    {
+        return Optional.ofNullable(row);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MutationResult[affectedRows=" + affectedRows + ", generatedKeys=" + generatedKeys + ", row=" + (row != null) + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.events.SQLOperationEvent;
+import com.github.horris275.basicsqldemonstration.sql.log.OperationLog;
+
+import java.util.List;
+
+/**
+ * Follows a single operation of the {@link SQLManager} from start to end, feeding both its
+ * {@link SQLOperationEvent} and, if one is configured, the {@link OperationLog}.
+ *
+ * <p>The trace only keeps the few values the log needs; the event measures the rows itself
+ * and only while it is enabled. When no recording has the event enabled and no log is set,
+ * {@link #begin(String, String, OperationLog)} hands out a shared trace that does nothing, so
+ * an untraced operation allocates nothing.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class OperationTrace
+{
+    private static final OperationTrace DISABLED = new Disabled();
+
+    private final SQLOperationEvent event;
+    private final OperationLog operationLog;
+    private final String operation;
+    private final String table;
+    private final long startNanos;
+    private String sql;
+    private long rowCount;
+    private boolean failed;
+
+    /**
+     * Constructs and starts a new {@code OperationTrace}.
+     *
+     * @param operation    the name of the operation, such as {@code fetch} or {@code insertAll}
+     * @param table        the table the operation is performed on
+     * @param operationLog the log to write the operation to once it ends, or {@code null} for none
+     */
+    private OperationTrace(String operation, String table, OperationLog operationLog)
+    {
+        this.event = SQLOperationEvent.begin(operation, table);
+        this.operationLog = operationLog;
+        this.operation = operation;
+        this.table = table;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Constructs the shared trace that records nothing.
+     */
+    private OperationTrace()
+    {
+        this.event = null;
+        this.operationLog = null;
+        this.operation = null;
+        this.table = null;
+        this.startNanos = 0;
+    }
+
+    /**
+     * Starts tracing an operation, or returns the shared trace that records nothing if neither a
+     * recording nor a log would receive it.
+     *
+     * @param operation    the name of the operation, such as {@code fetch} or {@code insertAll}
+     * @param table        the table the operation is performed on
+     * @param operationLog the log to write the operation to once it ends, or {@code null} for none
+     * @return             the started {@code OperationTrace}
+     */
+    static OperationTrace begin(String operation, String table, OperationLog operationLog)
+    {
+        if (operationLog == null && !SQLOperationEvent.isRecorded())
+        {
+            return DISABLED;
+        }
+
+        return new OperationTrace(operation, table, operationLog);
+    }
+
+    /**
+     * Records a statement executed by the operation.
+     *
+     * @param sql            the SQL template of the statement
+     * @param parameterCount the number of parameters bound to the statement
+     */
+    void statement(String sql, int parameterCount)
+    {
+        this.sql = sql;
+        event.statement(sql, parameterCount);
+    }
+
+    /**
+     * Records a row read by the operation.
+     *
+     * @param databaseRow the row read
+     */
+    void rowRead(DatabaseRow databaseRow)
+    {
+        rowCount++;
+        event.rowRead(databaseRow);
+    }
+
+    /**
+     * Records the rows read by the operation.
+     *
+     * @param databaseRows the rows read
+     */
+    void rowsRead(List<DatabaseRow> databaseRows)
+    {
+        rowCount += databaseRows.size();
+        event.rowsRead(databaseRows);
+    }
+
+    /**
+     * Records rows read by the operation whose values were not kept, such as an existence check.
+     *
+     * @param rowCount the number of rows read
+     */
+    void rowsRead(long rowCount)
+    {
+        this.rowCount += rowCount;
+        event.rowsRead(rowCount);
+    }
+
+    /**
+     * Records rows affected by a mutation.
+     *
+     * @param affectedRows the number of rows affected
+     */
+    void rowsAffected(long affectedRows)
+    {
+        rowCount += affectedRows;
+        event.rowsAffected(affectedRows);
+    }
+
+    /**
+     * Marks the operation as failed.
+     */
+    void fail()
+    {
+        failed = true;
+        event.fail();
+    }
+
+    /**
+     * Ends the operation, committing its event and writing it to the operation log.
+     */
+    void complete()
+    {
+        event.complete();
+
+        if (operationLog != null)
+        {
+            operationLog.log(operation, table, sql, System.nanoTime() - startNanos, rowCount, failed);
+        }
+    }
+
+    /**
+     * The shared trace used while nothing would receive the trace, ignoring everything recorded.
+     */
+    private static final class Disabled extends OperationTrace
+    {
+        @Override
+        void statement(String sql, int parameterCount) {}
+
+        @Override
+        void rowRead(DatabaseRow databaseRow) {}
+
+        @Override
+        void rowsRead(List<DatabaseRow> databaseRows) {}
+
+        @Override
+        void rowsRead(long rowCount) {}
+
+        @Override
+        void rowsAffected(long affectedRows) {}
+
+        @Override
+        void fail() {}
+
+        @Override
+        void complete() {}
+    }
+}
@@ -0,0 +1,235 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheCounters;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds and caches the SQL text of the dynamic insert and update statements.
+ *
+ * <p>The generated SQL only depends on the table and the ordered set of column names,
+ * so it is built once per combination and reused afterwards. The cache is bounded;
+ * when it grows past its limit it is cleared and rebuilt on demand, which is cheap
+ * as the number of distinct column sets used by the application is small.</p>
+ *
+ * <p>The static builder methods are public so that they can be measured in isolation.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class QueryTemplates
+{
+    private static final int MAXIMUM_TEMPLATES = 256;
+
+    private final Map<TemplateKey, String> templates = new ConcurrentHashMap<>();
+    private final CacheCounters counters = new CacheCounters();
+
+    /**
+     * Returns the prepared insert statement for the given table and columns.
+     *
+     * @param table       the table to insert into
+     * @param columnNames the ordered column names to insert
+     * @return            the SQL text containing one placeholder per column
+     */
+    public String insertQuery(String table, Collection<String> columnNames)
+    {
+        return template(TemplateType.INSERT, table, null, columnNames);
+    }
+
+    /**
+     * Returns the prepared update statement for the given table and columns.
+     * The final placeholder of the statement is the unique identifier of the row.
+     *
+     * @param table       the table to update
+     * @param keyColumn   the key column of the table, which is never assigned
+     * @param columnNames the ordered column names to update
+     * @return            the SQL text containing one placeholder per column followed by the identifier
+     * @throws IllegalArgumentException if no column besides the key column is given
+     */
+    public String modifyQuery(String table, String keyColumn, Collection<String> columnNames)
+    {
+        return template(TemplateType.MODIFY, table, keyColumn, columnNames);
+    }
+
+    /**
+     * Returns a snapshot of the template cache counters.
+     *
+     * @return the current {@link CacheStatistics}
+     */
+    public CacheStatistics getStatistics()
+    {
+        return counters.snapshot();
+    }
+
+    /**
+     * Looks up a template, building and caching it on a miss.
+     *
+     * @param type        the kind of statement
+     * @param table       the table the statement operates on
+     * @param keyColumn   the key column of the table, or {@code null} if the statement does not use it
+     * @param columnNames the ordered column names
+     * @return            the SQL text
+     */
+    private String template(TemplateType type, String table, String keyColumn, Collection<String> columnNames)
+    {
+        TemplateKey key = new TemplateKey(type, table, keyColumn, List.copyOf(columnNames));
+        String template = templates.get(key);
+
+        if (template != null)
+        {
+            counters.recordHit();
+            return template;
+        }
+
+        long start = System.nanoTime();
+        template = switch (type)
+        {
+            case INSERT -> createPreparedQuery("INSERT INTO " + table + " (%columns) VALUES (%placeholders)", columnNames);
+            case MODIFY -> createPreparedModifyQuery("UPDATE " + table + " SET %statement WHERE " + keyColumn + " = ?",
+                    keyColumn, columnNames);
+        };
+        counters.recordMiss(System.nanoTime() - start);
+
+        if (templates.size() >= MAXIMUM_TEMPLATES)
+        {
+            templates.keySet().forEach(evicted -> {
+                if (templates.remove(evicted) != null)
+                {
+                    counters.recordEviction();
+                }
+            });
+        }
+
+        templates.put(key, template);
+        return template;
+    }
+
+    /**
+     * Creates a prepared statement with specified columns and parameterised placeholders.
+     * The base query must contain %columns and %placeholders, of which are replaced
+     * with the actual column names and the correct number of placeholders.
+     *
+     * @param baseQuery   the SQL query containing %columns and %placeholders
+     * @param columnNames the ordered column names
+     * @return            the SQL query with actual column names and placeholders inserted
+     */
+    public static String createPreparedQuery(String baseQuery, Collection<String> columnNames)
+    {
+        String columns = toQueryColumns(columnNames);
+        String placeholders = toQueryPlaceholders(columnNames.size());
+
+        return baseQuery.replace("%columns", columns)
+                .replace("%placeholders", placeholders);
+    }
+
+    /**
+     * Creates a prepared statement that dynamically populates the column names from a table.
+     * The base query must contain %statement, of which is replaced with the actual column names
+     * and associated parameterised placeholders.
+     *
+     * @param baseQuery   the SQL query containing %statement
+     * @param keyColumn   the key column of the table, which is never assigned
+     * @param columnNames the ordered column names
+     * @return            the SQL query with actual column names and parameterised values
+     * @throws IllegalArgumentException if no column besides the key column is given
+     */
+    public static String createPreparedModifyQuery(String baseQuery, String keyColumn, Collection<String> columnNames)
+    {
+        String modifyStatement = toModifyStatement(keyColumn, columnNames);
+        return baseQuery.replace("%statement", modifyStatement);
+    }
+
+    /**
+     * Converts a collection of column names into a comma-separated string.
+     *
+     * @param columnNames the column names to join
+     * @return            a comma-separated string of column names
+     */
+    public static String toQueryColumns(Collection<String> columnNames)
+    {
+        return String.join(", ", columnNames);
+    }
+
+    /**
+     * Generates a comma-separated string of parameter placeholders.
+     *
+     * @param columnCount the number of placeholders to generate
+     * @return            a string representing the placeholders
+     */
+    public static String toQueryPlaceholders(int columnCount)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int count = 1; count <= columnCount; count ++)
+        {
+            builder.append("?");
+
+            if (count < columnCount)
+            {
+                builder.append(", ");
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Generates an SQL update assignment statement to be used within {@code modify}.
+     * The key column is never assigned.
+     *
+     * @param keyColumn   the key column of the table
+     * @param columnNames the column names to use
+     * @return            a string representing the SQL update assignment statement
+     * @throws IllegalArgumentException if no column besides the key column is given
+     */
+    public static String toModifyStatement(String keyColumn, Collection<String> columnNames)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (String columnName : columnNames)
+        {
+            if (columnName.equalsIgnoreCase(keyColumn))
+            {
+                continue;
+            }
+
+            if (!builder.isEmpty())
+            {
+                builder.append(", ");
+            }
+
+            builder.append(columnName).append(" = ?");
+        }
+
+        if (builder.isEmpty())
+        {
+            throw new IllegalArgumentException(
+                    "An update needs at least one column besides the key column " + keyColumn);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * The kinds of statement built by this class.
+     */
+    private enum TemplateType
+    {
+        INSERT,
+        MODIFY
+    }
+
+    /**
+     * The cache key of a template: the statement kind, table, key column and ordered column names.
+     *
+     * @param type        the kind of statement
+     * @param table       the table the statement operates on
+     * @param keyColumn   the key column of the table, or {@code null} if the statement does not use it
+     * @param columnNames the ordered column names
+     */
+    private record TemplateKey(TemplateType type, String table, String keyColumn, List<String> columnNames) {}
+}
\ No newline at end of file
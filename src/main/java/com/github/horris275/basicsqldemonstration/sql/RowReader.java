@@ -0,0 +1,113 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts the rows of a result set into {@link DatabaseRow}s sharing one {@link RowSchema}.
+ *
+ * <p>The result set must select the key column first, followed by the columns of the
+ * row schema in order, as produced by {@link TableSchema#getSelectList()}. Every value is
+ * then read by column index only, without consulting the result set metadata.</p>
+ *
+ * <p>A reader for a column projection reads the columns selected by
+ * {@link TableSchema#getSelectList(List)} into rows that still have the whole row schema,
+ * marking the columns that were not selected as not loaded.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class RowReader
+{
+    private final RowSchema schema;
+    private final int[] selectedIndexes;
+
+    /**
+     * Constructs a new {@code RowReader} for rows with the given schema.
+     *
+     * @param schema the schema shared by every row read
+     */
+    RowReader(RowSchema schema)
+    {
+        this(schema, null);
+    }
+
+    /**
+     * Constructs a new {@code RowReader} for rows with the given schema, only some of whose columns are selected.
+     *
+     * @param schema          the schema shared by every row read
+     * @param selectedIndexes the index in the schema of each selected column in select order,
+     *                        or {@code null} if every column is selected
+     */
+    private RowReader(RowSchema schema, int[] selectedIndexes)
+    {
+        this.schema = schema;
+        this.selectedIndexes = selectedIndexes;
+    }
+
+    /**
+     * Creates a reader for whole rows of the given table.
+     *
+     * @param tableSchema the schema of the table being read
+     * @return            a reader for rows selected with the table's select list
+     */
+    static RowReader of(TableSchema tableSchema)
+    {
+        return new RowReader(tableSchema.getRowSchema());
+    }
+
+    /**
+     * Creates a reader for rows of the given table of which only some columns are selected.
+     *
+     * @param tableSchema the schema of the table being read
+     * @param columnNames the names of the selected columns of the row schema, in select order
+     * @return            a reader for rows selected with {@link TableSchema#getSelectList(List)}
+     */
+    static RowReader of(TableSchema tableSchema, List<String> columnNames)
+    {
+        RowSchema rowSchema = tableSchema.getRowSchema();
+
+        if (columnNames.equals(rowSchema.getColumnNames()))
+        {
+            return new RowReader(rowSchema);
+        }
+
+        return new RowReader(rowSchema, columnNames.stream().mapToInt(rowSchema::indexOf).toArray());
+    }
+
+    /**
+     * Converts the current row of a result set into a {@link DatabaseRow}.
+     *
+     * @param resultSet     the result set positioned on the row to convert
+     * @return              the converted database row
+     * @throws SQLException if a database access error occurs
+     */
+    DatabaseRow read(ResultSet resultSet) throws SQLException
+    {
+        int columnCount = schema.size();
+        Object[] values = new Object[columnCount];
+
+        if (selectedIndexes == null)
+        {
+            for (int index = 0; index < columnCount; index++)
+            {
+                values[index] = resultSet.getObject(index + 2);
+            }
+        }
+        else
+        {
+            Arrays.fill(values, DatabaseRow.UNLOADED);
+
+            for (int index = 0; index < selectedIndexes.length; index++)
+            {
+                values[selectedIndexes[index]] = resultSet.getObject(index + 2);
+            }
+        }
+
+        return new DatabaseRow(schema, resultSet.getInt(1), values);
+    }
+}
\ No newline at end of file
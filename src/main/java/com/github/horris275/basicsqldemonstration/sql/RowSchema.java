@@ -0,0 +1,175 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, ordered set of column names shared by many {@link DatabaseRow}s.
+ *
+ * <p>Rows store their values in a flat array indexed by this schema, so the column names
+ * and the name-to-index lookup exist once per distinct column layout rather than once per row.
+ * Schemas are interned: {@link #of(List)} and {@link #with(String)} return the same instance
+ * for the same ordered column names, which keeps rows built one column at a time sharing
+ * their schema as well.</p>
+ *
+ * <p>The interned schemas are only held weakly, so a column layout that no row or table uses any
+ * more, such as the key order of one imported file, can be garbage collected. A schema holds its
+ * prefix strongly, so every schema still in use stays reachable from {@link #EMPTY} and is found
+ * again by the next lookup of the same column names.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class RowSchema
+{
+    /**
+     * The schema without any columns, from which every other schema is derived.
+     */
+    public static final RowSchema EMPTY = new RowSchema(null, List.of());
+
+    @SuppressWarnings({"unused", "FieldCanBeLocal"}) // Only held to keep the prefix interned while this schema is in use.
+    private final RowSchema prefix;
+    private final List<String> columnNames;
+    private final Map<String, Integer> columnIndexes;
+    private final Map<String, WeakReference<RowSchema>> extensions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code RowSchema} with the given column names.
+     *
+     * @param prefix      the schema holding every column but the last, or {@code null} for the empty schema
+     * @param columnNames the ordered column names
+     */
+    private RowSchema(RowSchema prefix, List<String> columnNames)
+    {
+        this.prefix = prefix;
+        this.columnNames = List.copyOf(columnNames);
+        this.columnIndexes = new HashMap<>(columnNames.size() * 2);
+
+        for (int index = 0; index < columnNames.size(); index++)
+        {
+            columnIndexes.put(columnNames.get(index), index);
+        }
+    }
+
+    /**
+     * Returns the shared schema for the given ordered column names.
+     *
+     * @param columnNames the ordered column names
+     * @return            the interned schema
+     * @throws IllegalArgumentException if a column name appears more than once
+     */
+    public static RowSchema of(List<String> columnNames)
+    {
+        RowSchema schema = EMPTY;
+
+        for (String columnName : columnNames)
+        {
+            if (schema.indexOf(columnName) >= 0)
+            {
+                throw new IllegalArgumentException("Duplicate column name: " + columnName);
+            }
+
+            schema = schema.with(columnName);
+        }
+
+        return schema;
+    }
+
+    /**
+     * Returns the shared schema containing this schema's columns followed by the given column.
+     *
+     * @param columnName the name of the column to append
+     * @return           the interned extended schema
+     */
+    public RowSchema with(String columnName)
+    {
+        RowSchema extension = extension(columnName);
+
+        if (extension != null)
+        {
+            return extension;
+        }
+
+        synchronized (extensions)
+        {
+            extension = extension(columnName);
+
+            if (extension == null)
+            {
+                List<String> extended = new ArrayList<>(columnNames);
+                extended.add(columnName);
+                extension = new RowSchema(this, extended);
+
+                extensions.values().removeIf(reference -> reference.get() == null);
+                extensions.put(columnName, new WeakReference<>(extension));
+            }
+
+            return extension;
+        }
+    }
+
+    /**
+     * Returns the interned schema extending this schema with the given column, if it is still in use.
+     *
+     * @param columnName the name of the appended column
+     * @return           the extended schema, or {@code null} if it has not been created or has been collected
+     */
+    private RowSchema extension(String columnName)
+    {
+        WeakReference<RowSchema> reference = extensions.get(columnName);
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Returns the index of the given column within rows using this schema.
+     *
+     * @param columnName the name of the column
+     * @return           the index of the column, or {@code -1} if the schema does not contain it
+     */
+    public int indexOf(String columnName)
+    {
+        Integer index = columnIndexes.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the number of columns in this schema.
+     *
+     * @return the column count
+     */
+    public int size()
+    {
+        return columnNames.size();
+    }
+
+    /**
+     * Returns the name of the column at the given index.
+     *
+     * @param index the index of the column
+     * @return      the column name
+     */
+    public String getColumnName(int index)
+    {
+        return columnNames.get(index);
+    }
+
+    /**
+     * Returns the unmodifiable, ordered list of column names.
+     *
+     * @return the column names
+     */
+    public List<String> getColumnNames()
+    {
+        return columnNames;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RowSchema" + columnNames;
+    }
+}
\ No newline at end of file
@@ -1,10 +1,24 @@
 package com.github.horris275.basicsqldemonstration.sql;
 
 import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+import com.github.horris275.basicsqldemonstration.sql.events.SQLOperationEvent;
+import com.github.horris275.basicsqldemonstration.sql.log.OperationLog;
 import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.pool.ConnectionPool;
+import com.github.horris275.basicsqldemonstration.sql.query.CompiledQuery;
+import com.github.horris275.basicsqldemonstration.sql.query.QueryCompiler;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.SchemaCache;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
 
 import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A concrete implementation of {@link DynamicDatabaseService} using a SQL Database (MariaDB).
@@ -12,15 +26,55 @@ import java.util.*;
  * The current schema outlines the columns as id, title, description, and URL.
  * Additionally, it adds a method to retrieve column names dynamically.
  *
+ * <p>Connections are borrowed from a {@link ConnectionPool} rather than opened per call.
+ * A manager created from connection properties owns its pool and shuts it down in
+ * {@link #close()}; a manager created from an existing pool leaves it open. The managers handed
+ * out by a {@link DatabaseRegistry} share one pool, schema cache and SQL template cache.</p>
+ *
+ * <p>The SQL text of the dynamic insert and update statements is cached by {@link QueryTemplates},
+ * and the prepared statements themselves are cached per connection by the pool, so repeated
+ * single-row operations reuse the statement already prepared on the server.</p>
+ *
+ * <p>The table's columns are resolved once into a cached {@link TableSchema}. Reads select
+ * the columns explicitly in schema order and decode each row by column index.</p>
+ *
+ * <p>Changes are tracked by the {@code modified_at} column, which the database updates on every
+ * insert and update, and by a {@code <table>_deleted} tombstone table that a trigger fills with the
+ * identifier of every deleted row. The tombstone table holds the identifier in a column named like the
+ * key column of the table, next to a {@code deleted_at} timestamp. Together they let
+ * {@link #fetchChanges(Instant, int)} read only the rows that changed since a watermark. Tombstones
+ * are pruned by the database once they are a day old, so a watermark older than that no longer yields
+ * a complete change set.</p>
+ *
+ * <p>Every statement addresses rows by the key column of the {@link TableSchema}, so tables whose
+ * integer primary key is not named {@code id} are supported as well.</p>
+ *
+ * <p>Every query and mutation emits a {@link SQLOperationEvent} for Java Flight Recorder, carrying
+ * the SQL template, the number of parameters and rows, and an estimate of the bytes read. If an
+ * {@link OperationLog} is set, slow, failed and sampled operations are also written to it.</p>
+ *
  * @author horris275
- * @version 02.10.2025
+ * @version 16.10.2026
  */
-public class SQLManager implements DynamicDatabaseService
+public class SQLManager implements DynamicDatabaseService, AutoCloseable
 {
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String CHANGE_COLUMN = "modified_at";
+    private static final String DELETED_COLUMN = "deleted_at";
+    static final String TOMBSTONE_SUFFIX = TableSchema.TOMBSTONE_SUFFIX;
+    private static final Duration CHANGE_OVERLAP = Duration.ofSeconds(1);
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(1);
+    private static final String CURRENT_TIMESTAMP_QUERY = "SELECT CURRENT_TIMESTAMP(3)";
+
     private final String table;
-    private final String user;
-    private final String password;
-    private final String databasePath;
+    private final ConnectionPool connectionPool;
+    private final boolean ownsConnectionPool;
+    private final QueryTemplates queryTemplates;
+    private final SchemaCache schemaCache;
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile Boolean supportsReturning;
+    private volatile OperationLog operationLog;
 
     /**
      * Constructs a new {@code SQLManager} with the desired database connection properties.
@@ -33,11 +87,83 @@ public class SQLManager implements DynamicDatabaseService
      * @param password the database password
      */
     public SQLManager(String address, String port, String database, String table, String user, String password)
+    {
+        this(createConnectionPool(address, port, database, user, password), table, true);
+    }
+
+    /**
+     * Constructs a new {@code SQLManager} that borrows its connections from an existing pool.
+     * The pool is not closed when this manager is closed.
+     *
+     * @param connectionPool the pool to borrow connections from
+     * @param table          the table name to operate on
+     */
+    public SQLManager(ConnectionPool connectionPool, String table)
+    {
+        this(connectionPool, table, false);
+    }
+
+    /**
+     * Constructs a new {@code SQLManager} with the given pool and ownership.
+     *
+     * @param connectionPool     the pool to borrow connections from
+     * @param table              the table name to operate on
+     * @param ownsConnectionPool whether {@link #close()} should also close the pool
+     */
+    private SQLManager(ConnectionPool connectionPool, String table, boolean ownsConnectionPool)
+    {
+        this(connectionPool, table, ownsConnectionPool, new SchemaCache(), new QueryTemplates());
+    }
+
+    /**
+     * Constructs a new {@code SQLManager} that borrows its connections from an existing pool and shares
+     * its schema and SQL template caches with the other tables of a {@link DatabaseRegistry}.
+     * The pool is not closed when this manager is closed.
+     *
+     * @param connectionPool the pool to borrow connections from
+     * @param table          the table name to operate on
+     * @param schemaCache    the cache of table schemas shared by the registry
+     * @param queryTemplates the cache of insert and update statements shared by the registry
+     */
+    SQLManager(ConnectionPool connectionPool, String table, SchemaCache schemaCache, QueryTemplates queryTemplates)
+    {
+        this(connectionPool, table, false, schemaCache, queryTemplates);
+    }
+
+    /**
+     * Constructs a new {@code SQLManager} with the given pool, ownership and caches.
+     *
+     * @param connectionPool     the pool to borrow connections from
+     * @param table              the table name to operate on
+     * @param ownsConnectionPool whether {@link #close()} should also close the pool
+     * @param schemaCache        the cache of table schemas
+     * @param queryTemplates     the cache of insert and update statements
+     */
+    private SQLManager(ConnectionPool connectionPool, String table, boolean ownsConnectionPool,
+                       SchemaCache schemaCache, QueryTemplates queryTemplates)
     {
         this.table = table;
-        this.user = user;
-        this.password = password;
-        this.databasePath = "jdbc:mariadb://" + address + ":" + port + "/" + database;
+        this.connectionPool = connectionPool;
+        this.ownsConnectionPool = ownsConnectionPool;
+        this.schemaCache = schemaCache;
+        this.queryTemplates = queryTemplates;
+    }
+
+    /**
+     * Creates a connection pool for a MariaDB database, using server-side prepared statements.
+     *
+     * @param address  the database host address (e.g. "localhost")
+     * @param port     the port the database is listening on (e.g. "3306")
+     * @param database the name of the database
+     * @param user     the database username
+     * @param password the database password
+     * @return         the new {@link ConnectionPool}, which starts warming up immediately
+     */
+    static ConnectionPool createConnectionPool(String address, String port, String database, String user,
+                                               String password)
+    {
+        return new ConnectionPool("jdbc:mariadb://" + address + ":" + port + "/" + database + "?useServerPrepStmts=true",
+                user, password);
     }
 
     /**
@@ -50,355 +176,1279 @@ public class SQLManager implements DynamicDatabaseService
     public List<DatabaseRow> fetchAll() throws DatabaseException
     {
         List<DatabaseRow> databaseRows = new ArrayList<>();
-        String query = "SELECT * FROM " + table;
+        OperationTrace trace = beginTrace("fetchAll");
 
-        try (Connection connection = getConnection();
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(query))
+        try (Connection connection = getConnection())
         {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int columnCount = metaData.getColumnCount();
+            TableSchema tableSchema = getTableSchema(connection);
+            RowReader rowReader = RowReader.of(tableSchema);
+            String query = "SELECT " + tableSchema.getSelectList() + " FROM " + table;
 
-            while (resultSet.next())
-            {
-                DatabaseRow databaseRow = new DatabaseRow();
+            trace.statement(query, 0);
 
-                for (int count = 1; count <= columnCount; count++)
+            try (PreparedStatement statement = connection.prepareStatement(query);
+                 ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
                 {
-                    String columnName = metaData.getColumnName(count);
-                    Object value = resultSet.getObject(columnName);
-
-                    if (columnName.equalsIgnoreCase("ID"))
-                    {
-                        int identifier = resultSet.getInt(columnName);
-                        databaseRow.setUniqueId(identifier);
-                    }
-                    else
-                    {
-                        databaseRow.setColumn(columnName, value);
-                    }
+                    databaseRows.add(rowReader.read(resultSet));
                 }
-
-                databaseRows.add(databaseRow);
             }
+
+            trace.rowsRead(databaseRows);
         }
         catch(SQLException e)
         {
+            trace.fail();
             throw new DatabaseException("An error has occurred while attempting to retrieve all rows", e);
         }
+        finally
+        {
+            trace.complete();
+        }
 
         return databaseRows;
     }
 
     /**
-     * Retrieves a single row by its unique identifier.
+     * Streams all rows within the database without holding them in memory at once.
      *
-     * @param id                 an integer representing the unique identifier of the row
-     * @return                   an {@code Optional} containing the row if found, or empty if not
-     * @throws DatabaseException if a database access error occurs
+     * <p>The rows are read through a forward-only cursor that fetches {@value #STREAM_FETCH_SIZE}
+     * rows from the server at a time, so the first row is available as soon as the first batch
+     * arrives. The returned stream holds a pooled connection until it is closed, and the
+     * operation is traced until then.</p>
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs, including while the stream is consumed
      */
     @Override
-    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
+    public Stream<DatabaseRow> streamAll() throws DatabaseException
     {
-        String query = "SELECT * FROM " + table + " WHERE id = ?";
+        Connection connection = null;
+        PreparedStatement statement = null;
+        OperationTrace trace = beginTrace("streamAll");
 
-        try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(query))
+        try
         {
-            statement.setInt(1, id);
+            connection = getConnection();
 
-            try (ResultSet resultSet = statement.executeQuery())
-            {
-                if (!resultSet.next())
-                {
-                    return Optional.empty();
-                }
+            TableSchema tableSchema = getTableSchema(connection);
+            RowReader rowReader = RowReader.of(tableSchema);
+            String query = "SELECT " + tableSchema.getSelectList() + " FROM " + table;
+
+            trace.statement(query, 0);
+            statement = connection.prepareStatement(query);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
 
-                DatabaseRow databaseRow = new DatabaseRow();
-                ResultSetMetaData metaData = resultSet.getMetaData();
-                int columnCount = metaData.getColumnCount();
+            ResultSet resultSet = statement.executeQuery();
 
-                for (int count = 1; count <= columnCount; count++)
+            Spliterator<DatabaseRow> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                    Spliterator.ORDERED | Spliterator.NONNULL)
+            {
+                @Override
+                public boolean tryAdvance(Consumer<? super DatabaseRow> action)
                 {
-                    String columnName = metaData.getColumnName(count);
+                    try
+                    {
+                        if (!resultSet.next())
+                        {
+                            return false;
+                        }
 
-                    if (columnName.equalsIgnoreCase("ID"))
+                        DatabaseRow databaseRow = rowReader.read(resultSet);
+                        trace.rowRead(databaseRow);
+                        action.accept(databaseRow);
+                        return true;
+                    }
+                    catch (SQLException e)
                     {
-                        continue;
+                        trace.fail();
+                        throw new DatabaseException("An error has occurred while streaming the rows", e);
                     }
-
-                    databaseRow.setColumn(columnName, resultSet.getObject(columnName));
                 }
+            };
 
-                databaseRow.setUniqueId(id);
+            Connection streamConnection = connection;
+            PreparedStatement streamStatement = statement;
 
-                return Optional.of(databaseRow);
-            }
+            return StreamSupport.stream(spliterator, false)
+                    .onClose(() -> {
+                        closeQuietly(resultSet, streamStatement, streamConnection);
+                        trace.complete();
+                    });
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while retrieving row with id=" + id, e);
+            closeQuietly(statement, connection);
+            trace.fail();
+            trace.complete();
+            throw new DatabaseException("An error has occurred while attempting to stream all rows", e);
         }
     }
 
     /**
-     * Checks whether a row with the given identifier exists in the database.
+     * Retrieves a page of rows whose unique identifiers follow the given identifier,
+     * ordered by identifier. The primary key index makes this a range scan of at most
+     * {@code limit} rows, however deep into the table the page is.
      *
-     * @param id                 an integer representing the unique identifier of the row
-     * @return                   {@code true} if the row exists, otherwise {@code false}
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
      * @throws DatabaseException if a database access error occurs
      */
     @Override
-    public boolean check(int id) throws DatabaseException
+    public List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException
     {
-        String query = "SELECT 1 FROM " + table + " WHERE id = ? LIMIT 1";
+        OperationTrace trace = beginTrace("fetchPage");
 
-        try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(query))
+        try
         {
-            statement.setInt(1, id);
-
-            try (ResultSet resultSet = statement.executeQuery())
-            {
-                return resultSet.next();
-            }
+            return fetchRange(trace, "WHERE %key > ? ORDER BY %key LIMIT ?", afterId, limit);
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while checking for a row with id=" + id, e);
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving the page after id=" + afterId, e);
+        }
+        finally
+        {
+            trace.complete();
         }
     }
 
     /**
-     * Inserts a new row into the database.
+     * Retrieves a page of rows whose unique identifiers precede the given identifier,
+     * ordered by identifier. The rows are read in descending order and reversed.
      *
-     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
      * @throws DatabaseException if a database access error occurs
      */
     @Override
-    public void insert(DatabaseRow databaseRow) throws DatabaseException
+    public List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException
     {
-        Map<String, Object> columns = databaseRow.getColumnValues();
-        String query = createPreparedQuery("INSERT INTO " + table + " (%columns) VALUES (%placeholders)", columns);
+        OperationTrace trace = beginTrace("fetchPageBefore");
 
-        try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS))
+        try
         {
-            int count = 1;
+            List<DatabaseRow> databaseRows = fetchRange(trace, "WHERE %key < ? ORDER BY %key DESC LIMIT ?", beforeId, limit);
+            Collections.reverse(databaseRows);
+            return databaseRows;
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving the page before id=" + beforeId, e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+    }
 
-            for (String column : columns.keySet())
-            {
-                statement.setObject(count++, databaseRow.getColumn(column));
-            }
+    /**
+     * Retrieves the rows matching a query, in the query's order.
+     *
+     * <p>The query is compiled by {@link QueryCompiler} into a single parameterised statement whose
+     * {@code WHERE}, {@code ORDER BY} and {@code LIMIT} clauses are carried out by MariaDB, so only
+     * the matching rows are sent back. A query with a projection only selects the columns it names,
+     * and the other columns of the rows returned are not loaded. The SQL text only depends on the shape
+     * of the query, so the statement prepared for it is reused however the values change.</p>
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     * @throws IllegalArgumentException if the query names a column the table does not have,
+     *                                  or compares a column with a value of the wrong type
+     */
+    @Override
+    public List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException
+    {
+        List<DatabaseRow> databaseRows = new ArrayList<>();
+        OperationTrace trace = beginTrace("fetchMatching");
 
-            statement.executeUpdate();
+        try (Connection connection = getConnection())
+        {
+            TableSchema tableSchema = getTableSchema(connection);
+            CompiledQuery compiledQuery = QueryCompiler.compile(query, tableSchema);
+            RowReader rowReader = RowReader.of(tableSchema, compiledQuery.getColumns());
+            String sql = "SELECT " + tableSchema.getSelectList(compiledQuery.getColumns()) + " FROM " + table + " "
+                    + compiledQuery.getClauses();
+            List<Object> parameters = compiledQuery.getParameters();
 
-            try (ResultSet generatedKeys = statement.getGeneratedKeys())
+            trace.statement(sql, parameters.size());
+
+            try (PreparedStatement statement = connection.prepareStatement(sql))
             {
-                if (generatedKeys.next() && columns.containsKey("id"))
+                for (int index = 0; index < parameters.size(); index++)
                 {
-                    databaseRow.setUniqueId(generatedKeys.getInt("id"));
+                    statement.setObject(index + 1, parameters.get(index));
                 }
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    while (resultSet.next())
+                    {
+                        databaseRows.add(rowReader.read(resultSet));
+                    }
+                }
+            }
+
+            if (compiledQuery.isReversed())
+            {
+                Collections.reverse(databaseRows);
             }
+
+            trace.rowsRead(databaseRows);
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while inserting the selected data", e);
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving the rows matching " + query, e);
+        }
+        catch (IllegalArgumentException e)
+        {
+            trace.fail();
+            throw e;
         }
+        finally
+        {
+            trace.complete();
+        }
+
+        return databaseRows;
     }
 
     /**
-     * Updates an existing row in the database with new values.
+     * Retrieves a single row by its unique identifier.
      *
      * @param id                 an integer representing the unique identifier of the row
-     * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   an {@code Optional} containing the row if found, or empty if not
      * @throws DatabaseException if a database access error occurs
      */
     @Override
-    public void modify(int id, DatabaseRow databaseRow) throws DatabaseException
+    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
     {
-        Map<String, Object> columns = databaseRow.getColumnValues();
-        String query = createPreparedModifyQuery("UPDATE " + table + " SET %statement WHERE id = ?", columns);
+        OperationTrace trace = beginTrace("fetch");
 
-        try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(query))
+        try (Connection connection = getConnection())
         {
-            int count = 1;
+            TableSchema tableSchema = getTableSchema(connection);
+            String query = "SELECT " + tableSchema.getSelectList() + " FROM " + table
+                    + " WHERE " + tableSchema.getKeyColumn() + " = ?";
 
-            for (String column : columns.keySet())
+            trace.statement(query, 1);
+
+            try (PreparedStatement statement = connection.prepareStatement(query))
             {
-                statement.setObject(count++, databaseRow.getColumn(column));
-            }
+                statement.setInt(1, id);
 
-            statement.setInt(count, id);
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    if (!resultSet.next())
+                    {
+                        return Optional.empty();
+                    }
 
-            statement.executeUpdate();
+                    DatabaseRow databaseRow = RowReader.of(tableSchema).read(resultSet);
+                    trace.rowRead(databaseRow);
+                    return Optional.of(databaseRow);
+                }
+            }
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while updating row with id=" + id, e);
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving row with id=" + id, e);
+        }
+        finally
+        {
+            trace.complete();
         }
     }
 
     /**
-     * Deletes a row from the database.
+     * Checks whether a row with the given identifier exists in the database.
      *
      * @param id                 an integer representing the unique identifier of the row
+     * @return                   {@code true} if the row exists, otherwise {@code false}
      * @throws DatabaseException if a database access error occurs
      */
     @Override
-    public void delete(int id) throws DatabaseException
+    public boolean check(int id) throws DatabaseException
     {
-        String query = "DELETE FROM " + table + " WHERE id = ?";
+        OperationTrace trace = beginTrace("check");
 
-        try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(query))
+        try (Connection connection = getConnection())
         {
-            statement.setInt(1, id);
-            statement.executeUpdate();
+            String query = "SELECT 1 FROM " + table + " WHERE " + getTableSchema(connection).getKeyColumn()
+                    + " = ? LIMIT 1";
+            trace.statement(query, 1);
+
+            try (PreparedStatement statement = connection.prepareStatement(query))
+            {
+                statement.setInt(1, id);
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    boolean exists = resultSet.next();
+                    trace.rowsRead(exists ? 1 : 0);
+                    return exists;
+                }
+            }
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while deleting row with id=" + id, e);
+            trace.fail();
+            throw new DatabaseException("An error has occurred while checking for a row with id=" + id, e);
+        }
+        finally
+        {
+            trace.complete();
         }
     }
 
     /**
-     * Retrieves the column names dynamically from the database table.
+     * Inserts a new row into the database and assigns it the generated identifier.
      *
-     * @return                   a list of strings that represent the column names
+     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier
      * @throws DatabaseException if a database access error occurs
      */
-    public List<String> retrieveColumnNames()
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow) throws DatabaseException
     {
-        String query = "SELECT * FROM " + table + " LIMIT 1";
-        List<String> columnNames = new ArrayList<>();
+        Map<String, Object> columns = databaseRow.getColumnValues();
+        String query = queryTemplates.insertQuery(table, columns.keySet());
+        OperationTrace trace = beginTrace("insert");
+
+        trace.statement(query, columns.size());
 
         try (Connection connection = getConnection();
-             Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(query))
+             PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS))
         {
-            ResultSetMetaData metaData = resultSet.getMetaData();
+            int count = 1;
+
+            for (String column : columns.keySet())
+            {
+                statement.setObject(count++, databaseRow.getColumn(column));
+            }
+
+            int affectedRows = statement.executeUpdate();
+            trace.rowsAffected(affectedRows);
 
-            for (int count = 1; count <= metaData.getColumnCount(); count++)
+            try (ResultSet generatedKeys = statement.getGeneratedKeys())
             {
-                columnNames.add(metaData.getColumnName(count));
+                if (!generatedKeys.next())
+                {
+                    return MutationResult.of(affectedRows);
+                }
+
+                int generatedKey = generatedKeys.getInt(1);
+                databaseRow.setUniqueId(generatedKey);
+                return new MutationResult(affectedRows, List.of(generatedKey), null);
             }
         }
         catch (SQLException e)
         {
-            throw new DatabaseException("An error has occurred while attempting to retrieve the column names", e);
+            trace.fail();
+            throw new DatabaseException("An error has occurred while inserting the selected data", e);
+        }
+        finally
+        {
+            trace.complete();
         }
-
-        return columnNames;
     }
 
     /**
-     * Creates and returns a new connection to the database.
+     * Inserts a collection of new rows into the database using batched statements.
      *
-     * @return              a {@link Connection} object representing a connection to the database
-     * @throws SQLException if a database access errors occurs or the connection cannot be established
+     * <p>Rows are grouped by their column names so that each group shares a single prepared
+     * statement. Each group is sent in chunks of {@link #getBatchSize()} rows, one batch and one
+     * commit per chunk. If a chunk fails it is rolled back and a {@link DatabaseException} is
+     * thrown; chunks committed before it remain in the database and keep their identifiers.</p>
+     *
+     * @param databaseRows       the rows to insert, each receiving its generated identifier
+     * @throws DatabaseException if a database access error occurs
      */
-    private Connection getConnection() throws SQLException
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException
     {
-        return DriverManager.getConnection(databasePath, user, password);
+        Map<List<String>, List<DatabaseRow>> rowsByColumns = new LinkedHashMap<>();
+
+        for (DatabaseRow databaseRow : databaseRows)
+        {
+            rowsByColumns.computeIfAbsent(databaseRow.getColumnNames(), columns -> new ArrayList<>()).add(databaseRow);
+        }
+
+        OperationTrace trace = beginTrace("insertAll");
+
+        try (Connection connection = getConnection())
+        {
+            connection.setAutoCommit(false);
+
+            for (Map.Entry<List<String>, List<DatabaseRow>> entry : rowsByColumns.entrySet())
+            {
+                insertBatches(trace, connection, entry.getKey(), entry.getValue());
+            }
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while inserting " + databaseRows.size() + " rows", e);
+        }
+        finally
+        {
+            trace.complete();
+        }
     }
 
     /**
-     * Creates a prepared statement with specified columns and parameterised placeholders.
-     * The base query must contain %columns and %placeholders, of which are replaced
-     * with the actual column names and the correct number of placeholders.
+     * Sets the number of rows sent to the database in a single batch by the bulk operations.
      *
-     * @param baseQuery the SQL query containing %columns and %placeholders
-     * @param columns   a map of column names to values
-     * @return          the SQL query with actual column names and placeholders inserted
+     * @param batchSize the number of rows per batch and transaction
+     * @throws IllegalArgumentException if the batch size is not positive
      */
-    private String createPreparedQuery(String baseQuery, Map<String, Object> columns)
+    public void setBatchSize(int batchSize)
     {
-        String columnNames = toQueryColumns(columns.keySet());
-        String placeholders = toQueryPlaceholders(columns.size());
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+    }
 
-        return baseQuery.replace("%columns", columnNames)
-                .replace("%placeholders", placeholders);
+    /**
+     * Returns the number of rows sent to the database in a single batch by the bulk operations.
+     *
+     * @return the number of rows per batch and transaction
+     */
+    public int getBatchSize()
+    {
+        return batchSize;
     }
 
     /**
-     * Creates a prepared statement that dynamically populates the column names from a table.
-     * The base query must contain %statement, of which is replaced with the actual column names
-     * and associated parameterised placeholders.
+     * Sets the log that slow, failed and sampled operations are written to.
      *
-     * @param baseQuery the SQL query containing %statement
-     * @param columns   a map of column names and values
-     * @return          the SQL query with actual column names and parameterised values
+     * @param operationLog the {@link OperationLog} to write to, or {@code null} to stop logging
      */
-    private String createPreparedModifyQuery(String baseQuery, Map<String, Object> columns)
+    public void setOperationLog(OperationLog operationLog)
     {
-        String modifyStatement = toModifyStatement(columns.keySet());
-        return baseQuery.replace("%statement", modifyStatement);
+        this.operationLog = operationLog;
     }
 
     /**
-     * Converts a set of column names into a comma-separated string.
+     * Returns the log that slow, failed and sampled operations are written to.
      *
-     * @param columnNames the set of column names to join
-     * @return            a comma-separated string of column names
+     * @return the {@link OperationLog} in use, or {@code null} if operations are not logged
      */
-    private String toQueryColumns(Set<String> columnNames)
+    public OperationLog getOperationLog()
     {
-        return String.join(", ", columnNames);
+        return operationLog;
     }
 
     /**
-     * Generates a comma-separated string of parameter placeholders.
+     * Updates an existing row in the database with new values.
      *
-     * @param columnCount the number of placeholders to generate
-     * @return            a string representing the placeholders
+     * <p>The affected row count reported by MariaDB counts the rows matched by the update, so a row
+     * updated with its current values still counts as affected and a count of {@code 0} means
+     * the row does not exist.</p>
+     *
+     * @param id                      an integer representing the unique identifier of the row
+     * @param databaseRow             the {@link DatabaseRow} containing the updates
+     * @return                        the {@link MutationResult} holding the number of rows matched
+     * @throws IllegalArgumentException if the row holds no column besides the key column
+     * @throws DatabaseException        if a database access error occurs
      */
-    private String toQueryPlaceholders(int columnCount)
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException
     {
-        StringBuilder builder = new StringBuilder();
+        Map<String, Object> columns = databaseRow.getColumnValues();
+        OperationTrace trace = beginTrace("modify");
 
-        for (int count = 1; count <= columnCount; count ++)
+        try (Connection connection = getConnection())
         {
-            builder.append("?");
+            String keyColumn = getTableSchema(connection).getKeyColumn();
+            String query = queryTemplates.modifyQuery(table, keyColumn, columns.keySet());
 
-            if (count < columnCount)
+            try (PreparedStatement statement = connection.prepareStatement(query))
             {
-                builder.append(", ");
+                int count = 1;
+
+                for (String column : columns.keySet())
+                {
+                    if (!column.equalsIgnoreCase(keyColumn))
+                    {
+                        statement.setObject(count++, databaseRow.getColumn(column));
+                    }
+                }
+
+                statement.setInt(count, id);
+                trace.statement(query, count);
+
+                int affectedRows = statement.executeUpdate();
+                trace.rowsAffected(affectedRows);
+                return MutationResult.of(affectedRows);
             }
         }
-
-        return builder.toString();
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while updating row with id=" + id, e);
+        }
+        finally
+        {
+            trace.complete();
+        }
     }
 
     /**
-     * Generates an SQL update assignment statement to be used within {@code modify}.
+     * Deletes a row from the database.
      *
-     * @param columnNames the set of column names to use
-     * @return            a string representing the SQL update assignment statement
+     * <p>On MariaDB the deleted row is read back in the same statement with {@code RETURNING},
+     * so the caller receives the removed values without a separate query; on other databases
+     * only the affected row count is reported.</p>
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted and the deleted row
+     * @throws DatabaseException if a database access error occurs
      */
-    private String toModifyStatement(Set<String> columnNames)
+    @Override
+    public MutationResult delete(int id) throws DatabaseException
     {
-        StringBuilder builder = new StringBuilder();
-        int count = 1;
-        int columnCount = columnNames.size();
+        OperationTrace trace = beginTrace("delete");
 
-        for (String columnName : columnNames)
+        try (Connection connection = getConnection())
         {
-            if (columnName.equals("id"))
+            TableSchema tableSchema = getTableSchema(connection);
+
+            if (!supportsReturning(connection))
             {
-                count++;
-                continue;
+                String query = "DELETE FROM " + table + " WHERE " + tableSchema.getKeyColumn() + " = ?";
+                trace.statement(query, 1);
+
+                try (PreparedStatement statement = connection.prepareStatement(query))
+                {
+                    statement.setInt(1, id);
+
+                    int affectedRows = statement.executeUpdate();
+                    trace.rowsAffected(affectedRows);
+                    return MutationResult.of(affectedRows);
+                }
             }
 
-            builder.append(columnName).append(" = ?");
+            String query = "DELETE FROM " + table + " WHERE " + tableSchema.getKeyColumn() + " = ? RETURNING "
+                    + tableSchema.getSelectList();
 
-            if (count++ < columnCount)
+            trace.statement(query, 1);
+
+            try (PreparedStatement statement = connection.prepareStatement(query))
             {
-                builder.append(", ");
+                statement.setInt(1, id);
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    if (!resultSet.next())
+                    {
+                        return MutationResult.of(0);
+                    }
+
+                    DatabaseRow databaseRow = RowReader.of(tableSchema).read(resultSet);
+                    trace.rowRead(databaseRow);
+                    return new MutationResult(1, List.of(), databaseRow);
+                }
             }
         }
-
-        return builder.toString();
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while deleting row with id=" + id, e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+    }
+
+    /**
+     * Updates several existing rows in the database using batched statements.
+     *
+     * <p>Rows are grouped by their column names so that each group shares a single prepared
+     * statement, and each group is sent in chunks of {@link #getBatchSize()} rows, one batch and
+     * one commit per chunk. If a chunk fails it is rolled back and a {@link DatabaseException} is
+     * thrown; chunks committed before it remain in the database. A row holding no column besides the
+     * key column is rejected before any chunk is sent.</p>
+     *
+     * @param databaseRows              the rows containing the updates, keyed by the unique identifier of the row
+     * @return                          the number of rows affected per identifier, or
+     *                                  {@link Statement#SUCCESS_NO_INFO} if the driver did not report a count
+     * @throws IllegalArgumentException if a row holds no column besides the key column
+     * @throws DatabaseException        if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException
+    {
+        Map<List<String>, List<Map.Entry<Integer, DatabaseRow>>> rowsByColumns = new LinkedHashMap<>();
+        Map<Integer, Integer> results = new LinkedHashMap<>();
+        OperationTrace trace = beginTrace("modifyAll");
+
+        try (Connection connection = getConnection())
+        {
+            String keyColumn = getTableSchema(connection).getKeyColumn();
+
+            for (Map.Entry<Integer, DatabaseRow> entry : databaseRows.entrySet())
+            {
+                List<String> columnNames = new ArrayList<>(entry.getValue().getColumnNames());
+                columnNames.removeIf(column -> column.equalsIgnoreCase(keyColumn));
+
+                if (columnNames.isEmpty())
+                {
+                    throw new IllegalArgumentException("The update of row with id=" + entry.getKey()
+                            + " holds no column besides the key column " + keyColumn);
+                }
+
+                rowsByColumns.computeIfAbsent(columnNames, columns -> new ArrayList<>()).add(entry);
+            }
+
+            connection.setAutoCommit(false);
+
+            for (Map.Entry<List<String>, List<Map.Entry<Integer, DatabaseRow>>> group : rowsByColumns.entrySet())
+            {
+                modifyBatches(trace, connection, keyColumn, group.getKey(), group.getValue(), results);
+            }
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while updating " + databaseRows.size() + " rows", e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+
+        return results;
+    }
+
+    /**
+     * Deletes several rows from the database.
+     *
+     * <p>The identifiers are deleted in chunks of {@link #getBatchSize()} using a single
+     * {@code IN (...)} statement per chunk, each in its own transaction. On MariaDB the deleted
+     * identifiers are read back with {@code RETURNING}; on other databases they are locked and
+     * read first within the same transaction.</p>
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted per identifier, {@code 0} if the row did not exist
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException
+    {
+        int[] distinctIds = Arrays.stream(ids).distinct().toArray();
+        Map<Integer, Integer> results = new LinkedHashMap<>();
+
+        for (int id : distinctIds)
+        {
+            results.put(id, 0);
+        }
+
+        OperationTrace trace = beginTrace("deleteAll");
+
+        try (Connection connection = getConnection())
+        {
+            boolean returning = supportsReturning(connection);
+            String keyColumn = getTableSchema(connection).getKeyColumn();
+            connection.setAutoCommit(false);
+
+            for (int start = 0; start < distinctIds.length; start += batchSize)
+            {
+                int[] chunk = Arrays.copyOfRange(distinctIds, start, Math.min(start + batchSize, distinctIds.length));
+
+                try
+                {
+                    List<Integer> deletedIds = deleteChunk(trace, connection, keyColumn, chunk, returning);
+
+                    for (int deletedId : deletedIds)
+                    {
+                        results.put(deletedId, 1);
+                    }
+
+                    connection.commit();
+                    trace.rowsAffected(deletedIds.size());
+                }
+                catch (SQLException e)
+                {
+                    connection.rollback();
+                    throw e;
+                }
+            }
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while deleting " + distinctIds.length + " rows", e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+
+        return results;
+    }
+
+    /**
+     * Retrieves the current time of the database, to be used as the watermark of the rows read afterwards.
+     *
+     * @return                   the current database time
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Instant retrieveChangeWatermark() throws DatabaseException
+    {
+        OperationTrace trace = beginTrace("retrieveChangeWatermark");
+
+        try (Connection connection = getConnection())
+        {
+            trace.statement(CURRENT_TIMESTAMP_QUERY, 0);
+            return readCurrentTimestamp(connection);
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving the change watermark", e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+    }
+
+    /**
+     * Retrieves the rows inserted, updated or deleted since the given watermark.
+     *
+     * <p>Changed rows are read through the index on {@code modified_at} and deleted identifiers through
+     * the tombstone table, so the cost depends on the number of changes rather than the size of the table.
+     * The watermark is moved back by a short overlap, so that rows written by a transaction that committed
+     * just after the previous watermark was read are not missed; such rows may be reported twice.</p>
+     *
+     * <p>The change set is incomplete if the table has no {@code modified_at} column or no tombstone
+     * table, if more than {@code limit} rows were inserted, updated or deleted, or if the watermark,
+     * less the overlap, is older than the day for which the database keeps tombstones.</p>
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changed rows, and of deleted identifiers, to read
+     * @return                   the {@link ChangeSet} since the watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException
+    {
+        OperationTrace trace = beginTrace("fetchChanges");
+
+        try (Connection connection = getConnection())
+        {
+            Instant watermark = readCurrentTimestamp(connection);
+            TableSchema tableSchema = getTableSchema(connection);
+
+            Instant from = since.minus(CHANGE_OVERLAP);
+
+            if (tableSchema.getColumn(CHANGE_COLUMN).isEmpty() || !tableSchema.hasTombstoneTable()
+                    || from.isBefore(watermark.minus(TOMBSTONE_RETENTION)))
+            {
+                return ChangeSet.incomplete(watermark);
+            }
+
+            int rowLimit = limit == Integer.MAX_VALUE ? limit : limit + 1;
+            RowReader rowReader = RowReader.of(tableSchema);
+            List<DatabaseRow> changedRows = new ArrayList<>();
+            List<Integer> deletedIds = new ArrayList<>();
+
+            String keyColumn = tableSchema.getKeyColumn();
+            String changedQuery = "SELECT " + tableSchema.getSelectList() + " FROM " + table
+                    + " WHERE " + CHANGE_COLUMN + " >= ? ORDER BY " + keyColumn + " LIMIT ?";
+            String deletedQuery = "SELECT " + keyColumn + " FROM " + table + TOMBSTONE_SUFFIX
+                    + " WHERE " + DELETED_COLUMN + " >= ? ORDER BY " + keyColumn + " LIMIT ?";
+
+            trace.statement(changedQuery, 2);
+
+            try (PreparedStatement statement = connection.prepareStatement(changedQuery))
+            {
+                statement.setTimestamp(1, Timestamp.from(from));
+                statement.setInt(2, rowLimit);
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    while (resultSet.next())
+                    {
+                        changedRows.add(rowReader.read(resultSet));
+                    }
+                }
+            }
+
+            trace.rowsRead(changedRows);
+            trace.statement(deletedQuery, 2);
+
+            try (PreparedStatement statement = connection.prepareStatement(deletedQuery))
+            {
+                statement.setTimestamp(1, Timestamp.from(from));
+                statement.setInt(2, rowLimit);
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    while (resultSet.next())
+                    {
+                        deletedIds.add(resultSet.getInt(1));
+                    }
+                }
+            }
+
+            trace.rowsRead(deletedIds.size());
+
+            if (changedRows.size() > limit || deletedIds.size() > limit)
+            {
+                return ChangeSet.incomplete(watermark);
+            }
+
+            return new ChangeSet(changedRows, deletedIds, watermark, true);
+        }
+        catch (SQLException e)
+        {
+            trace.fail();
+            throw new DatabaseException("An error has occurred while retrieving the changes since " + since, e);
+        }
+        finally
+        {
+            trace.complete();
+        }
+    }
+
+    /**
+     * Retrieves the column names dynamically from the database table.
+     *
+     * @return                   a list of strings that represent the column names
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<String> retrieveColumnNames()
+    {
+        return retrieveTableSchema().getColumnNames();
+    }
+
+    /**
+     * Retrieves the schema of the database table, reading it from the database only
+     * if it has not been resolved since the last invalidation.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public TableSchema retrieveTableSchema()
+    {
+        TableSchema tableSchema = schemaCache.getIfPresent(table);
+
+        if (tableSchema != null)
+        {
+            return tableSchema;
+        }
+
+        try (Connection connection = getConnection())
+        {
+            return getTableSchema(connection);
+        }
+        catch (SQLException e)
+        {
+            throw new DatabaseException("An error has occurred while attempting to retrieve the table schema", e);
+        }
+    }
+
+    /**
+     * Discards the cached schema of the database table, so that it is read again on next use.
+     * This should be called after the table has been altered.
+     */
+    @Override
+    public void invalidateTableSchema()
+    {
+        schemaCache.invalidate(table);
+    }
+
+    /**
+     * Returns the name of the table this manager operates on.
+     *
+     * @return the table name
+     */
+    public String getTable()
+    {
+        return table;
+    }
+
+    /**
+     * Returns the connection pool this manager borrows its connections from.
+     *
+     * @return the {@link ConnectionPool} in use
+     */
+    public ConnectionPool getConnectionPool()
+    {
+        return connectionPool;
+    }
+
+    /**
+     * Returns a snapshot of the counters of the SQL template cache used by {@code insert} and {@code modify}.
+     *
+     * @return the current {@link CacheStatistics} of the template cache
+     */
+    public CacheStatistics getQueryTemplateStatistics()
+    {
+        return queryTemplates.getStatistics();
+    }
+
+    /**
+     * Closes the connection pool if it was created by this manager.
+     */
+    @Override
+    public void close()
+    {
+        if (ownsConnectionPool)
+        {
+            connectionPool.close();
+        }
+    }
+
+    /**
+     * Inserts rows sharing the same column names in chunks, committing after each chunk
+     * and assigning the generated identifiers once the chunk has been committed.
+     *
+     * @param trace         the trace recording the statements and rows of the operation
+     * @param connection    the connection to insert with, in manual commit mode
+     * @param columnNames   the column names shared by every row
+     * @param databaseRows  the rows to insert
+     * @throws SQLException if a database access error occurs, after rolling back the failed chunk
+     */
+    private void insertBatches(OperationTrace trace, Connection connection, List<String> columnNames,
+                               List<DatabaseRow> databaseRows) throws SQLException
+    {
+        String query = queryTemplates.insertQuery(table, columnNames);
+
+        try (PreparedStatement statement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS))
+        {
+            for (int start = 0; start < databaseRows.size(); start += batchSize)
+            {
+                List<DatabaseRow> chunk = databaseRows.subList(start, Math.min(start + batchSize, databaseRows.size()));
+                int[] generatedIds = new int[chunk.size()];
+                int generatedCount = 0;
+
+                try
+                {
+                    for (DatabaseRow databaseRow : chunk)
+                    {
+                        int count = 1;
+
+                        for (String column : columnNames)
+                        {
+                            statement.setObject(count++, databaseRow.getColumn(column));
+                        }
+
+                        statement.addBatch();
+                    }
+
+                    trace.statement(query, chunk.size() * columnNames.size());
+                    statement.executeBatch();
+
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys())
+                    {
+                        while (generatedCount < generatedIds.length && generatedKeys.next())
+                        {
+                            generatedIds[generatedCount++] = generatedKeys.getInt(1);
+                        }
+                    }
+
+                    connection.commit();
+                    trace.rowsAffected(chunk.size());
+                }
+                catch (SQLException e)
+                {
+                    statement.clearBatch();
+                    connection.rollback();
+                    throw e;
+                }
+
+                for (int index = 0; index < generatedCount; index++)
+                {
+                    chunk.get(index).setUniqueId(generatedIds[index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates rows sharing the same column names in chunks, committing after each chunk
+     * and recording the number of rows affected per identifier.
+     *
+     * @param trace         the trace recording the statements and rows of the operation
+     * @param connection    the connection to update with, in manual commit mode
+     * @param keyColumn     the key column of the table
+     * @param columnNames   the column names shared by every row, excluding the identifier
+     * @param databaseRows  the identifiers and rows to update
+     * @param results       the map receiving the affected-row count per identifier
+     * @throws SQLException if a database access error occurs, after rolling back the failed chunk
+     */
+    private void modifyBatches(OperationTrace trace, Connection connection, String keyColumn, List<String> columnNames,
+                               List<Map.Entry<Integer, DatabaseRow>> databaseRows, Map<Integer, Integer> results)
+            throws SQLException
+    {
+        String query = queryTemplates.modifyQuery(table, keyColumn, columnNames);
+
+        try (PreparedStatement statement = connection.prepareStatement(query))
+        {
+            for (int start = 0; start < databaseRows.size(); start += batchSize)
+            {
+                List<Map.Entry<Integer, DatabaseRow>> chunk =
+                        databaseRows.subList(start, Math.min(start + batchSize, databaseRows.size()));
+                int[] updateCounts;
+
+                try
+                {
+                    for (Map.Entry<Integer, DatabaseRow> entry : chunk)
+                    {
+                        int count = 1;
+
+                        for (String column : columnNames)
+                        {
+                            statement.setObject(count++, entry.getValue().getColumn(column));
+                        }
+
+                        statement.setInt(count, entry.getKey());
+                        statement.addBatch();
+                    }
+
+                    trace.statement(query, chunk.size() * (columnNames.size() + 1));
+                    updateCounts = statement.executeBatch();
+                    connection.commit();
+                }
+                catch (SQLException e)
+                {
+                    statement.clearBatch();
+                    connection.rollback();
+                    throw e;
+                }
+
+                for (int index = 0; index < chunk.size(); index++)
+                {
+                    int updateCount = index < updateCounts.length ? updateCounts[index] : Statement.SUCCESS_NO_INFO;
+                    results.put(chunk.get(index).getKey(), updateCount);
+                    trace.rowsAffected(Math.max(0, updateCount));
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a chunk of identifiers with a single {@code IN (...)} statement.
+     *
+     * @param trace         the trace recording the statements of the operation
+     * @param connection    the connection to delete with, in manual commit mode
+     * @param keyColumn     the key column of the table
+     * @param ids           the identifiers to delete
+     * @param returning     whether the database supports {@code DELETE ... RETURNING}
+     * @return              the identifiers of the rows that were deleted
+     * @throws SQLException if a database access error occurs
+     */
+    private List<Integer> deleteChunk(OperationTrace trace, Connection connection, String keyColumn, int[] ids,
+                                      boolean returning) throws SQLException
+    {
+        String placeholders = QueryTemplates.toQueryPlaceholders(ids.length);
+        String condition = " WHERE " + keyColumn + " IN (" + placeholders + ")";
+        List<Integer> deletedIds = new ArrayList<>(ids.length);
+
+        String query = returning
+                ? "DELETE FROM " + table + condition + " RETURNING " + keyColumn
+                : "SELECT " + keyColumn + " FROM " + table + condition + " FOR UPDATE";
+
+        trace.statement(query, ids.length);
+
+        try (PreparedStatement statement = connection.prepareStatement(query))
+        {
+            for (int index = 0; index < ids.length; index++)
+            {
+                statement.setInt(index + 1, ids[index]);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    deletedIds.add(resultSet.getInt(1));
+                }
+            }
+        }
+
+        if (returning || deletedIds.isEmpty())
+        {
+            return deletedIds;
+        }
+
+        String deleteQuery = "DELETE FROM " + table + condition;
+        trace.statement(deleteQuery, ids.length);
+
+        try (PreparedStatement statement = connection.prepareStatement(deleteQuery))
+        {
+            for (int index = 0; index < ids.length; index++)
+            {
+                statement.setInt(index + 1, ids[index]);
+            }
+
+            statement.executeUpdate();
+        }
+
+        return deletedIds;
+    }
+
+    /**
+     * Checks whether the database supports the MariaDB {@code RETURNING} clause on data changes.
+     * The answer is looked up once and remembered.
+     *
+     * @param connection    a connection to the database
+     * @return              {@code true} if {@code RETURNING} may be used, otherwise {@code false}
+     * @throws SQLException if a database access error occurs
+     */
+    private boolean supportsReturning(Connection connection) throws SQLException
+    {
+        Boolean returning = supportsReturning;
+
+        if (returning == null)
+        {
+            returning = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mariadb");
+            supportsReturning = returning;
+        }
+
+        return returning;
+    }
+
+    /**
+     * Executes a keyset range query taking an identifier bound and a row limit.
+     * The whole rows are selected using the cached table schema.
+     *
+     * @param trace         the trace recording the statement and rows of the operation
+     * @param condition     the SQL condition and ordering with the identifier and limit placeholders,
+     *                      in which %key is replaced with the key column of the table
+     * @param boundId       the identifier bound of the range
+     * @param limit         the maximum number of rows to retrieve
+     * @return              the rows in the order returned by the query
+     * @throws SQLException if a database access error occurs
+     */
+    private List<DatabaseRow> fetchRange(OperationTrace trace, String condition, int boundId, int limit)
+            throws SQLException
+    {
+        List<DatabaseRow> databaseRows = new ArrayList<>(limit);
+
+        try (Connection connection = getConnection())
+        {
+            TableSchema tableSchema = getTableSchema(connection);
+            RowReader rowReader = RowReader.of(tableSchema);
+            String query = "SELECT " + tableSchema.getSelectList() + " FROM " + table + " "
+                    + condition.replace("%key", tableSchema.getKeyColumn());
+
+            trace.statement(query, 2);
+
+            try (PreparedStatement statement = connection.prepareStatement(query))
+            {
+                statement.setInt(1, boundId);
+                statement.setInt(2, limit);
+
+                try (ResultSet resultSet = statement.executeQuery())
+                {
+                    while (resultSet.next())
+                    {
+                        databaseRows.add(rowReader.read(resultSet));
+                    }
+                }
+            }
+        }
+
+        trace.rowsRead(databaseRows);
+
+        return databaseRows;
+    }
+
+    /**
+     * Reads the current time of the database, so that watermarks do not depend on the client's clock.
+     *
+     * @param connection    a connection to the database
+     * @return              the current database time with millisecond precision
+     * @throws SQLException if a database access error occurs
+     */
+    private Instant readCurrentTimestamp(Connection connection) throws SQLException
+    {
+        try (PreparedStatement statement = connection.prepareStatement(CURRENT_TIMESTAMP_QUERY);
+             ResultSet resultSet = statement.executeQuery())
+        {
+            resultSet.next();
+            return resultSet.getTimestamp(1).toInstant();
+        }
+    }
+
+    /**
+     * Returns the schema of the table, resolving it with the given connection if it is not cached.
+     *
+     * @param connection    a connection to the database
+     * @return              the {@link TableSchema} of the table
+     * @throws SQLException if the schema cannot be read
+     */
+    private TableSchema getTableSchema(Connection connection) throws SQLException
+    {
+        return schemaCache.get(connection, table);
+    }
+
+    /**
+     * Closes the given JDBC resources in order, ignoring any errors and {@code null} values.
+     * Used where resources outlive a try-with-resources block, such as an open stream.
+     *
+     * @param resources the resources to close
+     */
+    private void closeQuietly(AutoCloseable... resources)
+    {
+        for (AutoCloseable resource : resources)
+        {
+            if (resource == null)
+            {
+                continue;
+            }
+
+            try
+            {
+                resource.close();
+            }
+            catch (Exception ignored)
+            {
+                // Nothing useful can be done if a resource fails to close after use.
+            }
+        }
+    }
+
+    /**
+     * Starts tracing an operation on the table.
+     *
+     * @param operation the name of the operation
+     * @return          the started {@link OperationTrace}, or a shared one recording nothing if the
+     *                  operation is neither recorded by Java Flight Recorder nor logged
+     */
+    private OperationTrace beginTrace(String operation)
+    {
+        return OperationTrace.begin(operation, table, operationLog);
+    }
+
+    /**
+     * Borrows a connection to the database from the connection pool.
+     * Closing the returned connection hands it back to the pool.
+     *
+     * @return              a {@link Connection} object representing a connection to the database
+     * @throws SQLException if a database access errors occurs or the connection cannot be established
+     */
+    private Connection getConnection() throws SQLException
+    {
+        return connectionPool.borrow();
     }
 }
\ No newline at end of file
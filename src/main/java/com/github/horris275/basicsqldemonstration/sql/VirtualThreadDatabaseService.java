@@ -0,0 +1,330 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncDatabaseService} that runs each operation of a {@link DynamicDatabaseService}
+ * on its own virtual thread.
+ *
+ * <p>Virtual threads are cheap to create and park, so an operation waiting for a connection or
+ * for the database does not tie up a platform thread. The number of operations running at once
+ * is still bounded by a semaphore, which should match the size of the underlying connection pool:
+ * further operations wait for a permit rather than queuing inside the pool.</p>
+ *
+ * <p>An operation whose future has been cancelled by the time it receives a permit is skipped.
+ * Operations that are already running are not interrupted, as interrupting a virtual thread
+ * blocked on socket I/O closes the socket and would break the pooled connection.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class VirtualThreadDatabaseService implements AsyncDatabaseService, AutoCloseable
+{
+    private final DynamicDatabaseService databaseService;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new {@code VirtualThreadDatabaseService} around a blocking service.
+     *
+     * @param databaseService    the blocking service each operation is delegated to
+     * @param maximumConcurrency the maximum number of operations allowed to run at once
+     * @throws IllegalArgumentException if the maximum concurrency is not positive
+     */
+    public VirtualThreadDatabaseService(DynamicDatabaseService databaseService, int maximumConcurrency)
+    {
+        if (maximumConcurrency < 1)
+        {
+            throw new IllegalArgumentException("The maximum concurrency must be positive");
+        }
+
+        ThreadFactory threadFactory = Thread.ofVirtual().name("database-", 0).factory();
+
+        this.databaseService = databaseService;
+        this.permits = new Semaphore(maximumConcurrency, true);
+        this.executor = Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
+    /**
+     * Retrieves all rows within the database on a virtual thread.
+     *
+     * @return a future completed with a list containing all database rows
+     */
+    @Override
+    public CompletableFuture<List<DatabaseRow>> fetchAll()
+    {
+        return submit(databaseService::fetchAll);
+    }
+
+    /**
+     * Retrieves a page of rows following the given identifier on a virtual thread.
+     *
+     * @param afterId the identifier after which the page starts (exclusive)
+     * @param limit   the maximum number of rows to retrieve
+     * @return        a future completed with at most {@code limit} rows in ascending identifier order
+     */
+    @Override
+    public CompletableFuture<List<DatabaseRow>> fetchPage(int afterId, int limit)
+    {
+        return submit(() -> databaseService.fetchPage(afterId, limit));
+    }
+
+    /**
+     * Retrieves a page of rows preceding the given identifier on a virtual thread.
+     *
+     * @param beforeId the identifier before which the page ends (exclusive)
+     * @param limit    the maximum number of rows to retrieve
+     * @return         a future completed with at most {@code limit} rows in ascending identifier order
+     */
+    @Override
+    public CompletableFuture<List<DatabaseRow>> fetchPageBefore(int beforeId, int limit)
+    {
+        return submit(() -> databaseService.fetchPageBefore(beforeId, limit));
+    }
+
+    /**
+     * Retrieves the rows matching a query on a virtual thread.
+     *
+     * @param query the {@link RowQuery} describing the rows to retrieve
+     * @return      a future completed with the matching rows in the query's order
+     */
+    @Override
+    public CompletableFuture<List<DatabaseRow>> fetchMatching(RowQuery query)
+    {
+        return submit(() -> databaseService.fetchMatching(query));
+    }
+
+    /**
+     * Retrieves a single row by its unique identifier on a virtual thread.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with the row if found, or an empty {@code Optional} if not
+     */
+    @Override
+    public CompletableFuture<Optional<DatabaseRow>> fetch(int id)
+    {
+        return submit(() -> databaseService.fetch(id));
+    }
+
+    /**
+     * Checks whether a row with the given identifier exists on a virtual thread.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with {@code true} if the row exists, otherwise {@code false}
+     */
+    @Override
+    public CompletableFuture<Boolean> check(int id)
+    {
+        return submit(() -> databaseService.check(id));
+    }
+
+    /**
+     * Inserts a new row on a virtual thread.
+     *
+     * @param databaseRow the {@link DatabaseRow} to insert
+     * @return            a future completed with the {@link MutationResult} holding the generated identifier
+     */
+    @Override
+    public CompletableFuture<MutationResult> insert(DatabaseRow databaseRow)
+    {
+        return submit(() -> databaseService.insert(databaseRow));
+    }
+
+    /**
+     * Inserts a collection of new rows on a virtual thread.
+     *
+     * @param databaseRows the {@link DatabaseRow}s to insert
+     * @return             a future completed once the rows have been inserted
+     */
+    @Override
+    public CompletableFuture<Void> insertAll(Collection<DatabaseRow> databaseRows)
+    {
+        return run(() -> databaseService.insertAll(databaseRows));
+    }
+
+    /**
+     * Updates an existing row on a virtual thread.
+     *
+     * @param id          an integer representing the unique identifier of the row
+     * @param databaseRow the {@link DatabaseRow} containing the updates
+     * @return            a future completed with the {@link MutationResult} holding the number of rows matched
+     */
+    @Override
+    public CompletableFuture<MutationResult> modify(int id, DatabaseRow databaseRow)
+    {
+        return submit(() -> databaseService.modify(id, databaseRow));
+    }
+
+    /**
+     * Updates several existing rows on a virtual thread.
+     *
+     * @param databaseRows the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return             a future completed with the number of rows affected for each unique identifier
+     */
+    @Override
+    public CompletableFuture<Map<Integer, Integer>> modifyAll(Map<Integer, DatabaseRow> databaseRows)
+    {
+        return submit(() -> databaseService.modifyAll(databaseRows));
+    }
+
+    /**
+     * Deletes a row on a virtual thread.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with the {@link MutationResult} holding the number of rows deleted
+     */
+    @Override
+    public CompletableFuture<MutationResult> delete(int id)
+    {
+        return submit(() -> databaseService.delete(id));
+    }
+
+    /**
+     * Deletes several rows on a virtual thread.
+     *
+     * @param ids the unique identifiers of the rows to delete
+     * @return    a future completed with the number of rows deleted for each unique identifier
+     */
+    @Override
+    public CompletableFuture<Map<Integer, Integer>> deleteAll(int[] ids)
+    {
+        return submit(() -> databaseService.deleteAll(ids));
+    }
+
+    /**
+     * Retrieves the current watermark of the database on a virtual thread.
+     *
+     * @return a future completed with the current watermark
+     */
+    @Override
+    public CompletableFuture<Instant> retrieveChangeWatermark()
+    {
+        return submit(databaseService::retrieveChangeWatermark);
+    }
+
+    /**
+     * Retrieves the rows changed since the given watermark on a virtual thread.
+     *
+     * @param since the watermark of the previous change set or of the initial read
+     * @param limit the maximum number of changes to read before the change set is reported incomplete
+     * @return      a future completed with the {@link ChangeSet} since the watermark
+     */
+    @Override
+    public CompletableFuture<ChangeSet> fetchChanges(Instant since, int limit)
+    {
+        return submit(() -> databaseService.fetchChanges(since, limit));
+    }
+
+    /**
+     * Retrieves the column names on a virtual thread.
+     *
+     * @return a future completed with a list of strings that represent the column names
+     */
+    @Override
+    public CompletableFuture<List<String>> retrieveColumnNames()
+    {
+        return submit(databaseService::retrieveColumnNames);
+    }
+
+    /**
+     * Retrieves the schema of the database table on a virtual thread.
+     *
+     * @return a future completed with the {@link TableSchema} of the table
+     */
+    @Override
+    public CompletableFuture<TableSchema> retrieveTableSchema()
+    {
+        return submit(databaseService::retrieveTableSchema);
+    }
+
+    /**
+     * Returns the blocking service the operations are delegated to.
+     *
+     * @return the underlying {@link DynamicDatabaseService}
+     */
+    public DynamicDatabaseService getDelegate()
+    {
+        return databaseService;
+    }
+
+    /**
+     * Stops accepting new operations. Operations that have already been submitted are left to finish.
+     */
+    @Override
+    public void close()
+    {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs an operation without a result on a virtual thread.
+     *
+     * @param operation the operation to run
+     * @return          a future completed once the operation has finished
+     */
+    private CompletableFuture<Void> run(Runnable operation)
+    {
+        return submit(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs an operation on a virtual thread once a permit is available.
+     *
+     * @param operation the operation to run
+     * @param <T>       the type of the result
+     * @return          a future completed with the result of the operation, or exceptionally with its failure
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> operation)
+    {
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        executor.execute(() -> {
+            try
+            {
+                permits.acquire();
+            }
+            catch (InterruptedException e)
+            {
+                future.completeExceptionally(new CancellationException("The operation was interrupted"));
+                return;
+            }
+
+            try
+            {
+                if (!future.isDone())
+                {
+                    future.complete(operation.get());
+                }
+            }
+            catch (Throwable t)
+            {
+                future.completeExceptionally(t);
+            }
+            finally
+            {
+                permits.release();
+            }
+        });
+
+        return future;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,945 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicDatabaseService} decorator that buffers single-row inserts and updates and writes
+ * them to the underlying service in batches, so that a burst of small edits costs a few batched
+ * transactions instead of one connection and one commit per edit.
+ *
+ * <p>Queued inserts are kept in the order they were made. Repeated updates to the same identifier
+ * are coalesced into one: the columns of a later update replace those of an earlier one, and the
+ * columns only the earlier update set are kept, so only the latest state of the row is written.
+ * A background thread writes the queue through the underlying service's {@code insertAll} and
+ * {@code modifyAll} once it holds {@code maximumBatchSize} writes or its oldest write has waited
+ * {@code maximumDelay}, whichever comes first. Batches are written one at a time and in order.
+ * If the database falls behind, writers wait once the queue holds several batches.</p>
+ *
+ * <p>The {@link WriteDurability} decides how long a writer waits: not at all, until its batch has
+ * been committed, or until its own statement has been committed when writes are not buffered.
+ * {@link #flush()} is a barrier for every mode: it sends the queued writes straight away and
+ * waits until they have been committed. Each batch is recorded as the {@code flush} operation,
+ * including the batches that failed. If the underlying service refuses a batch, the writes it did
+ * not commit are retried one at a time, so each writer receives the outcome of its own write and
+ * one refused row does not fail the others.</p>
+ *
+ * <p>Reads see the writes made through this service: a single-row read or delete waits for the
+ * queued update of its row, if any, and the other reads, deletes and bulk writes wait for the
+ * whole queue. Writes made after the service has been closed go straight to the underlying service.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class WriteBehindDatabaseService implements DynamicDatabaseService, AutoCloseable
+{
+    private static final int MAXIMUM_PENDING_BATCHES = 4;
+    private static final int UNASSIGNED_ID = new DatabaseRow().getUniqueId();
+
+    private final DynamicDatabaseService databaseService;
+    private final int maximumBatchSize;
+    private final long maximumDelayNanos;
+    private final OperationMetrics flushMetrics = new OperationMetrics("flush");
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread flusherThread;
+    private volatile WriteDurability durability;
+    private Batch pending = new Batch();
+    private Batch inFlight;
+    private boolean flushRequested;
+    private boolean closed;
+    private long coalescedCount;
+
+    /**
+     * Constructs a new {@code WriteBehindDatabaseService} around another service and starts its
+     * background flusher.
+     *
+     * @param databaseService  the service to read rows from and write batches to
+     * @param maximumBatchSize the number of queued writes from which the queue is flushed
+     * @param maximumDelay     the longest a queued write waits before the queue is flushed
+     * @param durability       how long a writer waits for its write
+     * @throws IllegalArgumentException if the batch size is not positive or the delay is negative
+     */
+    public WriteBehindDatabaseService(DynamicDatabaseService databaseService, int maximumBatchSize,
+                                      Duration maximumDelay, WriteDurability durability)
+    {
+        if (maximumBatchSize < 1 || maximumDelay.isNegative())
+        {
+            throw new IllegalArgumentException("Invalid write-behind configuration: maximumBatchSize="
+                    + maximumBatchSize + ", maximumDelay=" + maximumDelay);
+        }
+
+        this.databaseService = databaseService;
+        this.maximumBatchSize = maximumBatchSize;
+        this.maximumDelayNanos = maximumDelay.toNanos();
+        this.durability = durability;
+        this.flusherThread = Thread.ofVirtual().name("write-behind-flusher").start(this::drain);
+    }
+
+    /**
+     * Sets how long a writer waits for its write. Switching to {@link WriteDurability#WRITE_THROUGH}
+     * waits for the writes already queued, so that they are not overtaken by the writes that follow.
+     *
+     * @param durability the new {@link WriteDurability}
+     */
+    public void setDurability(WriteDurability durability)
+    {
+        this.durability = durability;
+
+        if (durability == WriteDurability.WRITE_THROUGH)
+        {
+            awaitWrites();
+        }
+    }
+
+    /**
+     * Returns how long a writer waits for its write.
+     *
+     * @return the current {@link WriteDurability}
+     */
+    public WriteDurability getDurability()
+    {
+        return durability;
+    }
+
+    /**
+     * Sends the queued writes to the underlying service straight away and waits until they,
+     * and any batch still being written, have been committed.
+     *
+     * @throws DatabaseException if a write of the last of those batches could not be committed
+     */
+    public void flush() throws DatabaseException
+    {
+        await(requestFlush());
+    }
+
+    /**
+     * Sends the queued writes to the underlying service straight away without waiting for them.
+     *
+     * @return a future completed once the writes queued so far have been committed,
+     *         or completed exceptionally with the failure of a write that could not be committed
+     */
+    public CompletableFuture<Void> flushAsync()
+    {
+        return requestFlush().copy();
+    }
+
+    /**
+     * Returns the number of writes queued and not yet being written, counting coalesced updates once.
+     *
+     * @return the pending write count
+     */
+    public int getPendingCount()
+    {
+        lock.lock();
+
+        try
+        {
+            return pending.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of updates merged into an update of the same row that was already queued.
+     *
+     * @return the coalesced update count
+     */
+    public long getCoalescedCount()
+    {
+        lock.lock();
+
+        try
+        {
+            return coalescedCount;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the metrics recorded for each batch written to the underlying service.
+     *
+     * @return the {@link OperationMetrics} of the flush operation
+     */
+    public OperationMetrics getFlushMetrics()
+    {
+        return flushMetrics;
+    }
+
+    /**
+     * Retrieves all rows within the database from the underlying service once the queued writes
+     * have been committed.
+     *
+     * @return                   a list containing all database rows; never {@code null}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchAll() throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.fetchAll();
+    }
+
+    /**
+     * Streams all rows within the database from the underlying service once the queued writes
+     * have been committed.
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Stream<DatabaseRow> streamAll() throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.streamAll();
+    }
+
+    /**
+     * Retrieves a page of rows following the given identifier from the underlying service once
+     * the queued writes have been committed.
+     *
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.fetchPage(afterId, limit);
+    }
+
+    /**
+     * Retrieves a page of rows preceding the given identifier from the underlying service once
+     * the queued writes have been committed.
+     *
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.fetchPageBefore(beforeId, limit);
+    }
+
+    /**
+     * Retrieves the rows matching a query from the underlying service once the queued writes
+     * have been committed.
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.fetchMatching(query);
+    }
+
+    /**
+     * Retrieves a single row by its unique identifier from the underlying service once a queued
+     * update of the row has been committed.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   an {@code Optional} containing the row if found, or empty if not
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Optional<DatabaseRow> fetch(int id) throws DatabaseException
+    {
+        awaitWrites(id);
+        return databaseService.fetch(id);
+    }
+
+    /**
+     * Checks whether a row with the given identifier exists, using the underlying service.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   {@code true} if the row exists, otherwise {@code false}
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public boolean check(int id) throws DatabaseException
+    {
+        awaitWrites(id);
+        return databaseService.check(id);
+    }
+
+    /**
+     * Queues a new row for insertion, or inserts it straight away if writes are not buffered.
+     * A queued row receives its generated identifier once its batch has been committed.
+     *
+     * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier, or an
+     *                           {@linkplain MutationResult#unknown() unknown} result if the writer does not
+     *                           wait for the commit
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow) throws DatabaseException
+    {
+        WriteDurability durability = this.durability;
+        CompletableFuture<MutationResult> written = durability == WriteDurability.WRITE_THROUGH ? null
+                : enqueue(queue -> queue.insert(databaseRow));
+
+        if (written == null)
+        {
+            return databaseService.insert(databaseRow);
+        }
+
+        return durability == WriteDurability.DEFERRED ? MutationResult.unknown() : await(written);
+    }
+
+    /**
+     * Inserts a collection of new rows through the underlying service once the queued writes have
+     * been committed. The rows are already batched, so they are not queued.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s to insert
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException
+    {
+        awaitWrites();
+        databaseService.insertAll(databaseRows);
+    }
+
+    /**
+     * Queues an update of an existing row, merging it into an update of the same row that is still
+     * queued, or updates the row straight away if writes are not buffered.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   the {@link MutationResult} holding the number of rows matched, or an
+     *                           {@linkplain MutationResult#unknown() unknown} result if the writer does not
+     *                           wait for the commit or the driver did not report the count
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException
+    {
+        WriteDurability durability = this.durability;
+        CompletableFuture<MutationResult> written = durability == WriteDurability.WRITE_THROUGH ? null
+                : enqueue(queue -> {
+                    if (queue.modifications.containsKey(id))
+                    {
+                        coalescedCount++;
+                    }
+
+                    return queue.modify(id, databaseRow);
+                });
+
+        if (written == null)
+        {
+            return databaseService.modify(id, databaseRow);
+        }
+
+        return durability == WriteDurability.DEFERRED ? MutationResult.unknown() : await(written);
+    }
+
+    /**
+     * Updates several existing rows through the underlying service once the queued writes have been
+     * committed. The updates are already batched, so they are not queued.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return                   the number of rows affected for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.modifyAll(databaseRows);
+    }
+
+    /**
+     * Deletes a row through the underlying service once a queued update of the row has been committed.
+     *
+     * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted and the deleted row
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public MutationResult delete(int id) throws DatabaseException
+    {
+        awaitWrites(id);
+        return databaseService.delete(id);
+    }
+
+    /**
+     * Deletes several rows through the underlying service once the queued writes have been committed.
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.deleteAll(ids);
+    }
+
+    /**
+     * Retrieves the current watermark of the database from the underlying service. Writes still
+     * queued are committed after the watermark and are reported by the next change set.
+     *
+     * @return                   the current watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public Instant retrieveChangeWatermark() throws DatabaseException
+    {
+        return databaseService.retrieveChangeWatermark();
+    }
+
+    /**
+     * Retrieves the rows changed since the given watermark from the underlying service once the
+     * queued writes have been committed.
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changes to read before the change set is reported incomplete
+     * @return                   the {@link ChangeSet} since the watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException
+    {
+        awaitWrites();
+        return databaseService.fetchChanges(since, limit);
+    }
+
+    /**
+     * Retrieves the column names from the underlying service.
+     *
+     * @return                   a list of strings that represent the column names
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public List<String> retrieveColumnNames() throws DatabaseException
+    {
+        return databaseService.retrieveColumnNames();
+    }
+
+    /**
+     * Retrieves the schema of the database table from the underlying service.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    @Override
+    public TableSchema retrieveTableSchema() throws DatabaseException
+    {
+        return databaseService.retrieveTableSchema();
+    }
+
+    /**
+     * Discards the cached schema of the underlying service.
+     */
+    @Override
+    public void invalidateTableSchema()
+    {
+        databaseService.invalidateTableSchema();
+    }
+
+    /**
+     * Stops queuing writes, writes the queue to the underlying service and waits for the
+     * background flusher to finish. Failures of the last batches are recorded but not thrown.
+     */
+    @Override
+    public void close()
+    {
+        lock.lock();
+
+        try
+        {
+            if (closed)
+            {
+                return;
+            }
+
+            closed = true;
+            wakeUp.signal();
+            notFull.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        try
+        {
+            flusherThread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds a write to the queue, first waiting while the queue is full, and wakes the flusher if
+     * the write starts the queue or fills a batch.
+     *
+     * @param write the change made to the queued batch, returning the future of the write
+     * @return      the future of the write, completed with its own outcome once its batch has been
+     *              written, or {@code null} if the service has been closed
+     */
+    private CompletableFuture<MutationResult> enqueue(Function<Batch, CompletableFuture<MutationResult>> write)
+    {
+        lock.lock();
+
+        try
+        {
+            while (!closed && pending.size() >= maximumBatchSize * MAXIMUM_PENDING_BATCHES)
+            {
+                notFull.awaitUninterruptibly();
+            }
+
+            if (closed)
+            {
+                return null;
+            }
+
+            if (pending.isEmpty())
+            {
+                pending.firstWriteNanos = System.nanoTime();
+            }
+
+            CompletableFuture<MutationResult> written = write.apply(pending);
+
+            if (pending.size() == 1 || pending.size() == maximumBatchSize)
+            {
+                wakeUp.signal();
+            }
+
+            return written;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Asks the flusher to write the queue straight away.
+     *
+     * @return the future of the last batch holding a write made so far, completed once it has been committed
+     */
+    private CompletableFuture<Void> requestFlush()
+    {
+        lock.lock();
+
+        try
+        {
+            if (!pending.isEmpty())
+            {
+                flushRequested = true;
+                wakeUp.signal();
+                return pending.committed;
+            }
+
+            return inFlight != null ? inFlight.committed : CompletableFuture.completedFuture(null);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the writes made so far have been committed or have failed, so that a read sees them.
+     * Failures are left to the writers and to the flush metrics.
+     */
+    private void awaitWrites()
+    {
+        CompletableFuture<Void> committed = requestFlush();
+
+        if (!committed.isDone())
+        {
+            committed.exceptionally(failure -> null).join();
+        }
+    }
+
+    /**
+     * Waits, as {@link #awaitWrites()} does, only if an update of the given row is queued or being written.
+     *
+     * @param id the unique identifier of the row about to be read or deleted
+     */
+    private void awaitWrites(int id)
+    {
+        boolean queued;
+        lock.lock();
+
+        try
+        {
+            queued = pending.modifications.containsKey(id)
+                    || inFlight != null && !inFlight.committed.isDone() && inFlight.modifications.containsKey(id);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if (queued)
+        {
+            awaitWrites();
+        }
+    }
+
+    /**
+     * Waits for a queued write, or for a whole batch, to be committed.
+     *
+     * @param written            the future of the write or of the batch
+     * @param <T>                the type of the outcome
+     * @return                   the outcome of the write
+     * @throws DatabaseException if the write could not be committed
+     */
+    private <T> T await(CompletableFuture<T> written)
+    {
+        try
+        {
+            return written.join();
+        }
+        catch (CompletionException e)
+        {
+            throw new DatabaseException("An error has occurred while writing queued writes", e.getCause());
+        }
+    }
+
+    /**
+     * The body of the flusher thread: writes each batch taken from the queue until the service
+     * has been closed and the queue has been emptied.
+     */
+    private void drain()
+    {
+        Batch batch;
+
+        while ((batch = takeBatch()) != null)
+        {
+            write(batch);
+        }
+    }
+
+    /**
+     * Waits until the queue is due to be flushed, then replaces it with an empty one.
+     *
+     * @return the batch to write, or {@code null} once the service has been closed and the queue is empty
+     */
+    private Batch takeBatch()
+    {
+        lock.lock();
+
+        try
+        {
+            while (true)
+            {
+                if (pending.isEmpty())
+                {
+                    if (closed)
+                    {
+                        return null;
+                    }
+
+                    wakeUp.awaitUninterruptibly();
+                    continue;
+                }
+
+                long remaining = pending.firstWriteNanos + maximumDelayNanos - System.nanoTime();
+
+                if (closed || flushRequested || remaining <= 0 || pending.size() >= maximumBatchSize)
+                {
+                    break;
+                }
+
+                try
+                {
+                    wakeUp.awaitNanos(remaining);
+                }
+                catch (InterruptedException ignored)
+                {
+                    // The flusher is never interrupted by this class; the queue is simply checked again.
+                }
+            }
+
+            Batch batch = pending;
+            pending = new Batch();
+            inFlight = batch;
+            flushRequested = false;
+            notFull.signalAll();
+            return batch;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a batch to the underlying service, the inserts first and then the updates, completes
+     * the future of each write with its own outcome and then the future of the batch. Nothing thrown
+     * while writing stops the flusher: the writes left without an outcome fail with it instead.
+     *
+     * @param batch the batch to write
+     */
+    private void write(Batch batch)
+    {
+        long start = System.nanoTime();
+        Throwable failure;
+
+        try
+        {
+            Throwable insertFailure = writeInserts(batch);
+            Throwable modifyFailure = writeModifications(batch);
+            failure = insertFailure != null ? insertFailure : modifyFailure;
+        }
+        catch (Throwable e)
+        {
+            failure = e;
+            batch.insertResults.forEach(written -> written.completeExceptionally(e));
+            batch.modificationResults.values().forEach(written -> written.completeExceptionally(e));
+        }
+
+        if (failure == null)
+        {
+            flushMetrics.recordSuccess(System.nanoTime() - start, batch.size());
+            batch.committed.complete(null);
+        }
+        else
+        {
+            flushMetrics.recordFailure(System.nanoTime() - start, failure);
+            batch.committed.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Inserts the queued rows, one call per run of consecutive rows sharing the same columns, and
+     * records which rows each call committed. If a call is refused, its rows are inserted one at a
+     * time, except those that received an identifier: the underlying service only assigns the
+     * identifiers of the rows it has committed, and the queued copies start without one.
+     *
+     * @param batch the batch holding the rows
+     * @return      the failure of the last row that could not be inserted, or {@code null} if all were
+     */
+    private Throwable writeInserts(Batch batch)
+    {
+        List<DatabaseRow> inserts = batch.inserts;
+        boolean[] committed = new boolean[inserts.size()];
+        Throwable failure = null;
+        int start = 0;
+
+        while (start < inserts.size())
+        {
+            List<String> columnNames = inserts.get(start).getColumnNames();
+            int end = start + 1;
+
+            while (end < inserts.size() && inserts.get(end).getColumnNames().equals(columnNames))
+            {
+                end++;
+            }
+
+            try
+            {
+                databaseService.insertAll(inserts.subList(start, end));
+                Arrays.fill(committed, start, end, true);
+            }
+            catch (RuntimeException ignored)
+            {
+                // Some rows were refused, the uncommitted rows of the run are retried individually below.
+            }
+
+            for (int index = start; index < end; index++)
+            {
+                DatabaseRow queued = inserts.get(index);
+                CompletableFuture<MutationResult> written = batch.insertResults.get(index);
+
+                try
+                {
+                    MutationResult result = committed[index] || queued.getUniqueId() != UNASSIGNED_ID
+                            ? inserted(queued) : databaseService.insert(queued);
+                    batch.callerRows.get(index).setUniqueId(queued.getUniqueId());
+                    written.complete(result);
+                }
+                catch (RuntimeException e)
+                {
+                    failure = e;
+                    written.completeExceptionally(e);
+                }
+            }
+
+            start = end;
+        }
+
+        return failure;
+    }
+
+    /**
+     * Updates the queued rows in one call. A row for which the driver did not report a count receives
+     * an unknown result. If the call is refused, every row is updated one at a time; an update only
+     * sets column values, so repeating one committed before the failure is harmless.
+     *
+     * @param batch the batch holding the updates
+     * @return      the failure of the last row that could not be updated, or {@code null} if all were
+     */
+    private Throwable writeModifications(Batch batch)
+    {
+        if (batch.modifications.isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            Map<Integer, Integer> results = databaseService.modifyAll(batch.modifications);
+
+            batch.modificationResults.forEach((id, written) -> {
+                int affected = results.getOrDefault(id, 0);
+                written.complete(affected == Statement.SUCCESS_NO_INFO ? MutationResult.unknown()
+                        : MutationResult.of(affected));
+            });
+
+            return null;
+        }
+        catch (RuntimeException ignored)
+        {
+            // Some rows were refused, the rows are retried individually below to find them.
+        }
+
+        Throwable failure = null;
+
+        for (Map.Entry<Integer, CompletableFuture<MutationResult>> entry : batch.modificationResults.entrySet())
+        {
+            try
+            {
+                int id = entry.getKey();
+                entry.getValue().complete(databaseService.modify(id, batch.modifications.get(id)));
+            }
+            catch (RuntimeException e)
+            {
+                failure = e;
+                entry.getValue().completeExceptionally(e);
+            }
+        }
+
+        return failure;
+    }
+
+    /**
+     * Creates the result of an insert that has been committed.
+     *
+     * @param databaseRow the inserted row
+     * @return            the {@link MutationResult} holding the generated identifier, if it is known
+     */
+    private static MutationResult inserted(DatabaseRow databaseRow)
+    {
+        int id = databaseRow.getUniqueId();
+        return new MutationResult(1, id != UNASSIGNED_ID ? List.of(id) : List.of(), null);
+    }
+
+    /**
+     * The writes queued between two flushes. A batch is only changed while it is the queue,
+     * under the service's lock, and only read once the flusher has taken it.
+     */
+    private static final class Batch
+    {
+        private final List<DatabaseRow> inserts = new ArrayList<>();
+        private final List<DatabaseRow> callerRows = new ArrayList<>();
+        private final List<CompletableFuture<MutationResult>> insertResults = new ArrayList<>();
+        private final Map<Integer, DatabaseRow> modifications = new LinkedHashMap<>();
+        private final Map<Integer, CompletableFuture<MutationResult>> modificationResults = new LinkedHashMap<>();
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+        private long firstWriteNanos;
+
+        /**
+         * Queues an insert. A copy of the row without an identifier is queued, so that only the
+         * underlying service assigns one; the caller's row receives it once the copy has been committed.
+         *
+         * @param databaseRow the row to insert
+         * @return            the future of the insert
+         */
+        private CompletableFuture<MutationResult> insert(DatabaseRow databaseRow)
+        {
+            CompletableFuture<MutationResult> written = new CompletableFuture<>();
+            DatabaseRow queued = new DatabaseRow();
+            databaseRow.getColumnValues().forEach(queued::setColumn);
+            inserts.add(queued);
+            callerRows.add(databaseRow);
+            insertResults.add(written);
+            return written;
+        }
+
+        /**
+         * Queues an update, merging it into the queued update of the same row if there is one.
+         * The update is copied, so the caller may reuse it.
+         *
+         * @param id          the unique identifier of the row
+         * @param databaseRow the update
+         * @return            the future of the update, shared with the updates it was merged with
+         */
+        private CompletableFuture<MutationResult> modify(int id, DatabaseRow databaseRow)
+        {
+            DatabaseRow queued = modifications.get(id);
+
+            if (queued == null)
+            {
+                modifications.put(id, new DatabaseRow(id, new LinkedHashMap<>(databaseRow.getColumnValues())));
+                return modificationResults.computeIfAbsent(id, key -> new CompletableFuture<>());
+            }
+
+            databaseRow.getColumnValues().forEach(queued::setColumn);
+            return modificationResults.get(id);
+        }
+
+        /**
+         * Returns the number of writes in this batch.
+         *
+         * @return the number of queued inserts and updated rows
+         */
+        private int size()
+        {
+            return inserts.size() + modifications.size();
+        }
+
+        /**
+         * Checks whether this batch holds no writes.
+         *
+         * @return {@code true} if nothing is queued, otherwise {@code false}
+         */
+        private boolean isEmpty()
+        {
+            return size() == 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+/**
+ * How long a {@link WriteBehindDatabaseService} keeps the caller of an insert or update waiting.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public enum WriteDurability
+{
+    /**
+     * Writes are not buffered: each insert and update is sent to the database straight away,
+     * in its own statement and transaction.
+     */
+    WRITE_THROUGH,
+
+    /**
+     * Writes are buffered and the caller waits until the batch holding its write has been committed.
+     * The result is the one reported by the database for the caller's own write; if the batch is
+     * refused, only the writes that still fail when retried one at a time are reported as failed.
+     */
+    GROUP_COMMIT,
+
+    /**
+     * Writes are buffered and the caller returns as soon as its write has been queued.
+     * The result only reports that the write was accepted, and writes still queued are lost
+     * if the application stops without closing the service.
+     */
+    DEFERRED
+}
\ No newline at end of file
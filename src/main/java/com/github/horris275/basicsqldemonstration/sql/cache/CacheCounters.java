@@ -0,0 +1,57 @@
+package com.github.horris275.basicsqldemonstration.sql.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe set of counters that a cache updates as it is used.
+ *
+ * <p>The counters are striped {@link LongAdder}s so that recording a hit on a hot path
+ * does not contend between threads. Use {@link #snapshot()} to read them.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class CacheCounters
+{
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    /**
+     * Records a lookup that was served from the cache.
+     */
+    public void recordHit()
+    {
+        hitCount.increment();
+    }
+
+    /**
+     * Records a lookup that had to load its value.
+     *
+     * @param loadNanos the time spent loading the value in nanoseconds
+     */
+    public void recordMiss(long loadNanos)
+    {
+        missCount.increment();
+        totalLoadNanos.add(loadNanos);
+    }
+
+    /**
+     * Records an entry being removed to respect the cache bounds.
+     */
+    public void recordEviction()
+    {
+        evictionCount.increment();
+    }
+
+    /**
+     * Returns the current values of the counters.
+     *
+     * @return a {@link CacheStatistics} snapshot
+     */
+    public CacheStatistics snapshot()
+    {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), totalLoadNanos.sum());
+    }
+}
\ No newline at end of file
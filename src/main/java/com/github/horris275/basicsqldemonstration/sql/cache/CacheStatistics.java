@@ -0,0 +1,97 @@
+package com.github.horris275.basicsqldemonstration.sql.cache;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the counters maintained by one of the application's caches.
+ *
+ * <p>A load is whatever work a miss has to perform before the value can be cached,
+ * such as building SQL text or preparing a statement on the database.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class CacheStatistics
+{
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long totalLoadNanos;
+
+    /**
+     * Constructs a new {@code CacheStatistics} snapshot.
+     *
+     * @param hitCount       the number of lookups served from the cache
+     * @param missCount      the number of lookups that had to load the value
+     * @param evictionCount  the number of entries removed to respect the cache bounds
+     * @param totalLoadNanos the accumulated time spent loading values in nanoseconds
+     */
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long totalLoadNanos)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.totalLoadNanos = totalLoadNanos;
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that had to load the value.
+     *
+     * @return the miss count
+     */
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries removed to respect the cache bounds.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were served from the cache.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if nothing has been looked up
+     */
+    public double getHitRatio()
+    {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the average time spent loading a value on a miss.
+     *
+     * @return the average load time, or {@link Duration#ZERO} if nothing has been loaded
+     */
+    public Duration getAverageLoad()
+    {
+        return missCount == 0 ? Duration.ZERO : Duration.ofNanos(totalLoadNanos / missCount);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CacheStatistics[hits=" + hitCount
+                + ", misses=" + missCount
+                + ", evictions=" + evictionCount
+                + ", hitRatio=" + String.format("%.3f", getHitRatio())
+                + ", averageLoad=" + getAverageLoad() + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+package com.github.horris275.basicsqldemonstration.sql.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A thread-safe, size-bounded cache with least-recently-used eviction and a time-to-live per entry.
+ *
+ * <p>Values are loaded outside the cache's lock, so a slow load never blocks readers of other
+ * keys. Concurrent misses on the same key share a single load instead of each querying the
+ * source. A write to a key detaches the load in flight for that key, so a value read before
+ * the write is handed to the callers already waiting for it but never stored; loads of other
+ * keys are unaffected.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class LruCache<K, V>
+{
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loads = new HashMap<>();
+    private final CacheCounters counters = new CacheCounters();
+
+    /**
+     * Constructs a new, empty {@code LruCache}.
+     *
+     * @param maximumSize the maximum number of entries held before the least recently used one is evicted
+     * @param timeToLive  how long an entry may be served after it was stored
+     * @throws IllegalArgumentException if the size or time-to-live is not positive
+     */
+    public LruCache(int maximumSize, Duration timeToLive)
+    {
+        if (maximumSize < 1 || timeToLive.isNegative() || timeToLive.isZero())
+        {
+            throw new IllegalArgumentException("The cache size and time-to-live must be positive");
+        }
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached value for the key, loading and storing it if it is absent or expired.
+     * A caller that joins a load already in flight counts as a hit, as it causes no load itself.
+     *
+     * @param key    the key to look up
+     * @param loader the function computing the value on a miss; exceptions are propagated to the caller
+     * @return       the cached or newly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader)
+    {
+        CompletableFuture<V> load;
+        boolean loading;
+
+        synchronized (this)
+        {
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null && System.nanoTime() < entry.expiresAtNanos)
+            {
+                counters.recordHit();
+                return entry.value;
+            }
+
+            load = loads.get(key);
+            loading = load != null;
+
+            if (loading)
+            {
+                counters.recordHit();
+            }
+            else
+            {
+                load = new CompletableFuture<>();
+                loads.put(key, load);
+            }
+        }
+
+        if (loading)
+        {
+            return await(load);
+        }
+
+        V value;
+        long start = System.nanoTime();
+
+        try
+        {
+            value = loader.apply(key);
+        }
+        catch (RuntimeException | Error exception)
+        {
+            synchronized (this)
+            {
+                loads.remove(key, load);
+            }
+
+            load.completeExceptionally(exception);
+            throw exception;
+        }
+
+        counters.recordMiss(System.nanoTime() - start);
+
+        synchronized (this)
+        {
+            if (loads.remove(key, load))
+            {
+                store(key, value);
+            }
+        }
+
+        load.complete(value);
+        return value;
+    }
+
+    /**
+     * Stores a value, replacing any existing entry for the key.
+     *
+     * @param key   the key to store
+     * @param value the value to store
+     */
+    public synchronized void put(K key, V value)
+    {
+        loads.remove(key);
+        store(key, value);
+    }
+
+    /**
+     * Removes the entry for the given key, if present.
+     *
+     * @param key the key to remove
+     */
+    public synchronized void invalidate(K key)
+    {
+        loads.remove(key);
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public synchronized void invalidateAll()
+    {
+        loads.clear();
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries currently held, including expired entries not yet removed.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current {@link CacheStatistics}
+     */
+    public CacheStatistics getStatistics()
+    {
+        return counters.snapshot();
+    }
+
+    /**
+     * Waits for a load started by another caller and returns its value.
+     *
+     * @param load the load in flight
+     * @param <V>  the type of the value
+     * @return     the loaded value
+     */
+    private static <V> V await(CompletableFuture<V> load)
+    {
+        try
+        {
+            return load.join();
+        }
+        catch (CompletionException exception)
+        {
+            if (exception.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+
+            if (exception.getCause() instanceof Error cause)
+            {
+                throw cause;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Stores a value and evicts the least recently used entries beyond the maximum size.
+     * Must be called while holding the lock.
+     *
+     * @param key   the key to store
+     * @param value the value to store
+     */
+    private void store(K key, V value)
+    {
+        entries.put(key, new Entry<>(value, System.nanoTime() + timeToLiveNanos));
+
+        if (entries.size() <= maximumSize)
+        {
+            return;
+        }
+
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while (entries.size() > maximumSize && iterator.hasNext())
+        {
+            iterator.next();
+            iterator.remove();
+            counters.recordEviction();
+        }
+    }
+
+    /**
+     * A cached value together with the time it stops being served.
+     *
+     * @param value          the cached value
+     * @param expiresAtNanos the {@link System#nanoTime()} after which the value has expired
+     * @param <V>            the type of the value
+     */
+    private record Entry<V>(V value, long expiresAtNanos) {}
+}
\ No newline at end of file
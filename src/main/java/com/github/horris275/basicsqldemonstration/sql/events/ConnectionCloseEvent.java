@@ -0,0 +1,65 @@
+package com.github.horris275.basicsqldemonstration.sql.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event covering the closing of a physical database connection by the pool.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Name("com.github.horris275.basicsqldemonstration.ConnectionClose")
+@Label("Database Connection Close")
+@Category({"Basic SQL Demonstration", "Database"})
+@Description("A physical database connection closed by the connection pool")
+public final class ConnectionCloseEvent extends Event
+{
+    @Label("URL")
+    @Description("The JDBC URL of the database")
+    private String url;
+
+    @Label("Reason")
+    @Description("Why the connection was closed: idle, broken or shutdown")
+    private String reason;
+
+    @Label("Lifetime")
+    @Description("How long the connection was open")
+    @Timespan
+    private long lifetime;
+
+    /**
+     * Creates and begins a new event for a connection about to be closed.
+     *
+     * @param url           the JDBC URL of the database
+     * @param reason        why the connection is being closed
+     * @param lifetimeNanos how long the connection has been open, in nanoseconds
+     * @return              the begun event
+     */
+    public static ConnectionCloseEvent begin(String url, String reason, long lifetimeNanos)
+    {
+        ConnectionCloseEvent event = new ConnectionCloseEvent();
+        event.begin();
+        event.url = url;
+        event.reason = reason;
+        event.lifetime = lifetimeNanos;
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds the configured threshold.
+     */
+    public void complete()
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.github.horris275.basicsqldemonstration.sql.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event covering the opening of a physical database connection by the pool.
+ * The duration of the event is the time taken to connect and authenticate.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Name("com.github.horris275.basicsqldemonstration.ConnectionOpen")
+@Label("Database Connection Open")
+@Category({"Basic SQL Demonstration", "Database"})
+@Description("A physical database connection opened by the connection pool")
+public final class ConnectionOpenEvent extends Event
+{
+    @Label("URL")
+    @Description("The JDBC URL of the database")
+    private String url;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Creates and begins a new event for a connection about to be opened.
+     *
+     * @param url the JDBC URL of the database
+     * @return    the begun event
+     */
+    public static ConnectionOpenEvent begin(String url)
+    {
+        ConnectionOpenEvent event = new ConnectionOpenEvent();
+        event.begin();
+        event.url = url;
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds the configured threshold.
+     *
+     * @param failed whether the connection could not be opened
+     */
+    public void complete(boolean failed)
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            this.failed = failed;
+            commit();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.github.horris275.basicsqldemonstration.sql.events;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+
+/**
+ * A Java Flight Recorder event covering one query or mutation made by the {@code SQLManager}.
+ *
+ * <p>The event is begun when the operation starts and committed by {@link #complete()} when it ends,
+ * whether or not it succeeded, so a recording shows the time spent in each database call alongside
+ * the garbage collections, lock contention and thread states captured at the same time. The stack
+ * trace of the calling thread is recorded by default, which links each call back to the code that
+ * made it.</p>
+ *
+ * <p>While the event is disabled, {@link #begin(String, String)} and {@link #complete()} do no work
+ * beyond a flag check, and the rows are neither counted nor measured. The JIT can then remove
+ * the event allocation altogether, so the instrumentation costs next to nothing.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Name("com.github.horris275.basicsqldemonstration.SQLOperation")
+@Label("SQL Operation")
+@Category({"Basic SQL Demonstration", "Database"})
+@Description("A query or mutation executed by the SQL manager")
+public final class SQLOperationEvent extends Event
+{
+    private static final EventType EVENT_TYPE = EventType.getEventType(SQLOperationEvent.class);
+
+    @Label("Operation")
+    @Description("The DatabaseService method that was called")
+    private String operation;
+
+    @Label("Table")
+    private String table;
+
+    @Label("SQL")
+    @Description("The SQL template of the statement, with placeholders in place of the parameters")
+    private String sql;
+
+    @Label("Parameter Count")
+    @Description("The number of parameters bound across every execution of the statement")
+    private int parameterCount;
+
+    @Label("Row Count")
+    @Description("The number of rows read, or affected by a mutation")
+    private long rowCount;
+
+    @Label("Bytes Read")
+    @Description("An estimate of the size of the column values read")
+    @DataAmount
+    private long bytesRead;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Checks whether a running recording has the event enabled, without creating an event.
+     *
+     * @return {@code true} if events begun now may be committed, otherwise {@code false}
+     */
+    public static boolean isRecorded()
+    {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Creates and begins a new event for the given operation.
+     *
+     * @param operation the name of the operation, such as {@code fetch} or {@code insertAll}
+     * @param table     the table the operation is performed on
+     * @return          the begun event
+     */
+    public static SQLOperationEvent begin(String operation, String table)
+    {
+        SQLOperationEvent event = new SQLOperationEvent();
+        event.begin();
+        event.operation = operation;
+        event.table = table;
+        return event;
+    }
+
+    /**
+     * Records a statement executed by the operation. An operation executing several statements
+     * keeps the template of the last one and adds up the parameters bound to all of them.
+     *
+     * @param sql            the SQL template of the statement
+     * @param parameterCount the number of parameters bound to the statement
+     */
+    public void statement(String sql, int parameterCount)
+    {
+        this.sql = sql;
+        this.parameterCount += parameterCount;
+    }
+
+    /**
+     * Counts a row read by the operation and adds its estimated size to the bytes read.
+     *
+     * @param databaseRow the row read
+     */
+    public void rowRead(DatabaseRow databaseRow)
+    {
+        if (isEnabled())
+        {
+            rowCount++;
+            bytesRead += estimateSize(databaseRow);
+        }
+    }
+
+    /**
+     * Counts the rows read by the operation and adds their estimated size to the bytes read.
+     *
+     * @param databaseRows the rows read
+     */
+    public void rowsRead(List<DatabaseRow> databaseRows)
+    {
+        if (isEnabled())
+        {
+            for (DatabaseRow databaseRow : databaseRows)
+            {
+                rowRead(databaseRow);
+            }
+        }
+    }
+
+    /**
+     * Counts rows read by the operation whose values were not kept, so nothing is added to the bytes read.
+     *
+     * @param rowCount the number of rows read
+     */
+    public void rowsRead(long rowCount)
+    {
+        this.rowCount += rowCount;
+    }
+
+    /**
+     * Adds to the number of rows affected by a mutation.
+     *
+     * @param affectedRows the number of rows affected
+     */
+    public void rowsAffected(long affectedRows)
+    {
+        rowCount += affectedRows;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds the configured threshold.
+     */
+    public void complete()
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            commit();
+        }
+    }
+
+    /**
+     * Marks the operation as failed. The event is still committed by {@link #complete()}.
+     */
+    public void fail()
+    {
+        failed = true;
+    }
+
+    /**
+     * Estimates the number of bytes a row occupied on the wire. Text is counted as one byte
+     * per character, which is exact for ASCII, and other values by their usual binary size.
+     *
+     * @param databaseRow the row to measure
+     * @return            the estimated size in bytes
+     */
+    private static long estimateSize(DatabaseRow databaseRow)
+    {
+        long size = Integer.BYTES;
+        int columnCount = databaseRow.getSchema().size();
+
+        for (int index = 0; index < columnCount; index++)
+        {
+            size += switch (databaseRow.getValue(index))
+            {
+                case null -> 0;
+                case CharSequence text -> text.length();
+                case byte[] bytes -> bytes.length;
+                case Integer ignored -> Integer.BYTES;
+                case Long ignored -> Long.BYTES;
+                case Double ignored -> Double.BYTES;
+                case Boolean ignored -> 1;
+                case Object value -> value.toString().length();
+            };
+        }
+
+        return size;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.github.horris275.basicsqldemonstration.sql.interfaces;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.ChangeSet;
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.MutationResult;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface represents the asynchronous counterpart of {@link DynamicDatabaseService}.
+ *
+ * <p>Each method returns immediately with a {@link CompletableFuture} that is completed once the
+ * operation has run on a background thread. If a database error occurs, the future is completed
+ * exceptionally with a {@link DatabaseException}. Cancelling a future stops the operation if it
+ * has not started yet; an operation that is already running is left to finish, but its result
+ * is discarded.</p>
+ *
+ * <p>{@link DatabaseService#streamAll()} has no asynchronous counterpart, as the stream holds
+ * database resources that must be consumed and closed by the thread that opened it.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public interface AsyncDatabaseService
+{
+    /**
+     * Retrieves all rows within the database.
+     *
+     * @return a future completed with a list containing all database rows
+     */
+    CompletableFuture<List<DatabaseRow>> fetchAll();
+
+    /**
+     * Retrieves a page of rows whose unique identifiers follow the given identifier.
+     *
+     * @param afterId the identifier after which the page starts (exclusive)
+     * @param limit   the maximum number of rows to retrieve
+     * @return        a future completed with at most {@code limit} rows in ascending identifier order
+     */
+    CompletableFuture<List<DatabaseRow>> fetchPage(int afterId, int limit);
+
+    /**
+     * Retrieves a page of rows whose unique identifiers precede the given identifier.
+     *
+     * @param beforeId the identifier before which the page ends (exclusive)
+     * @param limit    the maximum number of rows to retrieve
+     * @return         a future completed with at most {@code limit} rows in ascending identifier order
+     */
+    CompletableFuture<List<DatabaseRow>> fetchPageBefore(int beforeId, int limit);
+
+    /**
+     * Retrieves the rows matching a query, in the query's order.
+     *
+     * @param query the {@link RowQuery} describing the rows to retrieve
+     * @return      a future completed with the matching rows in the query's order
+     */
+    CompletableFuture<List<DatabaseRow>> fetchMatching(RowQuery query);
+
+    /**
+     * Retrieves a single row by its unique identifier.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with the row if found, or an empty {@code Optional} if not
+     */
+    CompletableFuture<Optional<DatabaseRow>> fetch(int id);
+
+    /**
+     * Checks whether a row with the given identifier exists in the database.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with {@code true} if the row exists, otherwise {@code false}
+     */
+    CompletableFuture<Boolean> check(int id);
+
+    /**
+     * Inserts a new row into the database.
+     *
+     * @param databaseRow the {@link DatabaseRow} to insert
+     * @return            a future completed with the {@link MutationResult} holding the generated identifier
+     */
+    CompletableFuture<MutationResult> insert(DatabaseRow databaseRow);
+
+    /**
+     * Inserts a collection of new rows into the database in batches.
+     *
+     * @param databaseRows the {@link DatabaseRow}s to insert
+     * @return             a future completed once every row has been inserted
+     */
+    CompletableFuture<Void> insertAll(Collection<DatabaseRow> databaseRows);
+
+    /**
+     * Updates an existing row in the database with new values.
+     *
+     * @param id          an integer representing the unique identifier of the row
+     * @param databaseRow the {@link DatabaseRow} containing the updates
+     * @return            a future completed with the {@link MutationResult} holding the number of rows matched
+     */
+    CompletableFuture<MutationResult> modify(int id, DatabaseRow databaseRow);
+
+    /**
+     * Updates several existing rows in the database with new values in batches.
+     *
+     * @param databaseRows the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return             a future completed with the number of rows affected for each unique identifier
+     */
+    CompletableFuture<Map<Integer, Integer>> modifyAll(Map<Integer, DatabaseRow> databaseRows);
+
+    /**
+     * Deletes a row from the database.
+     *
+     * @param id an integer representing the unique identifier of the row
+     * @return   a future completed with the {@link MutationResult} holding the number of rows deleted
+     */
+    CompletableFuture<MutationResult> delete(int id);
+
+    /**
+     * Deletes several rows from the database in batches.
+     *
+     * @param ids the unique identifiers of the rows to delete
+     * @return    a future completed with the number of rows deleted for each unique identifier
+     */
+    CompletableFuture<Map<Integer, Integer>> deleteAll(int[] ids);
+
+    /**
+     * Retrieves the current watermark of the database.
+     *
+     * @return a future completed with the current watermark
+     */
+    CompletableFuture<Instant> retrieveChangeWatermark();
+
+    /**
+     * Retrieves the rows inserted, updated or deleted since the given watermark.
+     *
+     * @param since the watermark of the previous change set or of the initial read
+     * @param limit the maximum number of changes to read before the change set is reported incomplete
+     * @return      a future completed with the {@link ChangeSet} since the watermark
+     */
+    CompletableFuture<ChangeSet> fetchChanges(Instant since, int limit);
+
+    /**
+     * Retrieves the column names of the database table.
+     *
+     * @return a future completed with the list of column names
+     */
+    CompletableFuture<List<String>> retrieveColumnNames();
+
+    /**
+     * Retrieves the schema of the database table.
+     *
+     * @return a future completed with the {@link TableSchema} of the table
+     */
+    CompletableFuture<TableSchema> retrieveTableSchema();
+}
\ No newline at end of file
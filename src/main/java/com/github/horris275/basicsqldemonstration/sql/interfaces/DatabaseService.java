@@ -1,10 +1,17 @@
 package com.github.horris275.basicsqldemonstration.sql.interfaces;
 
 import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.ChangeSet;
 import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.MutationResult;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * This interface represents an object that can provide common
@@ -14,7 +21,7 @@ import java.util.Optional;
  * error occurs during the operation.</p>
  *
  * @author horris275
- * @version 25.09.2025
+ * @version 16.10.2026
  */
 public interface DatabaseService
 {
@@ -26,6 +33,52 @@ public interface DatabaseService
      */
     List<DatabaseRow> fetchAll() throws DatabaseException;
 
+    /**
+     * Streams all rows within the database without loading them into memory at once.
+     *
+     * <p>The stream keeps database resources open until it is closed,
+     * so it should be consumed within a try-with-resources block.</p>
+     *
+     * @return                   a stream of all database rows that must be closed after use
+     * @throws DatabaseException if a database access error occurs, including while the stream is consumed
+     */
+    Stream<DatabaseRow> streamAll() throws DatabaseException;
+
+    /**
+     * Retrieves a page of rows whose unique identifiers follow the given identifier,
+     * ordered by identifier. Passing {@code 0} retrieves the first page.
+     *
+     * @param afterId            the identifier after which the page starts (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    List<DatabaseRow> fetchPage(int afterId, int limit) throws DatabaseException;
+
+    /**
+     * Retrieves a page of rows whose unique identifiers precede the given identifier,
+     * ordered by identifier. This is used to page backwards from a previously loaded page.
+     *
+     * @param beforeId           the identifier before which the page ends (exclusive)
+     * @param limit              the maximum number of rows to retrieve
+     * @return                   a list containing at most {@code limit} rows in ascending identifier order
+     * @throws DatabaseException if a database access error occurs
+     */
+    List<DatabaseRow> fetchPageBefore(int beforeId, int limit) throws DatabaseException;
+
+    /**
+     * Retrieves the rows matching a query, in the query's order. The filtering, sorting and limiting
+     * are carried out by the database, so only the rows returned are read. If the query has a projection,
+     * only the columns it names are read, and the others are not loaded in the rows returned.
+     *
+     * @param query              the {@link RowQuery} describing the rows to retrieve
+     * @return                   a list containing the matching rows in the query's order
+     * @throws DatabaseException if a database access error occurs
+     * @throws IllegalArgumentException if the query names a column the table does not have,
+     *                                  or compares a column with a value of the wrong type
+     */
+    List<DatabaseRow> fetchMatching(RowQuery query) throws DatabaseException;
+
     /**
      * Retrieves a single row by its unique identifier.
      *
@@ -45,27 +98,78 @@ public interface DatabaseService
     boolean check(int id) throws DatabaseException;
 
     /**
-     * Inserts a new row into the database.
+     * Inserts a new row into the database and assigns it the generated identifier.
      *
      * @param databaseRow        the {@link DatabaseRow} to insert
+     * @return                   the {@link MutationResult} holding the generated identifier
      * @throws DatabaseException if a database access error occurs
      */
-    void insert(DatabaseRow databaseRow) throws DatabaseException;
+    MutationResult insert(DatabaseRow databaseRow) throws DatabaseException;
+
+    /**
+     * Inserts a collection of new rows into the database in batches.
+     * Each row is assigned its generated unique identifier once it has been committed.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s to insert
+     * @throws DatabaseException if a database access error occurs
+     */
+    void insertAll(Collection<DatabaseRow> databaseRows) throws DatabaseException;
 
     /**
      * Updates an existing row in the database with new values.
      *
      * @param id                 an integer representing the unique identifier of the row
      * @param databaseRow        the {@link DatabaseRow} containing the updates
+     * @return                   the {@link MutationResult} holding the number of rows matched, {@code 0} if the row does not exist
      * @throws DatabaseException if a database access error occurs
      */
-    void modify(int id, DatabaseRow databaseRow) throws DatabaseException;
+    MutationResult modify(int id, DatabaseRow databaseRow) throws DatabaseException;
+
+    /**
+     * Updates several existing rows in the database with new values in batches.
+     *
+     * @param databaseRows       the {@link DatabaseRow}s containing the updates, keyed by unique identifier
+     * @return                   the number of rows affected for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows) throws DatabaseException;
 
     /**
      * Deletes a row from the database.
      *
      * @param id                 an integer representing the unique identifier of the row
+     * @return                   the {@link MutationResult} holding the number of rows deleted, {@code 0} if the row
+     *                           does not exist, and the deleted row where the database can return it
+     * @throws DatabaseException if a database access error occurs
+     */
+    MutationResult delete(int id) throws DatabaseException;
+
+    /**
+     * Deletes several rows from the database in batches.
+     *
+     * @param ids                the unique identifiers of the rows to delete
+     * @return                   the number of rows deleted for each unique identifier
+     * @throws DatabaseException if a database access error occurs
+     */
+    Map<Integer, Integer> deleteAll(int[] ids) throws DatabaseException;
+
+    /**
+     * Retrieves the current watermark of the database, marking the point in time
+     * from which changes should be read after an initial read of the rows.
+     *
+     * @return                   the current watermark
+     * @throws DatabaseException if a database access error occurs
+     */
+    Instant retrieveChangeWatermark() throws DatabaseException;
+
+    /**
+     * Retrieves the rows inserted, updated or deleted since the given watermark.
+     * The returned {@link ChangeSet} carries the watermark to pass to the next call.
+     *
+     * @param since              the watermark of the previous change set or of the initial read
+     * @param limit              the maximum number of changes to read before the change set is reported incomplete
+     * @return                   the {@link ChangeSet} since the watermark
      * @throws DatabaseException if a database access error occurs
      */
-    void delete(int id) throws DatabaseException;
+    ChangeSet fetchChanges(Instant since, int limit) throws DatabaseException;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.github.horris275.basicsqldemonstration.sql.interfaces;
 
 import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
 
 import java.util.List;
 
@@ -9,8 +10,11 @@ import java.util.List;
  * It extends the {@link DatabaseService} interface and provides an additional
  * method that enables the retrieval of column names for dynamic systems.
  *
+ * <p>The full {@link TableSchema}, including column types and the key column,
+ * is also available and is expected to be cached by implementations.</p>
+ *
  * @author horris275
- * @version 30.09.2025
+ * @version 16.10.2026
  */
 public interface DynamicDatabaseService extends DatabaseService
 {
@@ -21,4 +25,17 @@ public interface DynamicDatabaseService extends DatabaseService
      * @throws DatabaseException if a database access error occurs
      */
     List<String> retrieveColumnNames() throws DatabaseException;
+
+    /**
+     * Retrieves the schema of the database table, including column types and the key column.
+     *
+     * @return                   the {@link TableSchema} of the table
+     * @throws DatabaseException if a database access error occurs
+     */
+    TableSchema retrieveTableSchema() throws DatabaseException;
+
+    /**
+     * Discards any cached schema so that the next retrieval reads it from the database again.
+     */
+    void invalidateTableSchema();
 }
\ No newline at end of file
@@ -0,0 +1,465 @@
+package com.github.horris275.basicsqldemonstration.sql.log;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A non-blocking log of database operations, written to rolling files by a background thread.
+ *
+ * <p>Operations slower than the slow-query threshold and failed operations are always logged.
+ * Faster operations are sampled: one in every {@code sampleRate} is logged, or none if the rate is
+ * {@code 0}. Logging an operation copies its details into a preallocated slot of a bounded ring
+ * buffer and returns; the SQL text and the row count are formatted and written to disk later by
+ * the writer thread, so the database calls being logged never wait for the file system.</p>
+ *
+ * <p>The writer thread wakes up periodically, and early whenever another half of the buffer has
+ * been filled. If the writer falls behind and the ring buffer is full, the entry is dropped rather than
+ * blocking the caller, and the drop is counted by {@link #getDroppedCount()}. Entries that
+ * cannot be written because of an I/O error are counted as dropped too.</p>
+ *
+ * <p>Each line of the log holds the time, the kind of entry ({@code SLOW}, {@code FAILED} or
+ * {@code SAMPLE}), the operation, the table, the duration, the row count and the SQL template.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class OperationLog implements AutoCloseable
+{
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final long DEFAULT_MAXIMUM_FILE_SIZE = 10 * 1024 * 1024;
+    private static final int DEFAULT_MAXIMUM_FILES = 5;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int wakeMask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    private final RollingFileWriter fileWriter;
+    private final Thread writerThread;
+    private final StringBuilder line = new StringBuilder(256);
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private volatile long slowThresholdNanos;
+    private volatile int sampleRate;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code OperationLog} writing to {@code <name>.log} in the given directory,
+     * keeping five files of up to 10 MB each and buffering up to 4096 entries.
+     *
+     * @param directory          the directory holding the log files
+     * @param name               the name of the log files without extension
+     * @param slowThreshold      the duration from which an operation is always logged
+     * @param sampleRate         log one in this many faster operations, or {@code 0} to log none
+     * @throws DatabaseException if the log file cannot be opened
+     */
+    public OperationLog(Path directory, String name, Duration slowThreshold, int sampleRate)
+    {
+        this(directory, name, slowThreshold, sampleRate, DEFAULT_CAPACITY, DEFAULT_MAXIMUM_FILE_SIZE,
+                DEFAULT_MAXIMUM_FILES);
+    }
+
+    /**
+     * Constructs a new {@code OperationLog} writing to {@code <name>.log} in the given directory.
+     *
+     * @param directory                 the directory holding the log files
+     * @param name                      the name of the log files without extension
+     * @param slowThreshold             the duration from which an operation is always logged
+     * @param sampleRate                log one in this many faster operations, or {@code 0} to log none
+     * @param capacity                  the number of entries buffered before entries are dropped,
+     *                                  rounded up to a power of two
+     * @param maximumFileSize           the size in bytes after which a log file is rolled over
+     * @param maximumFiles              the number of log files kept, including the current file
+     * @throws IllegalArgumentException if a size, count or rate is out of range
+     * @throws DatabaseException        if the log file cannot be opened
+     */
+    public OperationLog(Path directory, String name, Duration slowThreshold, int sampleRate, int capacity,
+                        long maximumFileSize, int maximumFiles)
+    {
+        if (capacity < 1 || capacity > 1 << 30 || maximumFileSize < 1 || maximumFiles < 1)
+        {
+            throw new IllegalArgumentException("Invalid operation log configuration: capacity=" + capacity
+                    + ", maximumFileSize=" + maximumFileSize + ", maximumFiles=" + maximumFiles);
+        }
+
+        setSlowThreshold(slowThreshold);
+        setSampleRate(sampleRate);
+
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.wakeMask = Math.max(1, size / 2) - 1;
+
+        for (int index = 0; index < size; index++)
+        {
+            entries[index] = new Entry();
+            sequences.set(index, index);
+        }
+
+        try
+        {
+            this.fileWriter = new RollingFileWriter(directory, name, maximumFileSize, maximumFiles);
+        }
+        catch (IOException e)
+        {
+            throw new DatabaseException("An error has occurred while opening the operation log in "
+                    + directory, e);
+        }
+
+        this.writerThread = Thread.ofPlatform().name("operation-log-writer").daemon().unstarted(this::drain);
+        this.writerThread.start();
+    }
+
+    /**
+     * Logs an operation if it is slow, failed or sampled. The call never blocks: if the
+     * buffer is full the entry is dropped and counted instead.
+     *
+     * @param operation     the name of the operation, such as {@code fetch}
+     * @param table         the table the operation was performed on
+     * @param sql           the SQL template of the statement, or {@code null} if none was executed
+     * @param durationNanos the duration of the operation in nanoseconds
+     * @param rowCount      the number of rows read or affected
+     * @param failed        whether the operation failed
+     */
+    public void log(String operation, String table, String sql, long durationNanos, long rowCount, boolean failed)
+    {
+        byte kind;
+
+        if (failed)
+        {
+            kind = Entry.FAILED;
+        }
+        else if (durationNanos >= slowThresholdNanos)
+        {
+            kind = Entry.SLOW;
+        }
+        else if (isSampled())
+        {
+            kind = Entry.SAMPLE;
+        }
+        else
+        {
+            return;
+        }
+
+        if (closed)
+        {
+            droppedCount.increment();
+            return;
+        }
+
+        long position = tail.get();
+
+        while (true)
+        {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    entries[index].set(System.currentTimeMillis(), kind, operation, table, sql, durationNanos,
+                            rowCount);
+                    sequences.set(index, position + 1);
+
+                    if ((position & wakeMask) == 0)
+                    {
+                        LockSupport.unpark(writerThread);
+                    }
+
+                    return;
+                }
+
+                position = tail.get();
+            }
+            else if (difference < 0)
+            {
+                droppedCount.increment();
+                return;
+            }
+            else
+            {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Sets the duration from which an operation is always logged.
+     *
+     * @param slowThreshold the slow-query threshold
+     */
+    public void setSlowThreshold(Duration slowThreshold)
+    {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * Returns the duration from which an operation is always logged.
+     *
+     * @return the slow-query threshold
+     */
+    public Duration getSlowThreshold()
+    {
+        return Duration.ofNanos(slowThresholdNanos);
+    }
+
+    /**
+     * Sets how many of the operations faster than the slow-query threshold are logged.
+     *
+     * @param sampleRate                log one in this many faster operations, or {@code 0} to log none
+     * @throws IllegalArgumentException if the rate is negative
+     */
+    public void setSampleRate(int sampleRate)
+    {
+        if (sampleRate < 0)
+        {
+            throw new IllegalArgumentException("Invalid sample rate: " + sampleRate);
+        }
+
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Returns how many of the operations faster than the slow-query threshold are logged.
+     *
+     * @return one in this many faster operations is logged, or {@code 0} if none are
+     */
+    public int getSampleRate()
+    {
+        return sampleRate;
+    }
+
+    /**
+     * Returns the number of entries lost because the buffer was full or the file could not be written.
+     *
+     * @return the dropped entry count
+     */
+    public long getDroppedCount()
+    {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the number of entries written to the log files.
+     *
+     * @return the written entry count
+     */
+    public long getWrittenCount()
+    {
+        return writtenCount.sum();
+    }
+
+    /**
+     * Stops accepting entries, writes the entries still buffered and closes the log file.
+     * Entries logged while the log is being closed may be lost.
+     */
+    @Override
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+        LockSupport.unpark(writerThread);
+
+        try
+        {
+            writerThread.join();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Decides whether an operation faster than the slow-query threshold is logged.
+     * A thread-local random number is used so that sampling neither allocates nor contends.
+     *
+     * @return {@code true} if the operation is sampled, otherwise {@code false}
+     */
+    private boolean isSampled()
+    {
+        int rate = sampleRate;
+        return rate == 1 || rate > 1 && ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    /**
+     * The body of the writer thread: writes buffered entries as they arrive, flushing the file
+     * whenever the buffer runs empty, until the log is closed and the buffer has been emptied.
+     */
+    private void drain()
+    {
+        while (true)
+        {
+            boolean wasClosed = closed;
+            int written = 0;
+
+            while (writeNext())
+            {
+                written++;
+            }
+
+            if (written > 0)
+            {
+                flush();
+            }
+
+            if (wasClosed)
+            {
+                break;
+            }
+
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+
+        try
+        {
+            fileWriter.close();
+        }
+        catch (IOException ignored)
+        {
+            // The entries could not be written; they have already been counted as dropped.
+        }
+    }
+
+    /**
+     * Takes the next entry from the buffer, if one has been published, and writes it to the log file.
+     *
+     * @return {@code true} if an entry was taken, otherwise {@code false}
+     */
+    private boolean writeNext()
+    {
+        int index = (int) head & mask;
+
+        if (sequences.get(index) != head + 1)
+        {
+            return false;
+        }
+
+        Entry entry = entries[index];
+        line.setLength(0);
+        entry.format(line);
+        entry.clear();
+        sequences.set(index, head + entries.length);
+        head++;
+
+        try
+        {
+            fileWriter.writeLine(line);
+            writtenCount.increment();
+        }
+        catch (IOException e)
+        {
+            droppedCount.increment();
+        }
+
+        return true;
+    }
+
+    /**
+     * Flushes the entries written so far to the log file.
+     */
+    private void flush()
+    {
+        try
+        {
+            fileWriter.flush();
+        }
+        catch (IOException ignored)
+        {
+            // The lines remain buffered and are retried on the next flush.
+        }
+    }
+
+    /**
+     * A preallocated slot of the ring buffer holding the details of one logged operation.
+     * The fields are written by the logging thread before the slot's sequence is published,
+     * and read by the writer thread after it has observed the sequence.
+     */
+    private static final class Entry
+    {
+        private static final byte SLOW = 0;
+        private static final byte FAILED = 1;
+        private static final byte SAMPLE = 2;
+
+        private long timestampMillis;
+        private byte kind;
+        private String operation;
+        private String table;
+        private String sql;
+        private long durationNanos;
+        private long rowCount;
+
+        /**
+         * Fills the slot with the details of an operation.
+         *
+         * @param timestampMillis the wall-clock time the operation completed
+         * @param kind            why the operation is logged
+         * @param operation       the name of the operation
+         * @param table           the table the operation was performed on
+         * @param sql             the SQL template of the statement
+         * @param durationNanos   the duration of the operation in nanoseconds
+         * @param rowCount        the number of rows read or affected
+         */
+        private void set(long timestampMillis, byte kind, String operation, String table, String sql,
+                         long durationNanos, long rowCount)
+        {
+            this.timestampMillis = timestampMillis;
+            this.kind = kind;
+            this.operation = operation;
+            this.table = table;
+            this.sql = sql;
+            this.durationNanos = durationNanos;
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * Appends the slot as a single log line.
+         *
+         * @param line the builder receiving the line
+         */
+        private void format(StringBuilder line)
+        {
+            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+            long fraction = micros % 1000;
+
+            line.append(Instant.ofEpochMilli(timestampMillis))
+                    .append(' ').append(kind == SLOW ? "SLOW" : kind == FAILED ? "FAILED" : "SAMPLE")
+                    .append(' ').append(operation)
+                    .append(' ').append(table)
+                    .append(' ').append(micros / 1000).append('.')
+                    .append(fraction < 100 ? fraction < 10 ? "00" : "0" : "").append(fraction).append("ms")
+                    .append(" rows=").append(rowCount)
+                    .append(" sql=\"").append(sql != null ? sql : "").append('"');
+        }
+
+        /**
+         * Releases the references held by the slot once it has been written.
+         */
+        private void clear()
+        {
+            operation = null;
+            table = null;
+            sql = null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.github.horris275.basicsqldemonstration.sql.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes lines of text to a log file that is rolled over once it reaches a maximum size.
+ *
+ * <p>The current file is {@code <name>.log}. Rolling over renames it to {@code <name>.1.log},
+ * shifting older files up by one, and the oldest file is deleted once there are
+ * {@code maximumFiles} files in total. The writer is not thread safe; it is used only by
+ * the writer thread of an {@link OperationLog}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class RollingFileWriter implements Closeable
+{
+    private final Path directory;
+    private final String name;
+    private final long maximumFileSize;
+    private final int maximumFiles;
+    private Writer writer;
+    private long fileSize;
+
+    /**
+     * Constructs a new {@code RollingFileWriter}, creating the directory if needed and appending to
+     * the current file.
+     *
+     * @param directory       the directory holding the log files
+     * @param name            the name of the log files without extension
+     * @param maximumFileSize the size in bytes after which the file is rolled over
+     * @param maximumFiles    the number of files kept, including the current file
+     * @throws IOException    if the directory or the file cannot be created
+     */
+    RollingFileWriter(Path directory, String name, long maximumFileSize, int maximumFiles) throws IOException
+    {
+        this.directory = directory;
+        this.name = name;
+        this.maximumFileSize = maximumFileSize;
+        this.maximumFiles = maximumFiles;
+
+        Files.createDirectories(directory);
+        open();
+    }
+
+    /**
+     * Writes a line to the current file, rolling the file over first if it is full.
+     * Text is assumed to be mostly ASCII when tracking the size of the file.
+     *
+     * @param line          the line to write, without a line separator
+     * @throws IOException  if the line cannot be written
+     */
+    void writeLine(CharSequence line) throws IOException
+    {
+        if (fileSize > 0 && fileSize + line.length() + 1 > maximumFileSize)
+        {
+            roll();
+        }
+
+        writer.append(line).append('\n');
+        fileSize += line.length() + 1;
+    }
+
+    /**
+     * Flushes the lines written so far to the current file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    void flush() throws IOException
+    {
+        writer.flush();
+    }
+
+    /**
+     * Flushes and closes the current file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+
+    /**
+     * Closes the current file, shifts the older files up by one and opens a new current file.
+     *
+     * @throws IOException if a file cannot be renamed, deleted or created
+     */
+    private void roll() throws IOException
+    {
+        writer.close();
+
+        Files.deleteIfExists(file(maximumFiles - 1));
+
+        for (int index = maximumFiles - 2; index >= 0; index--)
+        {
+            Path source = file(index);
+
+            if (Files.exists(source))
+            {
+                Files.move(source, file(index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        open();
+    }
+
+    /**
+     * Opens the current file for appending.
+     *
+     * @throws IOException if the file cannot be created
+     */
+    private void open() throws IOException
+    {
+        Path path = file(0);
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        fileSize = Files.size(path);
+    }
+
+    /**
+     * Returns the path of the file at the given position, {@code 0} being the current file.
+     *
+     * @param index the position of the file, counted from the newest
+     * @return      the path of the file
+     */
+    private Path file(int index)
+    {
+        return directory.resolve(index == 0 ? name + ".log" : name + "." + index + ".log");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+/**
+ * The JMX management interface of a connection pool's size, counters and acquire times.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public interface ConnectionPoolMXBean
+{
+    /**
+     * Returns the number of connections currently borrowed.
+     *
+     * @return the active connection count
+     */
+    int getActiveConnections();
+
+    /**
+     * Returns the number of connections currently waiting in the pool.
+     *
+     * @return the idle connection count
+     */
+    int getIdleConnections();
+
+    /**
+     * Returns the number of times a connection was borrowed.
+     *
+     * @return the borrow count
+     */
+    long getBorrowCount();
+
+    /**
+     * Returns the number of physical connections opened.
+     *
+     * @return the created connection count
+     */
+    long getCreatedCount();
+
+    /**
+     * Returns the number of physical connections closed for being idle, broken or surplus.
+     *
+     * @return the evicted connection count
+     */
+    long getEvictedCount();
+
+    /**
+     * Returns the number of borrow attempts that timed out.
+     *
+     * @return the timeout count
+     */
+    long getTimeoutCount();
+
+    /**
+     * Returns the distribution of the time callers waited for a connection.
+     *
+     * @return the current {@link LatencySnapshot} of the acquire times
+     */
+    LatencySnapshot getAcquireLatency();
+
+    /**
+     * Returns the median time callers waited for a connection.
+     *
+     * @return the 50th percentile in milliseconds
+     */
+    double getAcquireP50Millis();
+
+    /**
+     * Returns the 99th percentile of the time callers waited for a connection.
+     *
+     * @return the 99th percentile in milliseconds
+     */
+    double getAcquireP99Millis();
+
+    /**
+     * Returns the longest time a caller waited for a connection.
+     *
+     * @return the maximum in milliseconds
+     */
+    double getAcquireMaxMillis();
+
+    /**
+     * Returns the fraction of prepared statement lookups served from the statement caches.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}
+     */
+    double getStatementCacheHitRatio();
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import com.github.horris275.basicsqldemonstration.sql.pool.ConnectionPool;
+
+/**
+ * Exposes the figures of a {@link ConnectionPool} through {@link ConnectionPoolMXBean}.
+ * Every attribute reads the pool's counters when it is requested, so nothing is kept here.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ConnectionPoolMetrics implements ConnectionPoolMXBean
+{
+    private final ConnectionPool connectionPool;
+
+    /**
+     * Constructs a new {@code ConnectionPoolMetrics} for the given pool.
+     *
+     * @param connectionPool the pool to report on
+     */
+    public ConnectionPoolMetrics(ConnectionPool connectionPool)
+    {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public int getActiveConnections()
+    {
+        return connectionPool.getStatistics().getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections()
+    {
+        return connectionPool.getStatistics().getIdleConnections();
+    }
+
+    @Override
+    public long getBorrowCount()
+    {
+        return connectionPool.getStatistics().getBorrowCount();
+    }
+
+    @Override
+    public long getCreatedCount()
+    {
+        return connectionPool.getStatistics().getCreatedCount();
+    }
+
+    @Override
+    public long getEvictedCount()
+    {
+        return connectionPool.getStatistics().getEvictedCount();
+    }
+
+    @Override
+    public long getTimeoutCount()
+    {
+        return connectionPool.getStatistics().getTimeoutCount();
+    }
+
+    @Override
+    public LatencySnapshot getAcquireLatency()
+    {
+        return connectionPool.getAcquireLatency();
+    }
+
+    @Override
+    public double getAcquireP50Millis()
+    {
+        return LatencySnapshot.toMillis(connectionPool.getAcquireLatency().getP50Nanos());
+    }
+
+    @Override
+    public double getAcquireP99Millis()
+    {
+        return LatencySnapshot.toMillis(connectionPool.getAcquireLatency().getP99Nanos());
+    }
+
+    @Override
+    public double getAcquireMaxMillis()
+    {
+        return LatencySnapshot.toMillis(connectionPool.getAcquireLatency().getMaximumNanos());
+    }
+
+    @Override
+    public double getStatementCacheHitRatio()
+    {
+        return connectionPool.getStatementCacheStatistics().getHitRatio();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds with a fixed, log-linear bucket layout.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKETS} equally sized buckets, so a recorded
+ * value is reported with a relative error of at most 12.5% across the whole range of {@code long}.
+ * The buckets are allocated once; recording a value computes its bucket with a few bit operations
+ * and increments a counter, without allocating or taking a lock, so it can be used on every
+ * database call.</p>
+ *
+ * <p>Snapshots are not atomic with respect to concurrent recording: a value recorded while a
+ * snapshot is taken may be counted in some figures and not in others.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maximumNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as {@code 0}
+     */
+    public void record(long nanos)
+    {
+        long value = Math.max(0, nanos);
+
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        totalNanos.add(value);
+        maximumNanos.accumulate(value);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the count
+     */
+    public long getCount()
+    {
+        return count.sum();
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies and computes their percentiles.
+     *
+     * @return the current {@link LatencySnapshot}
+     */
+    public LatencySnapshot snapshot()
+    {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; index++)
+        {
+            counts[index] = buckets.get(index);
+            total += counts[index];
+        }
+
+        long maximum = maximumNanos.get();
+        double mean = total == 0 ? 0 : (double) totalNanos.sum() / total;
+
+        return new LatencySnapshot(total, mean, percentile(counts, total, 0.50, maximum),
+                percentile(counts, total, 0.95, maximum), percentile(counts, total, 0.99, maximum), maximum);
+    }
+
+    /**
+     * Clears every recorded latency.
+     */
+    public void reset()
+    {
+        for (int index = 0; index < BUCKET_COUNT; index++)
+        {
+            buckets.set(index, 0);
+        }
+
+        count.reset();
+        totalNanos.reset();
+        maximumNanos.reset();
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile, capped at the maximum recorded value.
+     *
+     * @param counts   the bucket counts
+     * @param total    the sum of the bucket counts
+     * @param quantile the percentile as a fraction between {@code 0} and {@code 1}
+     * @param maximum  the maximum recorded value
+     * @return         the latency in nanoseconds below which the given fraction of values fall
+     */
+    private static long percentile(long[] counts, long total, double quantile, long maximum)
+    {
+        if (total == 0)
+        {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int index = 0; index < counts.length; index++)
+        {
+            seen += counts[index];
+
+            if (seen >= rank)
+            {
+                return Math.min(maximum, upperBound(index));
+            }
+        }
+
+        return maximum;
+    }
+
+    /**
+     * Returns the bucket holding the given value.
+     * Values below {@value #SUB_BUCKETS} have a bucket each; larger values share a bucket with
+     * the values having the same highest bit and the same {@value #SUB_BUCKET_BITS} bits below it.
+     *
+     * @param value the non-negative value
+     * @return      the bucket index
+     */
+    static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value held by the given bucket.
+     *
+     * @param index the bucket index
+     * @return      the inclusive upper bound of the bucket
+     */
+    static long upperBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+}
\ No newline at end of file
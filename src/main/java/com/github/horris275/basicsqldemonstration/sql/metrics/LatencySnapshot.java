@@ -0,0 +1,124 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import javax.management.ConstructorParameters;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable summary of the latencies recorded by a {@link LatencyHistogram}.
+ *
+ * <p>All figures are in nanoseconds. Percentiles are reported as the upper bound of the
+ * histogram bucket they fall into, so they may overstate the true value by up to 12.5%.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class LatencySnapshot
+{
+    private final long count;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p95Nanos;
+    private final long p99Nanos;
+    private final long maximumNanos;
+
+    /**
+     * Constructs a new {@code LatencySnapshot}.
+     *
+     * @param count        the number of latencies recorded
+     * @param meanNanos    the mean latency
+     * @param p50Nanos     the median latency
+     * @param p95Nanos     the 95th percentile latency
+     * @param p99Nanos     the 99th percentile latency
+     * @param maximumNanos the largest latency
+     */
+    @ConstructorParameters({"count", "meanNanos", "p50Nanos", "p95Nanos", "p99Nanos", "maximumNanos"})
+    public LatencySnapshot(long count, double meanNanos, long p50Nanos, long p95Nanos, long p99Nanos,
+                           long maximumNanos)
+    {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p95Nanos = p95Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maximumNanos = maximumNanos;
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the count
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return the mean in nanoseconds
+     */
+    public double getMeanNanos()
+    {
+        return meanNanos;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return the 50th percentile in nanoseconds
+     */
+    public long getP50Nanos()
+    {
+        return p50Nanos;
+    }
+
+    /**
+     * Returns the latency below which 95% of the recorded latencies fall.
+     *
+     * @return the 95th percentile in nanoseconds
+     */
+    public long getP95Nanos()
+    {
+        return p95Nanos;
+    }
+
+    /**
+     * Returns the latency below which 99% of the recorded latencies fall.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    public long getP99Nanos()
+    {
+        return p99Nanos;
+    }
+
+    /**
+     * Returns the largest latency recorded.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMaximumNanos()
+    {
+        return maximumNanos;
+    }
+
+    /**
+     * Converts a latency in nanoseconds to fractional milliseconds for display.
+     *
+     * @param nanos the latency in nanoseconds
+     * @return      the latency in milliseconds
+     */
+    public static double toMillis(double nanos)
+    {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("LatencySnapshot[count=%d, mean=%.3fms, p50=%.3fms, p95=%.3fms, p99=%.3fms, "
+                + "max=%.3fms]", count, toMillis(meanNanos), toMillis(p50Nanos), toMillis(p95Nanos),
+                toMillis(p99Nanos), toMillis(maximumNanos));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers database metrics with the platform {@link MBeanServer} so that they can be
+ * inspected with JConsole, VisualVM or any other JMX client while the application runs.
+ *
+ * <p>Operation metrics are registered as
+ * {@code com.github.horris275.basicsqldemonstration:type=DatabaseService,table=<table>,operation=<operation>}
+ * and connection pools as {@code com.github.horris275.basicsqldemonstration:type=ConnectionPool,name=<name>}.
+ * Everything registered through an exporter is unregistered again by {@link #close()}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class MetricsExporter implements AutoCloseable
+{
+    private static final String DOMAIN = "com.github.horris275.basicsqldemonstration";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+
+    /**
+     * Registers the metrics of each operation performed on a table.
+     *
+     * @param table              the name of the table the operations are performed on
+     * @param operationMetrics   the metrics to register
+     * @throws DatabaseException if a metric could not be registered
+     */
+    public synchronized void registerOperations(String table, List<OperationMetrics> operationMetrics)
+    {
+        for (OperationMetrics metrics : operationMetrics)
+        {
+            register("type=DatabaseService,table=" + ObjectName.quote(table) + ",operation=" + metrics.getOperation(), metrics);
+        }
+    }
+
+    /**
+     * Registers the metrics of a connection pool.
+     *
+     * @param name               the name to register the pool under
+     * @param poolMetrics        the metrics to register
+     * @throws DatabaseException if the metrics could not be registered
+     */
+    public synchronized void registerConnectionPool(String name, ConnectionPoolMXBean poolMetrics)
+    {
+        register("type=ConnectionPool,name=" + ObjectName.quote(name), poolMetrics);
+    }
+
+    /**
+     * Unregisters everything registered through this exporter. Failures are ignored,
+     * as the names are only removed on shutdown.
+     */
+    @Override
+    public synchronized void close()
+    {
+        for (ObjectName name : registeredNames)
+        {
+            try
+            {
+                server.unregisterMBean(name);
+            }
+            catch (JMException ignored)
+            {
+                // Already unregistered
+            }
+        }
+
+        registeredNames.clear();
+    }
+
+    /**
+     * Registers a single MXBean under the given key properties of the domain.
+     *
+     * @param properties         the key properties of the object name
+     * @param mxBean             the MXBean to register
+     * @throws DatabaseException if the MXBean could not be registered
+     */
+    private void register(String properties, Object mxBean)
+    {
+        try
+        {
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            server.registerMBean(mxBean, name);
+            registeredNames.add(name);
+        }
+        catch (JMException e)
+        {
+            throw new DatabaseException("An error has occurred while registering the metrics " + properties, e);
+        }
+    }
+}
\ No newline at end of file
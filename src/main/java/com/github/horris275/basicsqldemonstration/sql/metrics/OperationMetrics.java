@@ -0,0 +1,171 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The figures recorded for one database operation: latency, throughput, errors and rows.
+ *
+ * <p>Recording a successful call only increments counters, so it does not allocate. Failures
+ * are additionally grouped by cause, which allocates the first time a cause is seen.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class OperationMetrics implements OperationMetricsMXBean
+{
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+    private final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Constructs a new {@code OperationMetrics} for the given operation.
+     *
+     * @param operation the name of the operation
+     */
+    public OperationMetrics(String operation)
+    {
+        this.operation = operation;
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param nanos the latency of the call in nanoseconds
+     * @param rows  the number of rows returned or affected by the call
+     */
+    public void recordSuccess(long nanos, long rows)
+    {
+        latency.record(nanos);
+        rowCount.add(rows);
+    }
+
+    /**
+     * Records a failed call, counting it against the underlying cause of the failure.
+     *
+     * @param nanos   the latency of the call in nanoseconds
+     * @param failure the exception thrown by the call
+     */
+    public void recordFailure(long nanos, Throwable failure)
+    {
+        latency.record(nanos);
+        errorCount.increment();
+        errorsByCause.computeIfAbsent(describeCause(failure), cause -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records rows read after the call itself completed, such as rows consumed from a stream.
+     *
+     * @param rows the number of rows
+     */
+    public void recordRows(long rows)
+    {
+        rowCount.add(rows);
+    }
+
+    @Override
+    public String getOperation()
+    {
+        return operation;
+    }
+
+    @Override
+    public long getCount()
+    {
+        return latency.getCount();
+    }
+
+    @Override
+    public double getMeanRate()
+    {
+        double elapsedSeconds = (double) (System.nanoTime() - startNanos) / TimeUnit.SECONDS.toNanos(1);
+        return elapsedSeconds > 0 ? getCount() / elapsedSeconds : 0;
+    }
+
+    @Override
+    public long getErrorCount()
+    {
+        return errorCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getErrorsByCause()
+    {
+        Map<String, Long> errors = new TreeMap<>();
+        errorsByCause.forEach((cause, count) -> errors.put(cause, count.sum()));
+        return errors;
+    }
+
+    @Override
+    public long getRowCount()
+    {
+        return rowCount.sum();
+    }
+
+    @Override
+    public LatencySnapshot getLatency()
+    {
+        return latency.snapshot();
+    }
+
+    @Override
+    public double getP50Millis()
+    {
+        return LatencySnapshot.toMillis(latency.snapshot().getP50Nanos());
+    }
+
+    @Override
+    public double getP95Millis()
+    {
+        return LatencySnapshot.toMillis(latency.snapshot().getP95Nanos());
+    }
+
+    @Override
+    public double getP99Millis()
+    {
+        return LatencySnapshot.toMillis(latency.snapshot().getP99Nanos());
+    }
+
+    @Override
+    public double getMaxMillis()
+    {
+        return LatencySnapshot.toMillis(latency.snapshot().getMaximumNanos());
+    }
+
+    @Override
+    public void reset()
+    {
+        latency.reset();
+        errorCount.reset();
+        rowCount.reset();
+        errorsByCause.clear();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Describes the underlying cause of a failure by its type and, for SQL errors, its SQL state,
+     * so that for example timeouts, lost connections and constraint violations are counted apart.
+     *
+     * @param failure the exception thrown by the call
+     * @return        the description of the cause
+     */
+    private static String describeCause(Throwable failure)
+    {
+        Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+        String type = cause.getClass().getSimpleName();
+
+        if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null)
+        {
+            return type + " (" + sqlException.getSQLState() + ")";
+        }
+
+        return type;
+    }
+}
\ No newline at end of file
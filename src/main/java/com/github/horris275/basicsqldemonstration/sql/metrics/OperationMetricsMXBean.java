@@ -0,0 +1,97 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface of the figures recorded for one database operation.
+ *
+ * <p>Latencies are reported in milliseconds so they can be charted directly by JConsole
+ * or VisualVM. The full distribution is available as a composite through {@link #getLatency()}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public interface OperationMetricsMXBean
+{
+    /**
+     * Returns the name of the operation, such as {@code fetch} or {@code insertAll}.
+     *
+     * @return the operation name
+     */
+    String getOperation();
+
+    /**
+     * Returns the number of calls made, including failed calls.
+     *
+     * @return the call count
+     */
+    long getCount();
+
+    /**
+     * Returns the mean number of calls per second since the figures were last reset.
+     *
+     * @return the mean throughput
+     */
+    double getMeanRate();
+
+    /**
+     * Returns the number of calls that failed.
+     *
+     * @return the error count
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of failed calls for each cause, keyed by the type and SQL state of the cause.
+     *
+     * @return the error counts by cause
+     */
+    Map<String, Long> getErrorsByCause();
+
+    /**
+     * Returns the number of rows returned or affected by the successful calls.
+     *
+     * @return the row count
+     */
+    long getRowCount();
+
+    /**
+     * Returns the distribution of the latencies of every call.
+     *
+     * @return the current {@link LatencySnapshot}
+     */
+    LatencySnapshot getLatency();
+
+    /**
+     * Returns the median latency.
+     *
+     * @return the 50th percentile in milliseconds
+     */
+    double getP50Millis();
+
+    /**
+     * Returns the 95th percentile latency.
+     *
+     * @return the 95th percentile in milliseconds
+     */
+    double getP95Millis();
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return the 99th percentile in milliseconds
+     */
+    double getP99Millis();
+
+    /**
+     * Returns the largest latency.
+     *
+     * @return the maximum in milliseconds
+     */
+    double getMaxMillis();
+
+    /**
+     * Clears every figure recorded for the operation.
+     */
+    void reset();
+}
\ No newline at end of file
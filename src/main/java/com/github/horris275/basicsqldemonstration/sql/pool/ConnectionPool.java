@@ -0,0 +1,600 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheCounters;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+import com.github.horris275.basicsqldemonstration.sql.events.ConnectionCloseEvent;
+import com.github.horris275.basicsqldemonstration.sql.events.ConnectionOpenEvent;
+import com.github.horris275.basicsqldemonstration.sql.metrics.LatencyHistogram;
+import com.github.horris275.basicsqldemonstration.sql.metrics.LatencySnapshot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded pool of physical database connections.
+ *
+ * <p>The pool keeps between {@code minimumSize} and {@code maximumSize} connections open.
+ * Borrowing reuses the most recently released idle connection where possible, so the
+ * TCP handshake and authentication are only paid when the pool needs to grow. When every
+ * connection is in use, callers wait up to the acquire timeout for one to be released.</p>
+ *
+ * <p>On construction, the connections needed to reach the minimum size are opened in parallel,
+ * each on its own virtual thread, so warming up takes about as long as opening one connection.
+ * A background maintenance thread then closes connections that have been idle for longer than
+ * the idle timeout (never dropping below the minimum) and tops the pool back up afterwards.
+ * Idle connections are validated on borrow unless they were released very recently.</p>
+ *
+ * <p>Each physical connection keeps its own least-recently-used cache of prepared statements,
+ * so repeated queries reuse the statement already prepared on that connection. The hit, miss
+ * and eviction counters of those caches are aggregated across the pool.</p>
+ *
+ * <p>Connections handed out by {@link #borrow()} must be closed by the caller, which
+ * returns them to the pool. A try-with-resources block is the intended usage.</p>
+ *
+ * <p>Opening and closing a physical connection emits a {@link ConnectionOpenEvent} and a
+ * {@link ConnectionCloseEvent} for Java Flight Recorder.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ConnectionPool implements AutoCloseable
+{
+    private static final int DEFAULT_MINIMUM_SIZE = 2;
+    private static final int DEFAULT_MAXIMUM_SIZE = 10;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 32;
+
+    private final String databasePath;
+    private final String user;
+    private final String password;
+    private final int minimumSize;
+    private final int maximumSize;
+    private final long idleTimeoutNanos;
+    private final long acquireTimeoutNanos;
+    private final int statementCacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+    private final ScheduledExecutorService maintenance;
+    private final CompletableFuture<Void> warmUp;
+    private int totalConnections;
+    private boolean closed;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maximumWaitNanos = new LongAccumulator(Math::max, 0);
+    private final CacheCounters statementCacheCounters = new CacheCounters();
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+
+    /**
+     * Constructs a new {@code ConnectionPool} using the default sizing and timeouts.
+     *
+     * @param databasePath the JDBC URL of the database
+     * @param user         the database username
+     * @param password     the database password
+     */
+    public ConnectionPool(String databasePath, String user, String password)
+    {
+        this(databasePath, user, password, DEFAULT_MINIMUM_SIZE, DEFAULT_MAXIMUM_SIZE,
+                DEFAULT_IDLE_TIMEOUT, DEFAULT_ACQUIRE_TIMEOUT, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code ConnectionPool} and starts warming it up in the background.
+     *
+     * @param databasePath       the JDBC URL of the database
+     * @param user               the database username
+     * @param password           the database password
+     * @param minimumSize        the number of connections to keep open even when idle
+     * @param maximumSize        the maximum number of connections that may be open at once
+     * @param idleTimeout        how long a connection above the minimum may stay idle before it is closed
+     * @param acquireTimeout     how long {@link #borrow()} waits for a connection before giving up
+     * @param statementCacheSize the number of prepared statements cached per connection, or {@code 0}
+     *                           to disable caching
+     * @throws IllegalArgumentException if the sizes or timeouts are invalid
+     */
+    public ConnectionPool(String databasePath, String user, String password, int minimumSize, int maximumSize,
+                          Duration idleTimeout, Duration acquireTimeout, int statementCacheSize)
+    {
+        if (minimumSize < 0 || maximumSize < 1 || minimumSize > maximumSize)
+        {
+            throw new IllegalArgumentException("Invalid pool size: minimum=" + minimumSize
+                    + ", maximum=" + maximumSize);
+        }
+
+        if (statementCacheSize < 0)
+        {
+            throw new IllegalArgumentException("Invalid statement cache size: " + statementCacheSize);
+        }
+
+        if (idleTimeout.isNegative() || idleTimeout.isZero() || acquireTimeout.isNegative())
+        {
+            throw new IllegalArgumentException("Pool timeouts must be positive");
+        }
+
+        this.databasePath = databasePath;
+        this.user = user;
+        this.password = password;
+        this.minimumSize = minimumSize;
+        this.maximumSize = maximumSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.statementCacheSize = statementCacheSize;
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long maintenancePeriod = Math.max(TimeUnit.SECONDS.toNanos(1), idleTimeoutNanos / 2);
+        this.warmUp = openToMinimumInParallel();
+        maintenance.scheduleWithFixedDelay(this::maintain, maintenancePeriod, maintenancePeriod,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if the pool has spare capacity
+     * and no idle connection is available.
+     *
+     * @return                     a {@link Connection} that is returned to the pool when closed
+     * @throws SQLTimeoutException if no connection became available within the acquire timeout
+     * @throws SQLException        if the pool is closed or a new connection cannot be established
+     */
+    public Connection borrow() throws SQLException
+    {
+        long start = System.nanoTime();
+        long deadline = start + acquireTimeoutNanos;
+
+        while (true)
+        {
+            PooledConnection pooledConnection = acquire(deadline);
+
+            if (pooledConnection == null)
+            {
+                pooledConnection = open();
+            }
+            else if (!validate(pooledConnection))
+            {
+                discard(pooledConnection);
+                continue;
+            }
+
+            long waited = System.nanoTime() - start;
+            borrowCount.increment();
+            totalWaitNanos.add(waited);
+            maximumWaitNanos.accumulate(waited);
+            acquireLatency.record(waited);
+
+            return pooledConnection.lease();
+        }
+    }
+
+    /**
+     * Returns the warm-up started on construction, which opens the connections needed to reach the minimum size.
+     * Connections that fail to open are retried by the maintenance thread and do not fail the warm-up.
+     *
+     * @return a future completed once every connection of the warm-up has been opened or has failed to open
+     */
+    public CompletableFuture<Void> getWarmUp()
+    {
+        return warmUp;
+    }
+
+    /**
+     * Returns a snapshot of the pool's current size and accumulated counters.
+     *
+     * @return the current {@link PoolStatistics}
+     */
+    public PoolStatistics getStatistics()
+    {
+        int idle;
+        int active;
+
+        lock.lock();
+
+        try
+        {
+            idle = idleConnections.size();
+            active = totalConnections - idle;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        return new PoolStatistics(active, idle, borrowCount.sum(), createdCount.sum(), evictedCount.sum(),
+                timeoutCount.sum(), totalWaitNanos.sum(), maximumWaitNanos.get());
+    }
+
+    /**
+     * Returns the distribution of the time callers waited in {@link #borrow()} for a connection.
+     *
+     * @return the current {@link LatencySnapshot} of the acquire times
+     */
+    public LatencySnapshot getAcquireLatency()
+    {
+        return acquireLatency.snapshot();
+    }
+
+    /**
+     * Returns a snapshot of the prepared statement cache counters, aggregated over every connection.
+     *
+     * @return the current {@link CacheStatistics} of the statement caches
+     */
+    public CacheStatistics getStatementCacheStatistics()
+    {
+        return statementCacheCounters.snapshot();
+    }
+
+    /**
+     * Closes every idle connection and stops the maintenance thread.
+     * Connections that are still borrowed are closed as soon as they are returned.
+     */
+    @Override
+    public void close()
+    {
+        List<PooledConnection> toClose;
+
+        lock.lock();
+
+        try
+        {
+            if (closed)
+            {
+                return;
+            }
+
+            closed = true;
+            toClose = new ArrayList<>(idleConnections);
+            totalConnections -= idleConnections.size();
+            idleConnections.clear();
+            available.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        maintenance.shutdownNow();
+        toClose.forEach(idle -> closePhysical(idle, "shutdown"));
+    }
+
+    /**
+     * Returns a connection to the pool once its lease has been closed.
+     *
+     * @param pooledConnection the connection being returned
+     */
+    void release(PooledConnection pooledConnection)
+    {
+        try
+        {
+            pooledConnection.reset();
+        }
+        catch (SQLException e)
+        {
+            discard(pooledConnection);
+            return;
+        }
+
+        lock.lock();
+
+        try
+        {
+            if (!closed)
+            {
+                idleConnections.addFirst(pooledConnection);
+                available.signal();
+                return;
+            }
+
+            totalConnections--;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        closePhysical(pooledConnection, "shutdown");
+    }
+
+    /**
+     * Takes an idle connection from the pool or reserves capacity for a new one,
+     * waiting for a connection to be released if the pool is exhausted.
+     *
+     * @param deadline             the {@link System#nanoTime()} after which to give up waiting
+     * @return                     an idle connection, or {@code null} if the caller should open a new one
+     * @throws SQLException        if the pool is closed
+     * @throws SQLTimeoutException if the deadline passes before a connection becomes available
+     */
+    private PooledConnection acquire(long deadline) throws SQLException
+    {
+        lock.lock();
+
+        try
+        {
+            while (true)
+            {
+                if (closed)
+                {
+                    throw new SQLException("The connection pool has been closed");
+                }
+
+                PooledConnection idle = idleConnections.pollFirst();
+
+                if (idle != null)
+                {
+                    return idle;
+                }
+
+                if (totalConnections < maximumSize)
+                {
+                    totalConnections++;
+                    return null;
+                }
+
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0)
+                {
+                    timeoutCount.increment();
+                    throw new SQLTimeoutException("Timed out waiting for a connection after "
+                            + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms (maximum pool size "
+                            + maximumSize + ")");
+                }
+
+                available.awaitNanos(remaining);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a new physical connection using capacity already reserved by {@link #acquire(long)}.
+     *
+     * @return              the newly opened connection
+     * @throws SQLException if the connection cannot be established
+     */
+    private PooledConnection open() throws SQLException
+    {
+        ConnectionOpenEvent event = ConnectionOpenEvent.begin(databasePath);
+
+        try
+        {
+            Connection connection = DriverManager.getConnection(databasePath, user, password);
+            createdCount.increment();
+            event.complete(false);
+            return new PooledConnection(this, connection,
+                    new StatementCache(connection, statementCacheSize, statementCacheCounters));
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            event.complete(true);
+            lock.lock();
+
+            try
+            {
+                totalConnections--;
+                available.signal();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that an idle connection is still usable. Connections released within
+     * the last 500 milliseconds are trusted without a round trip to the database.
+     *
+     * @param pooledConnection the connection to validate
+     * @return                 {@code true} if the connection may be handed out, otherwise {@code false}
+     */
+    private boolean validate(PooledConnection pooledConnection)
+    {
+        if (System.nanoTime() - pooledConnection.getLastReleasedNanos() < VALIDATION_BYPASS_NANOS)
+        {
+            return true;
+        }
+
+        try
+        {
+            return pooledConnection.getConnection().isValid(VALIDATION_TIMEOUT_SECONDS);
+        }
+        catch (SQLException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Closes a physical connection and frees its capacity within the pool.
+     *
+     * @param pooledConnection the connection to discard
+     */
+    private void discard(PooledConnection pooledConnection)
+    {
+        lock.lock();
+
+        try
+        {
+            totalConnections--;
+            available.signal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        evictedCount.increment();
+        closePhysical(pooledConnection, "broken");
+    }
+
+    /**
+     * Closes a physical connection whose capacity has already been freed, recording why it was closed.
+     *
+     * @param pooledConnection the connection to close
+     * @param reason           why the connection is being closed: idle, broken or shutdown
+     */
+    private void closePhysical(PooledConnection pooledConnection, String reason)
+    {
+        ConnectionCloseEvent event = ConnectionCloseEvent.begin(databasePath, reason,
+                System.nanoTime() - pooledConnection.getOpenedNanos());
+        pooledConnection.closeQuietly();
+        event.complete();
+    }
+
+    /**
+     * Evicts connections that have been idle for too long and then tops the pool
+     * back up to its minimum size. Runs periodically on the maintenance thread.
+     */
+    private void maintain()
+    {
+        List<PooledConnection> expired = new ArrayList<>();
+        long now = System.nanoTime();
+
+        lock.lock();
+
+        try
+        {
+            Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+
+            while (iterator.hasNext() && totalConnections > minimumSize)
+            {
+                PooledConnection idle = iterator.next();
+
+                if (now - idle.getLastReleasedNanos() > idleTimeoutNanos)
+                {
+                    iterator.remove();
+                    totalConnections--;
+                    expired.add(idle);
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        evictedCount.add(expired.size());
+        expired.forEach(idle -> closePhysical(idle, "idle"));
+        fillToMinimum();
+    }
+
+    /**
+     * Reserves the connections missing up to the minimum size and opens each on its own virtual thread.
+     *
+     * @return a future completed once every reserved connection has been opened or has failed to open
+     */
+    private CompletableFuture<Void> openToMinimumInParallel()
+    {
+        int missing;
+
+        lock.lock();
+
+        try
+        {
+            missing = closed ? 0 : Math.max(0, minimumSize - totalConnections);
+            totalConnections += missing;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        CompletableFuture<?>[] opened = new CompletableFuture<?>[missing];
+
+        for (int index = 0; index < missing; index++)
+        {
+            opened[index] = CompletableFuture.runAsync(this::openReserved,
+                    task -> Thread.ofVirtual().name("connection-pool-warm-up").start(task));
+        }
+
+        return CompletableFuture.allOf(opened);
+    }
+
+    /**
+     * Opens a connection whose place in the pool has already been reserved and adds it to the idle connections.
+     * A failure releases the reservation and is left for the next maintenance run.
+     */
+    private void openReserved()
+    {
+        try
+        {
+            release(open());
+        }
+        catch (SQLException ignored)
+        {
+            // open() has already released the reservation, the maintenance thread will try again.
+        }
+    }
+
+    /**
+     * Opens connections until the pool holds at least its minimum size.
+     * Failures are left for the next maintenance run, as a borrow will surface them anyway.
+     */
+    private void fillToMinimum()
+    {
+        while (true)
+        {
+            lock.lock();
+
+            try
+            {
+                if (closed || totalConnections >= minimumSize)
+                {
+                    return;
+                }
+
+                totalConnections++;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            try
+            {
+                release(open());
+            }
+            catch (SQLException e)
+            {
+                return;
+            }
+        }
+    }
+}
\ No newline at end of file
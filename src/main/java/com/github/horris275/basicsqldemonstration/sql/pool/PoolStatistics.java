@@ -0,0 +1,154 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the counters maintained by a {@link ConnectionPool}.
+ *
+ * <p>The wait-time figures describe how long callers were blocked inside
+ * {@link ConnectionPool#borrow()} before receiving a connection, which includes
+ * time spent validating or establishing a physical connection.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class PoolStatistics
+{
+    private final int activeConnections;
+    private final int idleConnections;
+    private final long borrowCount;
+    private final long createdCount;
+    private final long evictedCount;
+    private final long timeoutCount;
+    private final long totalWaitNanos;
+    private final long maximumWaitNanos;
+
+    /**
+     * Constructs a new {@code PoolStatistics} snapshot.
+     *
+     * @param activeConnections the number of connections currently borrowed
+     * @param idleConnections   the number of connections currently idle within the pool
+     * @param borrowCount       the total number of successful borrows
+     * @param createdCount      the total number of physical connections opened
+     * @param evictedCount      the total number of physical connections closed by the pool
+     * @param timeoutCount      the total number of borrows that timed out
+     * @param totalWaitNanos    the accumulated wait time of all successful borrows in nanoseconds
+     * @param maximumWaitNanos  the longest wait time of a single borrow in nanoseconds
+     */
+    PoolStatistics(int activeConnections, int idleConnections, long borrowCount, long createdCount,
+                   long evictedCount, long timeoutCount, long totalWaitNanos, long maximumWaitNanos)
+    {
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.borrowCount = borrowCount;
+        this.createdCount = createdCount;
+        this.evictedCount = evictedCount;
+        this.timeoutCount = timeoutCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maximumWaitNanos = maximumWaitNanos;
+    }
+
+    /**
+     * Returns the number of connections currently borrowed from the pool.
+     *
+     * @return the number of active connections
+     */
+    public int getActiveConnections()
+    {
+        return activeConnections;
+    }
+
+    /**
+     * Returns the number of connections currently idle within the pool.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdleConnections()
+    {
+        return idleConnections;
+    }
+
+    /**
+     * Returns the total number of successful borrows.
+     *
+     * @return the borrow count
+     */
+    public long getBorrowCount()
+    {
+        return borrowCount;
+    }
+
+    /**
+     * Returns the total number of physical connections opened by the pool.
+     *
+     * @return the number of created connections
+     */
+    public long getCreatedCount()
+    {
+        return createdCount;
+    }
+
+    /**
+     * Returns the total number of physical connections closed by the pool,
+     * whether through idle eviction or failed validation.
+     *
+     * @return the number of evicted connections
+     */
+    public long getEvictedCount()
+    {
+        return evictedCount;
+    }
+
+    /**
+     * Returns the total number of borrows that gave up waiting for a connection.
+     *
+     * @return the number of timed out borrows
+     */
+    public long getTimeoutCount()
+    {
+        return timeoutCount;
+    }
+
+    /**
+     * Returns the average time a successful borrow waited for a connection.
+     *
+     * @return the average wait time, or {@link Duration#ZERO} if nothing has been borrowed
+     */
+    public Duration getAverageWait()
+    {
+        return borrowCount == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / borrowCount);
+    }
+
+    /**
+     * Returns the longest time a single borrow waited for a connection.
+     *
+     * @return the maximum wait time
+     */
+    public Duration getMaximumWait()
+    {
+        return Duration.ofNanos(maximumWaitNanos);
+    }
+
+    /**
+     * Returns the accumulated wait time of all successful borrows.
+     *
+     * @return the total wait time
+     */
+    public Duration getTotalWait()
+    {
+        return Duration.ofNanos(totalWaitNanos);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "PoolStatistics[active=" + activeConnections
+                + ", idle=" + idleConnections
+                + ", borrowed=" + borrowCount
+                + ", created=" + createdCount
+                + ", evicted=" + evictedCount
+                + ", timeouts=" + timeoutCount
+                + ", averageWait=" + getAverageWait()
+                + ", maximumWait=" + getMaximumWait() + "]";
+    }
+}
\ No newline at end of file
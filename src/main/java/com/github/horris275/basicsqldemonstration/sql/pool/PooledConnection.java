@@ -0,0 +1,195 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A physical database connection owned by a {@link ConnectionPool}.
+ *
+ * <p>Callers never see this class directly. Each borrow hands out a fresh {@link Connection}
+ * proxy (a lease) whose {@code close()} method returns the physical connection to the pool
+ * instead of closing it. Once a lease has been closed, every further call on it fails,
+ * preventing a stale reference from using a connection that now belongs to someone else.</p>
+ *
+ * <p>Prepared statements requested through a lease are served from the connection's
+ * {@link StatementCache}, so they outlive the lease and are reused by later borrowers.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class PooledConnection
+{
+    private final ConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final long openedNanos;
+    private volatile long lastReleasedNanos;
+
+    /**
+     * Constructs a new {@code PooledConnection} wrapping a physical connection.
+     *
+     * @param pool           the pool that owns this connection
+     * @param connection     the physical connection to the database
+     * @param statementCache the cache of prepared statements belonging to the physical connection
+     */
+    PooledConnection(ConnectionPool pool, Connection connection, StatementCache statementCache)
+    {
+        this.pool = pool;
+        this.connection = connection;
+        this.statementCache = statementCache;
+        this.openedNanos = System.nanoTime();
+        this.lastReleasedNanos = openedNanos;
+    }
+
+    /**
+     * Creates a new lease on this connection that can be handed to a caller.
+     *
+     * @return a {@link Connection} proxy that returns this connection to the pool once closed
+     */
+    Connection lease()
+    {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new Lease());
+    }
+
+    /**
+     * Returns the underlying physical connection.
+     *
+     * @return the physical connection
+     */
+    Connection getConnection()
+    {
+        return connection;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which this connection was last returned to the pool.
+     *
+     * @return the time of the last release in nanoseconds
+     */
+    long getLastReleasedNanos()
+    {
+        return lastReleasedNanos;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which this connection was opened.
+     *
+     * @return the time the connection was opened in nanoseconds
+     */
+    long getOpenedNanos()
+    {
+        return openedNanos;
+    }
+
+    /**
+     * Restores the connection to its default state so the next borrower
+     * does not inherit an open transaction or changed auto-commit mode.
+     *
+     * @throws SQLException if the connection cannot be reset
+     */
+    void reset() throws SQLException
+    {
+        if (!connection.getAutoCommit())
+        {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+
+        connection.clearWarnings();
+        lastReleasedNanos = System.nanoTime();
+    }
+
+    /**
+     * Closes the physical connection, ignoring any error as the connection is being discarded.
+     */
+    void closeQuietly()
+    {
+        try
+        {
+            connection.close();
+        }
+        catch (SQLException ignored)
+        {
+            // The connection is being thrown away, there is nothing left to clean up.
+        }
+    }
+
+    /**
+     * The invocation handler behind a single lease on this connection.
+     */
+    private final class Lease implements InvocationHandler
+    {
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            switch (method.getName())
+            {
+                case "close":
+                    if (!closed)
+                    {
+                        closed = true;
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + connection + ", closed=" + closed + "]";
+                default:
+                    break;
+            }
+
+            if (closed)
+            {
+                throw new SQLException("The connection has already been returned to the pool");
+            }
+
+            if (isCacheablePrepare(method))
+            {
+                int autoGeneratedKeys = args.length == 2 ? (int) args[1] : Statement.NO_GENERATED_KEYS;
+                return statementCache.prepare((String) args[0], autoGeneratedKeys, (Connection) proxy);
+            }
+
+            try
+            {
+                return method.invoke(connection, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Checks whether a call is {@code prepareStatement(String)} or {@code prepareStatement(String, int)},
+         * the two forms served from the statement cache.
+         *
+         * @param method the method being invoked on the lease
+         * @return       {@code true} if the statement may come from the cache, otherwise {@code false}
+         */
+        private boolean isCacheablePrepare(Method method)
+        {
+            if (!method.getName().equals("prepareStatement"))
+            {
+                return false;
+            }
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+
+            return parameterTypes.length == 1
+                    || (parameterTypes.length == 2 && parameterTypes[1] == int.class);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheCounters;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least-recently-used cache of {@link PreparedStatement}s belonging to a single physical connection.
+ *
+ * <p>Statements are keyed by their SQL text and whether generated keys were requested.
+ * The statement handed to the caller is a proxy: closing it clears its parameters and
+ * returns it to the cache, leaving the prepared statement open on the database so the
+ * next caller with the same SQL skips the prepare round trip. When the cache is full the
+ * least recently used statement is closed for real.</p>
+ *
+ * <p>Instances are only used by the thread currently holding the connection's lease, so the
+ * cache itself is not synchronised. The counters are shared across the whole pool.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class StatementCache
+{
+    private final Connection connection;
+    private final CacheCounters counters;
+    private final Map<StatementKey, CachedStatement> statements;
+
+    /**
+     * Constructs a new {@code StatementCache} for the given physical connection.
+     *
+     * @param connection the physical connection the statements are prepared on
+     * @param capacity   the maximum number of statements kept open
+     * @param counters   the counters to record hits, misses and evictions in
+     */
+    StatementCache(Connection connection, int capacity, CacheCounters counters)
+    {
+        this.connection = connection;
+        this.counters = counters;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest)
+            {
+                if (size() <= capacity)
+                {
+                    return false;
+                }
+
+                counters.recordEviction();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing a cached one where possible.
+     * If the cached statement is still open by an earlier caller, an uncached statement is prepared
+     * instead.
+     *
+     * @param sql               the SQL text to prepare
+     * @param autoGeneratedKeys either {@link Statement#RETURN_GENERATED_KEYS} or
+     *                          {@link Statement#NO_GENERATED_KEYS}
+     * @param proxyConnection   the connection lease to report from {@link Statement#getConnection()}
+     * @return                  a {@link PreparedStatement} that is returned to the cache when closed
+     * @throws SQLException     if the statement cannot be prepared
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection proxyConnection) throws SQLException
+    {
+        StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+        CachedStatement cached = statements.get(key);
+
+        if (cached != null && !cached.inUse)
+        {
+            counters.recordHit();
+            return cached.checkOut(proxyConnection);
+        }
+
+        long start = System.nanoTime();
+        PreparedStatement statement = connection.prepareStatement(sql, autoGeneratedKeys);
+        counters.recordMiss(System.nanoTime() - start);
+
+        if (cached != null)
+        {
+            return statement;
+        }
+
+        cached = new CachedStatement(statement);
+        statements.put(key, cached);
+        return cached.checkOut(proxyConnection);
+    }
+
+    /**
+     * The cache key of a statement: its SQL text and generated-keys mode.
+     *
+     * @param sql               the SQL text
+     * @param autoGeneratedKeys the generated-keys mode
+     */
+    private record StatementKey(String sql, int autoGeneratedKeys) {}
+
+    /**
+     * A cached statement together with whether it is currently checked out.
+     */
+    private static final class CachedStatement
+    {
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        /**
+         * Constructs a new {@code CachedStatement}.
+         *
+         * @param statement the physical prepared statement
+         */
+        private CachedStatement(PreparedStatement statement)
+        {
+            this.statement = statement;
+        }
+
+        /**
+         * Marks the statement as in use and wraps it in a proxy for the caller.
+         *
+         * @param proxyConnection the connection lease the statement belongs to
+         * @return                the statement proxy
+         */
+        private PreparedStatement checkOut(Connection proxyConnection)
+        {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, new Handle(proxyConnection));
+        }
+
+        /**
+         * Removes the statement from the cache, closing it now or once its current user is done.
+         */
+        private void evict()
+        {
+            evicted = true;
+
+            if (!inUse)
+            {
+                closeQuietly();
+            }
+        }
+
+        /**
+         * Closes the physical statement, ignoring any error as it is being discarded.
+         */
+        private void closeQuietly()
+        {
+            try
+            {
+                statement.close();
+            }
+            catch (SQLException ignored)
+            {
+                // The statement is being thrown away, there is nothing left to clean up.
+            }
+        }
+
+        /**
+         * The invocation handler behind a single checkout of the cached statement.
+         */
+        private final class Handle implements InvocationHandler
+        {
+            private final Connection proxyConnection;
+            private boolean closed;
+            private boolean fetchSizeChanged;
+
+            private Handle(Connection proxyConnection)
+            {
+                this.proxyConnection = proxyConnection;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+            {
+                switch (method.getName())
+                {
+                    case "close":
+                        checkIn();
+                        return null;
+                    case "isClosed":
+                        return closed || statement.isClosed();
+                    case "getConnection":
+                        return proxyConnection;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "CachedStatement[" + statement + ", closed=" + closed + "]";
+                    case "setFetchSize":
+                        fetchSizeChanged = true;
+                        break;
+                    default:
+                        break;
+                }
+
+                if (closed)
+                {
+                    throw new SQLException("The statement has already been closed");
+                }
+
+                try
+                {
+                    return method.invoke(statement, args);
+                }
+                catch (InvocationTargetException e)
+                {
+                    throw e.getCause();
+                }
+            }
+
+            /**
+             * Returns the statement to the cache, resetting any state the caller may have changed.
+             *
+             * @throws SQLException if the statement cannot be reset
+             */
+            private void checkIn() throws SQLException
+            {
+                if (closed)
+                {
+                    return;
+                }
+
+                closed = true;
+                inUse = false;
+
+                if (evicted)
+                {
+                    closeQuietly();
+                    return;
+                }
+
+                statement.clearParameters();
+                statement.clearBatch();
+
+                if (fetchSizeChanged)
+                {
+                    statement.setFetchSize(0);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
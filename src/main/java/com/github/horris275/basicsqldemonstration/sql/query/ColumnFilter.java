@@ -0,0 +1,75 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+/**
+ * A condition on a single column of the table, such as {@code title contains "java"}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ColumnFilter
+{
+    private final String columnName;
+    private final FilterOperator operator;
+    private final Object value;
+
+    /**
+     * Constructs a new {@code ColumnFilter}.
+     *
+     * @param columnName the name of the column, compared case-insensitively with the table's columns
+     * @param operator   the comparison to make
+     * @param value      the value to compare with, or {@code null} if the operator takes no value
+     * @throws IllegalArgumentException if the operator takes a value and none is given, or the other way round
+     */
+    public ColumnFilter(String columnName, FilterOperator operator, Object value)
+    {
+        if (operator.takesValue() && value == null)
+        {
+            throw new IllegalArgumentException("The operator '" + operator.getDisplayName() + "' requires a value");
+        }
+
+        if (!operator.takesValue() && value != null)
+        {
+            throw new IllegalArgumentException("The operator '" + operator.getDisplayName() + "' does not take a value");
+        }
+
+        this.columnName = columnName;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * Returns the name of the column the condition applies to.
+     *
+     * @return the column name
+     */
+    public String getColumnName()
+    {
+        return columnName;
+    }
+
+    /**
+     * Returns the comparison made.
+     *
+     * @return the operator
+     */
+    public FilterOperator getOperator()
+    {
+        return operator;
+    }
+
+    /**
+     * Returns the value the column is compared with.
+     *
+     * @return the value, or {@code null} if the operator takes no value
+     */
+    public Object getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return columnName + " " + operator.getDisplayName() + (value != null ? " '" + value + "'" : "");
+    }
+}
\ No newline at end of file
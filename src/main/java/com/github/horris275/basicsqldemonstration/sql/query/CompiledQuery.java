@@ -0,0 +1,86 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+import java.util.List;
+
+/**
+ * A {@link RowQuery} turned into SQL by {@link QueryCompiler}: the columns to select, the clauses following
+ * {@code FROM <table>} and the values bound to their placeholders, in order.
+ *
+ * <p>The SQL text only depends on the shape of the query, never on its values, so queries that differ
+ * only in their values share the statement already prepared for them on each pooled connection.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class CompiledQuery
+{
+    private final List<String> columns;
+    private final String clauses;
+    private final List<Object> parameters;
+    private final boolean reversed;
+
+    /**
+     * Constructs a new {@code CompiledQuery}.
+     *
+     * @param columns    the columns of the row schema to select besides the key column, in row schema order
+     * @param clauses    the {@code WHERE}, {@code ORDER BY} and {@code LIMIT} clauses
+     * @param parameters the values of the placeholders in order
+     * @param reversed   whether the rows are read in the opposite order to the query's and must be reversed
+     */
+    CompiledQuery(List<String> columns, String clauses, List<Object> parameters, boolean reversed)
+    {
+        this.columns = List.copyOf(columns);
+        this.clauses = clauses;
+        this.parameters = List.copyOf(parameters);
+        this.reversed = reversed;
+    }
+
+    /**
+     * Returns the columns to select besides the key column, as passed to
+     * {@link com.github.horris275.basicsqldemonstration.sql.schema.TableSchema#getSelectList(List)}.
+     * Every column of the row schema is returned unless the query has a projection.
+     *
+     * @return the unmodifiable list of column names in row schema order
+     */
+    public List<String> getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Returns the clauses to append to {@code SELECT <columns> FROM <table>}.
+     *
+     * @return the SQL text of the clauses
+     */
+    public String getClauses()
+    {
+        return clauses;
+    }
+
+    /**
+     * Returns the values of the placeholders in the clauses, in order. None of them is {@code null}.
+     *
+     * @return the unmodifiable list of parameters
+     */
+    public List<Object> getParameters()
+    {
+        return parameters;
+    }
+
+    /**
+     * Returns whether the rows are read in the opposite order to the query's, which is how the rows
+     * preceding a row are read. The rows read must then be reversed before they are returned.
+     *
+     * @return {@code true} if the rows must be reversed, otherwise {@code false}
+     */
+    public boolean isReversed()
+    {
+        return reversed;
+    }
+
+    @Override
+    public String toString()
+    {
+        return columns + " " + clauses + " " + parameters;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+/**
+ * The comparisons a {@link ColumnFilter} can make between a column and a value.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public enum FilterOperator
+{
+    /**
+     * The column equals the value.
+     */
+    EQUALS("equals", true),
+
+    /**
+     * The column does not equal the value. Rows whose column is {@code null} do not match.
+     */
+    NOT_EQUALS("does not equal", true),
+
+    /**
+     * The column is less than the value.
+     */
+    LESS_THAN("is less than", true),
+
+    /**
+     * The column is less than or equal to the value.
+     */
+    LESS_THAN_OR_EQUAL("is at most", true),
+
+    /**
+     * The column is greater than the value.
+     */
+    GREATER_THAN("is greater than", true),
+
+    /**
+     * The column is greater than or equal to the value.
+     */
+    GREATER_THAN_OR_EQUAL("is at least", true),
+
+    /**
+     * The text of the column contains the value.
+     */
+    CONTAINS("contains", true),
+
+    /**
+     * The text of the column starts with the value.
+     */
+    STARTS_WITH("starts with", true),
+
+    /**
+     * The text of the column ends with the value.
+     */
+    ENDS_WITH("ends with", true),
+
+    /**
+     * The column equals one of the values, given as a {@link java.util.Collection} or as comma-separated text.
+     * An empty collection matches no rows.
+     */
+    IN("is one of", true),
+
+    /**
+     * The column is {@code null}. This operator takes no value.
+     */
+    IS_NULL("is empty", false),
+
+    /**
+     * The column is not {@code null}. This operator takes no value.
+     */
+    IS_NOT_NULL("is not empty", false);
+
+    private final String displayName;
+    private final boolean takesValue;
+
+    /**
+     * Constructs a new {@code FilterOperator}.
+     *
+     * @param displayName the name of the operator shown to the user
+     * @param takesValue  whether the operator compares the column with a value
+     */
+    FilterOperator(String displayName, boolean takesValue)
+    {
+        this.displayName = displayName;
+        this.takesValue = takesValue;
+    }
+
+    /**
+     * Returns the name of the operator shown to the user.
+     *
+     * @return the display name
+     */
+    public String getDisplayName()
+    {
+        return displayName;
+    }
+
+    /**
+     * Returns whether the operator compares the column with a value.
+     *
+     * @return {@code true} if a value is required, otherwise {@code false}
+     */
+    public boolean takesValue()
+    {
+        return takesValue;
+    }
+
+    /**
+     * Returns whether the operator matches a pattern within the text of the column rather than comparing it whole.
+     *
+     * @return {@code true} for {@link #CONTAINS}, {@link #STARTS_WITH} and {@link #ENDS_WITH}, otherwise {@code false}
+     */
+    public boolean matchesText()
+    {
+        return this == CONTAINS || this == STARTS_WITH || this == ENDS_WITH;
+    }
+}
\ No newline at end of file
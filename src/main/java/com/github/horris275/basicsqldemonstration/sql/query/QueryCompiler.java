@@ -0,0 +1,356 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.QueryTemplates;
+import com.github.horris275.basicsqldemonstration.sql.schema.ColumnDefinition;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns a {@link RowQuery} into parameterised SQL for a given table.
+ *
+ * <p>Every column named by the query is looked up in the {@link TableSchema}, and only the names found
+ * there are written into the SQL, so a query can never inject anything into the statement. Values are
+ * always bound to placeholders. Text compared with a numeric or boolean column is converted to the
+ * column's type first, so that a typing mistake is reported instead of being compared as {@code 0}.</p>
+ *
+ * <p>A query with a projection selects the key column, the columns asked for and the sort column, which
+ * is needed to continue from a row read by the query. Any other query selects every column.</p>
+ *
+ * <p>The rows following or preceding a row are selected by comparing the sort column and the key column
+ * with the row's values, which the database answers by seeking in an index on the sort column where there
+ * is one. {@code null} values of the sort column are placed as MariaDB sorts them: first in ascending
+ * order and last in descending order.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class QueryCompiler
+{
+    /**
+     * Compiles a query for the given table.
+     *
+     * @param query       the query to compile
+     * @param tableSchema the schema of the table the query runs against
+     * @return            the {@link CompiledQuery} holding the SQL clauses and their parameters
+     * @throws IllegalArgumentException if a column does not exist or a value does not suit its column
+     */
+    public static CompiledQuery compile(RowQuery query, TableSchema tableSchema)
+    {
+        String keyColumn = tableSchema.getKeyColumn();
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+
+        for (ColumnFilter filter : query.getFilters())
+        {
+            ColumnDefinition column = resolveColumn(tableSchema, filter.getColumnName());
+            conditions.add(toCondition(column, filter, parameters));
+        }
+
+        String sortColumn = query.getSortColumn()
+                .map(columnName -> resolveColumn(tableSchema, columnName).getName())
+                .filter(columnName -> !columnName.equalsIgnoreCase(keyColumn))
+                .orElse(null);
+        boolean reversed = query.getBeforeRow().isPresent();
+        boolean descending = query.isDescending() != reversed;
+        DatabaseRow position = query.getAfterRow().orElseGet(() -> query.getBeforeRow().orElse(null));
+
+        if (position != null)
+        {
+            conditions.add(toPositionCondition(keyColumn, sortColumn, descending, position, parameters));
+        }
+
+        StringBuilder clauses = new StringBuilder();
+        String direction = descending ? " DESC" : " ASC";
+
+        if (!conditions.isEmpty())
+        {
+            clauses.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+
+        clauses.append("ORDER BY ");
+
+        if (sortColumn != null)
+        {
+            clauses.append(sortColumn).append(direction).append(", ");
+        }
+
+        clauses.append(keyColumn).append(direction);
+
+        if (query.getLimit().isPresent())
+        {
+            clauses.append(" LIMIT ?");
+            parameters.add(query.getLimit().getAsInt());
+        }
+        else if (query.getOffset() > 0)
+        {
+            clauses.append(" LIMIT ?");
+            parameters.add(Long.MAX_VALUE);
+        }
+
+        if (query.getOffset() > 0)
+        {
+            clauses.append(" OFFSET ?");
+            parameters.add(query.getOffset());
+        }
+
+        return new CompiledQuery(toColumns(query, tableSchema, sortColumn), clauses.toString(), parameters, reversed);
+    }
+
+    /**
+     * Resolves the columns selected by a query besides the key column.
+     *
+     * @param query       the query
+     * @param tableSchema the schema of the table
+     * @param sortColumn  the resolved sort column, or {@code null} if the rows are sorted by key only
+     * @return            the names of the selected columns in row schema order
+     * @throws IllegalArgumentException if a column of the projection does not exist
+     */
+    private static List<String> toColumns(RowQuery query, TableSchema tableSchema, String sortColumn)
+    {
+        List<String> rowColumns = tableSchema.getRowSchema().getColumnNames();
+
+        if (!query.isProjected())
+        {
+            return rowColumns;
+        }
+
+        Set<String> selected = new HashSet<>();
+
+        for (String columnName : query.getColumns())
+        {
+            selected.add(resolveColumn(tableSchema, columnName).getName());
+        }
+
+        if (sortColumn != null)
+        {
+            selected.add(sortColumn);
+        }
+
+        return rowColumns.stream().filter(selected::contains).toList();
+    }
+
+    /**
+     * Looks up a column of the table by name.
+     *
+     * @param tableSchema the schema of the table
+     * @param columnName  the name of the column, compared case-insensitively
+     * @return            the definition of the column
+     * @throws IllegalArgumentException if the table has no such column
+     */
+    private static ColumnDefinition resolveColumn(TableSchema tableSchema, String columnName)
+    {
+        return tableSchema.getColumn(columnName).orElseThrow(() -> new IllegalArgumentException(
+                "The table " + tableSchema.getTable() + " has no column named " + columnName));
+    }
+
+    /**
+     * Writes the SQL condition of a filter, adding its value to the parameters.
+     *
+     * @param column     the column the filter applies to
+     * @param filter     the filter
+     * @param parameters the parameters of the statement
+     * @return           the SQL condition
+     */
+    private static String toCondition(ColumnDefinition column, ColumnFilter filter, List<Object> parameters)
+    {
+        String name = column.getName();
+        FilterOperator operator = filter.getOperator();
+
+        if (operator.matchesText())
+        {
+            String pattern = escapeLikePattern(String.valueOf(filter.getValue()));
+
+            parameters.add(switch (operator)
+            {
+                case STARTS_WITH -> pattern + "%";
+                case ENDS_WITH -> "%" + pattern;
+                default -> "%" + pattern + "%";
+            });
+
+            return name + " LIKE ?";
+        }
+
+        if (!operator.takesValue())
+        {
+            return name + (operator == FilterOperator.IS_NULL ? " IS NULL" : " IS NOT NULL");
+        }
+
+        if (operator == FilterOperator.IN)
+        {
+            return toInCondition(column, filter.getValue(), parameters);
+        }
+
+        parameters.add(toParameter(column, filter.getValue()));
+
+        return name + switch (operator)
+        {
+            case NOT_EQUALS -> " <> ?";
+            case LESS_THAN -> " < ?";
+            case LESS_THAN_OR_EQUAL -> " <= ?";
+            case GREATER_THAN -> " > ?";
+            case GREATER_THAN_OR_EQUAL -> " >= ?";
+            default -> " = ?";
+        };
+    }
+
+    /**
+     * Writes the {@code IN} condition of a filter, adding each of its values to the parameters.
+     *
+     * @param column     the column the filter applies to
+     * @param value      the values, as a {@link Collection} or as comma-separated text
+     * @param parameters the parameters of the statement
+     * @return           the SQL condition, or {@code FALSE} if there are no values
+     */
+    private static String toInCondition(ColumnDefinition column, Object value, List<Object> parameters)
+    {
+        Collection<?> values = value instanceof Collection<?> collection
+                ? collection
+                : Arrays.asList(value.toString().split(","));
+
+        if (values.isEmpty())
+        {
+            return "FALSE";
+        }
+
+        for (Object element : values)
+        {
+            parameters.add(toParameter(column, element));
+        }
+
+        return column.getName() + " IN (" + QueryTemplates.toQueryPlaceholders(values.size()) + ")";
+    }
+
+    /**
+     * Writes the condition selecting the rows that come after a row in the order being read,
+     * adding the row's values to the parameters.
+     *
+     * @param keyColumn  the name of the key column
+     * @param sortColumn the name of the sort column, or {@code null} if the rows are sorted by key only
+     * @param descending whether the rows are read in descending order
+     * @param position   the row after which the rows are read
+     * @param parameters the parameters of the statement
+     * @return           the SQL condition
+     */
+    private static String toPositionCondition(String keyColumn, String sortColumn, boolean descending,
+                                              DatabaseRow position, List<Object> parameters)
+    {
+        String keyComparison = keyColumn + (descending ? " < ?" : " > ?");
+
+        if (sortColumn == null)
+        {
+            parameters.add(position.getUniqueId());
+            return keyComparison;
+        }
+
+        Object value = position.getColumn(sortColumn);
+
+        if (value == null)
+        {
+            parameters.add(position.getUniqueId());
+
+            return descending
+                    ? "(" + sortColumn + " IS NULL AND " + keyComparison + ")"
+                    : "(" + sortColumn + " IS NOT NULL OR " + keyComparison + ")";
+        }
+
+        parameters.add(value);
+        parameters.add(value);
+        parameters.add(position.getUniqueId());
+
+        return descending
+                ? "(" + sortColumn + " < ? OR " + sortColumn + " IS NULL OR (" + sortColumn + " = ? AND " + keyComparison + "))"
+                : "(" + sortColumn + " > ? OR (" + sortColumn + " = ? AND " + keyComparison + "))";
+    }
+
+    /**
+     * Converts a value to the type of the column it is compared with. Values that are not text are left unchanged,
+     * as is text compared with a column that is not numeric or boolean.
+     *
+     * @param column the column the value is compared with
+     * @param value  the value
+     * @return       the converted value
+     * @throws IllegalArgumentException if the text cannot be converted to the type of the column
+     */
+    private static Object toParameter(ColumnDefinition column, Object value)
+    {
+        if (!(value instanceof String text))
+        {
+            return value;
+        }
+
+        String trimmed = text.strip();
+
+        try
+        {
+            return switch (column.getJdbcType())
+            {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> Long.parseLong(trimmed);
+                case Types.DECIMAL, Types.NUMERIC -> new BigDecimal(trimmed);
+                case Types.REAL, Types.FLOAT, Types.DOUBLE -> Double.parseDouble(trimmed);
+                case Types.BIT, Types.BOOLEAN -> parseBoolean(trimmed);
+                default -> text;
+            };
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("'" + text + "' is not a valid value for the column "
+                    + column.getName() + " of type " + column.getTypeName(), e);
+        }
+    }
+
+    /**
+     * Parses a boolean written as {@code true}, {@code false}, {@code 1} or {@code 0}.
+     *
+     * @param text the text to parse
+     * @return     the boolean value
+     * @throws NumberFormatException if the text is not a boolean
+     */
+    private static boolean parseBoolean(String text)
+    {
+        return switch (text.toLowerCase())
+        {
+            case "true", "1" -> true;
+            case "false", "0" -> false;
+            default -> throw new NumberFormatException("Not a boolean: " + text);
+        };
+    }
+
+    /**
+     * Escapes the wildcards of a {@code LIKE} pattern, so the text is matched literally.
+     *
+     * @param text the text to match
+     * @return     the text with {@code \}, {@code %} and {@code _} escaped by a backslash
+     */
+    private static String escapeLikePattern(String text)
+    {
+        StringBuilder pattern = new StringBuilder(text.length() + 8);
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            if (character == '\\' || character == '%' || character == '_')
+            {
+                pattern.append('\\');
+            }
+
+            pattern.append(character);
+        }
+
+        return pattern.toString();
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private QueryCompiler() {}
+}
\ No newline at end of file
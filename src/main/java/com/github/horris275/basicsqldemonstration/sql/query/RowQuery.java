@@ -0,0 +1,422 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * A typed description of the rows to read from the table: which rows match, in what order, and which slice of them.
+ *
+ * <p>A query is built with {@link #builder()} and handed to
+ * {@link com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService#fetchMatching(RowQuery)},
+ * which turns it into a single parameterised statement using {@link QueryCompiler}, so the filtering,
+ * sorting and limiting all happen in the database and only the matching rows are sent back. Column names
+ * are only checked against the {@link TableSchema} when the query is compiled; {@link #validate(TableSchema)}
+ * does the same check up front.</p>
+ *
+ * <p>The conditions are combined with {@code AND}. Rows are ordered by the sort column, if there is one,
+ * and then by the key column, so the order is always fully defined. A page following or preceding a row
+ * that has already been read can be requested with {@link Builder#after(DatabaseRow)} and
+ * {@link Builder#before(DatabaseRow)}, which continue from the row's position in that order rather than
+ * skipping an offset, so a page deep into the results costs as little to read as the first one.</p>
+ *
+ * <p>A projection set with {@link Builder#select(List)} reads only some columns. The rows returned still have
+ * every column of the table, but those not selected are not loaded until
+ * {@link DatabaseRow#hydrate(DatabaseRow)} fills them in, so wide columns need not be read for rows
+ * that never show them.</p>
+ *
+ * <p>Queries are immutable; {@link #toBuilder()} starts a new query from an existing one.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class RowQuery
+{
+    private final List<ColumnFilter> filters;
+    private final List<String> columns;
+    private final String sortColumn;
+    private final boolean descending;
+    private final int limit;
+    private final int offset;
+    private final DatabaseRow afterRow;
+    private final DatabaseRow beforeRow;
+
+    /**
+     * Constructs a new {@code RowQuery} from the state of a builder.
+     *
+     * @param builder the builder holding the query
+     */
+    private RowQuery(Builder builder)
+    {
+        this.filters = List.copyOf(builder.filters);
+        this.columns = List.copyOf(builder.columns);
+        this.sortColumn = builder.sortColumn;
+        this.descending = builder.descending;
+        this.limit = builder.limit;
+        this.offset = builder.offset;
+        this.afterRow = builder.afterRow;
+        this.beforeRow = builder.beforeRow;
+    }
+
+    /**
+     * Starts building a query that matches every row, in key order.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Starts building a query holding the same conditions, projection, order, limit, offset and position as this one.
+     *
+     * @return a new {@link Builder} initialised from this query
+     */
+    public Builder toBuilder()
+    {
+        Builder builder = new Builder();
+        builder.filters.addAll(filters);
+        builder.columns.addAll(columns);
+        builder.sortColumn = sortColumn;
+        builder.descending = descending;
+        builder.limit = limit;
+        builder.offset = offset;
+        builder.afterRow = afterRow;
+        builder.beforeRow = beforeRow;
+        return builder;
+    }
+
+    /**
+     * Checks that every column named by the query exists in the table and that every value can be
+     * compared with its column, exactly as {@link QueryCompiler#compile(RowQuery, TableSchema)} would.
+     *
+     * @param tableSchema the schema of the table the query will run against
+     * @throws IllegalArgumentException if a column does not exist or a value does not suit its column
+     */
+    public void validate(TableSchema tableSchema)
+    {
+        QueryCompiler.compile(this, tableSchema);
+    }
+
+    /**
+     * Returns the conditions every matching row satisfies.
+     *
+     * @return the unmodifiable list of conditions, empty if every row matches
+     */
+    public List<ColumnFilter> getFilters()
+    {
+        return filters;
+    }
+
+    /**
+     * Returns the columns read besides the key column and the sort column.
+     *
+     * @return the unmodifiable list of column names, empty if every column is read
+     */
+    public List<String> getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Returns the column the rows are sorted by before the key column.
+     *
+     * @return an {@code Optional} containing the sort column, or empty if the rows are sorted by key only
+     */
+    public Optional<String> getSortColumn()
+    {
+        return Optional.ofNullable(sortColumn);
+    }
+
+    /**
+     * Returns whether the rows are sorted in descending order.
+     *
+     * @return {@code true} if the rows are sorted in descending order, otherwise {@code false}
+     */
+    public boolean isDescending()
+    {
+        return descending;
+    }
+
+    /**
+     * Returns the maximum number of rows read.
+     *
+     * @return an {@code OptionalInt} containing the limit, or empty if every matching row is read
+     */
+    public OptionalInt getLimit()
+    {
+        return limit > 0 ? OptionalInt.of(limit) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the number of matching rows skipped before the first row read.
+     *
+     * @return the offset, {@code 0} if no rows are skipped
+     */
+    public int getOffset()
+    {
+        return offset;
+    }
+
+    /**
+     * Returns the row after which the results start.
+     *
+     * @return an {@code Optional} containing the row, or empty if the results are not read after a row
+     */
+    public Optional<DatabaseRow> getAfterRow()
+    {
+        return Optional.ofNullable(afterRow);
+    }
+
+    /**
+     * Returns the row before which the results end.
+     *
+     * @return an {@code Optional} containing the row, or empty if the results are not read before a row
+     */
+    public Optional<DatabaseRow> getBeforeRow()
+    {
+        return Optional.ofNullable(beforeRow);
+    }
+
+    /**
+     * Returns whether the query has any conditions.
+     *
+     * @return {@code true} if only some rows match, otherwise {@code false}
+     */
+    public boolean isFiltered()
+    {
+        return !filters.isEmpty();
+    }
+
+    /**
+     * Returns whether the query reads only some columns.
+     *
+     * @return {@code true} if the query has a projection, otherwise {@code false}
+     */
+    public boolean isProjected()
+    {
+        return !columns.isEmpty();
+    }
+
+    /**
+     * Returns whether the query sorts the rows by anything other than the key column in ascending order.
+     *
+     * @return {@code true} if the rows are sorted by a column or in descending order, otherwise {@code false}
+     */
+    public boolean isSorted()
+    {
+        return sortColumn != null || descending;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RowQuery[filters=" + filters + (isProjected() ? ", columns=" + columns : "")
+                + ", sort=" + (sortColumn != null ? sortColumn : "key")
+                + (descending ? " descending" : "") + ", limit=" + limit + ", offset=" + offset + "]";
+    }
+
+    /**
+     * Builds a {@link RowQuery}.
+     */
+    public static final class Builder
+    {
+        private final List<ColumnFilter> filters = new ArrayList<>();
+        private final List<String> columns = new ArrayList<>();
+        private String sortColumn;
+        private boolean descending;
+        private int limit;
+        private int offset;
+        private DatabaseRow afterRow;
+        private DatabaseRow beforeRow;
+
+        /**
+         * Constructs a new {@code Builder} for a query matching every row.
+         */
+        private Builder()
+        {
+        }
+
+        /**
+         * Adds a condition comparing a column with a value.
+         *
+         * @param columnName the name of the column
+         * @param operator   the comparison to make
+         * @param value      the value to compare with; text is converted to the type of the column when compiled
+         * @return           this builder
+         * @throws IllegalArgumentException if the operator takes no value or the value is {@code null}
+         */
+        public Builder where(String columnName, FilterOperator operator, Object value)
+        {
+            return where(new ColumnFilter(columnName, operator, value));
+        }
+
+        /**
+         * Adds a condition on a column that takes no value, such as {@link FilterOperator#IS_NULL}.
+         *
+         * @param columnName the name of the column
+         * @param operator   the comparison to make
+         * @return           this builder
+         * @throws IllegalArgumentException if the operator takes a value
+         */
+        public Builder where(String columnName, FilterOperator operator)
+        {
+            return where(new ColumnFilter(columnName, operator, null));
+        }
+
+        /**
+         * Adds a condition.
+         *
+         * @param filter the condition every matching row must satisfy
+         * @return       this builder
+         */
+        public Builder where(ColumnFilter filter)
+        {
+            filters.add(filter);
+            return this;
+        }
+
+        /**
+         * Removes every condition, so that every row matches.
+         *
+         * @return this builder
+         */
+        public Builder clearFilters()
+        {
+            filters.clear();
+            return this;
+        }
+
+        /**
+         * Reads only the given columns, replacing any earlier projection. The key column and the sort column
+         * are always read; the other columns of the returned rows are not loaded.
+         *
+         * @param columnNames the names of the columns to read, or an empty list to read every column
+         * @return            this builder
+         */
+        public Builder select(List<String> columnNames)
+        {
+            columns.clear();
+            columns.addAll(columnNames);
+            return this;
+        }
+
+        /**
+         * Reads only the given columns, replacing any earlier projection.
+         *
+         * @param columnNames the names of the columns to read
+         * @return            this builder
+         * @see #select(List)
+         */
+        public Builder select(String... columnNames)
+        {
+            return select(List.of(columnNames));
+        }
+
+        /**
+         * Sorts the rows by a column in ascending order, then by key.
+         * Rows whose column is {@code null} come first.
+         *
+         * @param columnName the name of the column, or {@code null} to sort by key only
+         * @return           this builder
+         */
+        public Builder orderBy(String columnName)
+        {
+            return orderBy(columnName, false);
+        }
+
+        /**
+         * Sorts the rows by a column, then by key in the same direction.
+         * Rows whose column is {@code null} come first in ascending order and last in descending order.
+         *
+         * @param columnName the name of the column, or {@code null} to sort by key only
+         * @param descending whether to sort in descending order
+         * @return           this builder
+         */
+        public Builder orderBy(String columnName, boolean descending)
+        {
+            this.sortColumn = columnName;
+            this.descending = descending;
+            return this;
+        }
+
+        /**
+         * Reads at most the given number of rows.
+         *
+         * @param limit the maximum number of rows, or {@code 0} to read every matching row
+         * @return      this builder
+         * @throws IllegalArgumentException if the limit is negative
+         */
+        public Builder limit(int limit)
+        {
+            if (limit < 0)
+            {
+                throw new IllegalArgumentException("The limit cannot be negative: " + limit);
+            }
+
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Skips the given number of matching rows. The database still reads the skipped rows, so
+         * {@link #after(DatabaseRow)} should be preferred for paging through the results.
+         *
+         * @param offset the number of rows to skip
+         * @return       this builder
+         * @throws IllegalArgumentException if the offset is negative
+         */
+        public Builder offset(int offset)
+        {
+            if (offset < 0)
+            {
+                throw new IllegalArgumentException("The offset cannot be negative: " + offset);
+            }
+
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * Starts the results after a row read by a query with the same order, replacing any earlier position.
+         *
+         * @param row the row after which the results start, or {@code null} to start from the beginning
+         * @return    this builder
+         */
+        public Builder after(DatabaseRow row)
+        {
+            this.afterRow = row;
+            this.beforeRow = null;
+            return this;
+        }
+
+        /**
+         * Ends the results before a row read by a query with the same order, replacing any earlier position.
+         * Combined with a limit, this reads the rows immediately preceding the row, still returned in the query's order.
+         *
+         * @param row the row before which the results end, or {@code null} to end at the end
+         * @return    this builder
+         */
+        public Builder before(DatabaseRow row)
+        {
+            this.beforeRow = row;
+            this.afterRow = null;
+            return this;
+        }
+
+        /**
+         * Builds the query.
+         *
+         * @return the immutable {@link RowQuery}
+         */
+        public RowQuery build()
+        {
+            return new RowQuery(this);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.github.horris275.basicsqldemonstration.sql.schema;
+
+import java.sql.JDBCType;
+import java.sql.Types;
+
+/**
+ * The definition of a single column of a database table.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ColumnDefinition
+{
+    private final String name;
+    private final int jdbcType;
+    private final String typeName;
+    private final int length;
+    private final boolean nullable;
+
+    /**
+     * Constructs a new {@code ColumnDefinition}.
+     *
+     * @param name     the name of the column
+     * @param jdbcType the JDBC type of the column, as defined in {@link java.sql.Types}
+     * @param typeName the database-specific type name (e.g. "VARCHAR")
+     * @param length   the maximum length for character columns, or the precision for numeric columns
+     * @param nullable whether the column accepts {@code null} values
+     */
+    public ColumnDefinition(String name, int jdbcType, String typeName, int length, boolean nullable)
+    {
+        this.name = name;
+        this.jdbcType = jdbcType;
+        this.typeName = typeName;
+        this.length = length;
+        this.nullable = nullable;
+    }
+
+    /**
+     * Returns the name of the column.
+     *
+     * @return the column name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Returns the JDBC type of the column, as defined in {@link java.sql.Types}.
+     *
+     * @return the JDBC type
+     */
+    public int getJdbcType()
+    {
+        return jdbcType;
+    }
+
+    /**
+     * Returns the database-specific type name of the column.
+     *
+     * @return the type name
+     */
+    public String getTypeName()
+    {
+        return typeName;
+    }
+
+    /**
+     * Returns the maximum length of character columns, or the precision of numeric columns.
+     *
+     * @return the column length
+     */
+    public int getLength()
+    {
+        return length;
+    }
+
+    /**
+     * Returns whether the column accepts {@code null} values.
+     *
+     * @return {@code true} if the column is nullable, otherwise {@code false}
+     */
+    public boolean isNullable()
+    {
+        return nullable;
+    }
+
+    /**
+     * Returns whether the column holds character data, such as a {@code VARCHAR} or {@code TEXT} column.
+     *
+     * @return {@code true} if the column is a character column, otherwise {@code false}
+     */
+    public boolean isText()
+    {
+        return switch (jdbcType)
+        {
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR,
+                 Types.CLOB, Types.NCLOB -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public String toString()
+    {
+        String type;
+
+        try
+        {
+            type = JDBCType.valueOf(jdbcType).getName();
+        }
+        catch (IllegalArgumentException e)
+        {
+            type = typeName;
+        }
+
+        return name + " " + type + "(" + length + ")" + (nullable ? "" : " NOT NULL");
+    }
+}
\ No newline at end of file
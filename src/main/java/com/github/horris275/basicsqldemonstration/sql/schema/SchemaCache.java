@@ -0,0 +1,70 @@
+package com.github.horris275.basicsqldemonstration.sql.schema;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of resolved {@link TableSchema}s keyed by table name.
+ *
+ * <p>A schema is read from the database the first time its table is used and kept until
+ * it is explicitly invalidated, for example after the table has been altered.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class SchemaCache
+{
+    private final Map<String, TableSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the schema of the given table, reading it with the given connection if it is not cached.
+     *
+     * @param connection    a connection to the database containing the table
+     * @param table         the name of the table
+     * @return              the cached or newly resolved schema
+     * @throws SQLException if the schema cannot be read
+     */
+    public TableSchema get(Connection connection, String table) throws SQLException
+    {
+        TableSchema schema = schemas.get(table);
+
+        if (schema == null)
+        {
+            schema = TableSchema.load(connection, table);
+            schemas.put(table, schema);
+        }
+
+        return schema;
+    }
+
+    /**
+     * Returns the cached schema of the given table without reading it from the database.
+     *
+     * @param table the name of the table
+     * @return      the cached schema, or {@code null} if it has not been resolved
+     */
+    public TableSchema getIfPresent(String table)
+    {
+        return schemas.get(table);
+    }
+
+    /**
+     * Discards the cached schema of the given table so that it is read again on next use.
+     *
+     * @param table the name of the table
+     */
+    public void invalidate(String table)
+    {
+        schemas.remove(table);
+    }
+
+    /**
+     * Discards every cached schema.
+     */
+    public void invalidateAll()
+    {
+        schemas.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+package com.github.horris275.basicsqldemonstration.sql.schema;
+
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The resolved structure of a database table: its columns, their types and its key column.
+ *
+ * <p>A {@code TableSchema} is read once from the database metadata, which MariaDB serves
+ * from {@code INFORMATION_SCHEMA}, and then shared by every read of the table. Queries select
+ * the key column followed by the remaining columns in table order, as given by
+ * {@link #getSelectList()}, so rows can be decoded by column index alone into the shared
+ * {@link #getRowSchema()}.</p>
+ *
+ * <p>The schema also records whether the table has a {@code <table>_deleted} tombstone table,
+ * which is needed to read the rows deleted since a point in time. The tombstone table holds the
+ * key of each deleted row in a column named like {@link #getKeyColumn()}, and a {@code deleted_at}
+ * timestamp.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class TableSchema
+{
+    /**
+     * The suffix of the name of the table recording the identifiers of the rows deleted from a table.
+     */
+    public static final String TOMBSTONE_SUFFIX = "_deleted";
+
+    private static final String DEFAULT_KEY_COLUMN = "id";
+
+    private final String table;
+    private final List<ColumnDefinition> columns;
+    private final String keyColumn;
+    private final RowSchema rowSchema;
+    private final String selectList;
+    private final boolean tombstoneTable;
+
+    /**
+     * Constructs a new {@code TableSchema}.
+     *
+     * @param table          the name of the table
+     * @param columns        the columns of the table in table order
+     * @param keyColumn      the name of the column holding each row's unique identifier
+     * @param tombstoneTable {@code true} if the table has a tombstone table, otherwise {@code false}
+     */
+    public TableSchema(String table, List<ColumnDefinition> columns, String keyColumn, boolean tombstoneTable)
+    {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.keyColumn = keyColumn;
+        this.tombstoneTable = tombstoneTable;
+
+        List<String> valueColumns = new ArrayList<>(columns.size());
+
+        for (ColumnDefinition column : columns)
+        {
+            if (!column.getName().equalsIgnoreCase(keyColumn))
+            {
+                valueColumns.add(column.getName());
+            }
+        }
+
+        this.rowSchema = RowSchema.of(valueColumns);
+        this.selectList = valueColumns.isEmpty() ? keyColumn : keyColumn + ", " + String.join(", ", valueColumns);
+    }
+
+    /**
+     * Reads the schema of a table from the database metadata.
+     *
+     * @param connection    a connection to the database containing the table
+     * @param table         the name of the table
+     * @return              the resolved schema
+     * @throws SQLException if the table does not exist, has a primary key of several columns
+     *                      or a database access error occurs
+     */
+    public static TableSchema load(Connection connection, String table) throws SQLException
+    {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String catalog = connection.getCatalog();
+        String schema = connection.getSchema();
+        List<ColumnDefinition> columns = new ArrayList<>();
+        String keyColumn = null;
+
+        try (ResultSet resultSet = metaData.getColumns(catalog, schema, escapePattern(metaData, table), null))
+        {
+            while (resultSet.next())
+            {
+                columns.add(new ColumnDefinition(
+                        resultSet.getString("COLUMN_NAME"),
+                        resultSet.getInt("DATA_TYPE"),
+                        resultSet.getString("TYPE_NAME"),
+                        resultSet.getInt("COLUMN_SIZE"),
+                        resultSet.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls));
+            }
+        }
+
+        if (columns.isEmpty())
+        {
+            throw new SQLException("The table " + table + " does not exist or has no columns");
+        }
+
+        try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, table))
+        {
+            while (resultSet.next())
+            {
+                if (keyColumn != null || resultSet.getShort("KEY_SEQ") != 1)
+                {
+                    throw new SQLException("The table " + table + " has a primary key of several columns, "
+                            + "only a single integer key column is supported");
+                }
+
+                keyColumn = resultSet.getString("COLUMN_NAME");
+            }
+        }
+
+        if (keyColumn == null)
+        {
+            keyColumn = DEFAULT_KEY_COLUMN;
+        }
+
+        boolean tombstoneTable;
+
+        try (ResultSet resultSet = metaData.getTables(catalog, schema,
+                escapePattern(metaData, table + TOMBSTONE_SUFFIX), new String[] {"TABLE"}))
+        {
+            tombstoneTable = resultSet.next();
+        }
+
+        return new TableSchema(table, columns, keyColumn, tombstoneTable);
+    }
+
+    /**
+     * Escapes the wildcard characters of a name so that it can be passed to the
+     * {@link DatabaseMetaData} methods taking a search pattern, which would otherwise
+     * match {@code my_table} against {@code myxtable} as well.
+     *
+     * @param metaData      the metadata of the database
+     * @param name          the name to escape
+     * @return              the pattern matching only the given name
+     * @throws SQLException if a database access error occurs
+     */
+    public static String escapePattern(DatabaseMetaData metaData, String name) throws SQLException
+    {
+        String escape = metaData.getSearchStringEscape();
+
+        if (escape == null || escape.isEmpty())
+        {
+            return name;
+        }
+
+        return name.replace(escape, escape + escape)
+                .replace("_", escape + "_")
+                .replace("%", escape + "%");
+    }
+
+    /**
+     * Returns the name of the table.
+     *
+     * @return the table name
+     */
+    public String getTable()
+    {
+        return table;
+    }
+
+    /**
+     * Returns the columns of the table in table order, including the key column.
+     *
+     * @return the unmodifiable list of column definitions
+     */
+    public List<ColumnDefinition> getColumns()
+    {
+        return columns;
+    }
+
+    /**
+     * Returns the definition of the given column.
+     *
+     * @param columnName the name of the column, compared case-insensitively
+     * @return           an {@code Optional} containing the column definition, or empty if the table has no such column
+     */
+    public Optional<ColumnDefinition> getColumn(String columnName)
+    {
+        for (ColumnDefinition column : columns)
+        {
+            if (column.getName().equalsIgnoreCase(columnName))
+            {
+                return Optional.of(column);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the names of the columns in table order, including the key column.
+     *
+     * @return the list of column names
+     */
+    public List<String> getColumnNames()
+    {
+        return columns.stream().map(ColumnDefinition::getName).toList();
+    }
+
+    /**
+     * Returns the name of the column holding each row's unique identifier.
+     *
+     * @return the key column name
+     */
+    public String getKeyColumn()
+    {
+        return keyColumn;
+    }
+
+    /**
+     * Returns the schema shared by every row read from this table, which excludes the key column.
+     *
+     * @return the shared {@link RowSchema}
+     */
+    public RowSchema getRowSchema()
+    {
+        return rowSchema;
+    }
+
+    /**
+     * Returns the column list used to select whole rows: the key column followed by the remaining columns.
+     *
+     * @return the comma-separated select list
+     */
+    public String getSelectList()
+    {
+        return selectList;
+    }
+
+    /**
+     * Returns the column list used to select some columns of each row: the key column followed by the given columns.
+     *
+     * @param columnNames the names of the columns of the row schema to select, in row schema order
+     * @return            the comma-separated select list
+     */
+    public String getSelectList(List<String> columnNames)
+    {
+        if (columnNames.equals(rowSchema.getColumnNames()))
+        {
+            return selectList;
+        }
+
+        return columnNames.isEmpty() ? keyColumn : keyColumn + ", " + String.join(", ", columnNames);
+    }
+
+    /**
+     * Checks whether the table has a {@code <table>_deleted} tombstone table recording its deleted rows.
+     *
+     * @return {@code true} if the tombstone table exists, otherwise {@code false}
+     */
+    public boolean hasTombstoneTable()
+    {
+        return tombstoneTable;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TableSchema[" + table + ", key=" + keyColumn + ", columns=" + columns + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,493 @@
+package com.github.horris275.basicsqldemonstration.sql.search;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory inverted index over the text columns of the table, answering keyword searches without
+ * touching the database.
+ *
+ * <p>The text of the indexed columns is split into terms: runs of letters and digits, lower-cased. Each
+ * term maps to a {@link PostingList} holding the sorted identifiers of the rows containing it, as primitive
+ * {@code int}s. The terms of each row are remembered as well, so a row can be re-indexed or removed without
+ * reading its previous text back.</p>
+ *
+ * <p>A search returns the rows containing every term of the text. While the user is still typing the last
+ * term, it is matched as a prefix, so {@code "jav"} already finds rows containing {@code "java"}. Lists are
+ * intersected by walking the shortest one and looking the rest up by binary search, so the cost follows the
+ * rarest term rather than the size of the table.</p>
+ *
+ * <p>The index is safe to use from several threads: searches share a read lock, while updates take a short
+ * write lock. {@link #rebuild(Stream)} builds the new index without holding the lock and swaps it in at the
+ * end, so searches keep being answered from the previous contents while it runs.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class FullTextIndex
+{
+    private static final int MAXIMUM_TERM_LENGTH = 64;
+
+    private volatile List<String> columnNames;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Terms terms = new Terms();
+
+    /**
+     * Constructs a new, empty {@code FullTextIndex}.
+     *
+     * @param columnNames the names of the columns whose text is indexed
+     */
+    public FullTextIndex(List<String> columnNames)
+    {
+        this.columnNames = List.copyOf(columnNames);
+    }
+
+    /**
+     * Returns the names of the columns whose text is indexed.
+     *
+     * @return the unmodifiable list of column names
+     */
+    public List<String> getColumnNames()
+    {
+        return columnNames;
+    }
+
+    /**
+     * Splits text into the terms stored by the index: runs of letters and digits, lower-cased.
+     * Terms longer than {@value #MAXIMUM_TERM_LENGTH} characters are cut short.
+     *
+     * @param text the text to split
+     * @return     the terms in the order they appear, including repeats
+     */
+    public static List<String> tokenize(String text)
+    {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+
+        for (int index = 0; index <= text.length(); index++)
+        {
+            boolean partOfTerm = index < text.length() && Character.isLetterOrDigit(text.charAt(index));
+
+            if (partOfTerm && start < 0)
+            {
+                start = index;
+            }
+            else if (!partOfTerm && start >= 0)
+            {
+                int end = Math.min(index, start + MAXIMUM_TERM_LENGTH);
+                tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Adds a row to the index, replacing the terms it was indexed under before.
+     *
+     * @param row the row, which must have its unique identifier
+     */
+    public void index(DatabaseRow row)
+    {
+        String[] rowTerms = extractTerms(row);
+
+        lock.writeLock().lock();
+
+        try
+        {
+            terms.remove(row.getUniqueId());
+            terms.add(row.getUniqueId(), rowTerms);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a row from the index.
+     *
+     * @param id the unique identifier of the row
+     */
+    public void remove(int id)
+    {
+        lock.writeLock().lock();
+
+        try
+        {
+            terms.remove(id);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of changes to the index under a single write lock.
+     *
+     * @param changedRows the rows inserted or updated
+     * @param deletedIds  the unique identifiers of the rows deleted
+     */
+    public void apply(Collection<DatabaseRow> changedRows, Collection<Integer> deletedIds)
+    {
+        List<String[]> changedTerms = new ArrayList<>(changedRows.size());
+
+        for (DatabaseRow row : changedRows)
+        {
+            changedTerms.add(extractTerms(row));
+        }
+
+        lock.writeLock().lock();
+
+        try
+        {
+            int index = 0;
+
+            for (DatabaseRow row : changedRows)
+            {
+                terms.remove(row.getUniqueId());
+                terms.add(row.getUniqueId(), changedTerms.get(index++));
+            }
+
+            deletedIds.forEach(terms::remove);
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given rows. The new index is built without holding
+     * the lock, so changes made through {@link #index(DatabaseRow)} or {@link #remove(int)} while it runs
+     * are lost and must be applied again afterwards.
+     *
+     * @param rows the rows to index, typically streamed from the table
+     */
+    public void rebuild(Stream<DatabaseRow> rows)
+    {
+        rebuild(columnNames, rows);
+    }
+
+    /**
+     * Replaces the indexed columns and the contents of the index, as {@link #rebuild(Stream)} does.
+     * The rows indexed from then on are read from the new columns.
+     *
+     * @param columnNames the names of the columns whose text is indexed
+     * @param rows        the rows to index, typically streamed from the table
+     */
+    public void rebuild(List<String> columnNames, Stream<DatabaseRow> rows)
+    {
+        this.columnNames = List.copyOf(columnNames);
+        Terms rebuilt = new Terms();
+        rows.forEach(row -> rebuilt.add(row.getUniqueId(), extractTerms(row)));
+
+        lock.writeLock().lock();
+
+        try
+        {
+            terms = rebuilt;
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the rows containing every term of the text. Unless the text ends with a separator,
+     * its last term is matched as a prefix.
+     *
+     * @param text  the text to search for
+     * @param limit the maximum number of identifiers returned
+     * @return      the identifiers of the matching rows in ascending order, empty if the text holds no terms
+     */
+    public int[] search(String text, int limit)
+    {
+        List<String> tokens = tokenize(text);
+
+        if (tokens.isEmpty() || limit <= 0)
+        {
+            return new int[0];
+        }
+
+        boolean prefixLast = Character.isLetterOrDigit(text.charAt(text.length() - 1));
+        Set<String> exactTokens = new LinkedHashSet<>(prefixLast ? tokens.subList(0, tokens.size() - 1) : tokens);
+
+        lock.readLock().lock();
+
+        try
+        {
+            List<PostingList> exactLists = new ArrayList<>(exactTokens.size());
+
+            for (String token : exactTokens)
+            {
+                PostingList postingList = terms.postings.get(token);
+
+                if (postingList == null)
+                {
+                    return new int[0];
+                }
+
+                exactLists.add(postingList);
+            }
+
+            int[] prefixIds = prefixLast ? terms.unionOfPrefix(tokens.getLast()) : null;
+
+            if (prefixIds != null && prefixIds.length == 0)
+            {
+                return new int[0];
+            }
+
+            exactLists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+
+            int[] candidates;
+
+            if (prefixIds != null && (exactLists.isEmpty() || prefixIds.length <= exactLists.getFirst().size()))
+            {
+                candidates = prefixIds;
+                prefixIds = null;
+            }
+            else
+            {
+                candidates = exactLists.removeFirst().toArray();
+            }
+
+            return intersect(candidates, exactLists, prefixIds, limit);
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the size of the index.
+     *
+     * @return the current {@link IndexStatistics}
+     */
+    public IndexStatistics getStatistics()
+    {
+        lock.readLock().lock();
+
+        try
+        {
+            return new IndexStatistics(terms.rowTerms.size(), terms.postings.size(), terms.postingCount,
+                    terms.termBytes + terms.postingBytes + terms.rowBytes);
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps the candidates that are also in every other list, up to the limit.
+     *
+     * @param candidates the sorted identifiers to check, from the shortest list
+     * @param otherLists the other posting lists a row must be in
+     * @param prefixIds  the sorted identifiers matching the prefix, or {@code null} if already checked
+     * @param limit      the maximum number of identifiers returned
+     * @return           the identifiers in every list, in ascending order
+     */
+    private static int[] intersect(int[] candidates, List<PostingList> otherLists, int[] prefixIds, int limit)
+    {
+        int[] matches = new int[Math.min(limit, candidates.length)];
+        int count = 0;
+
+        for (int index = 0; index < candidates.length && count < matches.length; index++)
+        {
+            int id = candidates[index];
+            boolean matched = prefixIds == null || Arrays.binarySearch(prefixIds, id) >= 0;
+
+            for (int list = 0; matched && list < otherLists.size(); list++)
+            {
+                matched = otherLists.get(list).contains(id);
+            }
+
+            if (matched)
+            {
+                matches[count++] = id;
+            }
+        }
+
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Reads the distinct terms of the indexed columns of a row.
+     *
+     * @param row the row
+     * @return    the distinct terms in the order they first appear
+     */
+    private String[] extractTerms(DatabaseRow row)
+    {
+        Set<String> rowTerms = new LinkedHashSet<>();
+
+        for (String columnName : columnNames)
+        {
+            Object value = row.getColumn(columnName);
+
+            if (value != null)
+            {
+                rowTerms.addAll(tokenize(value.toString()));
+            }
+        }
+
+        return rowTerms.toArray(String[]::new);
+    }
+
+    /**
+     * The contents of the index: the posting list of each term and the terms of each row,
+     * together with the figures reported by {@link #getStatistics()}, which are kept up to date
+     * as rows are added and removed rather than counted on demand.
+     */
+    private static final class Terms
+    {
+        private static final long TERM_OVERHEAD_BYTES = 40 + 24 + 16;
+        private static final long ROW_OVERHEAD_BYTES = 32 + 16 + 8 + 16;
+
+        private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+        private final Map<Integer, String[]> rowTerms = new HashMap<>();
+        private long postingCount;
+        private long termBytes;
+        private long postingBytes;
+        private long rowBytes;
+
+        /**
+         * Adds a row under its terms. The row must not already be held.
+         *
+         * @param id    the unique identifier of the row
+         * @param terms the distinct terms of the row
+         */
+        void add(int id, String[] terms)
+        {
+            for (int index = 0; index < terms.length; index++)
+            {
+                Map.Entry<String, PostingList> entry = postings.ceilingEntry(terms[index]);
+                PostingList postingList;
+
+                if (entry != null && entry.getKey().equals(terms[index]))
+                {
+                    terms[index] = entry.getKey();
+                    postingList = entry.getValue();
+                }
+                else
+                {
+                    postingList = new PostingList();
+                    postings.put(terms[index], postingList);
+                    termBytes += TERM_OVERHEAD_BYTES + terms[index].length();
+                    postingBytes += postingList.estimateBytes();
+                }
+
+                long before = postingList.estimateBytes();
+
+                if (postingList.add(id))
+                {
+                    postingCount++;
+                }
+
+                postingBytes += postingList.estimateBytes() - before;
+            }
+
+            rowTerms.put(id, terms);
+            rowBytes += ROW_OVERHEAD_BYTES + 4L * terms.length;
+        }
+
+        /**
+         * Removes a row from the lists of its terms, dropping the terms no other row contains.
+         *
+         * @param id the unique identifier of the row
+         */
+        void remove(int id)
+        {
+            String[] terms = rowTerms.remove(id);
+
+            if (terms == null)
+            {
+                return;
+            }
+
+            rowBytes -= ROW_OVERHEAD_BYTES + 4L * terms.length;
+
+            for (String term : terms)
+            {
+                PostingList postingList = postings.get(term);
+
+                if (postingList == null || !postingList.remove(id))
+                {
+                    continue;
+                }
+
+                postingCount--;
+
+                if (postingList.isEmpty())
+                {
+                    postings.remove(term);
+                    termBytes -= TERM_OVERHEAD_BYTES + term.length();
+                    postingBytes -= postingList.estimateBytes();
+                }
+            }
+        }
+
+        /**
+         * Collects the rows containing any term starting with the prefix.
+         *
+         * @param prefix the prefix of the terms
+         * @return       the distinct identifiers in ascending order
+         */
+        int[] unionOfPrefix(String prefix)
+        {
+            Collection<PostingList> lists = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+
+            if (lists.size() == 1)
+            {
+                return lists.iterator().next().toArray();
+            }
+
+            int total = 0;
+
+            for (PostingList postingList : lists)
+            {
+                total += postingList.size();
+            }
+
+            int[] ids = new int[total];
+            int offset = 0;
+
+            for (PostingList postingList : lists)
+            {
+                offset = postingList.copyInto(ids, offset);
+            }
+
+            Arrays.sort(ids);
+
+            int distinct = 0;
+
+            for (int index = 0; index < ids.length; index++)
+            {
+                if (distinct == 0 || ids[distinct - 1] != ids[index])
+                {
+                    ids[distinct++] = ids[index];
+                }
+            }
+
+            return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.github.horris275.basicsqldemonstration.sql.search;
+
+/**
+ * An immutable snapshot of the size of a {@link FullTextIndex}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class IndexStatistics
+{
+    private final int rowCount;
+    private final int termCount;
+    private final long postingCount;
+    private final long estimatedBytes;
+
+    /**
+     * Constructs a new {@code IndexStatistics}.
+     *
+     * @param rowCount       the number of rows indexed
+     * @param termCount      the number of distinct terms
+     * @param postingCount   the number of row identifiers held across every posting list
+     * @param estimatedBytes the estimated heap used by the index
+     */
+    public IndexStatistics(int rowCount, int termCount, long postingCount, long estimatedBytes)
+    {
+        this.rowCount = rowCount;
+        this.termCount = termCount;
+        this.postingCount = postingCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Returns the number of rows indexed.
+     *
+     * @return the row count
+     */
+    public int getRowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     *
+     * @return the term count
+     */
+    public int getTermCount()
+    {
+        return termCount;
+    }
+
+    /**
+     * Returns the number of row identifiers held across every posting list.
+     *
+     * @return the posting count
+     */
+    public long getPostingCount()
+    {
+        return postingCount;
+    }
+
+    /**
+     * Returns the estimated heap used by the index. The estimate assumes compressed object pointers and
+     * Latin-1 terms, and counts the posting lists, the term dictionary and the terms remembered per row.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedBytes()
+    {
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d rows, %d terms, %d postings, about %.1f MB", rowCount, termCount, postingCount,
+                estimatedBytes / (1024.0 * 1024.0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.github.horris275.basicsqldemonstration.sql.search;
+
+import java.util.Arrays;
+
+/**
+ * The identifiers of the rows containing a term, kept as a sorted array of primitive {@code int}s.
+ *
+ * <p>Identifiers are generated in ascending order, so most additions append to the end of the array.
+ * The array grows by half its size when full and is never boxed, so a list costs four bytes per row
+ * plus the unused capacity. This class is not thread-safe; {@link FullTextIndex} guards it.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class PostingList
+{
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a row to the list, keeping the identifiers sorted.
+     *
+     * @param id the unique identifier of the row
+     * @return   {@code true} if the row was added, {@code false} if it was already in the list
+     */
+    boolean add(int id)
+    {
+        int index = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+
+        if (index >= 0)
+        {
+            return false;
+        }
+
+        int insertion = -index - 1;
+
+        if (size == ids.length)
+        {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes a row from the list.
+     *
+     * @param id the unique identifier of the row
+     * @return   {@code true} if the row was removed, {@code false} if it was not in the list
+     */
+    boolean remove(int id)
+    {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index < 0)
+        {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the number of rows in the list.
+     *
+     * @return the size of the list
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns whether the list holds no rows.
+     *
+     * @return {@code true} if the list is empty, otherwise {@code false}
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether a row is in the list, using a binary search.
+     *
+     * @param id the unique identifier of the row
+     * @return   {@code true} if the row is in the list, otherwise {@code false}
+     */
+    boolean contains(int id)
+    {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Copies the identifiers into a new array.
+     *
+     * @return the sorted identifiers
+     */
+    int[] toArray()
+    {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Copies the identifiers into an array at the given position.
+     *
+     * @param target the array to copy into
+     * @param offset the position of the first identifier in the array
+     * @return       the position following the last identifier copied
+     */
+    int copyInto(int[] target, int offset)
+    {
+        System.arraycopy(ids, 0, target, offset, size);
+        return offset + size;
+    }
+
+    /**
+     * Estimates the bytes held by the list: its header, the array header and the array's capacity.
+     *
+     * @return the estimated size in bytes
+     */
+    long estimateBytes()
+    {
+        return 16 + 16 + 4L * ids.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes rows in the compact binary format of {@link RecordFormat#BINARY}.
+ *
+ * <p>A file starts with a header holding the magic number, the format version and the column
+ * names, the first being the key column. Each row follows as a row marker, its identifier and
+ * one tagged value per column. The file ends with an end marker and the number of rows, so a
+ * reader can tell a complete file from a truncated one. All numbers are big-endian and text is
+ * UTF-8 prefixed with its length in bytes.</p>
+ *
+ * <p>Values keep their Java type across a round trip where the JDBC driver commonly returns one of
+ * the supported types: {@link String}, {@link Integer}, {@link Long}, {@link Double}, {@link Float},
+ * {@link Boolean}, {@link BigDecimal}, {@link Date}, {@link Time}, {@link Timestamp} and {@code byte[]}.
+ * Any other value is written as its string form.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class BinaryRowCodec
+{
+    /**
+     * The magic number at the start of every file, the characters "BSQD".
+     */
+    public static final int MAGIC = 0x42535144;
+
+    /**
+     * The version of the format written by this codec.
+     */
+    public static final short VERSION = 1;
+
+    private static final byte END_MARKER = 0;
+    private static final byte ROW_MARKER = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte DECIMAL = 7;
+    private static final byte DATE = 8;
+    private static final byte TIME = 9;
+    private static final byte TIMESTAMP = 10;
+    private static final byte BYTES = 11;
+
+    /**
+     * Writes the header of a file.
+     *
+     * @param writer    the writer of the file
+     * @param keyColumn the name of the key column
+     * @param schema    the schema of the rows that follow
+     * @throws IOException if the header cannot be written
+     */
+    static void writeHeader(ChannelWriter writer, String keyColumn, RowSchema schema) throws IOException
+    {
+        writer.putInt(MAGIC);
+        writer.putShort(VERSION);
+        writer.putInt(schema.size() + 1);
+        writeString(writer, keyColumn);
+
+        for (String columnName : schema.getColumnNames())
+        {
+            writeString(writer, columnName);
+        }
+    }
+
+    /**
+     * Writes a row. Its values are written in the order of the schema given to the header.
+     *
+     * @param writer the writer of the file
+     * @param schema the schema given to the header
+     * @param row    the row
+     * @throws IOException if the row cannot be written
+     */
+    static void writeRow(ChannelWriter writer, RowSchema schema, DatabaseRow row) throws IOException
+    {
+        writer.putByte(ROW_MARKER);
+        writer.putInt(row.getUniqueId());
+
+        boolean sameSchema = row.getSchema() == schema;
+
+        for (int index = 0; index < schema.size(); index++)
+        {
+            writeValue(writer, sameSchema ? row.getValue(index) : row.getColumn(schema.getColumnName(index)));
+        }
+    }
+
+    /**
+     * Writes the end marker and the number of rows written.
+     *
+     * @param writer   the writer of the file
+     * @param rowCount the number of rows written
+     * @throws IOException if the trailer cannot be written
+     */
+    static void writeTrailer(ChannelWriter writer, long rowCount) throws IOException
+    {
+        writer.putByte(END_MARKER);
+        writer.putLong(rowCount);
+    }
+
+    /**
+     * Reads the header of a file, leaving the buffer positioned at the first row.
+     *
+     * @param buffer the contents of the file
+     * @return       the column names, the first being the key column
+     * @throws IllegalArgumentException if the buffer does not hold a file of a supported version,
+     *                                  or holds a header without a key column
+     */
+    public static List<String> readHeader(ByteBuffer buffer)
+    {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != MAGIC)
+        {
+            throw new IllegalArgumentException("The file is not in the binary row format");
+        }
+
+        short version = buffer.getShort();
+
+        if (version != VERSION)
+        {
+            throw new IllegalArgumentException("Unsupported binary row format version: " + version);
+        }
+
+        int columnCount = buffer.getInt();
+
+        if (columnCount < 1 || columnCount > buffer.remaining() / Integer.BYTES)
+        {
+            throw new IllegalArgumentException("Invalid column count " + columnCount + " in the header");
+        }
+
+        List<String> columnNames = new ArrayList<>(columnCount);
+
+        for (int index = 0; index < columnCount; index++)
+        {
+            columnNames.add(readString(buffer));
+        }
+
+        return columnNames;
+    }
+
+    /**
+     * Reads the next row, or the trailer if all rows have been read.
+     *
+     * @param buffer the contents of the file, positioned at a row or the trailer
+     * @param schema the schema of the rows, matching the column names of the header without the key column
+     * @return       the row, or {@code null} once the trailer has been read
+     * @throws IllegalArgumentException if the buffer holds an unknown marker, an unknown value
+     *                                  or a length exceeding the rest of the file
+     * @throws java.time.DateTimeException if the buffer holds a date or time out of range
+     * @throws java.nio.BufferUnderflowException if the file is truncated
+     */
+    public static DatabaseRow readRow(ByteBuffer buffer, RowSchema schema)
+    {
+        byte marker = buffer.get();
+
+        if (marker == END_MARKER)
+        {
+            buffer.getLong();
+            return null;
+        }
+
+        if (marker != ROW_MARKER)
+        {
+            throw new IllegalArgumentException("Unknown marker " + marker + " at position " + (buffer.position() - 1));
+        }
+
+        int uniqueId = buffer.getInt();
+        Object[] values = new Object[schema.size()];
+
+        for (int index = 0; index < values.length; index++)
+        {
+            values[index] = readValue(buffer);
+        }
+
+        return new DatabaseRow(schema, uniqueId, values);
+    }
+
+    /**
+     * Writes a tagged value.
+     *
+     * @param writer the writer of the file
+     * @param value  the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    private static void writeValue(ChannelWriter writer, Object value) throws IOException
+    {
+        switch (value)
+        {
+            case null -> writer.putByte(NULL);
+            case String string -> {
+                writer.putByte(STRING);
+                writeString(writer, string);
+            }
+            case Integer number -> {
+                writer.putByte(INTEGER);
+                writer.putInt(number);
+            }
+            case Long number -> {
+                writer.putByte(LONG);
+                writer.putLong(number);
+            }
+            case Double number -> {
+                writer.putByte(DOUBLE);
+                writer.putLong(Double.doubleToRawLongBits(number));
+            }
+            case Float number -> {
+                writer.putByte(FLOAT);
+                writer.putInt(Float.floatToRawIntBits(number));
+            }
+            case Boolean bool -> writer.putByte(bool ? BOOLEAN | 0x80 : BOOLEAN);
+            case BigDecimal decimal -> {
+                writer.putByte(DECIMAL);
+                writeString(writer, decimal.toString());
+            }
+            case Date date -> {
+                writer.putByte(DATE);
+                writer.putLong(date.toLocalDate().toEpochDay());
+            }
+            case Time time -> {
+                writer.putByte(TIME);
+                writer.putLong(time.toLocalTime().toNanoOfDay());
+            }
+            case Timestamp timestamp -> {
+                writer.putByte(TIMESTAMP);
+                writer.putLong(timestamp.getTime());
+                writer.putInt(timestamp.getNanos());
+            }
+            case byte[] bytes -> {
+                writer.putByte(BYTES);
+                writer.putInt(bytes.length);
+                writer.putBytes(bytes);
+            }
+            default -> {
+                writer.putByte(STRING);
+                writeString(writer, value.toString());
+            }
+        }
+    }
+
+    /**
+     * Reads a tagged value.
+     *
+     * @param buffer the contents of the file, positioned at a value
+     * @return       the value, may be {@code null}
+     * @throws IllegalArgumentException if the tag is unknown
+     */
+    private static Object readValue(ByteBuffer buffer)
+    {
+        byte tag = buffer.get();
+
+        return switch (tag & 0x7F)
+        {
+            case NULL -> null;
+            case STRING -> readString(buffer);
+            case INTEGER -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case DOUBLE -> Double.longBitsToDouble(buffer.getLong());
+            case FLOAT -> Float.intBitsToFloat(buffer.getInt());
+            case BOOLEAN -> (tag & 0x80) != 0;
+            case DECIMAL -> new BigDecimal(readString(buffer));
+            case DATE -> Date.valueOf(LocalDate.ofEpochDay(buffer.getLong()));
+            case TIME -> Time.valueOf(LocalTime.ofNanoOfDay(buffer.getLong()));
+            case TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+                yield timestamp;
+            }
+            case BYTES -> {
+                byte[] bytes = new byte[readLength(buffer)];
+                buffer.get(bytes);
+                yield bytes;
+            }
+            default -> throw new IllegalArgumentException("Unknown value tag " + tag + " at position "
+                    + (buffer.position() - 1));
+        };
+    }
+
+    /**
+     * Writes text prefixed with its length in bytes.
+     *
+     * @param writer the writer of the file
+     * @param text   the text
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeString(ChannelWriter writer, String text) throws IOException
+    {
+        writer.putInt(ChannelWriter.utf8Length(text));
+        writer.putText(text);
+    }
+
+    /**
+     * Reads text prefixed with its length in bytes.
+     *
+     * @param buffer the contents of the file, positioned at the length
+     * @return       the text
+     */
+    private static String readString(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a length prefix, checking it against the bytes left in the buffer so that a corrupt
+     * file cannot request a negative or oversized array.
+     *
+     * @param buffer the contents of the file, positioned at the length
+     * @return       the length
+     * @throws IllegalArgumentException if the length is negative or exceeds the rest of the file
+     */
+    private static int readLength(ByteBuffer buffer)
+    {
+        int length = buffer.getInt();
+
+        if (length < 0 || length > buffer.remaining())
+        {
+            throw new IllegalArgumentException("Invalid length " + length + " at position "
+                    + (buffer.position() - Integer.BYTES));
+        }
+
+        return length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,625 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.schema.ColumnDefinition;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Streams the records of a CSV or JSON Lines file into the database table.
+ *
+ * <p>The file is read through a memory mapping on the calling thread, one record at a time, and each
+ * record is mapped to a {@link DatabaseRow} using the columns reported by the table schema. Rows are
+ * grouped into batches and handed to several workers, each inserting its batches with
+ * {@link DynamicDatabaseService#insertAll(java.util.Collection)} on its own pooled connection. The queue
+ * between the reader and the workers is bounded, so memory use does not grow with the size of the file.</p>
+ *
+ * <p>A record is rejected, rather than failing the import, if it cannot be parsed, names a column the
+ * table does not have, leaves a non-nullable column empty, exceeds the length of a character column or is
+ * refused by the database. When a batch is refused, its rows are retried one at a time so that only the
+ * offending rows are rejected. The key column is never imported; the database generates it instead.</p>
+ *
+ * <p>An importer runs one import at a time.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class BulkImporter
+{
+    private static final int MAX_REJECTED_SAMPLES = 100;
+    private static final Batch END_OF_FILE = new Batch(List.of(), new long[0]);
+
+    private final DynamicDatabaseService databaseService;
+    private final int workers;
+    private final int batchSize;
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a new {@code BulkImporter}.
+     *
+     * @param databaseService the service used to read the table schema and insert the rows
+     * @param workers         the number of batches inserted concurrently
+     * @param batchSize       the number of rows in each batch
+     * @throws IllegalArgumentException if the number of workers or the batch size is not positive
+     */
+    public BulkImporter(DynamicDatabaseService databaseService, int workers, int batchSize)
+    {
+        if (workers < 1 || batchSize < 1)
+        {
+            throw new IllegalArgumentException("Invalid workers or batch size: " + workers + ", " + batchSize);
+        }
+
+        this.databaseService = databaseService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports every record of a file, blocking until the whole file has been inserted or the import is cancelled.
+     *
+     * <p>The progress listener is called by the workers after each batch, possibly from several threads at
+     * once, so it must be thread-safe and should return quickly.</p>
+     *
+     * @param file             the file to import
+     * @param format           the format of the file
+     * @param progressListener the listener receiving the progress of the import
+     * @return                 the {@link ImportResult} holding the totals and the rejected records
+     * @throws DatabaseException        if the file cannot be read, its header does not match the table, or the import fails
+     * @throws IllegalArgumentException if the format is not textual
+     */
+    public ImportResult importFile(Path file, RecordFormat format, Consumer<ImportProgress> progressListener)
+            throws DatabaseException
+    {
+        if (!format.isTextual())
+        {
+            throw new IllegalArgumentException("Files in the " + format + " format cannot be imported");
+        }
+
+        cancelled = false;
+
+        TableSchema tableSchema = databaseService.retrieveTableSchema();
+        Run run = new Run(progressListener);
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(workers * 2);
+
+        try (MappedRecordReader reader = new MappedRecordReader(file, format == RecordFormat.CSV);
+             ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("import-", 0).factory()))
+        {
+            run.totalBytes = reader.getSize();
+
+            for (int worker = 0; worker < workers; worker++)
+            {
+                executor.execute(() -> insertBatches(run, queue));
+            }
+
+            try
+            {
+                if (format == RecordFormat.CSV)
+                {
+                    readCsv(reader, tableSchema, run, queue);
+                }
+                else
+                {
+                    readJsonLines(reader, tableSchema, run, queue);
+                }
+            }
+            finally
+            {
+                finish(run, queue);
+            }
+        }
+        catch (IOException e)
+        {
+            throw new DatabaseException("An error has occurred while reading the file " + file, e);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("The import of " + file + " was interrupted", e);
+        }
+
+        if (run.failure.get() != null)
+        {
+            throw new DatabaseException("An error has occurred while importing " + file, run.failure.get());
+        }
+
+        return new ImportResult(run.progress(), List.copyOf(run.rejectedRecords), cancelled);
+    }
+
+    /**
+     * Cancels the running import. Batches already being inserted are completed; the rest of the file is skipped.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Reads a CSV file whose first record is a header naming the table columns.
+     *
+     * @param reader      the reader positioned at the start of the file
+     * @param tableSchema the schema of the table
+     * @param run         the state of the import
+     * @param queue       the queue of batches read by the workers
+     * @throws IOException          if the file cannot be read
+     * @throws InterruptedException if the thread is interrupted while waiting for space in the queue
+     * @throws DatabaseException    if the header is malformed or names a column the table does not have
+     */
+    private void readCsv(MappedRecordReader reader, TableSchema tableSchema, Run run, BlockingQueue<Batch> queue)
+            throws IOException, InterruptedException, DatabaseException
+    {
+        String header = reader.next();
+
+        if (header == null)
+        {
+            return;
+        }
+
+        List<String> headerFields;
+
+        try
+        {
+            headerFields = CsvRecordParser.parse(header);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new DatabaseException("The header of the file is malformed: " + e.getMessage(), e);
+        }
+
+        int[] targetIndexes = new int[headerFields.size()];
+        List<ColumnDefinition> targetColumns = new ArrayList<>();
+
+        for (int index = 0; index < headerFields.size(); index++)
+        {
+            String field = headerFields.get(index) == null ? "" : headerFields.get(index).trim();
+
+            if (field.equalsIgnoreCase(tableSchema.getKeyColumn()))
+            {
+                targetIndexes[index] = -1;
+                continue;
+            }
+
+            ColumnDefinition column = tableSchema.getColumn(field)
+                    .orElseThrow(() -> new DatabaseException("The table " + tableSchema.getTable()
+                            + " has no column named '" + field + "'"));
+
+            targetIndexes[index] = targetColumns.size();
+            targetColumns.add(column);
+        }
+
+        RowSchema rowSchema = RowSchema.of(targetColumns.stream().map(ColumnDefinition::getName).toList());
+        BatchBuilder batch = new BatchBuilder();
+        String record;
+
+        while (!cancelled && (record = reader.next()) != null)
+        {
+            run.recordsRead.increment();
+            long lineNumber = reader.getLineNumber();
+
+            try
+            {
+                List<String> fields = CsvRecordParser.parse(record);
+
+                if (fields.size() != headerFields.size())
+                {
+                    run.reject(lineNumber, "Expected " + headerFields.size() + " fields but found " + fields.size());
+                    continue;
+                }
+
+                Object[] values = new Object[targetColumns.size()];
+
+                for (int index = 0; index < fields.size(); index++)
+                {
+                    if (targetIndexes[index] >= 0)
+                    {
+                        values[targetIndexes[index]] = fields.get(index);
+                    }
+                }
+
+                String violation = validate(targetColumns, values);
+
+                if (violation != null)
+                {
+                    run.reject(lineNumber, violation);
+                    continue;
+                }
+
+                batch.add(new DatabaseRow(rowSchema, -1, values), lineNumber);
+            }
+            catch (IllegalArgumentException e)
+            {
+                run.reject(lineNumber, e.getMessage());
+                continue;
+            }
+
+            if (batch.size() == batchSize)
+            {
+                enqueue(queue, batch.build(), run);
+                run.bytesRead = reader.getPosition();
+            }
+        }
+
+        enqueue(queue, batch.build(), run);
+        run.bytesRead = reader.getPosition();
+    }
+
+    /**
+     * Reads a JSON Lines file, in which every line is an object mapping column names to values.
+     *
+     * @param reader      the reader positioned at the start of the file
+     * @param tableSchema the schema of the table
+     * @param run         the state of the import
+     * @param queue       the queue of batches read by the workers
+     * @throws IOException          if the file cannot be read
+     * @throws InterruptedException if the thread is interrupted while waiting for space in the queue
+     */
+    private void readJsonLines(MappedRecordReader reader, TableSchema tableSchema, Run run, BlockingQueue<Batch> queue)
+            throws IOException, InterruptedException
+    {
+        BatchBuilder batch = new BatchBuilder();
+        String record;
+
+        while (!cancelled && (record = reader.next()) != null)
+        {
+            run.recordsRead.increment();
+            long lineNumber = reader.getLineNumber();
+
+            try
+            {
+                Map<String, Object> object = JsonRecordParser.parse(record);
+                List<ColumnDefinition> targetColumns = new ArrayList<>(object.size());
+                List<Object> values = new ArrayList<>(object.size());
+                String violation = null;
+
+                for (Map.Entry<String, Object> entry : object.entrySet())
+                {
+                    if (entry.getKey().equalsIgnoreCase(tableSchema.getKeyColumn()))
+                    {
+                        continue;
+                    }
+
+                    ColumnDefinition column = tableSchema.getColumn(entry.getKey()).orElse(null);
+
+                    if (column == null)
+                    {
+                        violation = "The table has no column named '" + entry.getKey() + "'";
+                        break;
+                    }
+
+                    targetColumns.add(column);
+                    values.add(entry.getValue());
+                }
+
+                if (violation == null)
+                {
+                    violation = validate(targetColumns, values.toArray());
+                }
+
+                if (violation != null)
+                {
+                    run.reject(lineNumber, violation);
+                    continue;
+                }
+
+                RowSchema rowSchema = RowSchema.of(targetColumns.stream().map(ColumnDefinition::getName).toList());
+                batch.add(new DatabaseRow(rowSchema, -1, values.toArray()), lineNumber);
+            }
+            catch (IllegalArgumentException e)
+            {
+                run.reject(lineNumber, e.getMessage());
+                continue;
+            }
+
+            if (batch.size() == batchSize)
+            {
+                enqueue(queue, batch.build(), run);
+                run.bytesRead = reader.getPosition();
+            }
+        }
+
+        enqueue(queue, batch.build(), run);
+        run.bytesRead = reader.getPosition();
+    }
+
+    /**
+     * Checks the values of a record against the definitions of their columns.
+     *
+     * @param columns the definitions of the columns, in the same order as the values
+     * @param values  the values of the record
+     * @return        a description of the first violation, or {@code null} if the values are valid
+     */
+    private static String validate(List<ColumnDefinition> columns, Object[] values)
+    {
+        for (int index = 0; index < values.length; index++)
+        {
+            ColumnDefinition column = columns.get(index);
+            Object value = values[index];
+
+            if (value == null)
+            {
+                if (!column.isNullable())
+                {
+                    return "The column " + column.getName() + " cannot be empty";
+                }
+
+                continue;
+            }
+
+            if (isCharacterType(column.getJdbcType()) && column.getLength() > 0
+                    && value.toString().length() > column.getLength())
+            {
+                return "The value of " + column.getName() + " exceeds " + column.getLength() + " characters";
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether a JDBC type holds character data limited to the length of its column.
+     *
+     * @param jdbcType the JDBC type, as defined in {@link Types}
+     * @return         {@code true} if the type is a fixed or variable length character type, otherwise {@code false}
+     */
+    private static boolean isCharacterType(int jdbcType)
+    {
+        return jdbcType == Types.CHAR || jdbcType == Types.VARCHAR
+                || jdbcType == Types.NCHAR || jdbcType == Types.NVARCHAR;
+    }
+
+    /**
+     * Hands a batch to the workers, waiting while the queue is full. Empty batches are dropped.
+     *
+     * @param queue the queue of batches read by the workers
+     * @param batch the batch to hand over
+     * @param run   the state of the import
+     * @throws InterruptedException if the thread is interrupted while waiting for space in the queue
+     */
+    private void enqueue(BlockingQueue<Batch> queue, Batch batch, Run run) throws InterruptedException
+    {
+        if (batch.rows().isEmpty())
+        {
+            return;
+        }
+
+        while (!cancelled && run.failure.get() == null)
+        {
+            if (queue.offer(batch, 100, TimeUnit.MILLISECONDS))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tells every worker that the file has been read. If the import was cancelled or has failed,
+     * the batches not yet taken by a worker are discarded first.
+     *
+     * @param run   the state of the import
+     * @param queue the queue of batches read by the workers
+     * @throws InterruptedException if the thread is interrupted while waiting for space in the queue
+     */
+    private void finish(Run run, BlockingQueue<Batch> queue) throws InterruptedException
+    {
+        if (cancelled || run.failure.get() != null)
+        {
+            queue.clear();
+        }
+
+        for (int worker = 0; worker < workers; worker++)
+        {
+            queue.put(END_OF_FILE);
+        }
+    }
+
+    /**
+     * Takes batches from the queue and inserts them until the end of the file is reached.
+     *
+     * @param run   the state of the import
+     * @param queue the queue of batches read by the workers
+     */
+    private void insertBatches(Run run, BlockingQueue<Batch> queue)
+    {
+        try
+        {
+            Batch batch;
+
+            while ((batch = queue.take()) != END_OF_FILE)
+            {
+                if (!cancelled && run.failure.get() == null)
+                {
+                    insertBatch(run, batch);
+                    run.report();
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (RuntimeException e)
+        {
+            run.failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Inserts a batch in a single call, falling back to inserting its rows one at a time
+     * if the database refuses the batch, so that only the offending rows are rejected.
+     * The bulk insert commits each column group and chunk separately, so rows that already
+     * received an identifier before the failure were committed and are not inserted again.
+     *
+     * @param run   the state of the import
+     * @param batch the batch to insert
+     */
+    private void insertBatch(Run run, Batch batch)
+    {
+        try
+        {
+            databaseService.insertAll(batch.rows());
+            run.rowsInserted.add(batch.rows().size());
+            return;
+        }
+        catch (DatabaseException ignored)
+        {
+            // One or more rows were refused, the rows are retried individually below to find them.
+        }
+
+        for (int index = 0; index < batch.rows().size(); index++)
+        {
+            DatabaseRow row = batch.rows().get(index);
+
+            if (row.getUniqueId() > 0)
+            {
+                run.rowsInserted.increment();
+                continue;
+            }
+
+            try
+            {
+                databaseService.insert(row);
+                run.rowsInserted.increment();
+            }
+            catch (DatabaseException e)
+            {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                run.reject(batch.lineNumbers()[index], cause.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The rows of a batch together with the lines of the file on which they start.
+     */
+    private record Batch(List<DatabaseRow> rows, long[] lineNumbers) {}
+
+    /**
+     * Collects rows read from the file into a batch.
+     */
+    private static final class BatchBuilder
+    {
+        private List<DatabaseRow> rows = new ArrayList<>();
+        private long[] lineNumbers = new long[16];
+
+        /**
+         * Adds a row to the batch.
+         *
+         * @param row        the row
+         * @param lineNumber the line of the file on which the row starts
+         */
+        void add(DatabaseRow row, long lineNumber)
+        {
+            if (rows.size() == lineNumbers.length)
+            {
+                lineNumbers = Arrays.copyOf(lineNumbers, lineNumbers.length * 2);
+            }
+
+            lineNumbers[rows.size()] = lineNumber;
+            rows.add(row);
+        }
+
+        /**
+         * Returns the number of rows in the batch.
+         *
+         * @return the number of rows
+         */
+        int size()
+        {
+            return rows.size();
+        }
+
+        /**
+         * Returns the batch collected so far and starts a new one.
+         *
+         * @return the collected batch
+         */
+        Batch build()
+        {
+            Batch batch = new Batch(rows, Arrays.copyOf(lineNumbers, rows.size()));
+            rows = new ArrayList<>();
+            return batch;
+        }
+    }
+
+    /**
+     * The counters of a single import, shared between the reader and the workers.
+     */
+    private static final class Run
+    {
+        private final Consumer<ImportProgress> progressListener;
+        private final long startNanos = System.nanoTime();
+        private final LongAdder recordsRead = new LongAdder();
+        private final LongAdder rowsInserted = new LongAdder();
+        private final LongAdder rowsRejected = new LongAdder();
+        private final AtomicInteger rejectedSamples = new AtomicInteger();
+        private final ConcurrentLinkedQueue<RejectedRecord> rejectedRecords = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private volatile long bytesRead;
+        private volatile long totalBytes;
+
+        /**
+         * Constructs a new {@code Run}.
+         *
+         * @param progressListener the listener receiving the progress of the import
+         */
+        Run(Consumer<ImportProgress> progressListener)
+        {
+            this.progressListener = progressListener;
+        }
+
+        /**
+         * Counts a rejected record, keeping its details if fewer than the maximum have been kept so far.
+         *
+         * @param lineNumber the line of the file on which the record starts
+         * @param reason     why the record was rejected
+         */
+        void reject(long lineNumber, String reason)
+        {
+            rowsRejected.increment();
+
+            if (rejectedSamples.getAndIncrement() < MAX_REJECTED_SAMPLES)
+            {
+                rejectedRecords.add(new RejectedRecord(lineNumber, reason));
+            }
+        }
+
+        /**
+         * Passes the current progress to the listener.
+         */
+        void report()
+        {
+            progressListener.accept(progress());
+        }
+
+        /**
+         * Takes a snapshot of the current progress.
+         *
+         * @return the {@link ImportProgress}
+         */
+        ImportProgress progress()
+        {
+            return new ImportProgress(bytesRead, totalBytes, recordsRead.sum(), rowsInserted.sum(),
+                    rowsRejected.sum(), Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes primitive values and UTF-8 text to a channel through a single direct buffer of fixed size.
+ *
+ * <p>Text is encoded straight into the buffer rather than into an intermediate byte array, and large
+ * values are written in buffer-sized pieces, so the memory used does not depend on what is written.
+ * Unpaired surrogates are replaced with {@code '?'}, consistently with {@link #utf8Length(CharSequence)}.
+ * The channel is not closed by the writer.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class ChannelWriter implements Flushable
+{
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long bytesFlushed;
+
+    /**
+     * Constructs a new {@code ChannelWriter}.
+     *
+     * @param channel    the channel to write to
+     * @param bufferSize the size of the buffer in bytes, at least large enough for a {@code long}
+     */
+    ChannelWriter(WritableByteChannel channel, int bufferSize)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, Long.BYTES));
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte, of which only the lowest eight bits are written
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putByte(int value) throws IOException
+    {
+        ensureRemaining(1);
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Writes a big-endian {@code short}.
+     *
+     * @param value the value
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putShort(short value) throws IOException
+    {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    /**
+     * Writes a big-endian {@code int}.
+     *
+     * @param value the value
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putInt(int value) throws IOException
+    {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    /**
+     * Writes a big-endian {@code long}.
+     *
+     * @param value the value
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putLong(long value) throws IOException
+    {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    /**
+     * Writes a byte array.
+     *
+     * @param bytes the bytes
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putBytes(byte[] bytes) throws IOException
+    {
+        int offset = 0;
+
+        while (offset < bytes.length)
+        {
+            ensureRemaining(1);
+
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes text encoded as UTF-8, without a length or terminator.
+     *
+     * @param text the text
+     * @throws IOException if the buffer cannot be flushed to the channel
+     */
+    void putText(CharSequence text) throws IOException
+    {
+        CharBuffer chars = CharBuffer.wrap(text);
+
+        while (encoder.encode(chars, buffer, true) == CoderResult.OVERFLOW)
+        {
+            drain();
+        }
+
+        encoder.reset();
+    }
+
+    /**
+     * Returns the number of bytes written so far, including those still held in the buffer.
+     *
+     * @return the number of bytes written
+     */
+    long getBytesWritten()
+    {
+        return bytesFlushed + buffer.position();
+    }
+
+    /**
+     * Writes the contents of the buffer to the channel.
+     *
+     * @throws IOException if the channel cannot be written to
+     */
+    @Override
+    public void flush() throws IOException
+    {
+        drain();
+    }
+
+    /**
+     * Returns the number of bytes {@link #putText(CharSequence)} writes for the given text.
+     *
+     * @param text the text
+     * @return     the length of the text encoded as UTF-8
+     */
+    static int utf8Length(CharSequence text)
+    {
+        int length = 0;
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            if (character < 0x80)
+            {
+                length++;
+            }
+            else if (character < 0x800)
+            {
+                length += 2;
+            }
+            else if (Character.isHighSurrogate(character) && index + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(index + 1)))
+            {
+                length += 4;
+                index++;
+            }
+            else if (Character.isSurrogate(character))
+            {
+                length++;
+            }
+            else
+            {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Flushes the buffer if it has fewer than the given number of bytes remaining.
+     *
+     * @param bytes the number of bytes about to be written
+     * @throws IOException if the channel cannot be written to
+     */
+    private void ensureRemaining(int bytes) throws IOException
+    {
+        if (buffer.remaining() < bytes)
+        {
+            drain();
+        }
+    }
+
+    /**
+     * Writes the buffer to the channel and clears it.
+     *
+     * @throws IOException if the channel cannot be written to
+     */
+    private void drain() throws IOException
+    {
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+        {
+            bytesFlushed += channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV record into its fields, following RFC 4180.
+ *
+ * <p>Fields are separated by commas. A field starting with a double quote runs until the matching
+ * closing quote, may contain commas and line breaks, and represents a literal quote as two quotes.
+ * An empty unquoted field is returned as {@code null}, so that it can be told apart from an empty
+ * quoted string.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class CsvRecordParser
+{
+    /**
+     * Splits a record into its fields.
+     *
+     * @param record                    the record, without its line terminator
+     * @return                          the fields in order, {@code null} for empty unquoted fields
+     * @throws IllegalArgumentException if a quoted field is not closed or is followed by other text
+     */
+    static List<String> parse(String record)
+    {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int index = 0;
+        int length = record.length();
+
+        while (true)
+        {
+            if (index < length && record.charAt(index) == '"')
+            {
+                index = readQuoted(record, index + 1, field);
+                fields.add(field.toString());
+
+                if (index < length && record.charAt(index) != ',')
+                {
+                    throw new IllegalArgumentException("Unexpected text after a quoted field at position " + (index + 1));
+                }
+            }
+            else
+            {
+                int end = record.indexOf(',', index);
+                end = end < 0 ? length : end;
+                fields.add(end > index ? record.substring(index, end) : null);
+                index = end;
+            }
+
+            if (index >= length)
+            {
+                return fields;
+            }
+
+            field.setLength(0);
+            index++;
+        }
+    }
+
+    /**
+     * Reads a quoted field, replacing doubled quotes with a single quote.
+     *
+     * @param record                    the record
+     * @param index                     the position just after the opening quote
+     * @param field                     the builder receiving the field's text
+     * @return                          the position just after the closing quote
+     * @throws IllegalArgumentException if the field is not closed
+     */
+    private static int readQuoted(String record, int index, StringBuilder field)
+    {
+        int length = record.length();
+
+        while (index < length)
+        {
+            char value = record.charAt(index++);
+
+            if (value != '"')
+            {
+                field.append(value);
+            }
+            else if (index < length && record.charAt(index) == '"')
+            {
+                field.append('"');
+                index++;
+            }
+            else
+            {
+                return index;
+            }
+        }
+
+        throw new IllegalArgumentException("Unterminated quoted field");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the progress of a {@link TableExporter}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ExportProgress
+{
+    private final long rowsScanned;
+    private final long rowsWritten;
+    private final long bytesWritten;
+    private final Duration elapsed;
+
+    /**
+     * Constructs a new {@code ExportProgress}.
+     *
+     * @param rowsScanned  the number of rows read from the table so far
+     * @param rowsWritten  the number of rows written to the file so far
+     * @param bytesWritten the number of bytes written to the file so far
+     * @param elapsed      the time since the export started
+     */
+    public ExportProgress(long rowsScanned, long rowsWritten, long bytesWritten, Duration elapsed)
+    {
+        this.rowsScanned = rowsScanned;
+        this.rowsWritten = rowsWritten;
+        this.bytesWritten = bytesWritten;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the number of rows read from the table so far, including those left out by the filter.
+     *
+     * @return the rows scanned
+     */
+    public long getRowsScanned()
+    {
+        return rowsScanned;
+    }
+
+    /**
+     * Returns the number of rows written to the file so far.
+     *
+     * @return the rows written
+     */
+    public long getRowsWritten()
+    {
+        return rowsWritten;
+    }
+
+    /**
+     * Returns the number of bytes written to the file so far.
+     *
+     * @return the bytes written
+     */
+    public long getBytesWritten()
+    {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the time since the export started.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed()
+    {
+        return elapsed;
+    }
+
+    /**
+     * Returns the mean number of rows written per second since the export started.
+     *
+     * @return the throughput in rows per second
+     */
+    public double getRowsPerSecond()
+    {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? rowsWritten / seconds : 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d rows scanned, %d written, %.1f MB, %.0f rows/s",
+                rowsScanned, rowsWritten, bytesWritten / (1024.0 * 1024.0), getRowsPerSecond());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.nio.file.Path;
+
+/**
+ * The outcome of an export run by a {@link TableExporter}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ExportResult
+{
+    private final Path file;
+    private final ExportProgress progress;
+    private final boolean cancelled;
+
+    /**
+     * Constructs a new {@code ExportResult}.
+     *
+     * @param file      the file the rows were exported to
+     * @param progress  the final progress of the export
+     * @param cancelled whether the export was cancelled, in which case the file was not written
+     */
+    public ExportResult(Path file, ExportProgress progress, boolean cancelled)
+    {
+        this.file = file;
+        this.progress = progress;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Returns the file the rows were exported to.
+     *
+     * @return the file
+     */
+    public Path getFile()
+    {
+        return file;
+    }
+
+    /**
+     * Returns the final progress of the export, holding its totals and throughput.
+     *
+     * @return the final {@link ExportProgress}
+     */
+    public ExportProgress getProgress()
+    {
+        return progress;
+    }
+
+    /**
+     * Returns whether the export was cancelled, in which case the file was left untouched.
+     *
+     * @return {@code true} if the export was cancelled, otherwise {@code false}
+     */
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    @Override
+    public String toString()
+    {
+        return (cancelled ? "Cancelled: " : "Exported to " + file.getFileName() + ": ") + progress;
+    }
+}
\ No newline at end of file
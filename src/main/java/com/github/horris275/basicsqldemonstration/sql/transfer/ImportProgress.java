@@ -0,0 +1,128 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the progress of a {@link BulkImporter}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ImportProgress
+{
+    private final long bytesRead;
+    private final long totalBytes;
+    private final long recordsRead;
+    private final long rowsInserted;
+    private final long rowsRejected;
+    private final Duration elapsed;
+
+    /**
+     * Constructs a new {@code ImportProgress}.
+     *
+     * @param bytesRead    the number of bytes of the file read so far
+     * @param totalBytes   the size of the file
+     * @param recordsRead  the number of records read so far
+     * @param rowsInserted the number of rows inserted so far
+     * @param rowsRejected the number of records rejected so far
+     * @param elapsed      the time since the import started
+     */
+    public ImportProgress(long bytesRead, long totalBytes, long recordsRead, long rowsInserted, long rowsRejected,
+                          Duration elapsed)
+    {
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+        this.recordsRead = recordsRead;
+        this.rowsInserted = rowsInserted;
+        this.rowsRejected = rowsRejected;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Returns the number of bytes of the file read so far.
+     *
+     * @return the bytes read
+     */
+    public long getBytesRead()
+    {
+        return bytesRead;
+    }
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return the total bytes
+     */
+    public long getTotalBytes()
+    {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the fraction of the file read so far.
+     *
+     * @return the fraction between {@code 0} and {@code 1}
+     */
+    public double getFractionRead()
+    {
+        return totalBytes == 0 ? 1 : (double) bytesRead / totalBytes;
+    }
+
+    /**
+     * Returns the number of records read so far, including those rejected.
+     *
+     * @return the records read
+     */
+    public long getRecordsRead()
+    {
+        return recordsRead;
+    }
+
+    /**
+     * Returns the number of rows inserted so far.
+     *
+     * @return the rows inserted
+     */
+    public long getRowsInserted()
+    {
+        return rowsInserted;
+    }
+
+    /**
+     * Returns the number of records rejected so far.
+     *
+     * @return the records rejected
+     */
+    public long getRowsRejected()
+    {
+        return rowsRejected;
+    }
+
+    /**
+     * Returns the time since the import started.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed()
+    {
+        return elapsed;
+    }
+
+    /**
+     * Returns the mean number of rows inserted per second since the import started.
+     *
+     * @return the throughput in rows per second
+     */
+    public double getRowsPerSecond()
+    {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? rowsInserted / seconds : 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%.1f%% read, %d records, %d inserted, %d rejected, %.0f rows/s",
+                getFractionRead() * 100, recordsRead, rowsInserted, rowsRejected, getRowsPerSecond());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.util.List;
+
+/**
+ * The outcome of an import run by a {@link BulkImporter}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class ImportResult
+{
+    private final ImportProgress progress;
+    private final List<RejectedRecord> rejectedRecords;
+    private final boolean cancelled;
+
+    /**
+     * Constructs a new {@code ImportResult}.
+     *
+     * @param progress        the final progress of the import
+     * @param rejectedRecords the first of the rejected records
+     * @param cancelled       whether the import was cancelled before the end of the file
+     */
+    public ImportResult(ImportProgress progress, List<RejectedRecord> rejectedRecords, boolean cancelled)
+    {
+        this.progress = progress;
+        this.rejectedRecords = List.copyOf(rejectedRecords);
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Returns the final progress of the import, holding its totals and throughput.
+     *
+     * @return the final {@link ImportProgress}
+     */
+    public ImportProgress getProgress()
+    {
+        return progress;
+    }
+
+    /**
+     * Returns the first of the rejected records. Only a bounded number are kept;
+     * the total is given by {@link ImportProgress#getRowsRejected()}.
+     *
+     * @return an unmodifiable list of {@link RejectedRecord}s in no particular order
+     */
+    public List<RejectedRecord> getRejectedRecords()
+    {
+        return rejectedRecords;
+    }
+
+    /**
+     * Returns whether the import was cancelled before the end of the file.
+     *
+     * @return {@code true} if the import was cancelled, otherwise {@code false}
+     */
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    @Override
+    public String toString()
+    {
+        return (cancelled ? "Cancelled: " : "Completed: ") + progress;
+    }
+}
\ No newline at end of file
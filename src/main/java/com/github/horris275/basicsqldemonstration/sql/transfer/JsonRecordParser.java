@@ -0,0 +1,285 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses a JSON Lines record holding a single flat JSON object.
+ *
+ * <p>Values may be strings, numbers, {@code true}, {@code false} or {@code null}; nested objects
+ * and arrays are rejected, as they have no column to go into. Integral numbers are returned as
+ * {@link Long} and other numbers as {@link Double}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class JsonRecordParser
+{
+    private final String record;
+    private int index;
+
+    /**
+     * Constructs a new {@code JsonRecordParser} positioned at the start of the record.
+     *
+     * @param record the record
+     */
+    private JsonRecordParser(String record)
+    {
+        this.record = record;
+    }
+
+    /**
+     * Parses a record into its keys and values.
+     *
+     * @param record                    the record, without its line terminator
+     * @return                          the values keyed by name, in the order they appear
+     * @throws IllegalArgumentException if the record is not a flat JSON object
+     */
+    static Map<String, Object> parse(String record)
+    {
+        return new JsonRecordParser(record).parseObject();
+    }
+
+    /**
+     * Parses the object making up the whole record.
+     *
+     * @return the values keyed by name
+     */
+    private Map<String, Object> parseObject()
+    {
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        expect('{');
+
+        if (peek() == '}')
+        {
+            index++;
+        }
+        else
+        {
+            while (true)
+            {
+                String key = parseString();
+                expect(':');
+
+                if (values.put(key, parseValue()) != null)
+                {
+                    throw error("Duplicate key \"" + key + "\"");
+                }
+
+                char separator = next();
+
+                if (separator == '}')
+                {
+                    break;
+                }
+
+                if (separator != ',')
+                {
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        if (peek() != 0)
+        {
+            throw error("Unexpected text after the object");
+        }
+
+        return values;
+    }
+
+    /**
+     * Parses a single value.
+     *
+     * @return the value
+     */
+    private Object parseValue()
+    {
+        char value = peek();
+
+        if (value == '"')
+        {
+            return parseString();
+        }
+
+        if (value == '-' || value >= '0' && value <= '9')
+        {
+            return parseNumber();
+        }
+
+        if (record.startsWith("true", index))
+        {
+            index += 4;
+            return Boolean.TRUE;
+        }
+
+        if (record.startsWith("false", index))
+        {
+            index += 5;
+            return Boolean.FALSE;
+        }
+
+        if (record.startsWith("null", index))
+        {
+            index += 4;
+            return null;
+        }
+
+        throw error(value == '{' || value == '[' ? "Nested values are not supported" : "Unexpected value");
+    }
+
+    /**
+     * Parses a string, resolving its escape sequences.
+     *
+     * @return the string
+     */
+    private String parseString()
+    {
+        expect('"');
+
+        StringBuilder text = new StringBuilder();
+
+        while (index < record.length())
+        {
+            char value = record.charAt(index++);
+
+            if (value == '"')
+            {
+                return text.toString();
+            }
+
+            if (value != '\\')
+            {
+                text.append(value);
+                continue;
+            }
+
+            if (index >= record.length())
+            {
+                break;
+            }
+
+            char escaped = record.charAt(index++);
+
+            switch (escaped)
+            {
+                case '"', '\\', '/' -> text.append(escaped);
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' ->
+                {
+                    if (index + 4 > record.length())
+                    {
+                        throw error("Incomplete unicode escape");
+                    }
+
+                    text.append((char) Integer.parseInt(record, index, index + 4, 16));
+                    index += 4;
+                }
+                default -> throw error("Invalid escape '\\" + escaped + "'");
+            }
+        }
+
+        throw error("Unterminated string");
+    }
+
+    /**
+     * Parses a number.
+     *
+     * @return the number as a {@link Long} if it is integral and fits, otherwise as a {@link Double}
+     */
+    private Number parseNumber()
+    {
+        int start = index;
+        boolean integral = true;
+
+        while (index < record.length())
+        {
+            char value = record.charAt(index);
+
+            if (value == '.' || value == 'e' || value == 'E')
+            {
+                integral = false;
+            }
+            else if (!(value == '-' || value == '+' || value >= '0' && value <= '9'))
+            {
+                break;
+            }
+
+            index++;
+        }
+
+        String number = record.substring(start, index);
+
+        try
+        {
+            return integral ? (Number) Long.parseLong(number) : (Number) Double.parseDouble(number);
+        }
+        catch (NumberFormatException e)
+        {
+            try
+            {
+                return Double.parseDouble(number);
+            }
+            catch (NumberFormatException invalid)
+            {
+                throw error("Invalid number \"" + number + "\"");
+            }
+        }
+    }
+
+    /**
+     * Skips whitespace and consumes the given character.
+     *
+     * @param expected the character expected next
+     */
+    private void expect(char expected)
+    {
+        if (next() != expected)
+        {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    /**
+     * Skips whitespace and consumes the next character.
+     *
+     * @return the next character, or {@code 0} at the end of the record
+     */
+    private char next()
+    {
+        char value = peek();
+        index++;
+        return value;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     *
+     * @return the next character, or {@code 0} at the end of the record
+     */
+    private char peek()
+    {
+        while (index < record.length() && Character.isWhitespace(record.charAt(index)))
+        {
+            index++;
+        }
+
+        return index < record.length() ? record.charAt(index) : 0;
+    }
+
+    /**
+     * Creates the exception describing a syntax error at the current position.
+     *
+     * @param message the description of the error
+     * @return        the exception to throw
+     */
+    private IllegalArgumentException error(String message)
+    {
+        return new IllegalArgumentException(message + " at position " + (index + 1));
+    }
+}
\ No newline at end of file
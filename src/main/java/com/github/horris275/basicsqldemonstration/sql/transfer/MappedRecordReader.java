@@ -0,0 +1,234 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the records of a text file one at a time through a memory-mapped window.
+ *
+ * <p>The file is mapped in windows of {@value #WINDOW_SIZE} bytes by default, so files of any size are read
+ * without loading them onto the heap and without a copy through a read buffer. A record is a line
+ * terminated by {@code \n} or {@code \r\n}. When reading CSV, line breaks inside double quotes are
+ * part of the record rather than terminating it. The reader is not thread safe.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class MappedRecordReader implements Closeable
+{
+    private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final boolean quoteAware;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long lineNumber;
+    private long recordLineNumber;
+    private long quotedLineBreaks;
+    private byte[] recordBytes = new byte[1024];
+
+    /**
+     * Opens a file for reading its records.
+     *
+     * @param file          the file to read
+     * @param quoteAware    whether line breaks within double quotes belong to the record, as in CSV
+     * @throws IOException  if the file cannot be opened
+     */
+    MappedRecordReader(Path file, boolean quoteAware) throws IOException
+    {
+        this(file, quoteAware, WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a file for reading its records through windows of the given size.
+     *
+     * @param file          the file to read
+     * @param quoteAware    whether line breaks within double quotes belong to the record, as in CSV
+     * @param windowSize    the number of bytes mapped at a time
+     * @throws IOException  if the file cannot be opened
+     */
+    MappedRecordReader(Path file, boolean quoteAware, int windowSize) throws IOException
+    {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.quoteAware = quoteAware;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads the next record, skipping blank lines.
+     *
+     * @return              the record without its line terminator, or {@code null} at the end of the file
+     * @throws IOException  if the file cannot be read
+     */
+    String next() throws IOException
+    {
+        while (position < size)
+        {
+            long start = position;
+            long end = findRecordEnd(start);
+            long next = end < size ? end + 1 : end;
+
+            recordLineNumber = ++lineNumber;
+            lineNumber += quotedLineBreaks;
+            position = next;
+
+            if (end > start && byteAt(end - 1) == '\r')
+            {
+                end--;
+            }
+
+            if (end > start)
+            {
+                return decode(start, end);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the line on which the record last returned by {@link #next()} starts, counted from {@code 1}.
+     *
+     * @return the line number of the last record
+     */
+    long getLineNumber()
+    {
+        return recordLineNumber;
+    }
+
+    /**
+     * Returns the number of bytes of the file read so far.
+     *
+     * @return the current position within the file
+     */
+    long getPosition()
+    {
+        return position;
+    }
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return the size in bytes
+     */
+    long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Closes the file. The mapped window is released once it is garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException
+    {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Finds the line break terminating the record starting at the given position,
+     * counting the line breaks passed within quotes on the way.
+     *
+     * @param start         the position of the first byte of the record
+     * @return              the position of the terminating {@code \n}, or the size of the file if there is none
+     * @throws IOException  if the file cannot be read
+     */
+    private long findRecordEnd(long start) throws IOException
+    {
+        boolean quoted = false;
+        quotedLineBreaks = 0;
+
+        for (long index = start; index < size; index++)
+        {
+            byte value = byteAt(index);
+
+            if (value == '"' && quoteAware)
+            {
+                quoted = !quoted;
+            }
+            else if (value == '\n')
+            {
+                if (!quoted)
+                {
+                    return index;
+                }
+
+                quotedLineBreaks++;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Decodes a range of the file as UTF-8.
+     *
+     * @param start         the position of the first byte
+     * @param end           the position after the last byte
+     * @return              the decoded text
+     * @throws IOException  if the file cannot be read
+     */
+    private String decode(long start, long end) throws IOException
+    {
+        int length = Math.toIntExact(end - start);
+
+        if (recordBytes.length < length)
+        {
+            recordBytes = new byte[Math.max(length, recordBytes.length * 2)];
+        }
+
+        for (int offset = 0; offset < length; )
+        {
+            long index = start + offset;
+            ensureMapped(index);
+
+            int available = (int) Math.min(length - offset, windowStart + window.limit() - index);
+            window.get((int) (index - windowStart), recordBytes, offset, available);
+            offset += available;
+        }
+
+        return new String(recordBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the byte at the given position of the file, mapping a new window if necessary.
+     *
+     * @param index         the position within the file
+     * @return              the byte at the position
+     * @throws IOException  if the file cannot be mapped
+     */
+    private byte byteAt(long index) throws IOException
+    {
+        ensureMapped(index);
+        return window.get((int) (index - windowStart));
+    }
+
+    /**
+     * Maps the window of the file containing the given position, unless it is already mapped.
+     *
+     * @param index         the position within the file
+     * @throws IOException  if the file cannot be mapped
+     */
+    private void ensureMapped(long index) throws IOException
+    {
+        if (window != null && index >= windowStart && index < windowStart + window.limit())
+        {
+            return;
+        }
+
+        windowStart = index;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats rows can be imported from and exported to.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public enum RecordFormat
+{
+    /**
+     * Comma-separated values with a header line naming the columns. Fields may be quoted with
+     * double quotes, within which commas, line breaks and doubled quotes are taken literally.
+     */
+    CSV("CSV", true, "csv"),
+
+    /**
+     * One flat JSON object per line, whose keys name the columns.
+     */
+    JSON_LINES("JSON Lines", true, "jsonl", "ndjson"),
+
+    /**
+     * The compact binary encoding written by {@link BinaryRowCodec}. Values keep their types,
+     * but the format can only be exported, not imported.
+     */
+    BINARY("Binary", false, "bsqd");
+
+    private final String displayName;
+    private final boolean textual;
+    private final String[] extensions;
+
+    /**
+     * Constructs a new {@code RecordFormat} recognised by the given file extensions.
+     *
+     * @param displayName the name of the format shown to the user
+     * @param textual     whether the format holds one text record per line
+     * @param extensions  the file extensions, without the leading dot
+     */
+    RecordFormat(String displayName, boolean textual, String... extensions)
+    {
+        this.displayName = displayName;
+        this.textual = textual;
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the name of the format shown to the user.
+     *
+     * @return the display name
+     */
+    public String getDisplayName()
+    {
+        return displayName;
+    }
+
+    /**
+     * Returns whether the format holds one text record per line, as required by {@link BulkImporter}.
+     *
+     * @return {@code true} if the format is textual, otherwise {@code false}
+     */
+    public boolean isTextual()
+    {
+        return textual;
+    }
+
+    /**
+     * Returns the format of a file judging by its extension.
+     *
+     * @param file the file
+     * @return     the format, or empty if the extension is not recognised
+     */
+    public static Optional<RecordFormat> of(Path file)
+    {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+
+        return dot < 0 ? Optional.empty() : fromExtension(fileName.substring(dot + 1));
+    }
+
+    /**
+     * Returns the format using the given file extension.
+     *
+     * @param extension the extension without the leading dot, compared case-insensitively
+     * @return          an {@code Optional} containing the format, or empty if no format uses the extension
+     */
+    public static Optional<RecordFormat> fromExtension(String extension)
+    {
+        String lowerCase = extension.toLowerCase(Locale.ROOT);
+
+        for (RecordFormat format : values())
+        {
+            for (String candidate : format.extensions)
+            {
+                if (candidate.equals(lowerCase))
+                {
+                    return Optional.of(format);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the preferred file extension of the format.
+     *
+     * @return the extension, without the leading dot
+     */
+    public String getExtension()
+    {
+        return extensions[0];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+/**
+ * A record of an imported file that could not be inserted, and why.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class RejectedRecord
+{
+    private final long lineNumber;
+    private final String reason;
+
+    /**
+     * Constructs a new {@code RejectedRecord}.
+     *
+     * @param lineNumber the line of the file on which the record starts, counted from {@code 1}
+     * @param reason     why the record was rejected
+     */
+    public RejectedRecord(long lineNumber, String reason)
+    {
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+    }
+
+    /**
+     * Returns the line of the file on which the record starts.
+     *
+     * @return the line number, counted from {@code 1}
+     */
+    public long getLineNumber()
+    {
+        return lineNumber;
+    }
+
+    /**
+     * Returns why the record was rejected.
+     *
+     * @return the reason
+     */
+    public String getReason()
+    {
+        return reason;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Line " + lineNumber + ": " + reason;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,392 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Streams the rows of the database table into a CSV, JSON Lines or binary file.
+ *
+ * <p>Rows are read through {@link DynamicDatabaseService#streamAll()}, which walks a forward-only
+ * server cursor, and each row is written straight into the buffer of a {@link FileChannel} before the
+ * next one is read. No list of rows is ever built, so the heap used does not depend on the size of the
+ * table. The rows may be narrowed by a filter, which is applied as they stream past.</p>
+ *
+ * <p>The file is written under a temporary name and only moved into place once every row has been
+ * written, so a cancelled or failed export never leaves a partial file behind. CSV and JSON Lines
+ * exports can be imported again by {@link BulkImporter}; the key column is included in each record
+ * but is ignored on import.</p>
+ *
+ * <p>An exporter runs one export at a time.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class TableExporter
+{
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final int PROGRESS_CHECK_MASK = 1023;
+
+    private final DynamicDatabaseService databaseService;
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a new {@code TableExporter}.
+     *
+     * @param databaseService the service used to read the table schema and stream the rows
+     */
+    public TableExporter(DynamicDatabaseService databaseService)
+    {
+        this.databaseService = databaseService;
+    }
+
+    /**
+     * Exports the rows accepted by the filter, blocking until every row has been written or the export is cancelled.
+     * The progress listener is called on the calling thread a few times a second.
+     *
+     * @param file             the file to write, replaced if it already exists
+     * @param format           the format of the file
+     * @param filter           the filter deciding which rows are exported
+     * @param progressListener the listener receiving the progress of the export
+     * @return                 the {@link ExportResult} holding the totals
+     * @throws DatabaseException if the rows cannot be read or the file cannot be written
+     */
+    public ExportResult export(Path file, RecordFormat format, Predicate<DatabaseRow> filter,
+                               Consumer<ExportProgress> progressListener) throws DatabaseException
+    {
+        cancelled = false;
+
+        TableSchema tableSchema = databaseService.retrieveTableSchema();
+        RowSchema schema = tableSchema.getRowSchema();
+        Path partialFile = file.resolveSibling(file.getFileName() + ".part");
+        long startNanos = System.nanoTime();
+        long lastReportNanos = startNanos;
+        long rowsScanned = 0;
+        long rowsWritten = 0;
+        long bytesWritten;
+
+        try
+        {
+            try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 Stream<DatabaseRow> rows = databaseService.streamAll())
+            {
+                ChannelWriter writer = new ChannelWriter(channel, BUFFER_SIZE);
+                StringBuilder line = new StringBuilder();
+                Iterator<DatabaseRow> iterator = rows.iterator();
+
+                writeHeader(writer, format, tableSchema, line);
+
+                while (!cancelled && iterator.hasNext())
+                {
+                    DatabaseRow row = iterator.next();
+                    rowsScanned++;
+
+                    if (filter.test(row))
+                    {
+                        writeRow(writer, format, tableSchema, schema, row, line);
+                        rowsWritten++;
+                    }
+
+                    if ((rowsScanned & PROGRESS_CHECK_MASK) == 0
+                            && System.nanoTime() - lastReportNanos >= PROGRESS_INTERVAL_NANOS)
+                    {
+                        lastReportNanos = System.nanoTime();
+                        progressListener.accept(new ExportProgress(rowsScanned, rowsWritten, writer.getBytesWritten(),
+                                Duration.ofNanos(lastReportNanos - startNanos)));
+                    }
+                }
+
+                if (format == RecordFormat.BINARY)
+                {
+                    BinaryRowCodec.writeTrailer(writer, rowsWritten);
+                }
+
+                writer.flush();
+                bytesWritten = writer.getBytesWritten();
+            }
+
+            if (cancelled)
+            {
+                Files.deleteIfExists(partialFile);
+            }
+            else
+            {
+                Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        catch (IOException e)
+        {
+            deleteQuietly(partialFile);
+            throw new DatabaseException("An error has occurred while writing the file " + file, e);
+        }
+        catch (RuntimeException e)
+        {
+            deleteQuietly(partialFile);
+            throw e;
+        }
+
+        ExportProgress progress = new ExportProgress(rowsScanned, rowsWritten, bytesWritten,
+                Duration.ofNanos(System.nanoTime() - startNanos));
+
+        return new ExportResult(file, progress, cancelled);
+    }
+
+    /**
+     * Cancels the running export. The rows written so far are discarded and the file is left untouched.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Writes what precedes the rows: the header line of a CSV file, or the header of a binary file.
+     *
+     * @param writer      the writer of the file
+     * @param format      the format of the file
+     * @param tableSchema the schema of the table
+     * @param line        a builder to reuse for text
+     * @throws IOException if the header cannot be written
+     */
+    private static void writeHeader(ChannelWriter writer, RecordFormat format, TableSchema tableSchema,
+                                    StringBuilder line) throws IOException
+    {
+        switch (format)
+        {
+            case CSV -> {
+                line.setLength(0);
+                appendCsvValue(line, tableSchema.getKeyColumn());
+
+                for (String columnName : tableSchema.getRowSchema().getColumnNames())
+                {
+                    appendCsvValue(line.append(','), columnName);
+                }
+
+                writer.putText(line.append('\n'));
+            }
+            case BINARY -> BinaryRowCodec.writeHeader(writer, tableSchema.getKeyColumn(), tableSchema.getRowSchema());
+            case JSON_LINES -> {
+                // JSON Lines has no header, each record names its own columns.
+            }
+        }
+    }
+
+    /**
+     * Writes a single row.
+     *
+     * @param writer      the writer of the file
+     * @param format      the format of the file
+     * @param tableSchema the schema of the table
+     * @param schema      the schema of the rows being written
+     * @param row         the row
+     * @param line        a builder to reuse for text
+     * @throws IOException if the row cannot be written
+     */
+    private static void writeRow(ChannelWriter writer, RecordFormat format, TableSchema tableSchema, RowSchema schema,
+                                 DatabaseRow row, StringBuilder line) throws IOException
+    {
+        if (format == RecordFormat.BINARY)
+        {
+            BinaryRowCodec.writeRow(writer, schema, row);
+            return;
+        }
+
+        boolean sameSchema = row.getSchema() == schema;
+        line.setLength(0);
+
+        if (format == RecordFormat.CSV)
+        {
+            line.append(row.getUniqueId());
+
+            for (int index = 0; index < schema.size(); index++)
+            {
+                Object value = sameSchema ? row.getValue(index) : row.getColumn(schema.getColumnName(index));
+                appendCsvValue(line.append(','), value);
+            }
+        }
+        else
+        {
+            appendJsonString(line.append('{'), tableSchema.getKeyColumn());
+            line.append(':').append(row.getUniqueId());
+
+            for (int index = 0; index < schema.size(); index++)
+            {
+                Object value = sameSchema ? row.getValue(index) : row.getColumn(schema.getColumnName(index));
+                appendJsonString(line.append(','), schema.getColumnName(index));
+                appendJsonValue(line.append(':'), value);
+            }
+
+            line.append('}');
+        }
+
+        writer.putText(line.append('\n'));
+    }
+
+    /**
+     * Appends a value as a CSV field. {@code null} becomes an empty field, while an empty string is quoted
+     * so the two can be told apart. Fields holding a separator, quote, line break or surrounding space are quoted.
+     *
+     * @param line  the line being built
+     * @param value the value, may be {@code null}
+     */
+    private static void appendCsvValue(StringBuilder line, Object value)
+    {
+        if (value == null)
+        {
+            return;
+        }
+
+        String text = value instanceof byte[] bytes ? Base64.getEncoder().encodeToString(bytes) : value.toString();
+
+        if (!requiresQuotes(text))
+        {
+            line.append(text);
+            return;
+        }
+
+        line.append('"');
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            if (character == '"')
+            {
+                line.append('"');
+            }
+
+            line.append(character);
+        }
+
+        line.append('"');
+    }
+
+    /**
+     * Checks whether a CSV field must be quoted to be read back unchanged.
+     *
+     * @param text the text of the field
+     * @return     {@code true} if the field must be quoted, otherwise {@code false}
+     */
+    private static boolean requiresQuotes(String text)
+    {
+        if (text.isEmpty() || Character.isWhitespace(text.charAt(0))
+                || Character.isWhitespace(text.charAt(text.length() - 1)))
+        {
+            return true;
+        }
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            if (character == ',' || character == '"' || character == '\n' || character == '\r')
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Appends a value as a JSON value. Integral and decimal numbers and booleans are written as such,
+     * binary values as Base64 strings and everything else, including non-finite numbers, as strings.
+     *
+     * @param line  the line being built
+     * @param value the value, may be {@code null}
+     */
+    private static void appendJsonValue(StringBuilder line, Object value)
+    {
+        switch (value)
+        {
+            case null -> line.append("null");
+            case Boolean bool -> line.append(bool.booleanValue());
+            case Integer number -> line.append(number.intValue());
+            case Long number -> line.append(number.longValue());
+            case Short number -> line.append(number.shortValue());
+            case Byte number -> line.append(number.byteValue());
+            case BigInteger number -> line.append(number);
+            case BigDecimal number -> line.append(number);
+            case Double number when Double.isFinite(number) -> line.append(number.doubleValue());
+            case Float number when Float.isFinite(number) -> line.append(number.floatValue());
+            case byte[] bytes -> appendJsonString(line, Base64.getEncoder().encodeToString(bytes));
+            default -> appendJsonString(line, value.toString());
+        }
+    }
+
+    /**
+     * Appends text as a quoted JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param line the line being built
+     * @param text the text
+     */
+    private static void appendJsonString(StringBuilder line, String text)
+    {
+        line.append('"');
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            char character = text.charAt(index);
+
+            switch (character)
+            {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                case '\b' -> line.append("\\b");
+                case '\f' -> line.append("\\f");
+                default -> {
+                    if (character < 0x20)
+                    {
+                        line.append(String.format("\\u%04x", (int) character));
+                    }
+                    else
+                    {
+                        line.append(character);
+                    }
+                }
+            }
+        }
+
+        line.append('"');
+    }
+
+    /**
+     * Deletes a file, ignoring any error as the export has already failed.
+     *
+     * @param file the file to delete
+     */
+    private static void deleteQuietly(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ignored)
+        {
+            // The original failure is more useful to the caller than this one.
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A copy of rows read from the table, kept on local disk so they can be shown before the database answers.
+ *
+ * <p>The file holds the change watermark from which the rows are current, followed by the rows in the
+ * format of {@link BinaryRowCodec}. It is read back through a memory mapping, so reading a snapshot costs
+ * little more than decoding its rows. A snapshot is only ever a starting point: the caller is expected to
+ * read the changes made since its watermark and to discard it if the table's columns have changed.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class TableSnapshot
+{
+    private static final int MAGIC = 0x534E4150;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String keyColumn;
+    private final RowSchema schema;
+    private final Instant watermark;
+    private final List<DatabaseRow> rows;
+
+    /**
+     * Constructs a new {@code TableSnapshot}.
+     *
+     * @param keyColumn the name of the key column
+     * @param schema    the schema of the rows, which does not include the key column
+     * @param watermark the change watermark from which the rows are current
+     * @param rows      the rows in ascending identifier order
+     */
+    public TableSnapshot(String keyColumn, RowSchema schema, Instant watermark, List<DatabaseRow> rows)
+    {
+        this.keyColumn = keyColumn;
+        this.schema = schema;
+        this.watermark = watermark;
+        this.rows = List.copyOf(rows);
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(Path)}.
+     *
+     * <p>A missing, truncated or unreadable file is treated as having no snapshot, as the rows
+     * can always be read from the database instead.</p>
+     *
+     * @param file the snapshot file
+     * @return     an {@code Optional} containing the snapshot, or empty if there is no usable snapshot
+     */
+    public static Optional<TableSnapshot> read(Path file)
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC)
+            {
+                return Optional.empty();
+            }
+
+            Instant watermark = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            List<String> columnNames = BinaryRowCodec.readHeader(buffer);
+            RowSchema schema = RowSchema.of(columnNames.subList(1, columnNames.size()));
+            List<DatabaseRow> rows = new ArrayList<>();
+            DatabaseRow row;
+
+            while ((row = BinaryRowCodec.readRow(buffer, schema)) != null)
+            {
+                rows.add(row);
+            }
+
+            return Optional.of(new TableSnapshot(columnNames.getFirst(), schema, watermark, rows));
+        }
+        catch (IOException | RuntimeException e)
+        {
+            // A corrupt file may fail in any way while decoding, none of which must prevent startup.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes this snapshot, replacing the file only once it has been written in full.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException
+    {
+        Path directory = file.toAbsolutePath().getParent();
+
+        if (directory != null)
+        {
+            Files.createDirectories(directory);
+        }
+
+        Path partialFile = file.resolveSibling(file.getFileName() + ".part");
+
+        try (FileChannel channel = FileChannel.open(partialFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+        {
+            ChannelWriter writer = new ChannelWriter(channel, BUFFER_SIZE);
+
+            writer.putInt(MAGIC);
+            writer.putLong(watermark.getEpochSecond());
+            writer.putInt(watermark.getNano());
+            BinaryRowCodec.writeHeader(writer, keyColumn, schema);
+
+            for (DatabaseRow row : rows)
+            {
+                BinaryRowCodec.writeRow(writer, schema, row);
+            }
+
+            BinaryRowCodec.writeTrailer(writer, rows.size());
+            writer.flush();
+        }
+
+        Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the name of the key column.
+     *
+     * @return the key column
+     */
+    public String getKeyColumn()
+    {
+        return keyColumn;
+    }
+
+    /**
+     * Returns the schema of the rows, which does not include the key column.
+     *
+     * @return the {@link RowSchema}
+     */
+    public RowSchema getSchema()
+    {
+        return schema;
+    }
+
+    /**
+     * Returns the names of the columns in display order, starting with the key column.
+     *
+     * @return the column names
+     */
+    public List<String> getColumnNames()
+    {
+        List<String> columnNames = new ArrayList<>(schema.size() + 1);
+        columnNames.add(keyColumn);
+        columnNames.addAll(schema.getColumnNames());
+        return columnNames;
+    }
+
+    /**
+     * Returns the change watermark from which the rows are current.
+     *
+     * @return the watermark
+     */
+    public Instant getWatermark()
+    {
+        return watermark;
+    }
+
+    /**
+     * Returns the rows of the snapshot.
+     *
+     * @return an unmodifiable list of rows in ascending identifier order
+     */
+    public List<DatabaseRow> getRows()
+    {
+        return rows;
+    }
+}
\ No newline at end of file
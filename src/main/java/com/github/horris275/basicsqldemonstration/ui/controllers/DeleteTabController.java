@@ -1,8 +1,7 @@
 package com.github.horris275.basicsqldemonstration.ui.controllers;
 
-import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
 import com.github.horris275.basicsqldemonstration.utils.NumberUtils;
 import com.github.horris275.basicsqldemonstration.utils.UIUtils;
 import javafx.event.ActionEvent;
@@ -14,15 +13,15 @@ import javafx.scene.control.TextField;
  * The controller class for the "Delete" tab operations in the user interface.
  *
  * <p>This controller handles the deletion of database rows based on
- * a user-provided unique identifier. It makes use of {@link DynamicDatabaseService}
- * to provide this functionality.</p>
+ * a user-provided unique identifier. It makes use of {@link AsyncDatabaseService}
+ * to provide this functionality, so the deletion runs off the JavaFX Application Thread.</p>
  *
  * @author horris275
- * @version 22.09.2025
+ * @version 16.10.2026
  */
 public class DeleteTabController
 {
-    private final DynamicDatabaseService databaseService;
+    private final AsyncDatabaseService databaseService;
     @FXML private TextField idField;
 
     /**
@@ -30,13 +29,14 @@ public class DeleteTabController
      *
      * @param databaseService the service used to access and modify the database
      */
-    public DeleteTabController(DynamicDatabaseService databaseService)
+    public DeleteTabController(AsyncDatabaseService databaseService)
     {
         this.databaseService = databaseService;
     }
 
     /**
      * Handles the submit action for the delete operation.
+     * The row is deleted in a single statement, whose affected row count tells whether it existed.
      *
      * @param event the action triggered by the user
      */
@@ -45,38 +45,21 @@ public class DeleteTabController
     {
         int id = NumberUtils.toInteger(idField.getText());
 
-        if (!validateInput(id))
+        if (id <= 0)
         {
             UIUtils.alert("Please enter a valid integer that represents a data row!", Alert.AlertType.WARNING);
             return;
         }
 
-        try
-        {
-            databaseService.delete(id);
-            UIUtils.alert("Entry " + id + " has been successfully deleted from the database!", Alert.AlertType.INFORMATION);
-        }
-        catch (DatabaseException e)
-        {
-            UIUtils.alert("Database error: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
-    }
-
-    /**
-     * Validates the user input by checking if a row with a given identifier exists.
-     *
-     * @param id the unique identifier of the row to validate
-     * @return   {@code true} if the identifier exists in the database, otherwise {@code false}
-     */
-    private boolean validateInput(int id)
-    {
-        try
-        {
-            return databaseService.check(id);
-        }
-        catch (DatabaseException e)
-        {
-            return false;
-        }
+        UITaskGroup.deliver(databaseService.delete(id), result -> {
+            if (result.isAffected())
+            {
+                UIUtils.alert("Entry " + id + " has been successfully deleted from the database!", Alert.AlertType.INFORMATION);
+            }
+            else
+            {
+                UIUtils.alert("Please enter a valid integer that represents a data row!", Alert.AlertType.WARNING);
+            }
+        });
     }
 }
\ No newline at end of file
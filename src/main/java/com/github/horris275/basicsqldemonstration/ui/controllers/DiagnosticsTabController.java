@@ -0,0 +1,201 @@
+package com.github.horris275.basicsqldemonstration.ui.controllers;
+
+import com.github.horris275.basicsqldemonstration.sql.metrics.ConnectionPoolMXBean;
+import com.github.horris275.basicsqldemonstration.sql.metrics.LatencySnapshot;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.sql.search.FullTextIndex;
+import com.github.horris275.basicsqldemonstration.ui.startup.StartupTimings;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The controller class for the "Diagnostics" tab in the user interface.
+ *
+ * <p>This controller shows the figures recorded for each database operation: the number of calls,
+ * the throughput since the previous refresh, the latency percentiles, the errors and the rows
+ * returned or affected. The connection pool's size, acquire times and statement cache hit ratio
+ * are shown below the table, followed by the size of the full-text search index, the errors grouped
+ * by cause and the time the application took to start.</p>
+ *
+ * <p>The figures are refreshed every second while {@link #startRefreshing()} is in effect. Reading
+ * them only sums counters, so refreshing does not touch the database.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class DiagnosticsTabController
+{
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(1);
+
+    private final List<OperationMetrics> operationMetrics;
+    private final ConnectionPoolMXBean poolMetrics;
+    private final FullTextIndex searchIndex;
+    private final StartupTimings startupTimings;
+    private final ObservableList<OperationFigures> figures = FXCollections.observableArrayList();
+    private final Map<String, Long> previousCounts = new HashMap<>();
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+    private long previousRefreshNanos;
+    @FXML private TableView<OperationFigures> table;
+    @FXML private Label poolLabel;
+    @FXML private Label searchIndexLabel;
+    @FXML private Label errorsLabel;
+    @FXML private Label startupLabel;
+
+    /**
+     * Constructs a new {@code DiagnosticsTabController} reporting on the given metrics.
+     *
+     * @param operationMetrics the metrics of each database operation
+     * @param poolMetrics      the metrics of the connection pool
+     * @param searchIndex      the full-text index searched by the Display tab
+     * @param startupTimings   the time the application took to start
+     */
+    public DiagnosticsTabController(List<OperationMetrics> operationMetrics, ConnectionPoolMXBean poolMetrics,
+                                    FullTextIndex searchIndex, StartupTimings startupTimings)
+    {
+        this.operationMetrics = operationMetrics;
+        this.poolMetrics = poolMetrics;
+        this.searchIndex = searchIndex;
+        this.startupTimings = startupTimings;
+        this.refreshTimeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Creates the table columns and shows the current figures.
+     */
+    public void initialize()
+    {
+        table.setItems(figures);
+
+        addColumn("Operation", OperationFigures::operation);
+        addColumn("Calls", row -> String.valueOf(row.count()));
+        addColumn("Calls/s", row -> String.format("%.1f", row.rate()));
+        addColumn("Mean (ms)", row -> formatMillis(row.latency().getMeanNanos()));
+        addColumn("p50 (ms)", row -> formatMillis(row.latency().getP50Nanos()));
+        addColumn("p95 (ms)", row -> formatMillis(row.latency().getP95Nanos()));
+        addColumn("p99 (ms)", row -> formatMillis(row.latency().getP99Nanos()));
+        addColumn("Max (ms)", row -> formatMillis(row.latency().getMaximumNanos()));
+        addColumn("Errors", row -> String.valueOf(row.errors()));
+        addColumn("Rows", row -> String.valueOf(row.rows()));
+
+        refresh();
+    }
+
+    /**
+     * Refreshes the figures immediately and then every second until {@link #stopRefreshing()} is called.
+     */
+    public void startRefreshing()
+    {
+        refresh();
+        refreshTimeline.play();
+    }
+
+    /**
+     * Stops refreshing the figures, for example while the tab is not visible.
+     */
+    public void stopRefreshing()
+    {
+        refreshTimeline.stop();
+    }
+
+    /**
+     * Clears every recorded figure when the reset button is pressed.
+     */
+    @FXML
+    private void handleReset()
+    {
+        operationMetrics.forEach(OperationMetrics::reset);
+        previousCounts.clear();
+        refresh();
+    }
+
+    /**
+     * Reads the current figures of every operation and of the connection pool.
+     * The throughput of each operation is computed from the calls made since the previous refresh.
+     */
+    private void refresh()
+    {
+        long now = System.nanoTime();
+        double elapsedSeconds = (double) (now - previousRefreshNanos) / TimeUnit.SECONDS.toNanos(1);
+        List<OperationFigures> current = new ArrayList<>(operationMetrics.size());
+        Map<String, Long> errorsByCause = new TreeMap<>();
+
+        for (OperationMetrics metrics : operationMetrics)
+        {
+            LatencySnapshot latency = metrics.getLatency();
+            long count = latency.getCount();
+            Long previousCount = previousCounts.put(metrics.getOperation(), count);
+            double rate = previousCount != null && elapsedSeconds > 0 ? (count - previousCount) / elapsedSeconds : 0;
+
+            current.add(new OperationFigures(metrics.getOperation(), count, rate, latency,
+                    metrics.getErrorCount(), metrics.getRowCount()));
+            metrics.getErrorsByCause().forEach((cause, errors) -> errorsByCause.merge(cause, errors, Long::sum));
+        }
+
+        previousRefreshNanos = now;
+        figures.setAll(current);
+
+        poolLabel.setText(String.format("Connection pool: %d active, %d idle, %d created, %d evicted, %d timeouts. "
+                        + "Acquire p50 %.3f ms, p99 %.3f ms, max %.3f ms. Statement cache hit ratio %.1f%%.",
+                poolMetrics.getActiveConnections(), poolMetrics.getIdleConnections(), poolMetrics.getCreatedCount(),
+                poolMetrics.getEvictedCount(), poolMetrics.getTimeoutCount(), poolMetrics.getAcquireP50Millis(),
+                poolMetrics.getAcquireP99Millis(), poolMetrics.getAcquireMaxMillis(),
+                poolMetrics.getStatementCacheHitRatio() * 100));
+        searchIndexLabel.setText("Search index: " + searchIndex.getStatistics() + ".");
+        errorsLabel.setText(errorsByCause.isEmpty() ? "No errors recorded." : "Errors by cause: " + errorsByCause);
+        startupLabel.setText(startupTimings.toString());
+    }
+
+    /**
+     * Adds a column showing the text produced by the given function for each row.
+     *
+     * @param name  the column header
+     * @param value the function producing the text of a cell
+     */
+    private void addColumn(String name, Function<OperationFigures, String> value)
+    {
+        TableColumn<OperationFigures, String> tableColumn = new TableColumn<>(name);
+        tableColumn.setCellValueFactory(cellData -> new SimpleStringProperty(value.apply(cellData.getValue())));
+        table.getColumns().add(tableColumn);
+    }
+
+    /**
+     * Formats a latency in nanoseconds as milliseconds with microsecond precision.
+     *
+     * @param nanos the latency in nanoseconds
+     * @return      the formatted latency
+     */
+    private static String formatMillis(double nanos)
+    {
+        return String.format("%.3f", LatencySnapshot.toMillis(nanos));
+    }
+
+    /**
+     * The figures of one operation shown in a row of the table.
+     *
+     * @param operation the name of the operation
+     * @param count     the number of calls
+     * @param rate      the calls per second since the previous refresh
+     * @param latency   the distribution of the latencies
+     * @param errors    the number of failed calls
+     * @param rows      the number of rows returned or affected
+     */
+    private record OperationFigures(String operation, long count, double rate, LatencySnapshot latency,
+                                    long errors, long rows) {}
+}
\ No newline at end of file
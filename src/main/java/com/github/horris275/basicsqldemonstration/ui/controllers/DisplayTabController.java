@@ -1,60 +1,288 @@
 package com.github.horris275.basicsqldemonstration.ui.controllers;
 
-import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.ChangeSet;
 import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.IndexingDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.query.ColumnFilter;
+import com.github.horris275.basicsqldemonstration.sql.query.FilterOperator;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+import com.github.horris275.basicsqldemonstration.sql.transfer.TableSnapshot;
+import com.github.horris275.basicsqldemonstration.ui.paging.PagedRowWindow;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
 import com.github.horris275.basicsqldemonstration.utils.UIUtils;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The controller class for the "Display" tab operations in the user interface.
  *
  * <p>This controller handles the updating of database rows when interacting
- * with the display tab. It makes use of {@link DynamicDatabaseService} to provide functionality.</p>
+ * with the display tab. It makes use of {@link AsyncDatabaseService} to provide functionality,
+ * so every query runs off the JavaFX Application Thread and the table is updated once it completes.</p>
  *
  * <p>It also makes use of the {@code #initialize} method to create the table columns dynamically</p>
  *
+ * <p>Rows are loaded a page at a time using keyset pagination. Scrolling close to either
+ * end of the loaded rows fetches the adjacent page, and pages far away from the visible
+ * rows are evicted by the {@link PagedRowWindow}, so only a bounded number of rows is held.
+ * Page loads still pending when the user leaves the tab are cancelled.</p>
+ *
+ * <p>Returning to the tab refreshes it incrementally: only the rows inserted, updated or deleted
+ * since the previous load are read and patched into the loaded rows in place, which keeps the
+ * selection and scroll position. The table is only reloaded from the start if the changes could
+ * not be read in full.</p>
+ *
+ * <p>The first page is saved to a {@link TableSnapshot} when the application closes and shown
+ * as soon as the tab is created on the next start, before the database has answered. The
+ * snapshot is then reconciled by the same incremental refresh, reading only the changes made
+ * since it was taken, and discarded if the table's columns have changed in the meantime.</p>
+ *
+ * <p>The filter bar and the column headers narrow and sort the rows through a {@link RowQuery}, which is
+ * carried out by the database, so only the matching rows are read. While a filter or sort is applied, pages
+ * continue from the first or last row loaded in the query's order, and returning to the tab reads the first
+ * page again rather than patching in changes, as changed rows may no longer match or belong elsewhere.</p>
+ *
+ * <p>The search field looks the typed keywords up in the in-memory full-text index of an
+ * {@link IndexingDatabaseService} once typing has paused for {@code SEARCH_DELAY}, and narrows the rows to
+ * those found with an {@link FilterOperator#IN} condition on the key column, combined with the filter bar's
+ * condition, so a burst of keystrokes costs a single query. Until the index has been built, the field reports
+ * that it is building and the typed text is searched once it is ready. The field is disabled for a table
+ * without any column to search.</p>
+ *
+ * <p>Columns can be hidden from the menu at the right of the column headers. While any column is hidden,
+ * pages are read with a projection of the visible columns only, so hidden columns are neither transferred
+ * nor held. When a hidden column is shown again, the rows already loaded are filled in by reading just the
+ * missing columns, {@value #PAGE_SIZE} rows at a time. No snapshot is saved while the first page is
+ * partially loaded.</p>
+ *
  * @author horris275
- * @version 01.10.2025
+ * @version 16.10.2026
  */
 public class DisplayTabController
 {
-    private final DynamicDatabaseService databaseService;
+    private static final int PAGE_SIZE = 100;
+    private static final int MAXIMUM_PAGES = 5;
+    private static final int PREFETCH_DISTANCE = 20;
+    private static final int CHANGE_LIMIT = PAGE_SIZE * MAXIMUM_PAGES;
+    private static final int SEARCH_LIMIT = 1_000;
+    private static final Duration SEARCH_DELAY = Duration.millis(200);
+
+    private final AsyncDatabaseService databaseService;
+    private final IndexingDatabaseService searchService;
+    private final Path snapshotFile;
+    private final PagedRowWindow pagedRows = new PagedRowWindow(PAGE_SIZE, MAXIMUM_PAGES);
+    private final UITaskGroup pageTasks = new UITaskGroup();
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+    private final Map<Integer, List<String>> hydratingColumns = new HashMap<>();
+    private boolean searchIndexBuilt;
+    private boolean searchIndexFailed;
+    private boolean pageRequested;
+    private Instant watermark;
+    private String keyColumnName;
+    private RowSchema rowSchema;
+    private TableSchema tableSchema;
+    private RowQuery query = RowQuery.builder().build();
+    private ColumnFilter barFilter;
+    private ColumnFilter searchFilter;
     @FXML private TableView<DatabaseRow> table;
+    @FXML private ChoiceBox<String> filterColumn;
+    @FXML private ChoiceBox<FilterOperator> filterOperator;
+    @FXML private TextField filterValue;
+    @FXML private TextField searchField;
+    @FXML private Label searchStatus;
 
     /**
-     * Constructs a new {@code DisplayTabController} with the given database service.
+     * Constructs a new {@code DisplayTabController} with the given database services.
      *
      * @param databaseService the service used to retrieve the database rows
+     * @param searchService   the service whose full-text index is searched as the user types
+     * @param snapshotFile    the file holding the snapshot of the first page
      */
-    public DisplayTabController(DynamicDatabaseService databaseService)
+    public DisplayTabController(AsyncDatabaseService databaseService, IndexingDatabaseService searchService,
+                                Path snapshotFile)
     {
         this.databaseService = databaseService;
+        this.searchService = searchService;
+        this.snapshotFile = snapshotFile;
     }
 
     /**
-     * Creates a {@link TableColumn} for each column name retrieved from the database.
+     * Binds the table to the loaded rows, sets up the filter bar and the search field and shows the snapshot
+     * of the first page if there is one. Sorting by a column header is handed to the database rather than
+     * done in place.
+     * Nothing is read from the database until {@link #start()} is called.
      */
     public void initialize()
     {
-        List<String> columnNames = databaseService.retrieveColumnNames();
+        table.setItems(pagedRows.getRows());
+        table.setTableMenuButtonVisible(true);
+        table.setSortPolicy(tableView -> {
+            applySortOrder();
+            return true;
+        });
+        table.setRowFactory(tableView -> new TableRow<>()
+        {
+            @Override
+            public void updateIndex(int index)
+            {
+                super.updateIndex(index);
+                requestPageNear(index);
+            }
+        });
+
+        filterOperator.getItems().setAll(FilterOperator.values());
+        filterOperator.setValue(FilterOperator.CONTAINS);
+        filterOperator.setConverter(new StringConverter<>()
+        {
+            @Override
+            public String toString(FilterOperator operator)
+            {
+                return operator == null ? "" : operator.getDisplayName();
+            }
+
+            @Override
+            public FilterOperator fromString(String text)
+            {
+                return null;
+            }
+        });
+        filterValue.disableProperty().bind(filterOperator.valueProperty().map(operator -> !operator.takesValue()));
+        searchDelay.setOnFinished(event -> search(searchField.getText()));
+        searchField.textProperty().addListener((observable, oldText, newText) -> searchDelay.playFromStart());
+        searchService.whenIndexBuilt().whenCompleteAsync((result, failure) -> {
+            searchIndexBuilt = failure == null;
+            searchIndexFailed = failure != null;
+
+            if (searchIndexBuilt && !searchService.isSearchable())
+            {
+                searchField.setDisable(true);
+                searchStatus.setText("This table has no columns to search");
+                return;
+            }
+
+            if (searchIndexBuilt)
+            {
+                searchField.setPromptText("Keywords in " + String.join(", ", searchService.getIndex().getColumnNames()));
+            }
+
+            search(searchField.getText());
+        }, Platform::runLater);
+
+        TableSnapshot.read(snapshotFile).ifPresent(this::restoreSnapshot);
+    }
+
+    /**
+     * Starts reading the {@link TableSchema} used to create or verify the columns and, at the same time,
+     * the first page or the changes made since the snapshot. The two reads run in parallel.
+     *
+     * @return a future completed once both have been read from the database
+     */
+    public CompletableFuture<Void> start()
+    {
+        CompletableFuture<TableSchema> schemaRead = databaseService.retrieveTableSchema();
+        UITaskGroup.deliver(schemaRead, this::applyTableSchema);
+
+        return CompletableFuture.allOf(schemaRead, refreshTable());
+    }
+
+    /**
+     * Shows the rows of a snapshot and takes its watermark, so the next refresh reads only the changes made since.
+     *
+     * @param snapshot the snapshot of the first page
+     */
+    private void restoreSnapshot(TableSnapshot snapshot)
+    {
+        keyColumnName = snapshot.getKeyColumn();
+        rowSchema = snapshot.getSchema();
+        watermark = snapshot.getWatermark();
+
+        createColumns(snapshot.getColumnNames());
+        pagedRows.reset(snapshot.getRows());
+    }
+
+    /**
+     * Creates the columns from the {@link TableSchema}, unless they were already created from a snapshot
+     * with the same columns. If the snapshot's columns differ, its rows are discarded and the table is reloaded.
+     *
+     * @param tableSchema the schema of the displayed table
+     */
+    private void applyTableSchema(TableSchema tableSchema)
+    {
+        boolean restored = rowSchema != null;
+        boolean unchanged = restored && tableSchema.getKeyColumn().equals(keyColumnName)
+                && tableSchema.getRowSchema().getColumnNames().equals(rowSchema.getColumnNames());
+
+        keyColumnName = tableSchema.getKeyColumn();
+        rowSchema = tableSchema.getRowSchema();
+        this.tableSchema = tableSchema;
+
+        if (unchanged)
+        {
+            return;
+        }
 
+        table.getColumns().clear();
+        createColumns(tableSchema.getColumnNames());
+
+        if (restored)
+        {
+            query = RowQuery.builder().build();
+            barFilter = null;
+            searchFilter = null;
+            searchField.clear();
+            updateTable();
+        }
+    }
+
+    /**
+     * Creates a {@link TableColumn} for each of the given columns, showing the identifier in the key column.
+     *
+     * @param columnNames the names of the columns in display order
+     */
+    private void createColumns(List<String> columnNames)
+    {
         for (String columnName : columnNames)
         {
+            boolean keyColumn = columnName.equalsIgnoreCase(keyColumnName);
             TableColumn<DatabaseRow, String> tableColumn = new TableColumn<>(columnName);
 
+            if (!keyColumn)
+            {
+                tableColumn.visibleProperty().addListener((observable, wasVisible, visible) -> applyProjection());
+            }
+
             tableColumn.setCellValueFactory(cellData -> {
                 DatabaseRow row = cellData.getValue();
 
-                if (columnName.equalsIgnoreCase("ID"))
+                if (keyColumn)
                 {
                     int value = row.getUniqueId();
                     return new SimpleStringProperty(String.valueOf(value));
@@ -68,24 +296,527 @@ public class DisplayTabController
 
             table.getColumns().add(tableColumn);
         }
+
+        filterColumn.getItems().setAll(columnNames);
+        filterColumn.setValue(columnNames.stream()
+                .filter(columnName -> !columnName.equalsIgnoreCase(keyColumnName))
+                .findFirst()
+                .orElse(columnNames.isEmpty() ? null : columnNames.get(0)));
+    }
+
+    /**
+     * Filters the rows by the condition entered in the filter bar, replacing any earlier condition of the bar.
+     * The condition is checked against the table's columns before the first page is read.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleApplyFilter(ActionEvent event)
+    {
+        String columnName = filterColumn.getValue();
+        FilterOperator operator = filterOperator.getValue();
+        String value = filterValue.getText();
+
+        if (columnName == null)
+        {
+            UIUtils.alert("Please choose a column to filter by!", Alert.AlertType.WARNING);
+            return;
+        }
+
+        if (operator.takesValue() && value.isEmpty())
+        {
+            UIUtils.alert("Please enter a value to filter by!", Alert.AlertType.WARNING);
+            return;
+        }
+
+        ColumnFilter filter = new ColumnFilter(columnName, operator, operator.takesValue() ? value : null);
+
+        try
+        {
+            if (tableSchema != null)
+            {
+                RowQuery.builder().where(filter).build().validate(tableSchema);
+            }
+        }
+        catch (IllegalArgumentException e)
+        {
+            UIUtils.alert(e.getMessage(), Alert.AlertType.WARNING);
+            return;
+        }
+
+        barFilter = filter;
+        applyFilters();
+    }
+
+    /**
+     * Removes the condition entered in the filter bar, showing every row matching the search again
+     * in the current order.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleClearFilter(ActionEvent event)
+    {
+        filterValue.clear();
+
+        if (barFilter != null)
+        {
+            barFilter = null;
+            applyFilters();
+        }
+    }
+
+    /**
+     * Narrows the rows to those containing every keyword of the search text, looked up in the full-text index
+     * without querying the database. Clearing the text removes the condition. The number of rows found and the
+     * time the lookup took are shown next to the field. Nothing is looked up before the index has been built.
+     *
+     * @param text the text of the search field
+     */
+    private void search(String text)
+    {
+        if (!text.isBlank() && !searchIndexBuilt)
+        {
+            searchStatus.setText(searchIndexFailed ? "Search index unavailable" : "Building the search index…");
+            return;
+        }
+
+        if (text.isBlank() || keyColumnName == null)
+        {
+            searchStatus.setText("");
+
+            if (searchFilter != null)
+            {
+                searchFilter = null;
+                applyFilters();
+            }
+
+            return;
+        }
+
+        long start = System.nanoTime();
+        int[] ids = searchService.search(text, SEARCH_LIMIT);
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        searchStatus.setText(String.format("%s%d matches in %d µs", ids.length == SEARCH_LIMIT ? "First " : "",
+                ids.length, micros));
+        searchFilter = new ColumnFilter(keyColumnName, FilterOperator.IN, Arrays.stream(ids).boxed().toList());
+        applyFilters();
+    }
+
+    /**
+     * Replaces the conditions of the query with those of the filter bar and the search field,
+     * keeping its order, and reads the first page again.
+     */
+    private void applyFilters()
+    {
+        RowQuery.Builder builder = query.toBuilder().clearFilters();
+
+        if (barFilter != null)
+        {
+            builder.where(barFilter);
+        }
+
+        if (searchFilter != null)
+        {
+            builder.where(searchFilter);
+        }
+
+        query = builder.build();
+        updateTable();
+    }
+
+    /**
+     * Reads only the visible columns from now on, or every column if none is hidden, and fills in
+     * the visible columns that the rows already loaded do not hold yet.
+     */
+    private void applyProjection()
+    {
+        List<String> visibleColumns = getVisibleColumns();
+        List<String> projection;
+
+        if (visibleColumns.size() == rowSchema.size())
+        {
+            projection = List.of();
+        }
+        else
+        {
+            projection = visibleColumns.isEmpty() ? List.of(keyColumnName) : visibleColumns;
+        }
+
+        if (!projection.equals(query.getColumns()))
+        {
+            query = query.toBuilder().select(projection).build();
+        }
+
+        hydrateRows();
+    }
+
+    /**
+     * Loads the visible columns of the rows held that were read without them, reading only the missing
+     * columns of at most {@value #PAGE_SIZE} rows per query. Each row is filled in once its batch arrives.
+     * Rows whose missing columns are already being read by an earlier batch are skipped until it settles,
+     * so loading further pages does not read the same rows again.
+     */
+    private void hydrateRows()
+    {
+        List<String> visibleColumns = getVisibleColumns();
+        Map<Integer, DatabaseRow> batch = new HashMap<>();
+
+        for (DatabaseRow row : pagedRows.getRows())
+        {
+            List<String> requested = hydratingColumns.getOrDefault(row.getUniqueId(), List.of());
+
+            if (!visibleColumns.stream().allMatch(column -> row.isLoaded(column) || requested.contains(column)))
+            {
+                batch.put(row.getUniqueId(), row);
+                hydratingColumns.put(row.getUniqueId(), visibleColumns);
+            }
+
+            if (batch.size() == PAGE_SIZE)
+            {
+                hydrateBatch(batch, visibleColumns);
+                batch = new HashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty())
+        {
+            hydrateBatch(batch, visibleColumns);
+        }
+    }
+
+    /**
+     * Reads the given columns of a batch of rows and fills them into the rows held. Once the read has
+     * settled, the rows are no longer recorded as being read, unless a later batch has taken them over.
+     *
+     * @param batch       the rows to fill in, keyed by unique identifier
+     * @param columnNames the columns to read, the same list as recorded for the rows being read
+     */
+    private void hydrateBatch(Map<Integer, DatabaseRow> batch, List<String> columnNames)
+    {
+        RowQuery hydration = RowQuery.builder()
+                .select(columnNames)
+                .where(keyColumnName, FilterOperator.IN, List.copyOf(batch.keySet()))
+                .build();
+
+        pageTasks.submit(databaseService.fetchMatching(hydration), loadedRows -> {
+            for (DatabaseRow loadedRow : loadedRows)
+            {
+                DatabaseRow row = batch.get(loadedRow.getUniqueId());
+
+                if (row != null)
+                {
+                    row.hydrate(loadedRow);
+                }
+            }
+
+            table.refresh();
+        }, () -> batch.keySet().forEach(id -> hydratingColumns.computeIfPresent(id,
+                (key, requested) -> requested == columnNames ? null : requested)));
+    }
+
+    /**
+     * Returns the names of the visible columns, excluding the key column.
+     *
+     * @return the visible column names in display order
+     */
+    private List<String> getVisibleColumns()
+    {
+        List<String> visibleColumns = new ArrayList<>();
+
+        for (TableColumn<DatabaseRow, ?> tableColumn : table.getColumns())
+        {
+            if (tableColumn.isVisible() && !tableColumn.getText().equalsIgnoreCase(keyColumnName))
+            {
+                visibleColumns.add(tableColumn.getText());
+            }
+        }
+
+        return visibleColumns;
+    }
+
+    /**
+     * Sorts the rows by the first column in the table's sort order, or by key if there is none, reading the
+     * first page again in the new order. Nothing is read if the order has not changed.
+     */
+    private void applySortOrder()
+    {
+        List<TableColumn<DatabaseRow, ?>> sortOrder = table.getSortOrder();
+        TableColumn<DatabaseRow, ?> sortColumn = sortOrder.isEmpty() ? null : sortOrder.get(0);
+        String columnName = sortColumn != null ? sortColumn.getText() : null;
+        boolean descending = sortColumn != null && sortColumn.getSortType() == TableColumn.SortType.DESCENDING;
+
+        if (columnName != null && columnName.equalsIgnoreCase(keyColumnName) && !descending)
+        {
+            columnName = null;
+        }
+
+        if (Objects.equals(columnName, query.getSortColumn().orElse(null)) && query.isDescending() == descending)
+        {
+            return;
+        }
+
+        query = query.toBuilder().orderBy(columnName, descending).build();
+        updateTable();
+    }
+
+    /**
+     * Updates the {@link TableView} with the first page of the database.
+     * This method fetches the page using {@link AsyncDatabaseService#fetchPage(int, int)}
+     * and, once it arrives, replaces the rows held by the table, scrolling back to the top.
+     * The change watermark is read first, so no change made while the page is read is missed.
+     * While a filter or sort is applied, the first page of the query is fetched using
+     * {@link AsyncDatabaseService#fetchMatching(RowQuery)} instead, as it is while columns are hidden.
+     * Any page load still pending is cancelled, as its rows would no longer fit the table.
+     *
+     * @return the pending read, completed once the first page has been read from the database
+     */
+    public CompletableFuture<?> updateTable()
+    {
+        cancelPendingTasks();
+
+        if (isQueried())
+        {
+            CompletableFuture<List<DatabaseRow>> queryRead = databaseService.fetchMatching(
+                    query.toBuilder().limit(PAGE_SIZE).build());
+
+            pageTasks.submit(queryRead, rows -> {
+                pagedRows.reset(rows);
+                table.scrollTo(0);
+                hydrateRows();
+            });
+
+            return queryRead;
+        }
+
+        CompletableFuture<FirstPage> firstPageRead = databaseService.retrieveChangeWatermark()
+                .thenCompose(readWatermark -> (query.isProjected()
+                        ? databaseService.fetchMatching(query.toBuilder().limit(PAGE_SIZE).build())
+                        : databaseService.fetchPage(0, PAGE_SIZE))
+                        .thenApply(rows -> new FirstPage(readWatermark, rows)));
+
+        pageTasks.submit(firstPageRead, firstPage -> {
+            watermark = firstPage.watermark();
+            pagedRows.reset(firstPage.rows());
+            table.scrollTo(0);
+            hydrateRows();
+        });
+
+        return firstPageRead;
+    }
+
+    /**
+     * Brings the {@link TableView} up to date with the database.
+     * The first call loads the first page; later calls read the rows changed since the previous
+     * load using {@link AsyncDatabaseService#fetchChanges(Instant, int)} and patch them in place,
+     * falling back to {@link #updateTable()} if the change set is incomplete.
+     * While a filter or sort is applied, the first page of the query is read again.
+     *
+     * @return the pending read, completed once the first page or the changes have been read from the database
+     */
+    public CompletableFuture<?> refreshTable()
+    {
+        if (watermark == null || isQueried())
+        {
+            return updateTable();
+        }
+
+        CompletableFuture<ChangeSet> changesRead = databaseService.fetchChanges(watermark, CHANGE_LIMIT);
+
+        pageTasks.submit(changesRead, changeSet -> {
+            if (!changeSet.isComplete())
+            {
+                updateTable();
+                return;
+            }
+
+            watermark = changeSet.getWatermark();
+
+            if (!changeSet.isEmpty())
+            {
+                applyChanges(changeSet);
+            }
+        });
+
+        return changesRead;
     }
 
     /**
-     * Updates the {@link TableView} with the current contents of the database.
-     * This method fetches all rows from the database using {@link DynamicDatabaseService#fetchAll()}
-     * and populates the table with an observable list of {@link DatabaseRow} objects.
+     * Saves the first page to the snapshot file, so it can be shown straight away on the next start.
+     * Nothing is saved unless the loaded rows start at the beginning of the table and hold a full
+     * first page, or the whole table, no filter or sort is applied and every column of the first page is loaded.
      */
-    public void updateTable()
+    public void saveSnapshot()
     {
+        List<DatabaseRow> rows = pagedRows.getRows();
+
+        if (watermark == null || rowSchema == null || isQueried() || pagedRows.hasPrevious()
+                || (rows.size() < PAGE_SIZE && pagedRows.hasNext()))
+        {
+            return;
+        }
+
+        List<DatabaseRow> firstPage = rows.subList(0, Math.min(PAGE_SIZE, rows.size()));
+
+        if (!firstPage.stream().allMatch(DatabaseRow::isFullyLoaded))
+        {
+            return;
+        }
+
         try
         {
-            List<DatabaseRow> databaseRows = databaseService.fetchAll();
-            ObservableList<DatabaseRow> observableDatabaseRows = FXCollections.observableArrayList(databaseRows);
-            table.setItems(observableDatabaseRows);
+            new TableSnapshot(keyColumnName, rowSchema, watermark, firstPage).write(snapshotFile);
         }
-        catch (DatabaseException e)
+        catch (IOException ignored)
         {
-            UIUtils.alert("Database error: " + e.getMessage(), Alert.AlertType.ERROR);
+            // The snapshot only speeds up the next start, the rows will be read from the database instead.
         }
     }
+
+    /**
+     * Cancels every page load and column read that has not completed yet, as its rows are no longer wanted.
+     */
+    public void cancelPendingTasks()
+    {
+        pageTasks.cancelAll();
+        hydratingColumns.clear();
+    }
+
+    /**
+     * Schedules the adjacent page to be loaded when a row close to either end of the loaded rows is displayed.
+     * The page is applied once it has been delivered back to the JavaFX Application Thread,
+     * so the table is never modified while its rows are being laid out.
+     *
+     * @param index the index of the row being displayed
+     */
+    private void requestPageNear(int index)
+    {
+        if (index < 0 || pageRequested)
+        {
+            return;
+        }
+
+        int rowCount = pagedRows.getRows().size();
+
+        if (index >= rowCount - PREFETCH_DISTANCE && pagedRows.hasNext())
+        {
+            pageRequested = true;
+            loadNextPage();
+        }
+        else if (index < PREFETCH_DISTANCE && pagedRows.hasPrevious())
+        {
+            pageRequested = true;
+            loadPreviousPage();
+        }
+    }
+
+    /**
+     * Loads the page following the loaded rows, keeping the visible rows in place if a page is evicted.
+     */
+    private void loadNextPage()
+    {
+        List<DatabaseRow> rows = pagedRows.getRows();
+        CompletableFuture<List<DatabaseRow>> pageRead = isQueried() || query.isProjected()
+                ? databaseService.fetchMatching(query.toBuilder().after(rows.getLast()).limit(PAGE_SIZE).build())
+                : databaseService.fetchPage(pagedRows.getLastId(), PAGE_SIZE);
+
+        pageTasks.submit(pageRead, page -> {
+            int firstVisible = getFirstVisibleIndex();
+            int evicted = pagedRows.append(page);
+
+            if (evicted > 0)
+            {
+                table.scrollTo(Math.max(0, firstVisible - evicted));
+            }
+
+            hydrateRows();
+        }, () -> pageRequested = false);
+    }
+
+    /**
+     * Loads the page preceding the loaded rows, keeping the visible rows in place.
+     */
+    private void loadPreviousPage()
+    {
+        List<DatabaseRow> rows = pagedRows.getRows();
+        CompletableFuture<List<DatabaseRow>> pageRead = isQueried() || query.isProjected()
+                ? databaseService.fetchMatching(query.toBuilder().before(rows.getFirst()).limit(PAGE_SIZE).build())
+                : databaseService.fetchPageBefore(pagedRows.getFirstId(), PAGE_SIZE);
+
+        pageTasks.submit(pageRead, page -> {
+            int firstVisible = getFirstVisibleIndex();
+            int added = pagedRows.prepend(page);
+
+            if (added > 0)
+            {
+                table.scrollTo(firstVisible + added);
+            }
+
+            hydrateRows();
+        }, () -> pageRequested = false);
+    }
+
+    /**
+     * Patches a change set into the loaded rows, keeping the first visible row in place
+     * if rows before it were inserted or deleted.
+     *
+     * @param changeSet the complete change set to apply
+     */
+    private void applyChanges(ChangeSet changeSet)
+    {
+        List<DatabaseRow> rows = pagedRows.getRows();
+        int firstVisible = getFirstVisibleIndex();
+        int anchorId = firstVisible < rows.size() ? rows.get(firstVisible).getUniqueId() : -1;
+
+        pagedRows.applyChanges(changeSet.getChangedRows(), changeSet.getDeletedIds());
+
+        if (anchorId < 0)
+        {
+            return;
+        }
+
+        int anchorIndex = pagedRows.indexOf(anchorId);
+        int newFirstVisible = anchorIndex >= 0 ? anchorIndex : -anchorIndex - 1;
+
+        if (newFirstVisible != firstVisible)
+        {
+            table.scrollTo(newFirstVisible);
+        }
+    }
+
+    /**
+     * Returns whether a filter or sort is applied, in which case the rows are read through the query
+     * rather than in key order.
+     *
+     * @return {@code true} if the rows are read through the query, otherwise {@code false}
+     */
+    private boolean isQueried()
+    {
+        return query.isFiltered() || query.isSorted();
+    }
+
+    /**
+     * Returns the index of the first row currently visible in the table.
+     *
+     * @return the first visible index, or {@code 0} if the table has not been laid out yet
+     */
+    private int getFirstVisibleIndex()
+    {
+        if (table.lookup(".virtual-flow") instanceof VirtualFlow<?> flow)
+        {
+            IndexedCell<?> cell = flow.getFirstVisibleCell();
+            return cell != null ? cell.getIndex() : 0;
+        }
+
+        return 0;
+    }
+
+    /**
+     * The first page of the table together with the watermark read just before it.
+     *
+     * @param watermark the watermark from which changes to the page should be read
+     * @param rows      the rows of the first page
+     */
+    private record FirstPage(Instant watermark, List<DatabaseRow> rows) {}
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.github.horris275.basicsqldemonstration.ui.controllers;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ExportProgress;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ExportResult;
+import com.github.horris275.basicsqldemonstration.sql.transfer.RecordFormat;
+import com.github.horris275.basicsqldemonstration.sql.transfer.TableExporter;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
+import com.github.horris275.basicsqldemonstration.utils.UIUtils;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.stage.FileChooser;
+import javafx.util.StringConverter;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * The controller class for the "Export" tab in the user interface.
+ *
+ * <p>This controller exports the database table, or the rows containing the text entered by the user,
+ * to a file using a {@link TableExporter}. The export runs on a virtual thread, while the number of rows
+ * written and the throughput are shown on the JavaFX Application Thread. Progress reported faster than
+ * the user interface can show it is coalesced, so only the latest figures are shown.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class ExportTabController
+{
+    private final DynamicDatabaseService databaseService;
+    private final AtomicReference<ExportProgress> pendingProgress = new AtomicReference<>();
+    private TableExporter exporter;
+    @FXML private TextField pathField;
+    @FXML private ChoiceBox<RecordFormat> formatChoice;
+    @FXML private TextField filterField;
+    @FXML private Button startButton;
+    @FXML private Button cancelButton;
+    @FXML private Label statusLabel;
+
+    /**
+     * Constructs a new {@code ExportTabController} with the given database service.
+     *
+     * @param databaseService the service used to stream the rows being exported
+     */
+    public ExportTabController(DynamicDatabaseService databaseService)
+    {
+        this.databaseService = databaseService;
+    }
+
+    /**
+     * Fills the format choices and puts the controls into their idle state.
+     */
+    public void initialize()
+    {
+        formatChoice.getItems().setAll(RecordFormat.values());
+        formatChoice.setValue(RecordFormat.CSV);
+        formatChoice.setConverter(new StringConverter<>()
+        {
+            @Override
+            public String toString(RecordFormat format)
+            {
+                return format == null ? "" : format.getDisplayName();
+            }
+
+            @Override
+            public RecordFormat fromString(String text)
+            {
+                return null;
+            }
+        });
+
+        setRunning(false);
+    }
+
+    /**
+     * Lets the user choose the file to export to, selecting its format from the extension.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleBrowse(ActionEvent event)
+    {
+        RecordFormat format = formatChoice.getValue();
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Choose where to export to");
+        fileChooser.setInitialFileName("export." + format.getExtension());
+        fileChooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter(format.getDisplayName() + " files", "*." + format.getExtension()));
+
+        File file = fileChooser.showSaveDialog(pathField.getScene().getWindow());
+
+        if (file != null)
+        {
+            pathField.setText(file.getPath());
+            RecordFormat.of(file.toPath()).ifPresent(formatChoice::setValue);
+        }
+    }
+
+    /**
+     * Starts exporting the table to the chosen file.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleStart(ActionEvent event)
+    {
+        if (pathField.getText().isBlank())
+        {
+            UIUtils.alert("Please choose a file to export to!", Alert.AlertType.WARNING);
+            return;
+        }
+
+        Path file = Path.of(pathField.getText().trim());
+        RecordFormat format = formatChoice.getValue();
+        Predicate<DatabaseRow> filter = createFilter(filterField.getText());
+        TableExporter tableExporter = new TableExporter(databaseService);
+        exporter = tableExporter;
+
+        statusLabel.setText("Exporting to " + file.getFileName() + "...");
+        setRunning(true);
+
+        CompletableFuture<ExportResult> future = CompletableFuture.supplyAsync(
+                () -> tableExporter.export(file, format, filter, this::publishProgress),
+                task -> Thread.ofVirtual().name("export").start(task));
+
+        future.whenCompleteAsync((result, failure) -> setRunning(false), Platform::runLater);
+        UITaskGroup.deliver(future, result -> statusLabel.setText(result.toString()));
+    }
+
+    /**
+     * Cancels the running export.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleCancel(ActionEvent event)
+    {
+        if (exporter != null)
+        {
+            exporter.cancel();
+            statusLabel.setText("Cancelling...");
+        }
+    }
+
+    /**
+     * Creates the filter keeping the rows with a value containing the given text, ignoring case.
+     *
+     * @param text the text entered by the user, blank to keep every row
+     * @return     the filter
+     */
+    private static Predicate<DatabaseRow> createFilter(String text)
+    {
+        if (text.isBlank())
+        {
+            return row -> true;
+        }
+
+        String needle = text.trim().toLowerCase(Locale.ROOT);
+
+        return row -> {
+            for (int index = 0; index < row.getSchema().size(); index++)
+            {
+                Object value = row.getValue(index);
+
+                if (value != null && value.toString().toLowerCase(Locale.ROOT).contains(needle))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        };
+    }
+
+    /**
+     * Passes progress reported by the exporter to the JavaFX Application Thread. Only one update is
+     * queued at a time; progress reported while it is pending replaces the figures it will show.
+     *
+     * @param progress the progress reported by the exporter
+     */
+    private void publishProgress(ExportProgress progress)
+    {
+        if (pendingProgress.getAndSet(progress) == null)
+        {
+            Platform.runLater(() -> {
+                ExportProgress latest = pendingProgress.getAndSet(null);
+
+                if (exporter != null)
+                {
+                    statusLabel.setText(latest.toString());
+                }
+            });
+        }
+    }
+
+    /**
+     * Enables the controls that apply while an export is, or is not, running.
+     *
+     * @param running whether an export is running
+     */
+    private void setRunning(boolean running)
+    {
+        if (!running)
+        {
+            exporter = null;
+        }
+
+        startButton.setDisable(running);
+        cancelButton.setDisable(!running);
+        pathField.setDisable(running);
+        formatChoice.setDisable(running);
+        filterField.setDisable(running);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+package com.github.horris275.basicsqldemonstration.ui.controllers;
+
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.transfer.BulkImporter;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ImportProgress;
+import com.github.horris275.basicsqldemonstration.sql.transfer.ImportResult;
+import com.github.horris275.basicsqldemonstration.sql.transfer.RecordFormat;
+import com.github.horris275.basicsqldemonstration.sql.transfer.RejectedRecord;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
+import com.github.horris275.basicsqldemonstration.utils.UIUtils;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.TextField;
+import javafx.stage.FileChooser;
+import javafx.util.StringConverter;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The controller class for the "Import" tab in the user interface.
+ *
+ * <p>This controller imports a CSV or JSON Lines file chosen by the user into the database table
+ * using a {@link BulkImporter}. The import runs on a virtual thread, while the progress bar and
+ * the throughput are updated on the JavaFX Application Thread. Progress reported faster than the
+ * user interface can show it is coalesced, so only the latest figures are shown. Once the import has
+ * finished, the records that were rejected are listed together with the reason.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class ImportTabController
+{
+    private static final int WORKERS = 4;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final DynamicDatabaseService databaseService;
+    private final AtomicReference<ImportProgress> pendingProgress = new AtomicReference<>();
+    private BulkImporter importer;
+    @FXML private TextField pathField;
+    @FXML private ChoiceBox<RecordFormat> formatChoice;
+    @FXML private Button startButton;
+    @FXML private Button cancelButton;
+    @FXML private ProgressBar progressBar;
+    @FXML private Label statusLabel;
+    @FXML private ListView<RejectedRecord> rejectedList;
+
+    /**
+     * Constructs a new {@code ImportTabController} with the given database service.
+     *
+     * @param databaseService the service used to read the table schema and insert the imported rows
+     */
+    public ImportTabController(DynamicDatabaseService databaseService)
+    {
+        this.databaseService = databaseService;
+    }
+
+    /**
+     * Fills the format choices and puts the controls into their idle state.
+     */
+    public void initialize()
+    {
+        formatChoice.getItems().setAll(Arrays.stream(RecordFormat.values()).filter(RecordFormat::isTextual).toList());
+        formatChoice.setValue(RecordFormat.CSV);
+        formatChoice.setConverter(new StringConverter<>()
+        {
+            @Override
+            public String toString(RecordFormat format)
+            {
+                return format == null ? "" : format.getDisplayName();
+            }
+
+            @Override
+            public RecordFormat fromString(String text)
+            {
+                return null;
+            }
+        });
+
+        setRunning(false);
+    }
+
+    /**
+     * Lets the user choose the file to import, selecting its format from the extension.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleBrowse(ActionEvent event)
+    {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Choose a file to import");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV and JSON Lines files", "*.csv", "*.jsonl", "*.ndjson"),
+                new FileChooser.ExtensionFilter("All files", "*.*"));
+
+        File file = fileChooser.showOpenDialog(pathField.getScene().getWindow());
+
+        if (file != null)
+        {
+            pathField.setText(file.getPath());
+            RecordFormat.of(file.toPath()).filter(RecordFormat::isTextual).ifPresent(formatChoice::setValue);
+        }
+    }
+
+    /**
+     * Starts importing the chosen file.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleStart(ActionEvent event)
+    {
+        Path file = Path.of(pathField.getText().trim());
+
+        if (pathField.getText().isBlank() || !Files.isRegularFile(file))
+        {
+            UIUtils.alert("Please choose an existing file to import!", Alert.AlertType.WARNING);
+            return;
+        }
+
+        RecordFormat format = formatChoice.getValue();
+        BulkImporter bulkImporter = new BulkImporter(databaseService, WORKERS, BATCH_SIZE);
+        importer = bulkImporter;
+
+        rejectedList.getItems().clear();
+        progressBar.setProgress(0);
+        statusLabel.setText("Importing " + file.getFileName() + "...");
+        setRunning(true);
+
+        CompletableFuture<ImportResult> future = CompletableFuture.supplyAsync(
+                () -> bulkImporter.importFile(file, format, this::publishProgress),
+                task -> Thread.ofVirtual().name("import").start(task));
+
+        future.whenCompleteAsync((result, failure) -> setRunning(false), Platform::runLater);
+        UITaskGroup.deliver(future, this::showResult);
+    }
+
+    /**
+     * Cancels the running import.
+     *
+     * @param event the action triggered by the user
+     */
+    @FXML
+    protected void handleCancel(ActionEvent event)
+    {
+        if (importer != null)
+        {
+            importer.cancel();
+            statusLabel.setText("Cancelling...");
+        }
+    }
+
+    /**
+     * Passes progress reported by the importer to the JavaFX Application Thread. Only one update is
+     * queued at a time; progress reported while it is pending replaces the figures it will show.
+     *
+     * @param progress the progress reported by the importer
+     */
+    private void publishProgress(ImportProgress progress)
+    {
+        if (pendingProgress.getAndSet(progress) == null)
+        {
+            Platform.runLater(() -> showProgress(pendingProgress.getAndSet(null)));
+        }
+    }
+
+    /**
+     * Shows the progress of the running import.
+     *
+     * @param progress the latest progress
+     */
+    private void showProgress(ImportProgress progress)
+    {
+        if (importer == null)
+        {
+            return;
+        }
+
+        progressBar.setProgress(progress.getFractionRead());
+        statusLabel.setText(progress.toString());
+    }
+
+    /**
+     * Shows the outcome of a finished import and lists the rejected records in file order.
+     *
+     * @param result the result of the import
+     */
+    private void showResult(ImportResult result)
+    {
+        progressBar.setProgress(result.isCancelled() ? progressBar.getProgress() : 1);
+        statusLabel.setText(result.toString());
+        rejectedList.getItems().setAll(result.getRejectedRecords().stream()
+                .sorted(Comparator.comparingLong(RejectedRecord::getLineNumber))
+                .toList());
+    }
+
+    /**
+     * Enables the controls that apply while an import is, or is not, running.
+     *
+     * @param running whether an import is running
+     */
+    private void setRunning(boolean running)
+    {
+        if (!running)
+        {
+            importer = null;
+        }
+
+        startButton.setDisable(running);
+        cancelButton.setDisable(!running);
+        pathField.setDisable(running);
+        formatChoice.setDisable(running);
+    }
+}
\ No newline at end of file
@@ -1,8 +1,8 @@
 package com.github.horris275.basicsqldemonstration.ui.controllers;
 
-import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
 import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
 import com.github.horris275.basicsqldemonstration.utils.UIUtils;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -14,14 +14,15 @@ import javafx.scene.control.TextField;
  * The controller class for the "Insert" tab operations in the user interface.
  *
  * <p>This controller handles the insertion of database rows when interacting
- * with the insert tab. It makes use of {@link DynamicDatabaseService} to provide functionality.</p>
+ * with the insert tab. It makes use of {@link AsyncDatabaseService} to provide functionality,
+ * so the insertion runs off the JavaFX Application Thread and its outcome is reported once it completes.</p>
  *
  * @author horris275
- * @version 01.10.2025
+ * @version 16.10.2026
  */
 public class InsertTabController
 {
-    private final DynamicDatabaseService databaseService;
+    private final AsyncDatabaseService databaseService;
     @FXML private TextField titleField;
     @FXML private TextArea descriptionField;
     @FXML private TextField urlField;
@@ -31,7 +32,7 @@ public class InsertTabController
      *
      * @param databaseService the service used to insert the database rows
      */
-    public InsertTabController(DynamicDatabaseService databaseService)
+    public InsertTabController(AsyncDatabaseService databaseService)
     {
         this.databaseService = databaseService;
     }
@@ -54,22 +55,24 @@ public class InsertTabController
             return;
         }
 
-        try
-        {
-            DatabaseRow databaseRow = new DatabaseRow();
+        DatabaseRow databaseRow = new DatabaseRow();
 
-            databaseRow.setColumn("title", title);
-            databaseRow.setColumn("description", description);
-            databaseRow.setColumn("url", url);
+        databaseRow.setColumn("title", title);
+        databaseRow.setColumn("description", description);
+        databaseRow.setColumn("url", url);
 
-            databaseService.insert(databaseRow);
+        UITaskGroup.deliver(databaseService.insert(databaseRow), result -> {
             resetFields();
-            UIUtils.alert("Data has successfully been inserted into the database!", Alert.AlertType.INFORMATION);
-        }
-        catch (DatabaseException e)
-        {
-            UIUtils.alert("Database error: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+
+            if (!result.isKnown())
+            {
+                UIUtils.alert("The data has been queued for insertion into the database!", Alert.AlertType.INFORMATION);
+                return;
+            }
+
+            String identifier = result.getGeneratedKey().isPresent() ? " as entry " + result.getGeneratedKey().getAsInt() : "";
+            UIUtils.alert("Data has successfully been inserted into the database" + identifier + "!", Alert.AlertType.INFORMATION);
+        });
     }
 
     /**
@@ -1,8 +1,8 @@
 package com.github.horris275.basicsqldemonstration.ui.controllers;
 
-import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
 import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
+import com.github.horris275.basicsqldemonstration.ui.tasks.UITaskGroup;
 import com.github.horris275.basicsqldemonstration.utils.NumberUtils;
 import com.github.horris275.basicsqldemonstration.utils.UIUtils;
 import javafx.event.ActionEvent;
@@ -14,14 +14,17 @@ import javafx.scene.control.TextField;
  * The controller class for the "Modify" tab operations in the user interface.
  *
  * <p>This controller handles the modification of database rows when interacting
- * with the modify tab. It makes use of {@link DynamicDatabaseService} to provide functionality.</p>
+ * with the modify tab. It makes use of {@link AsyncDatabaseService} to provide functionality,
+ * so searches and updates run off the JavaFX Application Thread. A search still pending when
+ * the user leaves the tab is cancelled.</p>
  *
  * @author horris275
- * @version 01.10.2025
+ * @version 16.10.2026
  */
 public class ModifyTabController
 {
-    private final DynamicDatabaseService databaseService;
+    private final AsyncDatabaseService databaseService;
+    private final UITaskGroup searchTasks = new UITaskGroup();
     @FXML private TextField idField;
     @FXML private TextField titleField;
     @FXML private TextField descriptionField;
@@ -32,14 +35,14 @@ public class ModifyTabController
      *
      * @param databaseService the service used to modify the database rows
      */
-    public ModifyTabController(DynamicDatabaseService databaseService)
+    public ModifyTabController(AsyncDatabaseService databaseService)
     {
         this.databaseService = databaseService;
     }
 
     /**
      * Handles the search action for the modify operation.
-     * It validates the unique identifier inputted by the user and populates
+     * It retrieves the row with the unique identifier inputted by the user and populates
      * the other fields with the current data within the database.
      *
      * @param event the action triggered by the user
@@ -49,34 +52,29 @@ public class ModifyTabController
     {
         int identifier = NumberUtils.toInteger(idField.getText());
 
-        if (!validateInput(identifier))
+        if (identifier <= 0)
         {
-            UIUtils.alert("Please enter a valid integer that represents a data row!", Alert.AlertType.WARNING);
-            resetFields();
+            rejectIdentifier();
             return;
         }
 
-        try
-        {
-            databaseService.fetch(identifier).ifPresentOrElse(row -> {
-                String title = (String) row.getColumn("title");
-                String description = (String) row.getColumn("description");
-                String url = (String) row.getColumn("url");
-
-                idField.setEditable(false);
-                titleField.setText(title);
-                descriptionField.setText(description);
-                urlField.setText(url);
-            }, () -> UIUtils.alert("Unable to obtain the desired database row", Alert.AlertType.ERROR));
-        }
-        catch (DatabaseException e)
-        {
-            UIUtils.alert("Database error: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+        searchTasks.cancelAll();
+        searchTasks.submit(databaseService.fetch(identifier), result -> result.ifPresentOrElse(row -> {
+            String title = (String) row.getColumn("title");
+            String description = (String) row.getColumn("description");
+            String url = (String) row.getColumn("url");
+
+            idField.setEditable(false);
+            titleField.setText(title);
+            descriptionField.setText(description);
+            urlField.setText(url);
+        }, this::rejectIdentifier));
     }
 
     /**
      * Handles the submit action for the modify operation.
+     * The affected row count of the update tells whether the row still existed, unless the update
+     * was only queued or the database did not report the count.
      *
      * @param event the action triggered by the user
      */
@@ -94,42 +92,47 @@ public class ModifyTabController
             return;
         }
 
-        try
-        {
-            DatabaseRow databaseRow = new DatabaseRow();
+        DatabaseRow databaseRow = new DatabaseRow();
 
-            databaseRow.setUniqueId(identifier);
-            databaseRow.setColumn("title", title);
-            databaseRow.setColumn("description", description);
-            databaseRow.setColumn("url", url);
+        databaseRow.setUniqueId(identifier);
+        databaseRow.setColumn("title", title);
+        databaseRow.setColumn("description", description);
+        databaseRow.setColumn("url", url);
 
-            databaseService.modify(identifier, databaseRow);
+        UITaskGroup.deliver(databaseService.modify(identifier, databaseRow), result -> {
             idField.setEditable(true);
             resetFields();
-            UIUtils.alert("The data row has successfully been updated!", Alert.AlertType.INFORMATION);
-        }
-        catch (DatabaseException e)
-        {
-            UIUtils.alert("Database error: " + e.getMessage(), Alert.AlertType.ERROR);
-        }
+
+            if (result.isAffected())
+            {
+                UIUtils.alert("The data row has successfully been updated!", Alert.AlertType.INFORMATION);
+            }
+            else if (!result.isKnown())
+            {
+                UIUtils.alert("The update has been sent to the database!", Alert.AlertType.INFORMATION);
+            }
+            else
+            {
+                UIUtils.alert("The data row no longer exists in the database!", Alert.AlertType.WARNING);
+            }
+        });
     }
 
     /**
-     * Validates the user input by checking if a row with a given identifier exists.
-     *
-     * @param id the unique identifier of the row to validate
-     * @return   {@code true} if the identifier exists in the database, otherwise {@code false}
+     * Cancels a search that has not completed yet, as its result is no longer wanted.
      */
-    private boolean validateInput(int id)
+    public void cancelPendingTasks()
     {
-        try
-        {
-            return databaseService.check(id);
-        }
-        catch (DatabaseException e)
-        {
-            return false;
-        }
+        searchTasks.cancelAll();
+    }
+
+    /**
+     * Informs the user that the identifier does not represent a data row and clears the form.
+     */
+    private void rejectIdentifier()
+    {
+        UIUtils.alert("Please enter a valid integer that represents a data row!", Alert.AlertType.WARNING);
+        resetFields();
     }
 
     /**
@@ -0,0 +1,286 @@
+package com.github.horris275.basicsqldemonstration.ui.paging;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A sliding window of consecutive pages of database rows, backing a {@link javafx.scene.control.TableView}.
+ *
+ * <p>Pages are appended as the user scrolls down and prepended as they scroll back up.
+ * Once more than {@code maximumPages} pages are held, the page furthest from the one just
+ * loaded is evicted, so the number of rows kept in memory stays bounded however far the
+ * user scrolls. The window only tracks which pages it holds; fetching them is left to the caller.</p>
+ *
+ * <p>Rows changed since the pages were loaded can be patched into the window in place with
+ * {@link #applyChanges(Collection, Collection)}, so an open table can be kept up to date without
+ * reloading it. This relies on the rows being held in identifier order; rows read in any other order,
+ * such as the results of a sorted query, can still be paged but must not be patched.</p>
+ *
+ * <p>This class must only be used from the JavaFX Application Thread.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class PagedRowWindow
+{
+    private final ObservableList<DatabaseRow> rows = FXCollections.observableArrayList();
+    private final List<Integer> pageSizes = new ArrayList<>();
+    private final int pageSize;
+    private final int maximumPages;
+    private boolean atStart = true;
+    private boolean atEnd = true;
+
+    /**
+     * Constructs a new, empty {@code PagedRowWindow}.
+     *
+     * @param pageSize     the number of rows requested per page
+     * @param maximumPages the number of pages kept before the furthest page is evicted
+     */
+    public PagedRowWindow(int pageSize, int maximumPages)
+    {
+        this.pageSize = pageSize;
+        this.maximumPages = maximumPages;
+    }
+
+    /**
+     * Returns the rows currently held by the window, in the order they were read.
+     *
+     * @return the observable list of rows
+     */
+    public ObservableList<DatabaseRow> getRows()
+    {
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows requested per page.
+     *
+     * @return the page size
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    /**
+     * Replaces the contents of the window with the first page of the table.
+     *
+     * @param firstPage the first page of rows
+     */
+    public void reset(List<DatabaseRow> firstPage)
+    {
+        pageSizes.clear();
+        pageSizes.addLast(firstPage.size());
+        atStart = true;
+        atEnd = firstPage.size() < pageSize;
+        rows.setAll(firstPage);
+    }
+
+    /**
+     * Checks whether there may be rows after the last page held.
+     *
+     * @return {@code true} if another page can be appended, otherwise {@code false}
+     */
+    public boolean hasNext()
+    {
+        return !atEnd;
+    }
+
+    /**
+     * Checks whether there are rows before the first page held.
+     *
+     * @return {@code true} if another page can be prepended, otherwise {@code false}
+     */
+    public boolean hasPrevious()
+    {
+        return !atStart;
+    }
+
+    /**
+     * Returns the identifier of the last row held, from which the next page continues.
+     *
+     * @return the last identifier, or {@code 0} if the window is empty
+     */
+    public int getLastId()
+    {
+        return rows.isEmpty() ? 0 : rows.get(rows.size() - 1).getUniqueId();
+    }
+
+    /**
+     * Returns the identifier of the first row held, before which the previous page ends.
+     *
+     * @return the first identifier, or {@code 0} if the window is empty
+     */
+    public int getFirstId()
+    {
+        return rows.isEmpty() ? 0 : rows.get(0).getUniqueId();
+    }
+
+    /**
+     * Returns the position of the row with the given identifier, using a binary search over the rows held.
+     *
+     * @param id the unique identifier of the row
+     * @return   the index of the row if it is held, otherwise {@code (-(insertion point) - 1)}
+     */
+    public int indexOf(int id)
+    {
+        int low = 0;
+        int high = rows.size() - 1;
+
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int middleId = rows.get(middle).getUniqueId();
+
+            if (middleId < id)
+            {
+                low = middle + 1;
+            }
+            else if (middleId > id)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Patches changed and deleted rows into the window in place.
+     *
+     * <p>Deleted rows are removed and changed rows replace the row held with the same identifier.
+     * A changed row that is not held is inserted only if it falls within the range of identifiers
+     * covered by the window, for example a row inserted after the last page once the end of the
+     * table has been reached; rows outside that range are left to be loaded with their page.</p>
+     *
+     * @param changedRows the rows inserted or updated since the window was loaded
+     * @param deletedIds  the unique identifiers of the rows deleted since the window was loaded
+     */
+    public void applyChanges(Collection<DatabaseRow> changedRows, Collection<Integer> deletedIds)
+    {
+        for (int id : deletedIds)
+        {
+            int index = indexOf(id);
+
+            if (index >= 0)
+            {
+                rows.remove(index);
+                resizePage(index, -1);
+            }
+        }
+
+        for (DatabaseRow databaseRow : changedRows)
+        {
+            int id = databaseRow.getUniqueId();
+            int index = indexOf(id);
+
+            if (index >= 0)
+            {
+                rows.set(index, databaseRow);
+            }
+            else if ((atStart || id > getFirstId()) && (atEnd || id < getLastId()))
+            {
+                int insertion = -index - 1;
+                rows.add(insertion, databaseRow);
+                resizePage(insertion, 1);
+            }
+        }
+    }
+
+    /**
+     * Appends the page following the last page held, evicting the first page if the window is full.
+     *
+     * @param page the rows following {@link #getLastId()}
+     * @return     the number of rows evicted from the start of the window
+     */
+    public int append(List<DatabaseRow> page)
+    {
+        atEnd = page.size() < pageSize;
+
+        if (page.isEmpty())
+        {
+            return 0;
+        }
+
+        rows.addAll(page);
+        pageSizes.addLast(page.size());
+
+        if (pageSizes.size() <= maximumPages)
+        {
+            return 0;
+        }
+
+        int evicted = pageSizes.removeFirst();
+        rows.remove(0, evicted);
+        atStart = false;
+        return evicted;
+    }
+
+    /**
+     * Prepends the page preceding the first page held, evicting the last page if the window is full.
+     *
+     * @param page the rows preceding {@link #getFirstId()}
+     * @return     the number of rows added to the start of the window
+     */
+    public int prepend(List<DatabaseRow> page)
+    {
+        atStart = page.size() < pageSize;
+
+        if (page.isEmpty())
+        {
+            return 0;
+        }
+
+        rows.addAll(0, page);
+        pageSizes.addFirst(page.size());
+
+        if (pageSizes.size() > maximumPages)
+        {
+            int evicted = pageSizes.removeLast();
+            rows.remove(rows.size() - evicted, rows.size());
+            atEnd = false;
+        }
+
+        return page.size();
+    }
+
+    /**
+     * Adjusts the recorded size of the page holding the given position after a row was added or removed,
+     * so that evicting the page later removes exactly the rows it holds.
+     *
+     * @param index the position of the added or removed row
+     * @param delta {@code 1} if a row was added at the position, {@code -1} if it was removed
+     */
+    private void resizePage(int index, int delta)
+    {
+        if (pageSizes.isEmpty())
+        {
+            pageSizes.addLast(0);
+        }
+
+        int offset = 0;
+
+        for (int page = 0; page < pageSizes.size(); page++)
+        {
+            int size = pageSizes.get(page);
+            boolean lastPage = page == pageSizes.size() - 1;
+
+            if (index < offset + size || (delta > 0 && index == offset + size) || lastPage)
+            {
+                pageSizes.set(page, size + delta);
+                return;
+            }
+
+            offset += size;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.github.horris275.basicsqldemonstration.ui.startup;
+
+import javafx.animation.AnimationTimer;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The time the application took to start, measured from the moment the JavaFX application was started.
+ *
+ * <p>Three figures are kept: how long the JVM ran before the application was started, how long it took
+ * until the first frame of the window was rendered, and how long until the work started in the background
+ * once the window was visible had finished. The first frame is taken to be the first pulse after the
+ * window was shown, as JavaFX renders the scene at the end of every pulse.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class StartupTimings
+{
+    private final long startNanos = System.nanoTime();
+    private final Duration jvmUptime = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+    private volatile Duration firstFrame;
+    private volatile Duration warmUp;
+    private volatile boolean warmUpFailed;
+
+    /**
+     * Records the time of the next pulse as the first frame. Must be called on the JavaFX Application Thread
+     * straight after the window has been shown.
+     */
+    public void recordFirstFrame()
+    {
+        new AnimationTimer()
+        {
+            @Override
+            public void handle(long now)
+            {
+                stop();
+                firstFrame = Duration.ofNanos(now - startNanos);
+            }
+        }.start();
+    }
+
+    /**
+     * Records the time at which the background warm-up completes, whether or not it succeeds.
+     *
+     * @param warmUp the pending warm-up
+     */
+    public void recordWarmUp(CompletableFuture<?> warmUp)
+    {
+        warmUp.whenComplete((result, failure) -> {
+            warmUpFailed = failure != null;
+            this.warmUp = Duration.ofNanos(System.nanoTime() - startNanos);
+        });
+    }
+
+    /**
+     * Returns how long the JVM ran before the application was started.
+     *
+     * @return the JVM uptime when the application was started
+     */
+    public Duration getJvmUptime()
+    {
+        return jvmUptime;
+    }
+
+    /**
+     * Returns the time from the start of the application to its first rendered frame.
+     *
+     * @return an {@code Optional} containing the time to first frame, or empty if no frame has been rendered yet
+     */
+    public Optional<Duration> getTimeToFirstFrame()
+    {
+        return Optional.ofNullable(firstFrame);
+    }
+
+    /**
+     * Returns the time from the start of the application until the background warm-up completed.
+     *
+     * @return an {@code Optional} containing the warm-up time, or empty if the warm-up is still running
+     */
+    public Optional<Duration> getTimeToWarmUp()
+    {
+        return Optional.ofNullable(warmUp);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Startup: JVM ran " + jvmUptime.toMillis() + " ms before launch, first frame after "
+                + getTimeToFirstFrame().map(duration -> duration.toMillis() + " ms").orElse("(pending)")
+                + ", warm-up " + (warmUpFailed ? "failed" : "completed") + " after "
+                + getTimeToWarmUp().map(duration -> duration.toMillis() + " ms").orElse("(pending)") + ".";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.github.horris275.basicsqldemonstration.ui.tabs;
+
+import com.github.horris275.basicsqldemonstration.sql.metrics.ConnectionPoolMXBean;
+import com.github.horris275.basicsqldemonstration.sql.metrics.OperationMetrics;
+import com.github.horris275.basicsqldemonstration.sql.search.FullTextIndex;
+import com.github.horris275.basicsqldemonstration.ui.controllers.DiagnosticsTabController;
+import com.github.horris275.basicsqldemonstration.ui.startup.StartupTimings;
+import javafx.scene.Node;
+import javafx.scene.control.Tab;
+
+import java.util.List;
+
+/**
+ * A custom {@link Tab} representing the "Diagnostics" tab in the user interface.
+ *
+ * <p>This tab shows the latency, throughput and error figures of the database operations
+ * using a {@link DiagnosticsTabController}. The tab is non-closable and loads the FXML layout
+ * the first time it is selected. If the FXML layout fails to load, a {@link RuntimeException} is thrown.
+ * The figures are only refreshed while the tab is selected.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class DiagnosticsTab extends LazyTab
+{
+    private final DiagnosticsTabController diagnosticsTabController;
+
+    /**
+     * Constructs a new {@code DiagnosticsTab} reporting on the given metrics.
+     *
+     * @param operationMetrics the metrics of each database operation
+     * @param poolMetrics      the metrics of the connection pool
+     * @param searchIndex      the full-text index searched by the Display tab
+     * @param startupTimings   the time the application took to start
+     */
+    public DiagnosticsTab(List<OperationMetrics> operationMetrics, ConnectionPoolMXBean poolMetrics,
+                          FullTextIndex searchIndex, StartupTimings startupTimings)
+    {
+        super("Diagnostics");
+
+        this.diagnosticsTabController = new DiagnosticsTabController(operationMetrics, poolMetrics, searchIndex,
+                startupTimings);
+    }
+
+    @Override
+    protected Node createContent()
+    {
+        return loadContent("/fxml/DiagnosticsData.fxml", diagnosticsTabController);
+    }
+
+    @Override
+    protected void onSelected()
+    {
+        diagnosticsTabController.startRefreshing();
+    }
+
+    @Override
+    protected void onDeselected()
+    {
+        diagnosticsTabController.stopRefreshing();
+    }
+}
\ No newline at end of file
@@ -1,38 +1,46 @@
 package com.github.horris275.basicsqldemonstration.ui.tabs;
 
+import com.github.horris275.basicsqldemonstration.sql.IndexingDatabaseService;
 import com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
 import com.github.horris275.basicsqldemonstration.ui.controllers.DisplayTabController;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Tab;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A custom {@link Tab} representing the "Display" tab in the user interface.
  *
  * <p>This tab enables users to view database rows using a {@link DisplayTabController}.
  * The tab is non-closable and automatically loads the FXML layout.
- * If the FXML layout fails to load, a {@link RuntimeException} is thrown.</p>
+ * If the FXML layout fails to load, a {@link RuntimeException} is thrown.
+ * Page loads still pending when the tab is deselected are cancelled. The first page is shown
+ * from a local snapshot, if one exists, until the database has been read.</p>
  *
  * @author horris275
- * @version 22.09.2025
+ * @version 16.10.2026
  */
 public class DisplayTab extends Tab
 {
     private final DisplayTabController displayTabController;
 
     /**
-     * Constructs a new {@code DisplayTab} with the given database service.
+     * Constructs a new {@code DisplayTab} with the given database services.
      *
      * @param databaseService the service used by the tab's controller to perform display operations
+     * @param searchService   the service whose full-text index is searched by the tab's search field
+     * @param snapshotFile    the file holding the snapshot of the first page
      */
-    public DisplayTab(DynamicDatabaseService databaseService)
+    public DisplayTab(AsyncDatabaseService databaseService, IndexingDatabaseService searchService,
+                      Path snapshotFile)
     {
         setText("Display");
         setClosable(false);
 
-        this.displayTabController = new DisplayTabController(databaseService);
+        this.displayTabController = new DisplayTabController(databaseService, searchService, snapshotFile);
 
         try
         {
@@ -45,14 +53,47 @@ public class DisplayTab extends Tab
             throw new RuntimeException("Failed to load " + getClass().getName() + ".fxml", e);
         }
 
-        refreshTable();
+        setOnSelectionChanged(event -> {
+            if (!isSelected())
+            {
+                displayTabController.cancelPendingTasks();
+            }
+        });
+    }
+
+    /**
+     * Starts reading the columns and the first page of the table in the background.
+     * Until they arrive, the tab shows the snapshot, if there is one.
+     *
+     * @return a future completed once both have been read from the database
+     */
+    public CompletableFuture<Void> start()
+    {
+        return displayTabController.start();
     }
 
     /**
      * Refreshes the contents of the table to reflect the current state of the database.
+     * Only the rows that changed since the previous refresh are read.
      */
     public void refreshTable()
     {
-        displayTabController.updateTable();
+        displayTabController.refreshTable();
+    }
+
+    /**
+     * Cancels the page loads and searches still pending, for example when the tab is removed from the window.
+     */
+    public void cancelPendingTasks()
+    {
+        displayTabController.cancelPendingTasks();
+    }
+
+    /**
+     * Saves the first page of the table to the snapshot file, to be shown on the next start.
+     */
+    public void saveSnapshot()
+    {
+        displayTabController.saveSnapshot();
     }
 }
\ No newline at end of file
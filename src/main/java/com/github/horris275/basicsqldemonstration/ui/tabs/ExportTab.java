@@ -0,0 +1,39 @@
+package com.github.horris275.basicsqldemonstration.ui.tabs;
+
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.ui.controllers.ExportTabController;
+import javafx.scene.Node;
+import javafx.scene.control.Tab;
+
+/**
+ * A custom {@link Tab} representing the "Export" tab in the user interface.
+ *
+ * <p>This tab allows the user to export the database table to a CSV, JSON Lines or binary file
+ * using an {@link ExportTabController}. The tab is non-closable and loads the FXML layout
+ * the first time it is selected. If the FXML layout fails to load, a {@link RuntimeException} is thrown.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class ExportTab extends LazyTab
+{
+    private final DynamicDatabaseService databaseService;
+
+    /**
+     * Constructs a new {@code ExportTab} with the given database service.
+     *
+     * @param databaseService the service used to stream the rows being exported
+     */
+    public ExportTab(DynamicDatabaseService databaseService)
+    {
+        super("Export");
+
+        this.databaseService = databaseService;
+    }
+
+    @Override
+    protected Node createContent()
+    {
+        return loadContent("/fxml/ExportData.fxml", new ExportTabController(databaseService));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.github.horris275.basicsqldemonstration.ui.tabs;
+
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.ui.controllers.ImportTabController;
+import javafx.scene.Node;
+import javafx.scene.control.Tab;
+
+/**
+ * A custom {@link Tab} representing the "Import" tab in the user interface.
+ *
+ * <p>This tab allows the user to import a CSV or JSON Lines file into the database table
+ * using an {@link ImportTabController}. The tab is non-closable and loads the FXML layout
+ * the first time it is selected. If the FXML layout fails to load, a {@link RuntimeException} is thrown.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public class ImportTab extends LazyTab
+{
+    private final DynamicDatabaseService databaseService;
+
+    /**
+     * Constructs a new {@code ImportTab} with the given database service.
+     *
+     * @param databaseService the service used to read the table schema and insert the imported rows
+     */
+    public ImportTab(DynamicDatabaseService databaseService)
+    {
+        super("Import");
+
+        this.databaseService = databaseService;
+    }
+
+    @Override
+    protected Node createContent()
+    {
+        return loadContent("/fxml/ImportData.fxml", new ImportTabController(databaseService));
+    }
+}
\ No newline at end of file
@@ -1,44 +1,40 @@
 package com.github.horris275.basicsqldemonstration.ui.tabs;
 
 import com.github.horris275.basicsqldemonstration.sql.interfaces.DatabaseService;
-import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.AsyncDatabaseService;
 import com.github.horris275.basicsqldemonstration.ui.controllers.InsertTabController;
-import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import javafx.scene.control.Tab;
 
-import java.io.IOException;
-
 /**
  * A custom {@link Tab} representing the "Insert" tab in the user interface.
  *
  * <p>This tab allows users to insert new database rows using a {@link InsertTabController}.
- * The tab is non-closable and automatically loads the FXML layout.
+ * The tab is non-closable and loads the FXML layout the first time it is selected.
  * If the FXML layout fails to load, a {@link RuntimeException} is thrown.</p>
  *
  * @author horris275
- * @version 22.09.2025
+ * @version 16.10.2026
  */
-public class InsertTab extends Tab
+public class InsertTab extends LazyTab
 {
+    private final AsyncDatabaseService databaseService;
+
     /**
      * Constructs a new {@code InsertTab} with the given database service.
      *
      * @param databaseService the service used by the tab's controller to perform insertion operations
      */
-    public InsertTab(DynamicDatabaseService databaseService)
+    public InsertTab(AsyncDatabaseService databaseService)
     {
-        setText("Insert");
-        setClosable(false);
+        super("Insert");
 
-        try
-        {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/InsertData.fxml"));
-            loader.setControllerFactory(param -> new InsertTabController(databaseService));
-            setContent(loader.load());
-        }
-        catch (IOException e)
-        {
-            throw new RuntimeException("Failed to load " + getClass().getName() + ".fxml", e);
-        }
+        this.databaseService = databaseService;
+    }
+
+    @Override
+    protected Node createContent()
+    {
+        return loadContent("/fxml/InsertData.fxml", new InsertTabController(databaseService));
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.github.horris275.basicsqldemonstration.ui.tabs;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.control.Tab;
+
+import java.io.IOException;
+
+/**
+ * A non-closable {@link Tab} whose content is only created the first time it is selected.
+ *
+ * <p>Loading a tab's FXML layout and building its controls is deferred until the user first opens
+ * the tab, so tabs that are not opened cost nothing while the window is being shown. Subclasses
+ * create their content in {@link #createContent()}, usually through {@link #loadContent(String, Object)},
+ * and may react to the tab being selected or deselected once the content exists.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public abstract class LazyTab extends Tab
+{
+    private boolean loaded;
+
+    /**
+     * Constructs a new {@code LazyTab} with the given title.
+     *
+     * @param text the title of the tab
+     */
+    protected LazyTab(String text)
+    {
+        setText(text);
+        setClosable(false);
+
+        setOnSelectionChanged(event -> {
+            if (isSelected())
+            {
+                ensureLoaded();
+                onSelected();
+            }
+            else if (loaded)
+            {
+                onDeselected();
+            }
+        });
+    }
+
+    /**
+     * Creates the content of the tab if it has not been created yet.
+     */
+    public void ensureLoaded()
+    {
+        if (!loaded)
+        {
+            loaded = true;
+            setContent(createContent());
+        }
+    }
+
+    /**
+     * Stops the work the tab does while it is selected, as when it is deselected. Called when the tab
+     * is removed from the window, which does not deselect it.
+     */
+    public void release()
+    {
+        if (loaded && isSelected())
+        {
+            onDeselected();
+        }
+    }
+
+    /**
+     * Returns whether the content of the tab has been created.
+     *
+     * @return {@code true} if the content exists, otherwise {@code false}
+     */
+    public boolean isLoaded()
+    {
+        return loaded;
+    }
+
+    /**
+     * Creates the content of the tab. Called once, on the JavaFX Application Thread.
+     *
+     * @return the content of the tab
+     */
+    protected abstract Node createContent();
+
+    /**
+     * Called after the tab has been selected, once its content exists.
+     */
+    protected void onSelected()
+    {
+    }
+
+    /**
+     * Called after the tab has been deselected, if its content exists.
+     */
+    protected void onDeselected()
+    {
+    }
+
+    /**
+     * Loads an FXML layout using the given controller.
+     *
+     * @param resource   the path of the FXML resource
+     * @param controller the controller of the layout
+     * @return           the root of the loaded layout
+     * @throws RuntimeException if the FXML layout fails to load
+     */
+    protected Node loadContent(String resource, Object controller)
+    {
+        try
+        {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(resource));
+            loader.setControllerFactory(param -> controller);
+            return loader.load();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Failed to load " + getClass().getName() + ".fxml", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.github.horris275.basicsqldemonstration.ui.tasks;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.utils.UIUtils;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the results of asynchronous database operations back to the JavaFX Application Thread.
+ *
+ * <p>A controller submits each future it starts to its group together with a callback. Once the
+ * future completes, the callback is run through {@link Platform#runLater(Runnable)}, so it may
+ * update the user interface directly. Failures are reported to the user with an alert, in the
+ * same way the controllers report a {@link DatabaseException} thrown by a blocking call.</p>
+ *
+ * <p>{@link #cancelAll()} cancels every operation still pending in the group, for example when
+ * the user navigates away from a tab. Callbacks of cancelled operations are never run, even if
+ * the operation completed just before it was cancelled. A group must only be used from the
+ * JavaFX Application Thread.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+public final class UITaskGroup
+{
+    private final Set<CompletableFuture<?>> pending = new HashSet<>();
+    private long generation;
+
+    /**
+     * Tracks a pending operation and runs the callback with its result once it has completed.
+     *
+     * @param future    the pending operation
+     * @param onSuccess the callback receiving the result on the JavaFX Application Thread
+     * @param <T>       the type of the result
+     */
+    public <T> void submit(CompletableFuture<T> future, Consumer<? super T> onSuccess)
+    {
+        submit(future, onSuccess, () -> {});
+    }
+
+    /**
+     * Tracks a pending operation and runs the callbacks once it has completed.
+     *
+     * @param future    the pending operation
+     * @param onSuccess the callback receiving the result on the JavaFX Application Thread
+     * @param onSettled the callback run after the operation has succeeded, failed or been cancelled
+     * @param <T>       the type of the result
+     */
+    public <T> void submit(CompletableFuture<T> future, Consumer<? super T> onSuccess, Runnable onSettled)
+    {
+        long submittedGeneration = generation;
+        pending.add(future);
+
+        future.whenCompleteAsync((result, failure) -> {
+            pending.remove(future);
+
+            try
+            {
+                if (submittedGeneration == generation)
+                {
+                    handle(result, failure, onSuccess);
+                }
+            }
+            finally
+            {
+                onSettled.run();
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Cancels every operation still pending in this group and discards any result not yet delivered.
+     */
+    public void cancelAll()
+    {
+        generation++;
+
+        for (CompletableFuture<?> future : Set.copyOf(pending))
+        {
+            future.cancel(false);
+        }
+
+        pending.clear();
+    }
+
+    /**
+     * Runs the callback with the result of an operation that is not tracked by any group.
+     * This is used for writes, whose outcome must be reported even if the user navigates away.
+     *
+     * @param future    the pending operation
+     * @param onSuccess the callback receiving the result on the JavaFX Application Thread
+     * @param <T>       the type of the result
+     */
+    public static <T> void deliver(CompletableFuture<T> future, Consumer<? super T> onSuccess)
+    {
+        future.whenCompleteAsync((result, failure) -> handle(result, failure, onSuccess), Platform::runLater);
+    }
+
+    /**
+     * Passes a result to its callback, or alerts the user if the operation failed.
+     *
+     * @param result    the result of the operation
+     * @param failure   the failure of the operation, or {@code null} if it succeeded
+     * @param onSuccess the callback receiving the result
+     * @param <T>       the type of the result
+     */
+    private static <T> void handle(T result, Throwable failure, Consumer<? super T> onSuccess)
+    {
+        if (failure == null)
+        {
+            onSuccess.accept(result);
+            return;
+        }
+
+        Throwable cause = unwrap(failure);
+
+        if (cause instanceof CancellationException)
+        {
+            return;
+        }
+
+        if (cause instanceof DatabaseException)
+        {
+            UIUtils.alert("Database error: " + cause.getMessage(), Alert.AlertType.ERROR);
+        }
+        else
+        {
+            UIUtils.alert("Unexpected error: " + cause, Alert.AlertType.ERROR);
+        }
+    }
+
+    /**
+     * Removes the wrappers added by {@link CompletableFuture} around the original failure.
+     *
+     * @param failure the failure reported by the future
+     * @return        the original failure
+     */
+    private static Throwable unwrap(Throwable failure)
+    {
+        Throwable cause = failure;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null)
+        {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+}
\ No newline at end of file
@@ -5,6 +5,8 @@ module com.github.horris275.basicsqldemonstration {
     requires com.dlsc.formsfx;
     requires java.sql;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
 
     opens com.github.horris275.basicsqldemonstration to javafx.fxml;
     opens com.github.horris275.basicsqldemonstration.sql to javafx.base;
@@ -12,4 +14,5 @@ module com.github.horris275.basicsqldemonstration {
 
     exports com.github.horris275.basicsqldemonstration;
     opens com.github.horris275.basicsqldemonstration.sql.interfaces to javafx.base;
+    exports com.github.horris275.basicsqldemonstration.sql.metrics to java.management;
 }
\ No newline at end of file
@@ -1,12 +1,42 @@
+DROP EVENT IF EXISTS `database_example_prune_deleted`;
+DROP TRIGGER IF EXISTS `database_example_after_delete`;
+DROP TABLE IF EXISTS `database_example_deleted`;
 DROP TABLE IF EXISTS `database_example`;
 CREATE TABLE `database_example` (
 	`id` INT(10) UNSIGNED NOT NULL AUTO_INCREMENT,
 	`title` VARCHAR(30) NULL DEFAULT NULL COLLATE 'utf16_bin',
 	`description` VARCHAR(200) NULL DEFAULT NULL COLLATE 'utf16_bin',
 	`url` VARCHAR(120) NULL DEFAULT NULL COLLATE 'utf16_bin',
-	PRIMARY KEY (`id`) USING BTREE
+	`modified_at` TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+	PRIMARY KEY (`id`) USING BTREE,
+	INDEX `modified_at` (`modified_at`) USING BTREE
 )
 COLLATE='utf16_bin'
 ENGINE=InnoDB
 AUTO_INCREMENT=1
-;
\ No newline at end of file
+;
+
+CREATE TABLE `database_example_deleted` (
+	`id` INT(10) UNSIGNED NOT NULL,
+	`deleted_at` TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+	PRIMARY KEY (`id`) USING BTREE,
+	INDEX `deleted_at` (`deleted_at`) USING BTREE
+)
+COLLATE='utf16_bin'
+ENGINE=InnoDB
+;
+
+CREATE TRIGGER `database_example_after_delete` AFTER DELETE ON `database_example`
+FOR EACH ROW
+	REPLACE INTO `database_example_deleted` (`id`, `deleted_at`) VALUES (OLD.`id`, CURRENT_TIMESTAMP(3))
+;
+
+-- Tombstones are kept for one day, matching SQLManager.TOMBSTONE_RETENTION. A client whose last
+-- change watermark is older than that, plus the overlap it reads back, is told its change set is
+-- incomplete and reloads the table, so pruning older tombstones never hides a delete from it.
+-- The event only runs while the server's event_scheduler is ON.
+CREATE EVENT `database_example_prune_deleted`
+ON SCHEDULE EVERY 1 HOUR
+DO
+	DELETE FROM `database_example_deleted` WHERE `deleted_at` < CURRENT_TIMESTAMP(3) - INTERVAL 1 DAY
+;
@@ -0,0 +1,126 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.schema.ColumnDefinition;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests how {@link IndexingDatabaseService} chooses the columns of its index from the table schema
+ * and keeps the index up to date with writes.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class IndexingDatabaseServiceTest
+{
+    private final StubDatabaseService stub = new StubDatabaseService();
+
+    /**
+     * Stores a few rows in a table with a key, two text columns and a numeric column.
+     */
+    @BeforeEach
+    void createTable()
+    {
+        stub.setTableSchema(new TableSchema("books", List.of(
+                new ColumnDefinition("id", Types.INTEGER, "INT", 10, false),
+                new ColumnDefinition("title", Types.VARCHAR, "VARCHAR", 255, false),
+                new ColumnDefinition("notes", Types.LONGVARCHAR, "TEXT", 65535, true),
+                new ColumnDefinition("pages", Types.INTEGER, "INT", 10, true)), "id", false));
+
+        stub.insert(row("Effective Java", "classic", 412));
+        stub.insert(row("Clean Code", "java examples", 464));
+        stub.insert(row("Refactoring", null, 448));
+    }
+
+    /**
+     * By default every text column other than the key is indexed.
+     */
+    @Test
+    void indexesEveryTextColumnByDefault()
+    {
+        IndexingDatabaseService service = new IndexingDatabaseService(stub);
+        service.buildIndex();
+
+        assertTrue(service.isSearchable());
+        assertEquals(List.of("title", "notes"), service.getIndex().getColumnNames());
+        assertArrayEquals(new int[] {1, 2}, service.search("java", 10));
+        assertArrayEquals(new int[0], service.search("412", 10));
+    }
+
+    /**
+     * Configured columns are matched case-insensitively and those the table lacks are left out.
+     */
+    @Test
+    void indexesConfiguredColumnsTheTableHas()
+    {
+        IndexingDatabaseService service = new IndexingDatabaseService(stub, List.of("TITLE", "description"));
+        service.buildIndex();
+
+        assertEquals(List.of("title"), service.getIndex().getColumnNames());
+        assertArrayEquals(new int[] {1}, service.search("java", 10));
+    }
+
+    /**
+     * A table without any of the configured columns is not indexed or scanned, and writes are not indexed.
+     */
+    @Test
+    void skipsTableWithoutColumnsToIndex()
+    {
+        IndexingDatabaseService service = new IndexingDatabaseService(stub, List.of("description"));
+        service.buildIndex();
+        service.insert(row("Java Puzzlers", null, 312));
+
+        assertFalse(service.isSearchable());
+        assertFalse(stub.getCalls().contains("streamAll"));
+        assertEquals(0, service.getIndex().getStatistics().getRowCount());
+        assertTrue(service.whenIndexBuilt().isDone());
+    }
+
+    /**
+     * Rows inserted, updated and deleted through the service are reflected in the index.
+     */
+    @Test
+    void keepsIndexUpToDateWithWrites()
+    {
+        IndexingDatabaseService service = new IndexingDatabaseService(stub);
+        service.buildIndex();
+
+        int id = service.insert(row("Java Puzzlers", null, 312)).getGeneratedKey().getAsInt();
+        assertArrayEquals(new int[] {1, 2, id}, service.search("java", 10));
+
+        DatabaseRow update = new DatabaseRow();
+        update.setColumn("title", "Kotlin in Action");
+        service.modify(id, update);
+        assertArrayEquals(new int[] {1, 2}, service.search("java", 10));
+        assertArrayEquals(new int[] {id}, service.search("kotlin", 10));
+
+        service.delete(1);
+        assertArrayEquals(new int[] {2}, service.search("java", 10));
+    }
+
+    /**
+     * Creates a row of the test table without an identifier.
+     *
+     * @param title the title
+     * @param notes the notes, may be {@code null}
+     * @param pages the number of pages
+     * @return      the row
+     */
+    private static DatabaseRow row(String title, String notes, int pages)
+    {
+        DatabaseRow databaseRow = new DatabaseRow();
+        databaseRow.setColumn("title", title);
+        databaseRow.setColumn("notes", notes);
+        databaseRow.setColumn("pages", pages);
+        return databaseRow;
+    }
+}
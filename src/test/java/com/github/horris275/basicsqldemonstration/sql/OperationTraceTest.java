@@ -0,0 +1,68 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.sql.log.OperationLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests when {@link OperationTrace} records an operation and what it writes to the operation log.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class OperationTraceTest
+{
+    @TempDir
+    Path directory;
+
+    /**
+     * Without a recording or a log every operation shares one trace, which ignores what it is given.
+     */
+    @Test
+    void sharesTraceWhenNothingListens()
+    {
+        OperationTrace trace = OperationTrace.begin("fetch", "books", null);
+
+        trace.statement("SELECT 1", 1);
+        trace.rowsRead(1);
+        trace.fail();
+        trace.complete();
+
+        assertSame(trace, OperationTrace.begin("check", "books", null));
+    }
+
+    /**
+     * With a log each operation gets its own trace, and the rows it read are written with it.
+     */
+    @Test
+    void logsTracedOperation() throws IOException
+    {
+        OperationLog operationLog = new OperationLog(directory, "operations", Duration.ofSeconds(1), 1);
+        OperationTrace trace = OperationTrace.begin("check", "books", operationLog);
+
+        assertNotSame(trace, OperationTrace.begin("check", "books", operationLog));
+
+        trace.statement("SELECT 1 FROM books WHERE id = ? LIMIT 1", 1);
+        trace.rowsRead(1);
+        trace.complete();
+        operationLog.close();
+
+        List<String> lines = Files.readAllLines(directory.resolve("operations.log"), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.getFirst().contains(" SAMPLE check books "), lines.getFirst());
+        assertTrue(lines.getFirst().contains(" rows=1 sql=\"SELECT 1 FROM books WHERE id = ? LIMIT 1\""),
+                lines.getFirst());
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the insert and update statements built by {@link QueryTemplates}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class QueryTemplatesTest
+{
+    /**
+     * An insert names every column and has one placeholder per column.
+     */
+    @Test
+    void buildsInsertQuery()
+    {
+        QueryTemplates templates = new QueryTemplates();
+
+        assertEquals("INSERT INTO books (title, url) VALUES (?, ?)",
+                templates.insertQuery("books", List.of("title", "url")));
+    }
+
+    /**
+     * An update never assigns the key column, whatever its case, and ends with the key condition.
+     */
+    @Test
+    void buildsModifyQueryWithoutKeyColumn()
+    {
+        QueryTemplates templates = new QueryTemplates();
+
+        assertEquals("UPDATE books SET title = ?, url = ? WHERE book_id = ?",
+                templates.modifyQuery("books", "book_id", List.of("title", "BOOK_ID", "url")));
+    }
+
+    /**
+     * An update holding nothing but the key column is rejected instead of producing an empty {@code SET}.
+     */
+    @Test
+    void rejectsModifyQueryWithoutColumns()
+    {
+        QueryTemplates templates = new QueryTemplates();
+
+        assertThrows(IllegalArgumentException.class, () -> templates.modifyQuery("books", "id", List.of("id")));
+        assertThrows(IllegalArgumentException.class, () -> templates.modifyQuery("books", "id", List.of()));
+    }
+
+    /**
+     * A template is built once and served from the cache afterwards.
+     */
+    @Test
+    void cachesTemplates()
+    {
+        QueryTemplates templates = new QueryTemplates();
+
+        templates.modifyQuery("books", "id", List.of("title"));
+        templates.modifyQuery("books", "id", List.of("title"));
+
+        assertEquals(1, templates.getStatistics().getMissCount());
+        assertEquals(1, templates.getStatistics().getHitCount());
+    }
+}
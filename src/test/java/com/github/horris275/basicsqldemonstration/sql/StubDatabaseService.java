@@ -0,0 +1,371 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import com.github.horris275.basicsqldemonstration.sql.interfaces.DynamicDatabaseService;
+import com.github.horris275.basicsqldemonstration.sql.query.RowQuery;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory {@link DynamicDatabaseService} recording the calls made to it, used in place of the
+ * database by the tests of the service decorators.
+ *
+ * <p>Rows receive ascending identifiers starting at {@code 1}. Rows matching {@link #refuse(Predicate)}
+ * make the call writing them fail. {@code insertAll} commits its rows in chunks of
+ * {@link #setInsertChunkSize(int)} rows, so that a failing call may leave earlier chunks committed,
+ * as {@link SQLManager} does. Calls writing rows can be held with {@link #holdWrites()} until
+ * {@link #releaseWrites()}.</p>
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class StubDatabaseService implements DynamicDatabaseService
+{
+    private final Map<Integer, DatabaseRow> rows = new TreeMap<>();
+    private final List<String> calls = new ArrayList<>();
+    private volatile CountDownLatch writeGate = new CountDownLatch(0);
+    private volatile Predicate<DatabaseRow> refused = row -> false;
+    private volatile boolean reportNoInfo;
+    private volatile TableSchema tableSchema;
+    private int insertChunkSize = Integer.MAX_VALUE;
+    private int nextId = 1;
+
+    /**
+     * Makes the writes of the rows matching the predicate fail.
+     *
+     * @param refused the predicate matching the refused rows
+     */
+    void refuse(Predicate<DatabaseRow> refused)
+    {
+        this.refused = refused;
+    }
+
+    /**
+     * Makes {@code modifyAll} report {@link Statement#SUCCESS_NO_INFO} for every row, as some drivers do.
+     *
+     * @param reportNoInfo whether the counts of batched updates are withheld
+     */
+    void setReportNoInfo(boolean reportNoInfo)
+    {
+        this.reportNoInfo = reportNoInfo;
+    }
+
+    /**
+     * Sets the number of rows committed together by {@code insertAll}.
+     *
+     * @param insertChunkSize the number of rows per transaction
+     */
+    synchronized void setInsertChunkSize(int insertChunkSize)
+    {
+        this.insertChunkSize = insertChunkSize;
+    }
+
+    /**
+     * Sets the schema returned by {@link #retrieveTableSchema()}.
+     *
+     * @param tableSchema the schema of the table
+     */
+    void setTableSchema(TableSchema tableSchema)
+    {
+        this.tableSchema = tableSchema;
+    }
+
+    /**
+     * Makes the calls writing rows wait until {@link #releaseWrites()} is called.
+     */
+    void holdWrites()
+    {
+        writeGate = new CountDownLatch(1);
+    }
+
+    /**
+     * Lets the held calls, and those that follow, write their rows.
+     */
+    void releaseWrites()
+    {
+        writeGate.countDown();
+    }
+
+    /**
+     * Returns the calls made so far, each as its method name followed by the number of rows for bulk calls.
+     *
+     * @return a copy of the calls in the order they were made
+     */
+    synchronized List<String> getCalls()
+    {
+        return List.copyOf(calls);
+    }
+
+    /**
+     * Returns a stored row.
+     *
+     * @param id the unique identifier of the row
+     * @return   the row, or {@code null} if no row has the identifier
+     */
+    synchronized DatabaseRow getRow(int id)
+    {
+        return rows.get(id);
+    }
+
+    /**
+     * Returns the number of stored rows.
+     *
+     * @return the row count
+     */
+    synchronized int size()
+    {
+        return rows.size();
+    }
+
+    @Override
+    public synchronized List<DatabaseRow> fetchAll()
+    {
+        calls.add("fetchAll");
+        return new ArrayList<>(rows.values());
+    }
+
+    @Override
+    public synchronized Stream<DatabaseRow> streamAll()
+    {
+        calls.add("streamAll");
+        return new ArrayList<>(rows.values()).stream();
+    }
+
+    @Override
+    public synchronized List<DatabaseRow> fetchPage(int afterId, int limit)
+    {
+        calls.add("fetchPage");
+        return rows.values().stream().filter(row -> row.getUniqueId() > afterId).limit(limit).toList();
+    }
+
+    @Override
+    public synchronized List<DatabaseRow> fetchPageBefore(int beforeId, int limit)
+    {
+        calls.add("fetchPageBefore");
+        List<DatabaseRow> before = rows.values().stream().filter(row -> row.getUniqueId() < beforeId).toList();
+        return before.subList(Math.max(0, before.size() - limit), before.size());
+    }
+
+    @Override
+    public synchronized List<DatabaseRow> fetchMatching(RowQuery query)
+    {
+        calls.add("fetchMatching");
+        return new ArrayList<>(rows.values());
+    }
+
+    @Override
+    public synchronized Optional<DatabaseRow> fetch(int id)
+    {
+        calls.add("fetch");
+        return Optional.ofNullable(rows.get(id)).map(DatabaseRow::copy);
+    }
+
+    @Override
+    public synchronized boolean check(int id)
+    {
+        calls.add("check");
+        return rows.containsKey(id);
+    }
+
+    @Override
+    public MutationResult insert(DatabaseRow databaseRow)
+    {
+        awaitWriteGate();
+
+        synchronized (this)
+        {
+            calls.add("insert");
+            int id = store(databaseRow);
+            return new MutationResult(1, List.of(id), null);
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<DatabaseRow> databaseRows)
+    {
+        awaitWriteGate();
+
+        synchronized (this)
+        {
+            calls.add("insertAll:" + databaseRows.size());
+            List<DatabaseRow> pending = new ArrayList<>(databaseRows);
+
+            for (int start = 0; start < pending.size(); start += insertChunkSize)
+            {
+                List<DatabaseRow> chunk = pending.subList(start, Math.min(start + insertChunkSize, pending.size()));
+
+                if (chunk.stream().anyMatch(refused))
+                {
+                    throw new DatabaseException("Refused a row of the chunk starting at " + start);
+                }
+
+                chunk.forEach(this::store);
+            }
+        }
+    }
+
+    @Override
+    public MutationResult modify(int id, DatabaseRow databaseRow)
+    {
+        awaitWriteGate();
+
+        synchronized (this)
+        {
+            calls.add("modify");
+            return MutationResult.of(update(id, databaseRow));
+        }
+    }
+
+    @Override
+    public Map<Integer, Integer> modifyAll(Map<Integer, DatabaseRow> databaseRows)
+    {
+        awaitWriteGate();
+
+        synchronized (this)
+        {
+            calls.add("modifyAll:" + databaseRows.size());
+
+            if (databaseRows.values().stream().anyMatch(refused))
+            {
+                throw new DatabaseException("Refused a row of the batch");
+            }
+
+            Map<Integer, Integer> results = new LinkedHashMap<>();
+            databaseRows.forEach((id, row) -> {
+                int affected = update(id, row);
+                results.put(id, reportNoInfo ? Statement.SUCCESS_NO_INFO : affected);
+            });
+            return results;
+        }
+    }
+
+    @Override
+    public synchronized MutationResult delete(int id)
+    {
+        calls.add("delete");
+        DatabaseRow removed = rows.remove(id);
+        return removed == null ? MutationResult.of(0) : new MutationResult(1, List.of(), removed);
+    }
+
+    @Override
+    public synchronized Map<Integer, Integer> deleteAll(int[] ids)
+    {
+        calls.add("deleteAll:" + ids.length);
+        Map<Integer, Integer> results = new LinkedHashMap<>();
+
+        for (int id : ids)
+        {
+            results.put(id, rows.remove(id) != null ? 1 : 0);
+        }
+
+        return results;
+    }
+
+    @Override
+    public Instant retrieveChangeWatermark()
+    {
+        return Instant.EPOCH;
+    }
+
+    @Override
+    public synchronized ChangeSet fetchChanges(Instant since, int limit)
+    {
+        calls.add("fetchChanges");
+        return new ChangeSet(new ArrayList<>(rows.values()), List.of(), Instant.EPOCH, true);
+    }
+
+    @Override
+    public List<String> retrieveColumnNames()
+    {
+        return List.of("title", "description");
+    }
+
+    @Override
+    public TableSchema retrieveTableSchema()
+    {
+        if (tableSchema == null)
+        {
+            throw new DatabaseException("No table schema has been set");
+        }
+
+        return tableSchema;
+    }
+
+    @Override
+    public void invalidateTableSchema()
+    {
+    }
+
+    /**
+     * Stores a copy of a new row and assigns the row its identifier.
+     *
+     * @param databaseRow the row to store
+     * @return            the identifier assigned
+     * @throws DatabaseException if the row is refused
+     */
+    private int store(DatabaseRow databaseRow)
+    {
+        if (refused.test(databaseRow))
+        {
+            throw new DatabaseException("Refused row " + databaseRow.getColumnValues());
+        }
+
+        int id = nextId++;
+        rows.put(id, new DatabaseRow(id, new LinkedHashMap<>(databaseRow.getColumnValues())));
+        databaseRow.setUniqueId(id);
+        return id;
+    }
+
+    /**
+     * Sets the columns of a stored row.
+     *
+     * @param id          the unique identifier of the row
+     * @param databaseRow the updates
+     * @return            {@code 1} if the row exists, otherwise {@code 0}
+     * @throws DatabaseException if the update is refused
+     */
+    private int update(int id, DatabaseRow databaseRow)
+    {
+        if (refused.test(databaseRow))
+        {
+            throw new DatabaseException("Refused update of row " + id);
+        }
+
+        DatabaseRow stored = rows.get(id);
+
+        if (stored == null)
+        {
+            return 0;
+        }
+
+        databaseRow.getColumnValues().forEach(stored::setColumn);
+        return 1;
+    }
+
+    /**
+     * Waits while writes are held.
+     */
+    private void awaitWriteGate()
+    {
+        try
+        {
+            writeGate.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
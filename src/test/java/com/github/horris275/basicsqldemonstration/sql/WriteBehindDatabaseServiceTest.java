@@ -0,0 +1,384 @@
+package com.github.horris275.basicsqldemonstration.sql;
+
+import com.github.horris275.basicsqldemonstration.exceptions.DatabaseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the queuing, coalescing, backpressure and failure handling of {@link WriteBehindDatabaseService}
+ * against a {@link StubDatabaseService}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Timeout(10)
+class WriteBehindDatabaseServiceTest
+{
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final StubDatabaseService stub = new StubDatabaseService();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private WriteBehindDatabaseService service;
+
+    /**
+     * Releases any held write and stops the service and the writer threads.
+     */
+    @AfterEach
+    void close()
+    {
+        stub.releaseWrites();
+
+        if (service != null)
+        {
+            service.close();
+        }
+
+        writers.shutdownNow();
+    }
+
+    /**
+     * Repeated updates of a row are merged into one, keeping the columns only the earlier updates set.
+     */
+    @Test
+    void coalescesUpdatesOfTheSameRow()
+    {
+        int id = stub.insert(row("title", "original", "description", "original")).getGeneratedKey().getAsInt();
+        service = new WriteBehindDatabaseService(stub, 100, NEVER, WriteDurability.DEFERRED);
+
+        service.modify(id, row("title", "first"));
+        service.modify(id, row("description", "second"));
+        service.modify(id, row("title", "third"));
+
+        assertEquals(1, service.getPendingCount());
+        assertEquals(2, service.getCoalescedCount());
+
+        service.flush();
+
+        assertEquals(List.of("insert", "modifyAll:1"), stub.getCalls());
+        assertEquals("third", stub.getRow(id).getColumn("title"));
+        assertEquals("second", stub.getRow(id).getColumn("description"));
+    }
+
+    /**
+     * The queue is written once it holds a full batch, without waiting for the delay.
+     */
+    @Test
+    void flushesFullBatch()
+    {
+        service = new WriteBehindDatabaseService(stub, 3, NEVER, WriteDurability.DEFERRED);
+
+        for (int index = 0; index < 3; index++)
+        {
+            service.insert(row("title", "row " + index));
+        }
+
+        awaitCondition(() -> stub.size() == 3);
+        assertEquals(List.of("insertAll:3"), stub.getCalls());
+    }
+
+    /**
+     * The queue is written once its oldest write has waited the maximum delay.
+     */
+    @Test
+    void flushesAfterDelay()
+    {
+        service = new WriteBehindDatabaseService(stub, 100, Duration.ofMillis(20), WriteDurability.DEFERRED);
+
+        service.insert(row("title", "late"));
+
+        awaitCondition(() -> stub.size() == 1);
+    }
+
+    /**
+     * Writers waiting for the commit each receive the outcome of their own write,
+     * and their rows receive the generated identifiers.
+     */
+    @Test
+    void completesEachWriteWithItsOwnResult()
+    {
+        service = new WriteBehindDatabaseService(stub, 5, NEVER, WriteDurability.GROUP_COMMIT);
+        List<DatabaseRow> inserted = new ArrayList<>();
+        List<CompletableFuture<MutationResult>> results = new ArrayList<>();
+
+        for (int index = 0; index < 5; index++)
+        {
+            DatabaseRow databaseRow = row("title", "row " + index);
+            inserted.add(databaseRow);
+            results.add(CompletableFuture.supplyAsync(() -> service.insert(databaseRow), writers));
+        }
+
+        for (int index = 0; index < 5; index++)
+        {
+            MutationResult result = results.get(index).join();
+            int id = result.getGeneratedKey().getAsInt();
+
+            assertEquals(1, result.getAffectedRows());
+            assertEquals(id, inserted.get(index).getUniqueId());
+            assertEquals("row " + index, stub.getRow(id).getColumn("title"));
+        }
+
+        assertEquals(List.of("insertAll:5"), stub.getCalls());
+    }
+
+    /**
+     * Writers wait once the queue holds the maximum number of pending batches, until the flusher catches up.
+     */
+    @Test
+    void blocksWritersWhenQueueIsFull()
+    {
+        service = new WriteBehindDatabaseService(stub, 1, NEVER, WriteDurability.DEFERRED);
+        stub.holdWrites();
+
+        service.insert(row("title", "in flight"));
+        awaitCondition(() -> service.getPendingCount() == 0);
+
+        for (int index = 0; index < 4; index++)
+        {
+            service.insert(row("title", "queued " + index));
+        }
+
+        CompletableFuture<MutationResult> blocked = CompletableFuture.supplyAsync(
+                () -> service.insert(row("title", "blocked")), writers);
+
+        assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(4, service.getPendingCount());
+
+        stub.releaseWrites();
+        blocked.join();
+        service.flush();
+
+        assertEquals(6, stub.size());
+    }
+
+    /**
+     * A flush waits until every queued write has been committed, and reads wait for the queue.
+     */
+    @Test
+    void flushAndReadsWaitForQueuedWrites()
+    {
+        int id = stub.insert(row("title", "original")).getGeneratedKey().getAsInt();
+        service = new WriteBehindDatabaseService(stub, 100, NEVER, WriteDurability.DEFERRED);
+
+        service.modify(id, row("title", "updated"));
+        assertEquals("updated", service.fetch(id).orElseThrow().getColumn("title"));
+
+        service.insert(row("title", "new"));
+        assertEquals(2, service.fetchAll().size());
+
+        service.insert(row("title", "flushed"));
+        service.flush();
+
+        assertEquals(0, service.getPendingCount());
+        assertEquals(3, stub.size());
+    }
+
+    /**
+     * When a batch of inserts is refused, the rows are retried one at a time and only the refused row fails.
+     */
+    @Test
+    void retriesRefusedInsertsIndividually()
+    {
+        service = new WriteBehindDatabaseService(stub, 3, NEVER, WriteDurability.GROUP_COMMIT);
+        stub.refuse(databaseRow -> "bad".equals(databaseRow.getColumn("title")));
+
+        CompletableFuture<MutationResult> good = insertAsync(row("title", "good"));
+        CompletableFuture<MutationResult> bad = insertAsync(row("title", "bad"));
+        CompletableFuture<MutationResult> other = insertAsync(row("title", "other"));
+
+        assertTrue(good.join().isAffected());
+        assertTrue(other.join().isAffected());
+        CompletionException failure = assertThrows(CompletionException.class, bad::join);
+        assertInstanceOf(DatabaseException.class, failure.getCause());
+
+        assertEquals(2, stub.size());
+        assertEquals("insertAll:3", stub.getCalls().getFirst());
+        assertEquals(3, stub.getCalls().stream().filter("insert"::equals).count());
+    }
+
+    /**
+     * Rows committed by the underlying service before it refused the rest of the batch are not inserted again.
+     */
+    @Test
+    void doesNotRetryCommittedInserts()
+    {
+        service = new WriteBehindDatabaseService(stub, 3, NEVER, WriteDurability.DEFERRED);
+        stub.setInsertChunkSize(2);
+        stub.refuse(databaseRow -> "bad".equals(databaseRow.getColumn("title")));
+
+        service.insert(row("title", "first"));
+        service.insert(row("title", "second"));
+        service.insert(row("title", "bad"));
+
+        assertThrows(DatabaseException.class, service::flush);
+        assertEquals(List.of("insertAll:3", "insert"), stub.getCalls());
+        assertEquals(2, stub.size());
+        assertEquals(1, service.getFlushMetrics().getErrorCount());
+    }
+
+    /**
+     * A caller row that already carries an identifier is still inserted when its batch was rolled back.
+     */
+    @Test
+    void retriesRolledBackRowCarryingAnIdentifier()
+    {
+        service = new WriteBehindDatabaseService(stub, 2, NEVER, WriteDurability.GROUP_COMMIT);
+        stub.refuse(databaseRow -> "bad".equals(databaseRow.getColumn("title")));
+
+        DatabaseRow carryingId = new DatabaseRow(99, new LinkedHashMap<>(Map.of("title", "carrying id")));
+        CompletableFuture<MutationResult> carrying = insertAsync(carryingId);
+        CompletableFuture<MutationResult> bad = insertAsync(row("title", "bad"));
+
+        int id = carrying.join().getGeneratedKey().getAsInt();
+        assertThrows(CompletionException.class, bad::join);
+
+        assertNotEquals(99, id);
+        assertEquals("carrying id", stub.getRow(id).getColumn("title"));
+        assertEquals(1, stub.size());
+    }
+
+    /**
+     * When a batch of updates is refused, the updates are retried one at a time and only the refused one fails.
+     */
+    @Test
+    void retriesRefusedUpdatesIndividually()
+    {
+        int first = stub.insert(row("title", "first")).getGeneratedKey().getAsInt();
+        int second = stub.insert(row("title", "second")).getGeneratedKey().getAsInt();
+        service = new WriteBehindDatabaseService(stub, 2, NEVER, WriteDurability.GROUP_COMMIT);
+        stub.refuse(databaseRow -> "bad".equals(databaseRow.getColumn("title")));
+
+        CompletableFuture<MutationResult> good = modifyAsync(first, row("title", "good"));
+        CompletableFuture<MutationResult> bad = modifyAsync(second, row("title", "bad"));
+
+        assertTrue(good.join().isAffected());
+        assertThrows(CompletionException.class, bad::join);
+        assertEquals("good", stub.getRow(first).getColumn("title"));
+        assertEquals("second", stub.getRow(second).getColumn("title"));
+    }
+
+    /**
+     * An update of a missing row is reported as affecting no row, and an update whose count the driver
+     * withheld is reported as unknown rather than as affecting one row.
+     */
+    @Test
+    void reportsUpdateCountsHonestly()
+    {
+        int id = stub.insert(row("title", "original")).getGeneratedKey().getAsInt();
+        service = new WriteBehindDatabaseService(stub, 1, NEVER, WriteDurability.GROUP_COMMIT);
+
+        assertEquals(1, service.modify(id, row("title", "updated")).getAffectedRows());
+        assertFalse(service.modify(id + 1, row("title", "missing")).isAffected());
+
+        stub.setReportNoInfo(true);
+        MutationResult withheld = service.modify(id + 1, row("title", "missing"));
+
+        assertFalse(withheld.isKnown());
+        assertFalse(withheld.isAffected());
+    }
+
+    /**
+     * A deferred write only reports that it was queued.
+     */
+    @Test
+    void reportsDeferredWritesAsUnknown()
+    {
+        service = new WriteBehindDatabaseService(stub, 100, NEVER, WriteDurability.DEFERRED);
+
+        assertFalse(service.insert(row("title", "queued")).isKnown());
+        assertFalse(service.modify(1, row("title", "queued")).isKnown());
+    }
+
+    /**
+     * Writes through the service go straight to the underlying service when not buffered, and once closed.
+     */
+    @Test
+    void writesThroughWhenNotBufferedOrClosed()
+    {
+        service = new WriteBehindDatabaseService(stub, 100, NEVER, WriteDurability.WRITE_THROUGH);
+        assertTrue(service.insert(row("title", "direct")).getGeneratedKey().isPresent());
+
+        service.setDurability(WriteDurability.DEFERRED);
+        service.insert(row("title", "queued"));
+        service.close();
+        service.insert(row("title", "after close"));
+
+        assertEquals(List.of("insert", "insertAll:1", "insert"), stub.getCalls());
+        assertEquals(3, stub.size());
+    }
+
+    /**
+     * Inserts a row through the service on a writer thread.
+     *
+     * @param databaseRow the row to insert
+     * @return            the future of the result
+     */
+    private CompletableFuture<MutationResult> insertAsync(DatabaseRow databaseRow)
+    {
+        return CompletableFuture.supplyAsync(() -> service.insert(databaseRow), writers);
+    }
+
+    /**
+     * Updates a row through the service on a writer thread.
+     *
+     * @param id          the unique identifier of the row
+     * @param databaseRow the updates
+     * @return            the future of the result
+     */
+    private CompletableFuture<MutationResult> modifyAsync(int id, DatabaseRow databaseRow)
+    {
+        return CompletableFuture.supplyAsync(() -> service.modify(id, databaseRow), writers);
+    }
+
+    /**
+     * Creates a row without an identifier from alternating column names and values.
+     *
+     * @param namesAndValues the column names, each followed by its value
+     * @return               the row
+     */
+    private static DatabaseRow row(Object... namesAndValues)
+    {
+        DatabaseRow databaseRow = new DatabaseRow();
+
+        for (int index = 0; index < namesAndValues.length; index += 2)
+        {
+            databaseRow.setColumn((String) namesAndValues[index], namesAndValues[index + 1]);
+        }
+
+        return databaseRow;
+    }
+
+    /**
+     * Waits until a condition holds, polling it.
+     *
+     * @param condition the condition
+     */
+    private static void awaitCondition(BooleanSupplier condition)
+    {
+        while (!condition.getAsBoolean())
+        {
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.horris275.basicsqldemonstration.sql.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the expiry, eviction and concurrent loading behaviour of {@link LruCache}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Timeout(10)
+class LruCacheTest
+{
+    private static final Duration LONG_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch loadReleased = new CountDownLatch(1);
+
+    /**
+     * Releases any load still blocked and stops the executor.
+     */
+    @AfterEach
+    void tearDown()
+    {
+        loadReleased.countDown();
+        executor.close();
+    }
+
+    /**
+     * A value is served until its time-to-live has passed and is loaded again afterwards.
+     */
+    @Test
+    void reloadsExpiredEntries() throws InterruptedException
+    {
+        LruCache<String, String> cache = new LruCache<>(4, Duration.ofMillis(50));
+
+        assertEquals("a1", cache.get("a", this::countingLoad));
+        assertEquals("a1", cache.get("a", this::countingLoad));
+
+        Thread.sleep(100);
+
+        assertEquals("a2", cache.get("a", this::countingLoad));
+        assertEquals(1, cache.getStatistics().getHitCount());
+        assertEquals(2, cache.getStatistics().getMissCount());
+    }
+
+    /**
+     * Storing beyond the maximum size evicts the least recently used entry, where a read counts as a use.
+     */
+    @Test
+    void evictsLeastRecentlyUsedEntry()
+    {
+        LruCache<String, String> cache = new LruCache<>(2, LONG_TIME_TO_LIVE);
+        cache.put("a", "a");
+        cache.put("b", "b");
+
+        cache.get("a", this::countingLoad);
+        cache.put("c", "c");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        assertEquals("a", cache.get("a", this::countingLoad));
+        assertEquals("c", cache.get("c", this::countingLoad));
+        assertEquals("b1", cache.get("b", this::countingLoad));
+    }
+
+    /**
+     * A value loaded before the key was invalidated is returned to its caller but not stored.
+     */
+    @Test
+    void discardsLoadRacingInvalidation() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4, LONG_TIME_TO_LIVE);
+        Future<String> load = executor.submit(() -> cache.get("a", this::blockingLoad));
+        loadStarted.await();
+
+        cache.invalidate("a");
+        loadReleased.countDown();
+
+        assertEquals("a1", load.get());
+        assertEquals(0, cache.size());
+        assertEquals("a2", cache.get("a", this::countingLoad));
+    }
+
+    /**
+     * A value loaded before the key was replaced does not overwrite the newer value.
+     */
+    @Test
+    void keepsValuePutDuringLoad() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4, LONG_TIME_TO_LIVE);
+        Future<String> load = executor.submit(() -> cache.get("a", this::blockingLoad));
+        loadStarted.await();
+
+        cache.put("a", "written");
+        loadReleased.countDown();
+
+        assertEquals("a1", load.get());
+        assertEquals("written", cache.get("a", this::countingLoad));
+    }
+
+    /**
+     * Writing another key while a load is in flight does not stop the loaded value from being stored.
+     */
+    @Test
+    void storesLoadDespiteWriteToOtherKey() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4, LONG_TIME_TO_LIVE);
+        Future<String> load = executor.submit(() -> cache.get("a", this::blockingLoad));
+        loadStarted.await();
+
+        cache.put("b", "b");
+        cache.invalidate("c");
+        loadReleased.countDown();
+
+        assertEquals("a1", load.get());
+        assertEquals("a1", cache.get("a", this::countingLoad));
+        assertEquals(1, loadCount.get());
+    }
+
+    /**
+     * Concurrent misses on the same key share a single load.
+     */
+    @Test
+    void sharesConcurrentLoads() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4, LONG_TIME_TO_LIVE);
+        Future<String> first = executor.submit(() -> cache.get("a", this::blockingLoad));
+        loadStarted.await();
+
+        Future<String> second = executor.submit(() -> cache.get("a", this::blockingLoad));
+        awaitHits(cache, 1);
+        loadReleased.countDown();
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getStatistics().getMissCount());
+    }
+
+    /**
+     * A failed load is reported to every caller sharing it, and the next lookup loads again.
+     */
+    @Test
+    void propagatesFailedLoadToWaiters() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4, LONG_TIME_TO_LIVE);
+        Function<String, String> failingLoad = key ->
+        {
+            blockingLoad(key);
+            throw new IllegalStateException("unavailable");
+        };
+
+        Future<String> first = executor.submit(() -> cache.get("a", failingLoad));
+        loadStarted.await();
+
+        Future<String> second = executor.submit(() -> cache.get("a", failingLoad));
+        awaitHits(cache, 1);
+        loadReleased.countDown();
+
+        ExecutionException firstFailure = assertThrows(ExecutionException.class, first::get);
+        ExecutionException secondFailure = assertThrows(ExecutionException.class, second::get);
+        assertInstanceOf(IllegalStateException.class, firstFailure.getCause());
+        assertSame(firstFailure.getCause(), secondFailure.getCause());
+        assertEquals("a2", cache.get("a", this::countingLoad));
+    }
+
+    /**
+     * Loads a value numbered by how many loads have run so far.
+     *
+     * @param key the key to load
+     * @return    the key followed by the number of the load
+     */
+    private String countingLoad(String key)
+    {
+        return key + loadCount.incrementAndGet();
+    }
+
+    /**
+     * Signals that a load started, then waits until the test releases it.
+     *
+     * @param key the key to load
+     * @return    the key followed by the number of the load
+     */
+    private String blockingLoad(String key)
+    {
+        String value = countingLoad(key);
+        loadStarted.countDown();
+
+        try
+        {
+            loadReleased.await();
+        }
+        catch (InterruptedException exception)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        return value;
+    }
+
+    /**
+     * Waits until the cache has recorded the given number of hits.
+     *
+     * @param cache    the cache
+     * @param hitCount the number of hits to wait for
+     */
+    private static void awaitHits(LruCache<?, ?> cache, long hitCount)
+    {
+        while (cache.getStatistics().getHitCount() < hitCount)
+        {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.horris275.basicsqldemonstration.sql.log;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests which operations {@link OperationLog} writes, and that its ring buffer loses no entry
+ * without counting it.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Timeout(10)
+class OperationLogTest
+{
+    private static final long FAST = 1_000;
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+    private static final Pattern ROW_COUNT = Pattern.compile(" rows=(\\d+) ");
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Slow and failed operations are written, fast operations are not when sampling is off.
+     */
+    @Test
+    void writesSlowAndFailedOperations() throws IOException
+    {
+        try (OperationLog log = createLog(0, 16))
+        {
+            log.log("fetch", "books", "SELECT 1", FAST, 1, false);
+            log.log("fetch", "books", "SELECT 2", SLOW, 2, false);
+            log.log("insert", "books", null, FAST, 0, true);
+        }
+
+        List<String> lines = readLines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains(" SLOW fetch books 1000.000ms rows=2 sql=\"SELECT 2\""), lines.get(0));
+        assertTrue(lines.get(1).contains(" FAILED insert books 0.001ms rows=0 sql=\"\""), lines.get(1));
+    }
+
+    /**
+     * A sample rate of one writes every fast operation.
+     */
+    @Test
+    void samplesFastOperations() throws IOException
+    {
+        try (OperationLog log = createLog(1, 16))
+        {
+            log.log("fetch", "books", "SELECT 1", FAST, 3, false);
+        }
+
+        List<String> lines = readLines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.getFirst().contains(" SAMPLE fetch books "), lines.getFirst());
+    }
+
+    /**
+     * However far the writer falls behind, every entry is either written, in the order it was logged
+     * by its thread, or counted as dropped.
+     */
+    @Test
+    void writesOrCountsEveryEntry() throws Exception
+    {
+        int threads = 4;
+        int entriesPerThread = 5_000;
+        OperationLog log = createLog(0, 4);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads))
+        {
+            for (int thread = 0; thread < threads; thread++)
+            {
+                String table = "table" + thread;
+                executor.execute(() -> {
+                    for (int count = 0; count < entriesPerThread; count++)
+                    {
+                        log.log("fetch", table, "SELECT 1", SLOW, count, false);
+                    }
+                });
+            }
+        }
+
+        log.close();
+
+        List<String> lines = readLines();
+        assertEquals(threads * entriesPerThread, log.getWrittenCount() + log.getDroppedCount());
+        assertEquals(log.getWrittenCount(), lines.size());
+
+        for (int thread = 0; thread < threads; thread++)
+        {
+            String table = " table" + thread + " ";
+            long previous = -1;
+
+            for (String line : lines)
+            {
+                if (line.contains(table))
+                {
+                    long rowCount = rowCount(line);
+                    assertTrue(rowCount > previous, line);
+                    previous = rowCount;
+                }
+            }
+        }
+    }
+
+    /**
+     * Entries logged after the log was closed are dropped.
+     */
+    @Test
+    void dropsEntriesAfterClose()
+    {
+        OperationLog log = createLog(0, 16);
+        log.close();
+
+        log.log("fetch", "books", "SELECT 1", SLOW, 1, false);
+
+        assertEquals(1, log.getDroppedCount());
+        assertEquals(0, log.getWrittenCount());
+    }
+
+    /**
+     * Negative sample rates and capacities are rejected.
+     */
+    @Test
+    void rejectsInvalidConfiguration()
+    {
+        assertThrows(IllegalArgumentException.class, () -> createLog(-1, 16));
+        assertThrows(IllegalArgumentException.class, () -> createLog(0, 0));
+    }
+
+    /**
+     * Creates a log in the temporary directory that treats operations from one second as slow.
+     *
+     * @param sampleRate the sample rate of fast operations
+     * @param capacity   the capacity of the ring buffer
+     * @return           the log
+     */
+    private OperationLog createLog(int sampleRate, int capacity)
+    {
+        return new OperationLog(directory, "operations", Duration.ofSeconds(1), sampleRate, capacity,
+                1024 * 1024 * 1024, 1);
+    }
+
+    /**
+     * Reads the lines of the current log file.
+     *
+     * @return the lines
+     * @throws IOException if the file cannot be read
+     */
+    private List<String> readLines() throws IOException
+    {
+        return Files.readAllLines(directory.resolve("operations.log"), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Extracts the row count of a log line.
+     *
+     * @param line the log line
+     * @return     the row count
+     */
+    private static long rowCount(String line)
+    {
+        Matcher matcher = ROW_COUNT.matcher(line);
+        assertTrue(matcher.find(), line);
+        return Long.parseLong(matcher.group(1));
+    }
+}
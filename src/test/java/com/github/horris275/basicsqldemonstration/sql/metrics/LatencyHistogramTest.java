@@ -0,0 +1,130 @@
+package com.github.horris275.basicsqldemonstration.sql.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the bucket layout and the percentiles of {@link LatencyHistogram}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class LatencyHistogramTest
+{
+    private static final int LAST_BUCKET = (Long.SIZE - 3) * 8 - 1;
+
+    /**
+     * Values below the number of sub-buckets have a bucket of their own.
+     */
+    @Test
+    void keepsSmallValuesExact()
+    {
+        for (int value = 0; value < 8; value++)
+        {
+            assertEquals(value, LatencyHistogram.bucketIndex(value));
+            assertEquals(value, LatencyHistogram.upperBound(value));
+        }
+    }
+
+    /**
+     * The buckets follow each other without gap or overlap, up to a last bucket ending at {@link Long#MAX_VALUE}.
+     */
+    @Test
+    void coversEveryValueOnce()
+    {
+        for (int index = 1; index <= LAST_BUCKET; index++)
+        {
+            long lowerBound = LatencyHistogram.upperBound(index - 1) + 1;
+
+            assertEquals(index, LatencyHistogram.bucketIndex(lowerBound), "lower bound of " + index);
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.upperBound(index)), "bucket " + index);
+        }
+
+        assertEquals(LAST_BUCKET, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LAST_BUCKET));
+    }
+
+    /**
+     * A value is reported as the upper bound of its bucket, at most 12.5% above the value.
+     */
+    @Test
+    void boundsRelativeError()
+    {
+        long[] values = {8, 9, 15, 16, 17, 100, 1_000, 999_999, 1_000_000, 123_456_789, 1L << 40, (1L << 40) - 1};
+
+        for (long value : values)
+        {
+            long upperBound = LatencyHistogram.upperBound(LatencyHistogram.bucketIndex(value));
+
+            assertTrue(upperBound >= value, "upper bound of " + value);
+            assertTrue(upperBound - value <= value / 8, "error of " + value);
+        }
+    }
+
+    /**
+     * The percentiles of a uniform distribution fall in the expected buckets and never exceed the maximum.
+     */
+    @Test
+    void computesPercentiles()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(50.5, snapshot.getMeanNanos());
+        assertEquals(51, snapshot.getP50Nanos());
+        assertEquals(95, snapshot.getP95Nanos());
+        assertEquals(100, snapshot.getP99Nanos());
+        assertEquals(100, snapshot.getMaximumNanos());
+    }
+
+    /**
+     * An empty histogram reports zeros, negative values are recorded as {@code 0}, and a reset clears everything.
+     */
+    @Test
+    void handlesEmptyNegativeAndReset()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getP99Nanos());
+
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.snapshot().getMaximumNanos());
+
+        histogram.record(1_000);
+        histogram.reset();
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMaximumNanos());
+        assertEquals(0.0, snapshot.getMeanNanos());
+    }
+
+    /**
+     * Values recorded concurrently are all counted.
+     */
+    @Test
+    void countsConcurrentRecords()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4))
+        {
+            for (int thread = 0; thread < 4; thread++)
+            {
+                executor.execute(() -> IntStream.range(0, 10_000).forEach(histogram::record));
+            }
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(40_000, histogram.snapshot().getCount());
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import com.github.horris275.basicsqldemonstration.sql.pool.FakeDatabase.FakeConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the borrowing, reuse, validation and shutdown of connections by {@link ConnectionPool}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+@Timeout(10)
+class ConnectionPoolTest
+{
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private FakeDatabase database;
+    private ConnectionPool pool;
+
+    /**
+     * Registers a new fake database for each test.
+     */
+    @BeforeEach
+    void setUp() throws SQLException
+    {
+        database = FakeDatabase.register();
+    }
+
+    /**
+     * Closes the pool and removes the fake database.
+     */
+    @AfterEach
+    void tearDown() throws SQLException
+    {
+        executor.close();
+
+        if (pool != null)
+        {
+            pool.close();
+        }
+
+        database.deregister();
+    }
+
+    /**
+     * The warm-up opens the minimum number of connections, which are then idle.
+     */
+    @Test
+    void warmsUpToMinimumSize()
+    {
+        pool = createPool(2, 4, Duration.ofSeconds(1));
+        pool.getWarmUp().join();
+
+        PoolStatistics statistics = pool.getStatistics();
+        assertEquals(2, statistics.getIdleConnections());
+        assertEquals(0, statistics.getActiveConnections());
+        assertEquals(2, database.getConnections().size());
+    }
+
+    /**
+     * A connection returned to the pool is handed out again instead of opening a new one.
+     */
+    @Test
+    void reusesReleasedConnection() throws SQLException
+    {
+        pool = createPool(0, 4, Duration.ofSeconds(1));
+
+        try (Connection ignored = pool.borrow())
+        {
+            assertEquals(1, pool.getStatistics().getActiveConnections());
+        }
+
+        try (Connection ignored = pool.borrow())
+        {
+            assertEquals(1, database.getConnections().size());
+        }
+
+        assertEquals(2, pool.getStatistics().getBorrowCount());
+        assertEquals(1, pool.getStatistics().getCreatedCount());
+    }
+
+    /**
+     * A borrower waiting on an exhausted pool gets the connection released by another.
+     */
+    @Test
+    void handsReleasedConnectionToWaiter() throws Exception
+    {
+        pool = createPool(0, 1, Duration.ofSeconds(5));
+        Connection first = pool.borrow();
+
+        Future<Boolean> waiter = executor.submit(() -> {
+            try (Connection second = pool.borrow())
+            {
+                return !second.isClosed();
+            }
+        });
+
+        first.close();
+
+        assertTrue(waiter.get());
+        assertEquals(1, database.getConnections().size());
+    }
+
+    /**
+     * A borrow on an exhausted pool gives up after the acquire timeout.
+     */
+    @Test
+    void timesOutWhenExhausted() throws SQLException
+    {
+        pool = createPool(0, 1, Duration.ofMillis(50));
+
+        try (Connection ignored = pool.borrow())
+        {
+            assertThrows(SQLTimeoutException.class, pool::borrow);
+        }
+
+        assertEquals(1, pool.getStatistics().getTimeoutCount());
+    }
+
+    /**
+     * An idle connection that fails validation is closed and replaced by a new one.
+     */
+    @Test
+    void replacesInvalidConnection() throws Exception
+    {
+        pool = createPool(0, 1, Duration.ofSeconds(1));
+        pool.borrow().close();
+
+        FakeConnection broken = database.getConnections().getFirst();
+        broken.setValid(false);
+        Thread.sleep(600);
+
+        try (Connection ignored = pool.borrow())
+        {
+            assertTrue(broken.isClosed());
+            assertEquals(2, database.getConnections().size());
+            assertEquals(1, pool.getStatistics().getEvictedCount());
+        }
+    }
+
+    /**
+     * Returning a connection rolls back its open transaction and restores auto-commit,
+     * and the returned lease can no longer be used.
+     */
+    @Test
+    void resetsConnectionOnRelease() throws SQLException
+    {
+        pool = createPool(0, 1, Duration.ofSeconds(1));
+        Connection connection = pool.borrow();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        FakeConnection physical = database.getConnections().getFirst();
+        assertEquals(1, physical.getRollbackCount());
+        assertTrue(physical.isAutoCommit());
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, () -> connection.prepareStatement("SELECT 1"));
+    }
+
+    /**
+     * Closing the pool closes the idle connections, and those still borrowed once they are returned.
+     */
+    @Test
+    void closesConnectionsOnShutdown() throws SQLException
+    {
+        pool = createPool(0, 2, Duration.ofSeconds(1));
+        pool.borrow().close();
+        Connection borrowed = pool.borrow();
+        Connection other = pool.borrow();
+        other.close();
+
+        pool.close();
+
+        FakeConnection idle = database.getConnections().get(1);
+        assertTrue(idle.isClosed());
+        assertFalse(database.getConnections().getFirst().isClosed());
+
+        borrowed.close();
+
+        assertTrue(database.getConnections().getFirst().isClosed());
+        assertThrows(SQLException.class, pool::borrow);
+    }
+
+    /**
+     * Invalid sizes are rejected.
+     */
+    @Test
+    void rejectsInvalidSizes()
+    {
+        assertThrows(IllegalArgumentException.class, () -> createPool(3, 2, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> createPool(0, 0, Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Creates a pool on the fake database.
+     *
+     * @param minimumSize    the number of connections kept open
+     * @param maximumSize    the maximum number of connections
+     * @param acquireTimeout how long a borrow waits for a connection
+     * @return               the pool
+     */
+    private ConnectionPool createPool(int minimumSize, int maximumSize, Duration acquireTimeout)
+    {
+        return new ConnectionPool(database.getUrl(), "user", "password", minimumSize, maximumSize,
+                IDLE_TIMEOUT, acquireTimeout, 4);
+    }
+}
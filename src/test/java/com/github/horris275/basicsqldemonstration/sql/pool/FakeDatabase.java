@@ -0,0 +1,346 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A JDBC driver handing out in-memory connections that only record how they are used, so the pool
+ * and the statement cache can be tested without a database.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+final class FakeDatabase implements Driver
+{
+    private static final AtomicInteger DATABASE_COUNT = new AtomicInteger();
+
+    private final String url = "jdbc:fake:" + DATABASE_COUNT.incrementAndGet();
+    private final List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a fake database and registers its driver with the {@link DriverManager}.
+     *
+     * @return the registered database
+     * @throws SQLException if the driver cannot be registered
+     */
+    static FakeDatabase register() throws SQLException
+    {
+        FakeDatabase database = new FakeDatabase();
+        DriverManager.registerDriver(database);
+        return database;
+    }
+
+    /**
+     * Removes the driver from the {@link DriverManager}.
+     *
+     * @throws SQLException if the driver cannot be removed
+     */
+    void deregister() throws SQLException
+    {
+        DriverManager.deregisterDriver(this);
+    }
+
+    /**
+     * Returns the JDBC URL of this database.
+     *
+     * @return the URL accepted by this driver only
+     */
+    String getUrl()
+    {
+        return url;
+    }
+
+    /**
+     * Returns every physical connection opened so far, in the order they were opened.
+     *
+     * @return the connections
+     */
+    List<FakeConnection> getConnections()
+    {
+        return connections;
+    }
+
+    @Override
+    public Connection connect(String url, Properties info)
+    {
+        if (!acceptsURL(url))
+        {
+            return null;
+        }
+
+        FakeConnection connection = new FakeConnection();
+        connections.add(connection);
+        return connection.proxy();
+    }
+
+    @Override
+    public boolean acceptsURL(String url)
+    {
+        return this.url.equals(url);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info)
+    {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion()
+    {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion()
+    {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant()
+    {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger()
+    {
+        return Logger.getGlobal();
+    }
+
+    /**
+     * Returns the value a proxy returns from a method it does not implement.
+     *
+     * @param type the return type of the method
+     * @return     {@code false}, zero or {@code null}
+     */
+    private static Object defaultValue(Class<?> type)
+    {
+        if (type == boolean.class)
+        {
+            return false;
+        }
+
+        if (type == int.class)
+        {
+            return 0;
+        }
+
+        if (type == long.class)
+        {
+            return 0L;
+        }
+
+        return null;
+    }
+
+    /**
+     * A physical connection recording its transaction state and the statements prepared on it.
+     */
+    static final class FakeConnection implements InvocationHandler
+    {
+        private final List<FakeStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean closed;
+        private volatile boolean valid = true;
+        private volatile boolean autoCommit = true;
+        private volatile int rollbackCount;
+
+        /**
+         * Creates the {@link Connection} proxy backed by this handler.
+         *
+         * @return the connection
+         */
+        Connection proxy()
+        {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, this);
+        }
+
+        /**
+         * Makes the connection fail or pass its validation from now on.
+         *
+         * @param valid whether {@link Connection#isValid(int)} succeeds
+         */
+        void setValid(boolean valid)
+        {
+            this.valid = valid;
+        }
+
+        /**
+         * Checks whether the connection has been closed.
+         *
+         * @return {@code true} if it has been closed, otherwise {@code false}
+         */
+        boolean isClosed()
+        {
+            return closed;
+        }
+
+        /**
+         * Checks whether the connection is in auto-commit mode.
+         *
+         * @return {@code true} if it commits every statement, otherwise {@code false}
+         */
+        boolean isAutoCommit()
+        {
+            return autoCommit;
+        }
+
+        /**
+         * Returns how often the connection has been rolled back.
+         *
+         * @return the number of rollbacks
+         */
+        int getRollbackCount()
+        {
+            return rollbackCount;
+        }
+
+        /**
+         * Returns every statement prepared on the connection, in the order they were prepared.
+         *
+         * @return the statements
+         */
+        List<FakeStatement> getStatements()
+        {
+            return statements;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+        {
+            switch (method.getName())
+            {
+                case "close":
+                    closed = true;
+                    break;
+                case "isClosed":
+                    return closed;
+                case "isValid":
+                    return valid && !closed;
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (boolean) args[0];
+                    break;
+                case "rollback":
+                    rollbackCount++;
+                    break;
+                case "prepareStatement":
+                    FakeStatement statement = new FakeStatement((String) args[0]);
+                    statements.add(statement);
+                    return statement.proxy();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeConnection";
+                default:
+                    break;
+            }
+
+            return defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * A prepared statement recording whether it was closed and how often its parameters were cleared.
+     */
+    static final class FakeStatement implements InvocationHandler
+    {
+        private final String sql;
+        private volatile boolean closed;
+        private volatile int clearCount;
+
+        /**
+         * Constructs a new {@code FakeStatement}.
+         *
+         * @param sql the SQL text the statement was prepared with
+         */
+        private FakeStatement(String sql)
+        {
+            this.sql = sql;
+        }
+
+        /**
+         * Creates the {@link PreparedStatement} proxy backed by this handler.
+         *
+         * @return the statement
+         */
+        PreparedStatement proxy()
+        {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, this);
+        }
+
+        /**
+         * Returns the SQL text the statement was prepared with.
+         *
+         * @return the SQL text
+         */
+        String getSql()
+        {
+            return sql;
+        }
+
+        /**
+         * Checks whether the statement has been closed.
+         *
+         * @return {@code true} if it has been closed, otherwise {@code false}
+         */
+        boolean isClosed()
+        {
+            return closed;
+        }
+
+        /**
+         * Returns how often the parameters of the statement have been cleared.
+         *
+         * @return the number of calls to {@link PreparedStatement#clearParameters()}
+         */
+        int getClearCount()
+        {
+            return clearCount;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+        {
+            switch (method.getName())
+            {
+                case "close":
+                    closed = true;
+                    break;
+                case "isClosed":
+                    return closed;
+                case "clearParameters":
+                    clearCount++;
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "FakeStatement[" + sql + "]";
+                default:
+                    break;
+            }
+
+            return defaultValue(method.getReturnType());
+        }
+    }
+}
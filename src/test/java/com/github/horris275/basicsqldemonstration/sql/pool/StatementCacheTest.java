@@ -0,0 +1,162 @@
+package com.github.horris275.basicsqldemonstration.sql.pool;
+
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheCounters;
+import com.github.horris275.basicsqldemonstration.sql.cache.CacheStatistics;
+import com.github.horris275.basicsqldemonstration.sql.pool.FakeDatabase.FakeConnection;
+import com.github.horris275.basicsqldemonstration.sql.pool.FakeDatabase.FakeStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the reuse and eviction of prepared statements by {@link StatementCache}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class StatementCacheTest
+{
+    private final FakeConnection physical = new FakeConnection();
+    private final Connection connection = physical.proxy();
+    private final CacheCounters counters = new CacheCounters();
+
+    /**
+     * A closed statement stays prepared and is handed out again, with its parameters cleared.
+     */
+    @Test
+    void reusesClosedStatement() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 2, counters);
+
+        prepare(cache, "SELECT 1").close();
+        PreparedStatement statement = prepare(cache, "SELECT 1");
+
+        FakeStatement prepared = single(physical.getStatements());
+        assertFalse(prepared.isClosed());
+        assertEquals(1, prepared.getClearCount());
+        assertSame(connection, statement.getConnection());
+        assertEquals(1, counters.snapshot().getHitCount());
+        assertEquals(1, counters.snapshot().getMissCount());
+    }
+
+    /**
+     * Statements asking for generated keys are cached apart from those that do not.
+     */
+    @Test
+    void keysByGeneratedKeysMode() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 2, counters);
+
+        cache.prepare("INSERT", Statement.NO_GENERATED_KEYS, connection).close();
+        cache.prepare("INSERT", Statement.RETURN_GENERATED_KEYS, connection).close();
+
+        assertEquals(2, physical.getStatements().size());
+        assertEquals(2, counters.snapshot().getMissCount());
+    }
+
+    /**
+     * A statement still open by one caller is not shared: the next caller gets an uncached statement
+     * that is closed for real.
+     */
+    @Test
+    void preparesUncachedStatementWhileInUse() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 2, counters);
+        PreparedStatement first = prepare(cache, "SELECT 1");
+
+        prepare(cache, "SELECT 1").close();
+
+        assertEquals(2, physical.getStatements().size());
+        assertTrue(physical.getStatements().get(1).isClosed());
+        assertFalse(physical.getStatements().getFirst().isClosed());
+        first.close();
+    }
+
+    /**
+     * Going beyond the capacity closes the least recently used statement.
+     */
+    @Test
+    void evictsLeastRecentlyUsedStatement() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 2, counters);
+        prepare(cache, "SELECT 1").close();
+        prepare(cache, "SELECT 2").close();
+        prepare(cache, "SELECT 1").close();
+
+        prepare(cache, "SELECT 3").close();
+
+        List<FakeStatement> statements = physical.getStatements();
+        assertFalse(statements.get(0).isClosed());
+        assertTrue(statements.get(1).isClosed());
+        assertFalse(statements.get(2).isClosed());
+
+        CacheStatistics statistics = counters.snapshot();
+        assertEquals(1, statistics.getEvictionCount());
+    }
+
+    /**
+     * A statement evicted while a caller still uses it is closed once that caller closes it.
+     */
+    @Test
+    void closesEvictedStatementOnCheckIn() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 1, counters);
+        PreparedStatement inUse = prepare(cache, "SELECT 1");
+
+        prepare(cache, "SELECT 2").close();
+        FakeStatement evicted = physical.getStatements().getFirst();
+        assertFalse(evicted.isClosed());
+
+        inUse.close();
+        assertTrue(evicted.isClosed());
+    }
+
+    /**
+     * A statement handed back to the cache can no longer be used by the caller that closed it.
+     */
+    @Test
+    void rejectsUseAfterClose() throws SQLException
+    {
+        StatementCache cache = new StatementCache(connection, 2, counters);
+        PreparedStatement statement = prepare(cache, "SELECT 1");
+        statement.close();
+
+        assertTrue(statement.isClosed());
+        assertThrows(SQLException.class, statement::executeQuery);
+    }
+
+    /**
+     * Prepares a statement without generated keys.
+     *
+     * @param cache the cache to prepare with
+     * @param sql   the SQL text
+     * @return      the statement handed out by the cache
+     * @throws SQLException if the statement cannot be prepared
+     */
+    private PreparedStatement prepare(StatementCache cache, String sql) throws SQLException
+    {
+        return cache.prepare(sql, Statement.NO_GENERATED_KEYS, connection);
+    }
+
+    /**
+     * Returns the only statement prepared.
+     *
+     * @param statements the statements prepared on the connection
+     * @return           the statement
+     */
+    private static FakeStatement single(List<FakeStatement> statements)
+    {
+        assertEquals(1, statements.size());
+        return statements.getFirst();
+    }
+}
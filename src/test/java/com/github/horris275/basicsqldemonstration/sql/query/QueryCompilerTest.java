@@ -0,0 +1,182 @@
+package com.github.horris275.basicsqldemonstration.sql.query;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.schema.ColumnDefinition;
+import com.github.horris275.basicsqldemonstration.sql.schema.TableSchema;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the SQL clauses and parameters written by {@link QueryCompiler}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class QueryCompilerTest
+{
+    private static final TableSchema BOOKS = new TableSchema("books", List.of(
+            new ColumnDefinition("id", Types.INTEGER, "INT", 10, false),
+            new ColumnDefinition("title", Types.VARCHAR, "VARCHAR", 255, true),
+            new ColumnDefinition("pages", Types.INTEGER, "INT", 10, true)), "id", false);
+
+    /**
+     * Reading on after a row in ascending order compares the sort value, then the key for equal values.
+     */
+    @Test
+    void continuesAscendingAfterValue()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("title").after(row(5, "Dune")).limit(10));
+
+        assertEquals("WHERE (title > ? OR (title = ? AND id > ?)) ORDER BY title ASC, id ASC LIMIT ?",
+                query.getClauses());
+        assertEquals(List.of("Dune", "Dune", 5, 10), query.getParameters());
+        assertFalse(query.isReversed());
+    }
+
+    /**
+     * Reading on after a {@code null} in ascending order reads the remaining {@code null}s, then every value.
+     */
+    @Test
+    void continuesAscendingAfterNull()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("title").after(row(5, null)));
+
+        assertEquals("WHERE (title IS NOT NULL OR id > ?) ORDER BY title ASC, id ASC", query.getClauses());
+        assertEquals(List.of(5), query.getParameters());
+    }
+
+    /**
+     * Reading on after a row in descending order also reads the {@code null}s, which come last.
+     */
+    @Test
+    void continuesDescendingAfterValue()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("title", true).after(row(5, "Dune")));
+
+        assertEquals("WHERE (title < ? OR title IS NULL OR (title = ? AND id < ?)) ORDER BY title DESC, id DESC",
+                query.getClauses());
+        assertEquals(List.of("Dune", "Dune", 5), query.getParameters());
+    }
+
+    /**
+     * Reading on after a {@code null} in descending order only reads the remaining {@code null}s.
+     */
+    @Test
+    void continuesDescendingAfterNull()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("title", true).after(row(5, null)));
+
+        assertEquals("WHERE (title IS NULL AND id < ?) ORDER BY title DESC, id DESC", query.getClauses());
+        assertEquals(List.of(5), query.getParameters());
+    }
+
+    /**
+     * Reading the rows before a row reverses the order, and the compiled query says so.
+     */
+    @Test
+    void readsBackwardsBeforeRow()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("title").before(row(5, "Dune")));
+
+        assertEquals("WHERE (title < ? OR title IS NULL OR (title = ? AND id < ?)) ORDER BY title DESC, id DESC",
+                query.getClauses());
+        assertTrue(query.isReversed());
+    }
+
+    /**
+     * Rows sorted by key alone are continued by comparing the key only.
+     */
+    @Test
+    void continuesAfterKey()
+    {
+        CompiledQuery query = compile(RowQuery.builder().orderBy("ID").after(row(5, "Dune")));
+
+        assertEquals("WHERE id > ? ORDER BY id ASC", query.getClauses());
+        assertEquals(List.of(5), query.getParameters());
+    }
+
+    /**
+     * An {@code IN} filter without values matches nothing and binds no parameter.
+     */
+    @Test
+    void compilesEmptyInToFalse()
+    {
+        CompiledQuery query = compile(RowQuery.builder().where("pages", FilterOperator.IN, List.of()));
+
+        assertEquals("WHERE FALSE ORDER BY id ASC", query.getClauses());
+        assertTrue(query.getParameters().isEmpty());
+    }
+
+    /**
+     * The values of an {@code IN} filter given as text are split and converted to the column's type.
+     */
+    @Test
+    void convertsInValues()
+    {
+        CompiledQuery query = compile(RowQuery.builder().where("pages", FilterOperator.IN, "100, 200"));
+
+        assertEquals("WHERE pages IN (?, ?) ORDER BY id ASC", query.getClauses());
+        assertEquals(List.of(100L, 200L), query.getParameters());
+    }
+
+    /**
+     * The wildcards and the escape character of the text matched by {@code LIKE} are escaped.
+     */
+    @Test
+    void escapesLikePatterns()
+    {
+        CompiledQuery query = compile(RowQuery.builder()
+                .where("title", FilterOperator.CONTAINS, "50%_off\\")
+                .where("title", FilterOperator.STARTS_WITH, "a_")
+                .where("title", FilterOperator.ENDS_WITH, "%"));
+
+        assertEquals("WHERE title LIKE ? AND title LIKE ? AND title LIKE ? ORDER BY id ASC", query.getClauses());
+        assertEquals(List.of("%50\\%\\_off\\\\%", "a\\_%", "%\\%"), query.getParameters());
+    }
+
+    /**
+     * Unknown columns and values that do not suit their column are rejected.
+     */
+    @Test
+    void rejectsInvalidFilters()
+    {
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(RowQuery.builder().where("author", FilterOperator.EQUALS, "x")));
+        assertThrows(IllegalArgumentException.class,
+                () -> compile(RowQuery.builder().where("pages", FilterOperator.EQUALS, "many")));
+    }
+
+    /**
+     * Compiles a query against the books table.
+     *
+     * @param builder the builder of the query
+     * @return        the compiled query
+     */
+    private static CompiledQuery compile(RowQuery.Builder builder)
+    {
+        return QueryCompiler.compile(builder.build(), BOOKS);
+    }
+
+    /**
+     * Creates a row of the books table holding a title.
+     *
+     * @param id    the unique identifier of the row
+     * @param title the title, or {@code null}
+     * @return      the row
+     */
+    private static DatabaseRow row(int id, String title)
+    {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("title", title);
+        return new DatabaseRow(id, columns);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.horris275.basicsqldemonstration.sql.search;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the term intersection and prefix matching of {@link FullTextIndex}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class FullTextIndexTest
+{
+    private FullTextIndex index;
+
+    /**
+     * Indexes a handful of rows over two columns.
+     */
+    @BeforeEach
+    void indexRows()
+    {
+        index = new FullTextIndex(List.of("title", "author"));
+        index.index(row(5, "The Java Language", "Gosling"));
+        index.index(row(1, "Effective Java", "Bloch"));
+        index.index(row(3, "Java Concurrency in Practice", "Goetz"));
+        index.index(row(2, "Clean Code", "Martin"));
+        index.index(row(4, "Concurrency Patterns", null));
+    }
+
+    /**
+     * Text is split on anything other than letters and digits and lower-cased.
+     */
+    @Test
+    void tokenizesText()
+    {
+        assertEquals(List.of("java", "8", "in", "action"), FullTextIndex.tokenize("  Java-8, in ACTION!"));
+    }
+
+    /**
+     * Rows must contain every exact term, across any of the indexed columns.
+     */
+    @Test
+    void intersectsExactTerms()
+    {
+        assertArrayEquals(new int[] {1, 3, 5}, index.search("java ", 10));
+        assertArrayEquals(new int[] {3}, index.search("concurrency java ", 10));
+        assertArrayEquals(new int[] {1}, index.search("java bloch ", 10));
+        assertArrayEquals(new int[0], index.search("clean java ", 10));
+        assertArrayEquals(new int[0], index.search("missing ", 10));
+    }
+
+    /**
+     * The last term is matched as a prefix unless the text ends with a separator.
+     */
+    @Test
+    void matchesLastTermAsPrefix()
+    {
+        assertArrayEquals(new int[] {3, 5}, index.search("go", 10));
+        assertArrayEquals(new int[] {3, 4}, index.search("concur", 10));
+        assertArrayEquals(new int[] {3}, index.search("java concur", 10));
+        assertArrayEquals(new int[0], index.search("concur ", 10));
+    }
+
+    /**
+     * At most the limit is returned, keeping the lowest identifiers.
+     */
+    @Test
+    void appliesLimit()
+    {
+        assertArrayEquals(new int[] {1, 3}, index.search("java", 2));
+        assertArrayEquals(new int[0], index.search("java", 0));
+        assertArrayEquals(new int[0], index.search(" ,", 10));
+    }
+
+    /**
+     * Re-indexed rows are found under their new terms only, and removed rows are not found at all.
+     */
+    @Test
+    void replacesAndRemovesRows()
+    {
+        index.index(row(1, "Refactoring", "Fowler"));
+        index.remove(3);
+
+        assertArrayEquals(new int[] {5}, index.search("java", 10));
+        assertArrayEquals(new int[] {1}, index.search("refactor", 10));
+        assertArrayEquals(new int[] {4}, index.search("concurrency", 10));
+    }
+
+    /**
+     * Creates a row with a title and an author.
+     *
+     * @param id     the unique identifier of the row
+     * @param title  the title
+     * @param author the author, may be {@code null}
+     * @return       the row
+     */
+    private static DatabaseRow row(int id, String title, String author)
+    {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("title", title);
+        columns.put("author", author);
+        return new DatabaseRow(id, columns);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.horris275.basicsqldemonstration.sql.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the sorted identifier array kept by {@link PostingList}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class PostingListTest
+{
+    /**
+     * Identifiers added out of order, and past the initial capacity, are kept sorted.
+     */
+    @Test
+    void keepsIdentifiersSorted()
+    {
+        PostingList list = new PostingList();
+
+        for (int id : new int[] {50, 10, 30, 70, 20, 60, 40})
+        {
+            assertTrue(list.add(id));
+        }
+
+        assertEquals(7, list.size());
+        assertArrayEquals(new int[] {10, 20, 30, 40, 50, 60, 70}, list.toArray());
+    }
+
+    /**
+     * Adding an identifier already in the list leaves it unchanged.
+     */
+    @Test
+    void ignoresDuplicates()
+    {
+        PostingList list = new PostingList();
+        list.add(1);
+        list.add(2);
+
+        assertFalse(list.add(1));
+        assertFalse(list.add(2));
+        assertArrayEquals(new int[] {1, 2}, list.toArray());
+    }
+
+    /**
+     * Removed identifiers are no longer contained, and removing a missing one has no effect.
+     */
+    @Test
+    void removesIdentifiers()
+    {
+        PostingList list = new PostingList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertTrue(list.remove(2));
+        assertFalse(list.remove(2));
+        assertFalse(list.contains(2));
+        assertTrue(list.contains(1));
+        assertTrue(list.contains(3));
+        assertArrayEquals(new int[] {1, 3}, list.toArray());
+
+        assertTrue(list.remove(1));
+        assertTrue(list.remove(3));
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Copying into an array writes the identifiers at the offset and returns the position after them.
+     */
+    @Test
+    void copiesIntoArray()
+    {
+        PostingList list = new PostingList();
+        list.add(8);
+        list.add(9);
+        int[] target = new int[4];
+
+        assertEquals(3, list.copyInto(target, 1));
+        assertArrayEquals(new int[] {0, 8, 9, 0}, target);
+    }
+}
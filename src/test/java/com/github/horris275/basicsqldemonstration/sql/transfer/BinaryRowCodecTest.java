@@ -0,0 +1,164 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import com.github.horris275.basicsqldemonstration.sql.DatabaseRow;
+import com.github.horris275.basicsqldemonstration.sql.RowSchema;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that rows written by {@link BinaryRowCodec} are read back unchanged.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class BinaryRowCodecTest
+{
+    private static final int BUFFER_SIZE = 64;
+
+    /**
+     * Every supported value type, and {@code null}, survives a round trip, and the trailer ends the rows.
+     */
+    @Test
+    void roundTripsEveryValueType() throws IOException
+    {
+        Timestamp timestamp = Timestamp.valueOf("2026-10-16 12:34:56.123456789");
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("text", "héllo, wörld");
+        columns.put("integer", -42);
+        columns.put("long", Long.MAX_VALUE);
+        columns.put("double", 3.25);
+        columns.put("float", -1.5f);
+        columns.put("true", true);
+        columns.put("false", false);
+        columns.put("decimal", new BigDecimal("12345.6789"));
+        columns.put("date", Date.valueOf("2026-10-16"));
+        columns.put("time", Time.valueOf("23:59:58"));
+        columns.put("timestamp", timestamp);
+        columns.put("bytes", new byte[] {1, 0, -1});
+        columns.put("empty", "");
+        columns.put("missing", null);
+
+        DatabaseRow row = new DatabaseRow(7, columns);
+        RowSchema schema = row.getSchema();
+        ByteBuffer buffer = write(schema, List.of(row, new DatabaseRow(8, Map.of())));
+
+        List<String> header = BinaryRowCodec.readHeader(buffer);
+        assertEquals("id", header.getFirst());
+        assertEquals(schema.getColumnNames(), header.subList(1, header.size()));
+
+        DatabaseRow read = BinaryRowCodec.readRow(buffer, schema);
+        assertEquals(7, read.getUniqueId());
+
+        for (String columnName : columns.keySet())
+        {
+            if (!columnName.equals("bytes"))
+            {
+                assertEquals(columns.get(columnName), read.getColumn(columnName), columnName);
+            }
+        }
+
+        assertArrayEquals((byte[]) columns.get("bytes"), (byte[]) read.getColumn("bytes"));
+        assertEquals(timestamp.getNanos(), ((Timestamp) read.getColumn("timestamp")).getNanos());
+
+        DatabaseRow other = BinaryRowCodec.readRow(buffer, schema);
+        assertEquals(8, other.getUniqueId());
+
+        for (String columnName : columns.keySet())
+        {
+            assertNull(other.getColumn(columnName), columnName);
+        }
+
+        assertNull(BinaryRowCodec.readRow(buffer, schema));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * A buffer not starting with the magic number is rejected.
+     */
+    @Test
+    void rejectsWrongMagic()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(16).putInt(0x12345678).putShort(BinaryRowCodec.VERSION).flip();
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryRowCodec.readHeader(buffer));
+        assertThrows(IllegalArgumentException.class, () -> BinaryRowCodec.readHeader(ByteBuffer.allocate(2)));
+    }
+
+    /**
+     * A header of another version is rejected.
+     */
+    @Test
+    void rejectsUnsupportedVersion()
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(16).putInt(BinaryRowCodec.MAGIC).putShort((short) 99).putInt(1).flip();
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryRowCodec.readHeader(buffer));
+    }
+
+    /**
+     * A header without a key column, or with more columns than the file could hold, is rejected.
+     */
+    @Test
+    void rejectsInvalidColumnCount()
+    {
+        ByteBuffer empty = header(0);
+        ByteBuffer huge = header(Integer.MAX_VALUE);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryRowCodec.readHeader(empty));
+        assertThrows(IllegalArgumentException.class, () -> BinaryRowCodec.readHeader(huge));
+    }
+
+    /**
+     * Writes a header with the key column {@code id}, the rows and the trailer.
+     *
+     * @param schema the schema of the rows
+     * @param rows   the rows
+     * @return       the written bytes, ready to be read
+     * @throws IOException if writing fails
+     */
+    private static ByteBuffer write(RowSchema schema, List<DatabaseRow> rows) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ChannelWriter writer = new ChannelWriter(Channels.newChannel(output), BUFFER_SIZE);
+
+        BinaryRowCodec.writeHeader(writer, "id", schema);
+
+        for (DatabaseRow row : rows)
+        {
+            BinaryRowCodec.writeRow(writer, schema, row);
+        }
+
+        BinaryRowCodec.writeTrailer(writer, rows.size());
+        writer.flush();
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    /**
+     * Creates a header with the given column count and no column names.
+     *
+     * @param columnCount the column count
+     * @return            the header, ready to be read
+     */
+    private static ByteBuffer header(int columnCount)
+    {
+        return ByteBuffer.allocate(16).putInt(BinaryRowCodec.MAGIC).putShort(BinaryRowCodec.VERSION)
+                .putInt(columnCount).flip();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the splitting of CSV records into fields by {@link CsvRecordParser}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class CsvRecordParserTest
+{
+    /**
+     * Unquoted fields are split on every comma.
+     */
+    @Test
+    void splitsUnquotedFields()
+    {
+        assertEquals(List.of("1", "title", "description"), CsvRecordParser.parse("1,title,description"));
+    }
+
+    /**
+     * Empty unquoted fields are returned as {@code null}, while an empty quoted field is an empty string.
+     */
+    @Test
+    void distinguishesEmptyFromNull()
+    {
+        assertEquals(Arrays.asList(null, "", null), CsvRecordParser.parse(",\"\","));
+    }
+
+    /**
+     * Quoted fields keep their commas and line breaks, and doubled quotes become a single quote.
+     */
+    @Test
+    void readsQuotedFields()
+    {
+        assertEquals(List.of("a,b", "say \"hi\"", "line\nbreak"),
+                CsvRecordParser.parse("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\""));
+    }
+
+    /**
+     * A record without any text holds a single empty field.
+     */
+    @Test
+    void readsEmptyRecord()
+    {
+        assertEquals(Arrays.asList((String) null), CsvRecordParser.parse(""));
+    }
+
+    /**
+     * A quoted field that is never closed is rejected.
+     */
+    @Test
+    void rejectsUnterminatedQuote()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CsvRecordParser.parse("1,\"open"));
+    }
+
+    /**
+     * Text following the closing quote of a field is rejected.
+     */
+    @Test
+    void rejectsTextAfterQuotedField()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CsvRecordParser.parse("\"quoted\"text,2"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the parsing of JSON Lines records by {@link JsonRecordParser}.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class JsonRecordParserTest
+{
+    /**
+     * Every supported value type is read, and the keys keep the order of the record.
+     */
+    @Test
+    void readsValuesInOrder()
+    {
+        Map<String, Object> values = JsonRecordParser.parse(
+                "{\"title\": \"Book\", \"pages\": 320, \"price\": 9.5, \"sold\": true, \"note\": null}");
+
+        assertEquals(List.of("title", "pages", "price", "sold", "note"), List.copyOf(values.keySet()));
+        assertEquals("Book", values.get("title"));
+        assertEquals(320L, values.get("pages"));
+        assertEquals(9.5, values.get("price"));
+        assertEquals(Boolean.TRUE, values.get("sold"));
+        assertNull(values.get("note"));
+    }
+
+    /**
+     * Escape sequences, including unicode escapes, are resolved.
+     */
+    @Test
+    void resolvesEscapes()
+    {
+        Map<String, Object> values = JsonRecordParser.parse("{\"text\":\"a\\\"b\\\\c\\/d\\n\\t\\u00e9\"}");
+
+        assertEquals("a\"b\\c/d\n\té", values.get("text"));
+    }
+
+    /**
+     * Integral numbers too large for a {@code long}, and numbers with an exponent, are read as doubles.
+     */
+    @Test
+    void readsLargeAndExponentNumbers()
+    {
+        Map<String, Object> values = JsonRecordParser.parse("{\"large\":12345678901234567890,\"exponent\":-1e3}");
+
+        assertEquals(1.2345678901234567e19, values.get("large"));
+        assertEquals(-1000.0, values.get("exponent"));
+    }
+
+    /**
+     * An empty object holds no values.
+     */
+    @Test
+    void readsEmptyObject()
+    {
+        assertTrue(JsonRecordParser.parse(" { } ").isEmpty());
+    }
+
+    /**
+     * Nested objects and arrays are rejected, as they have no column to go into.
+     */
+    @Test
+    void rejectsNestedValues()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JsonRecordParser.parse("{\"a\":{\"b\":1}}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonRecordParser.parse("{\"a\":[1]}"));
+    }
+
+    /**
+     * Malformed strings and escapes are rejected.
+     */
+    @Test
+    void rejectsMalformedStrings()
+    {
+        assertThrows(IllegalArgumentException.class, () -> JsonRecordParser.parse("{\"a\":\"open}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonRecordParser.parse("{\"a\":\"\\x\"}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonRecordParser.parse("{\"a\":\"\\u12\"}"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.horris275.basicsqldemonstration.sql.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the reading of records by {@link MappedRecordReader}, including records spanning two mapped windows.
+ *
+ * @author horris275
+ * @version 16.10.2026
+ */
+class MappedRecordReaderTest
+{
+    @TempDir
+    Path directory;
+
+    /**
+     * Records end at {@code \n} or {@code \r\n}, blank lines are skipped and line numbers count every line.
+     */
+    @Test
+    void readsLinesAndSkipsBlankOnes() throws IOException
+    {
+        Path file = write("first\r\n\nsecond\nthird");
+
+        try (MappedRecordReader reader = new MappedRecordReader(file, false))
+        {
+            assertEquals("first", reader.next());
+            assertEquals(1, reader.getLineNumber());
+            assertEquals("second", reader.next());
+            assertEquals(3, reader.getLineNumber());
+            assertEquals("third", reader.next());
+            assertEquals(4, reader.getLineNumber());
+            assertEquals(null, reader.next());
+            assertEquals(reader.getSize(), reader.getPosition());
+        }
+    }
+
+    /**
+     * When reading CSV, line breaks within quotes belong to the record and still count towards the line numbers.
+     */
+    @Test
+    void keepsQuotedLineBreaksInCsv() throws IOException
+    {
+        Path file = write("1,\"multi\nline\"\n2,single\n");
+
+        try (MappedRecordReader reader = new MappedRecordReader(file, true))
+        {
+            assertEquals("1,\"multi\nline\"", reader.next());
+            assertEquals(1, reader.getLineNumber());
+            assertEquals("2,single", reader.next());
+            assertEquals(3, reader.getLineNumber());
+        }
+    }
+
+    /**
+     * Quotes are ignored outside CSV, so every line break ends a record.
+     */
+    @Test
+    void ignoresQuotesOutsideCsv() throws IOException
+    {
+        Path file = write("{\"a\":\"x\n{\"b\":1}\n");
+
+        assertEquals(List.of("{\"a\":\"x", "{\"b\":1}"), readAll(file, false, 1024));
+    }
+
+    /**
+     * Records are read whole whatever the size of the window, including records split across
+     * several windows and multi-byte characters split between two windows.
+     */
+    @Test
+    void readsRecordsAcrossWindowBoundaries() throws IOException
+    {
+        List<String> records = List.of("alpha", "ünïcödé text", "a longer record spanning several windows", "z");
+        Path file = write(String.join("\r\n", records) + "\n");
+
+        for (int windowSize = 1; windowSize <= 16; windowSize++)
+        {
+            assertEquals(records, readAll(file, true, windowSize), "window size " + windowSize);
+        }
+    }
+
+    /**
+     * Writes a file in the temporary directory.
+     *
+     * @param content the content of the file
+     * @return        the path of the file
+     * @throws IOException if the file cannot be written
+     */
+    private Path write(String content) throws IOException
+    {
+        return Files.write(directory.resolve("records.txt"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads every record of a file.
+     *
+     * @param file       the file
+     * @param quoteAware whether the file is read as CSV
+     * @param windowSize the number of bytes mapped at a time
+     * @return           the records in order
+     * @throws IOException if the file cannot be read
+     */
+    private static List<String> readAll(Path file, boolean quoteAware, int windowSize) throws IOException
+    {
+        List<String> records = new ArrayList<>();
+
+        try (MappedRecordReader reader = new MappedRecordReader(file, quoteAware, windowSize))
+        {
+            String record;
+
+            while ((record = reader.next()) != null)
+            {
+                records.add(record);
+            }
+        }
+
+        return records;
+    }
+}